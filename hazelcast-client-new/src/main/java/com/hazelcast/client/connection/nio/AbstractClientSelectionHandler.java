@@ -31,7 +31,7 @@ public abstract class AbstractClientSelectionHandler implements SelectionHandler
     protected final SocketChannelWrapper socketChannel;
     protected final ClientConnection connection;
     protected final ClientConnectionManager connectionManager;
-    private final NonBlockingIOThread ioThread;
+    protected final NonBlockingIOThread ioThread;
     private SelectionKey sk;
 
     public AbstractClientSelectionHandler(final ClientConnection connection, NonBlockingIOThread ioThread) {
@@ -114,7 +114,7 @@ public class ClientConnection implements Connection, Closeable {
         final ByteBuffer buffer = ByteBuffer.allocate(3);
         buffer.put(stringToBytes(Protocols.CLIENT_BINARY_NEW));
         buffer.flip();
-        socketChannelWrapper.write(buffer);
+        writeHandler.setProtocol(buffer);
     }
 
     @Override
@@ -184,6 +184,10 @@ public class ClientConnection implements Connection, Closeable {
         return readHandler;
     }
 
+    public ClientWriteHandler getWriteHandler() {
+        return writeHandler;
+    }
+
     public void setRemoteEndpoint(Address remoteEndpoint) {
         this.remoteEndpoint = remoteEndpoint;
     }
@@ -60,23 +60,35 @@ public class ClientReadHandler
             return;
         }
 
-        int readBytes = socketChannel.read(buffer);
-        if (readBytes <= 0) {
-            if (readBytes == -1) {
-                throw new EOFException("Remote socket closed!");
-            }
-            return;
+        boolean handshakeFinished = socketChannel.isHandshakeFinished();
+        readFromSocket();
+        if (!handshakeFinished) {
+            // the read advanced the handshake of the socket channel, which the write handler can be waiting for
+            connection.getWriteHandler().register();
         }
+    }
 
-        buffer.flip();
+    private void readFromSocket() throws Exception {
+        // a wrapper, like TLS, can have decrypted bytes left which didn't fit in the buffer
+        do {
+            int readBytes = socketChannel.read(buffer);
+            if (readBytes <= 0) {
+                if (readBytes == -1) {
+                    throw new EOFException("Remote socket closed!");
+                }
+                return;
+            }
 
-        builder.onData(buffer);
+            buffer.flip();
 
-        if (buffer.hasRemaining()) {
-            buffer.compact();
-        } else {
-            buffer.clear();
-        }
+            builder.onData(buffer);
+
+            if (buffer.hasRemaining()) {
+                buffer.compact();
+            } else {
+                buffer.clear();
+            }
+        } while (socketChannel.hasBufferedInput());
     }
 
     long getLastHandle() {
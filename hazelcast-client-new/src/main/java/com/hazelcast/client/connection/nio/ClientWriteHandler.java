@@ -58,12 +58,17 @@ public class ClientWriteHandler extends AbstractClientSelectionHandler implement
             lastMessage = poll();
         }
 
-        if (lastMessage == null && buffer.position() == 0) {
+        if (lastMessage == null && buffer.position() == 0 && !socketChannel.hasBufferedOutput()) {
             ready = true;
             return;
         }
 
         writeBuffer();
+        if (socketChannel.isWriteBlocked()) {
+            // the socket becoming writable doesn't help, the read handler wakes us up after the peer answered the handshake
+            ready = true;
+            return;
+        }
         ready = false;
         registerWrite();
     }
@@ -78,8 +83,8 @@ public class ClientWriteHandler extends AbstractClientSelectionHandler implement
             }
         }
 
-        if (buffer.position() == 0) {
-            // there is nothing to write, we are done
+        if (buffer.position() == 0 && !socketChannel.hasBufferedOutput()) {
+            // there is nothing to write, we are done; else an empty write flushes the bytes buffered by the wrapper
             return;
         }
 
@@ -93,6 +98,22 @@ public class ClientWriteHandler extends AbstractClientSelectionHandler implement
         }
     }
 
+    /**
+     * Writes the protocol header before any frame. Like the frames, it is written by the IO thread as the socket becomes
+     * writable, since the handshake of the socket channel, like TLS, can hold it back until the peer answered.
+     *
+     * @param protocol the protocol header
+     */
+    public void setProtocol(final ByteBuffer protocol) {
+        ioThread.addTaskAndWakeup(new Runnable() {
+            @Override
+            public void run() {
+                buffer.put(protocol);
+                registerWrite();
+            }
+        });
+    }
+
     public void enqueue(OutboundFrame frame) {
         writeQueue.offer((ClientMessage) frame);
         if (informSelector.compareAndSet(true, false)) {
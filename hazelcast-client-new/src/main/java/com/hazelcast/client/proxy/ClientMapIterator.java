@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.proxy;
+
+import com.hazelcast.client.impl.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapFetchEntriesCodec;
+import com.hazelcast.client.spi.ClientContext;
+import com.hazelcast.client.spi.impl.ClientInvocation;
+import com.hazelcast.client.spi.impl.ClientInvocationFuture;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.impl.iterator.AbstractMapIterator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.util.ExceptionUtil;
+
+/**
+ * Client side iterator of {@link IMap#iterator(int)}, fetches the batches by {@link MapFetchEntriesCodec} requests.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @see AbstractMapIterator
+ */
+public class ClientMapIterator<K, V> extends AbstractMapIterator<K, V> {
+
+    private final ClientContext context;
+
+    public ClientMapIterator(IMap<K, V> map, ClientContext context, int fetchSize) {
+        super(map, context.getPartitionService().getPartitionCount(), fetchSize, context.getSerializationService());
+        this.context = context;
+    }
+
+    @Override
+    protected MapEntriesWithCursor fetch(int partitionId, int tableIndex) {
+        ClientMessage request = MapFetchEntriesCodec.encodeRequest(map.getName(), partitionId, tableIndex, fetchSize);
+        HazelcastClientInstanceImpl client = (HazelcastClientInstanceImpl) context.getHazelcastInstance();
+        try {
+            ClientInvocation clientInvocation = new ClientInvocation(client, request, partitionId);
+            ClientInvocationFuture future = clientInvocation.invoke();
+            MapFetchEntriesCodec.ResponseParameters responseParameters = MapFetchEntriesCodec.decodeResponse(future.get());
+            return new MapEntriesWithCursor(responseParameters.entries, responseParameters.tableIndex);
+        } catch (Exception e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+    }
+}
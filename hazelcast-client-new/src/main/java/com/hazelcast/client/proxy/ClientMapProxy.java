@@ -26,6 +26,7 @@ import com.hazelcast.client.impl.protocol.codec.MapAddIndexCodec;
 import com.hazelcast.client.impl.protocol.codec.MapAddInterceptorCodec;
 import com.hazelcast.client.impl.protocol.codec.MapAddNearCacheEntryListenerCodec;
 import com.hazelcast.client.impl.protocol.codec.MapAddPartitionLostListenerCodec;
+import com.hazelcast.client.impl.protocol.codec.MapAggregateCodec;
 import com.hazelcast.client.impl.protocol.codec.MapClearCodec;
 import com.hazelcast.client.impl.protocol.codec.MapClearNearCacheCodec;
 import com.hazelcast.client.impl.protocol.codec.MapContainsKeyCodec;
@@ -54,6 +55,7 @@ import com.hazelcast.client.impl.protocol.codec.MapKeySetWithPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.MapLoadAllCodec;
 import com.hazelcast.client.impl.protocol.codec.MapLoadGivenKeysCodec;
 import com.hazelcast.client.impl.protocol.codec.MapLockCodec;
+import com.hazelcast.client.impl.protocol.codec.MapProjectCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutAsyncCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
@@ -124,8 +126,11 @@ import com.hazelcast.mapreduce.aggregation.Supplier;
 import com.hazelcast.monitor.LocalMapStats;
 import com.hazelcast.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.query.Aggregator;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Projection;
+import com.hazelcast.query.TruePredicate;
 import com.hazelcast.util.ExceptionUtil;
 import com.hazelcast.util.IterationType;
 import com.hazelcast.util.Preconditions;
@@ -148,6 +153,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.hazelcast.cluster.memberselector.MemberSelectors.LITE_MEMBER_SELECTOR;
 import static com.hazelcast.map.impl.ListenerAdapters.createListenerAdapter;
+import static com.hazelcast.map.impl.iterator.AbstractMapIterator.DEFAULT_FETCH_SIZE;
 import static com.hazelcast.map.impl.MapListenerFlagOperator.ALL_LISTENER_FLAGS;
 import static com.hazelcast.map.impl.MapListenerFlagOperator.setAndGetListenerFlags;
 import static com.hazelcast.util.Preconditions.checkNotNull;
@@ -1069,6 +1075,56 @@ public class ClientMapProxy<K, V> extends ClientProxy implements IMap<K, V> {
         return values;
     }
 
+    @Override
+    public <R> Collection<R> project(Projection<Entry<K, V>, R> projection) {
+        return project(projection, TruePredicate.INSTANCE);
+    }
+
+    @Override
+    public <R> Collection<R> project(Projection<Entry<K, V>, R> projection, Predicate predicate) {
+        checkNotNull(projection, "Projection should not be null!");
+        checkNotNull(predicate, "Predicate should not be null!");
+
+        ClientMessage request = MapProjectCodec.encodeRequest(name, toData(projection), toData(predicate));
+        ClientMessage response = invoke(request);
+        MapProjectCodec.ResponseParameters resultParameters = MapProjectCodec.decodeResponse(response);
+
+        Collection<Data> result = resultParameters.list;
+        List<R> values = new ArrayList<R>(result.size());
+        for (Data data : result) {
+            R value = toObject(data);
+            values.add(value);
+        }
+        return values;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return iterator(DEFAULT_FETCH_SIZE);
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator(int fetchSize) {
+        return new ClientMapIterator<K, V>(this, getContext(), fetchSize);
+    }
+
+    @Override
+    public <R> R aggregate(Aggregator<Entry<K, V>, R> aggregator) {
+        return aggregate(aggregator, TruePredicate.INSTANCE);
+    }
+
+    @Override
+    public <R> R aggregate(Aggregator<Entry<K, V>, R> aggregator, Predicate predicate) {
+        checkNotNull(aggregator, "Aggregator should not be null!");
+        checkNotNull(predicate, "Predicate should not be null!");
+
+        ClientMessage request = MapAggregateCodec.encodeRequest(name, toData(aggregator), toData(predicate));
+        ClientMessage response = invoke(request);
+        MapAggregateCodec.ResponseParameters resultParameters = MapAggregateCodec.decodeResponse(response);
+        Aggregator<Entry<K, V>, R> result = toObject(resultParameters.response);
+        return result.aggregate();
+    }
+
     private Collection<V> valuesForPagingPredicate(PagingPredicate pagingPredicate) {
         pagingPredicate.setIterationType(IterationType.VALUE);
 
@@ -0,0 +1,70 @@
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.query.Aggregators;
+import com.hazelcast.query.SampleObjects.Employee;
+import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import static com.hazelcast.test.HazelcastTestSupport.randomMapName;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ClientMapAggregateTest {
+
+    private static final int ENTRY_COUNT = 20;
+
+    private TestHazelcastFactory factory;
+
+    private IMap<Integer, Employee> map;
+
+    @Before
+    public void setUp() {
+        factory = new TestHazelcastFactory();
+        factory.newHazelcastInstance();
+        factory.newHazelcastInstance();
+        HazelcastInstance client = factory.newHazelcastClient();
+        map = client.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Employee(i, "name" + i, i % 10, i % 2 == 0, i));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void whenAggregatorNull() {
+        map.aggregate(null);
+    }
+
+    @Test
+    public void testCount() {
+        long count = map.aggregate(Aggregators.<Map.Entry<Integer, Employee>>count(), new SqlPredicate("active = true"));
+
+        assertEquals(ENTRY_COUNT / 2, count);
+    }
+
+    @Test
+    public void testSumAndMax() {
+        long sum = map.aggregate(Aggregators.<Map.Entry<Integer, Employee>>longSum("id"));
+        int max = map.aggregate(Aggregators.<Map.Entry<Integer, Employee>, Integer>max("age"));
+
+        assertEquals((long) ENTRY_COUNT * (ENTRY_COUNT - 1) / 2, sum);
+        assertEquals(9, max);
+    }
+}
@@ -0,0 +1,69 @@
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.query.AttributeTuple;
+import com.hazelcast.query.Projections;
+import com.hazelcast.query.SampleObjects.Employee;
+import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+
+import static com.hazelcast.test.HazelcastTestSupport.randomMapName;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ClientMapProjectTest {
+
+    private static final int ENTRY_COUNT = 20;
+
+    private TestHazelcastFactory factory;
+
+    private IMap<Integer, Employee> map;
+
+    @Before
+    public void setUp() {
+        factory = new TestHazelcastFactory();
+        factory.newHazelcastInstance();
+        factory.newHazelcastInstance();
+        HazelcastInstance client = factory.newHazelcastClient();
+        map = client.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Employee(i, "name" + i, i % 10, i % 2 == 0, i));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testProjectAll() {
+        Collection<Integer> result = map.project(Projections.<Map.Entry<Integer, Employee>, Integer>singleAttribute("age"));
+
+        assertEquals(ENTRY_COUNT, result.size());
+    }
+
+    @Test
+    public void testProjectWithPredicate() {
+        Collection<AttributeTuple> result = map.project(
+                Projections.<Map.Entry<Integer, Employee>>multiAttribute("__key", "name"), new SqlPredicate("age = 3"));
+
+        assertEquals(new HashSet<AttributeTuple>(asList(new AttributeTuple(3, "name3"), new AttributeTuple(13, "name13"))),
+                new HashSet<AttributeTuple>(result));
+    }
+}
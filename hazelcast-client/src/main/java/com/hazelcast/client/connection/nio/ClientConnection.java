@@ -116,7 +116,7 @@ public class ClientConnection implements Connection, Closeable {
         buffer.put(stringToBytes(Protocols.CLIENT_BINARY));
         buffer.put(stringToBytes(ClientTypes.JAVA));
         buffer.flip();
-        socketChannelWrapper.write(buffer);
+        writeHandler.setProtocol(buffer);
     }
 
     @Override
@@ -186,6 +186,10 @@ public class ClientConnection implements Connection, Closeable {
         return readHandler;
     }
 
+    public ClientWriteHandler getWriteHandler() {
+        return writeHandler;
+    }
+
     public void setRemoteEndpoint(Address remoteEndpoint) {
         this.remoteEndpoint = remoteEndpoint;
     }
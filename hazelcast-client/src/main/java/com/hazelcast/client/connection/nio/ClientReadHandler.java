@@ -53,23 +53,35 @@ public class ClientReadHandler extends AbstractClientSelectionHandler {
             return;
         }
 
-        int readBytes = socketChannel.read(buffer);
-        if (readBytes <= 0) {
-            if (readBytes == -1) {
-                throw new EOFException("Remote socket closed!");
-            }
-            return;
+        boolean handshakeFinished = socketChannel.isHandshakeFinished();
+        readFromSocket();
+        if (!handshakeFinished) {
+            // the read advanced the handshake of the socket channel, which the write handler can be waiting for
+            connection.getWriteHandler().register();
         }
+    }
+
+    private void readFromSocket() throws Exception {
+        // a wrapper, like TLS, can have decrypted bytes left which didn't fit in the buffer
+        do {
+            int readBytes = socketChannel.read(buffer);
+            if (readBytes <= 0) {
+                if (readBytes == -1) {
+                    throw new EOFException("Remote socket closed!");
+                }
+                return;
+            }
 
-        buffer.flip();
+            buffer.flip();
 
-        readPacket();
+            readPacket();
 
-        if (buffer.hasRemaining()) {
-            buffer.compact();
-        } else {
-            buffer.clear();
-        }
+            if (buffer.hasRemaining()) {
+                buffer.compact();
+            } else {
+                buffer.clear();
+            }
+        } while (socketChannel.hasBufferedInput());
     }
 
     private void readPacket() {
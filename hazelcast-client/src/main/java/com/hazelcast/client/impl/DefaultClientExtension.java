@@ -22,6 +22,7 @@ import com.hazelcast.client.ClientExtension;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.proxy.ClientMapProxy;
 import com.hazelcast.client.spi.ClientProxy;
+import com.hazelcast.config.SSLConfig;
 import com.hazelcast.config.SerializationConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.PartitioningStrategy;
@@ -31,6 +32,7 @@ import com.hazelcast.logging.Logger;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.nio.ClassLoaderUtil;
 import com.hazelcast.nio.SocketInterceptor;
+import com.hazelcast.nio.ssl.SSLSocketChannelWrapperFactory;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.SerializationServiceBuilder;
@@ -96,6 +98,10 @@ public class DefaultClientExtension implements ClientExtension {
 
     @Override
     public SocketChannelWrapperFactory createSocketChannelWrapperFactory() {
+        SSLConfig sslConfig = client.getClientConfig().getNetworkConfig().getSSLConfig();
+        if (sslConfig != null && sslConfig.isEnabled()) {
+            return new SSLSocketChannelWrapperFactory(sslConfig);
+        }
         return new DefaultSocketChannelWrapperFactory();
     }
 
@@ -51,6 +51,7 @@ import com.hazelcast.map.impl.client.MapAddIndexRequest;
 import com.hazelcast.map.impl.client.MapAddInterceptorRequest;
 import com.hazelcast.map.impl.client.MapAddNearCacheEntryListenerRequest;
 import com.hazelcast.map.impl.client.MapAddPartitionLostListenerRequest;
+import com.hazelcast.map.impl.client.MapAggregateRequest;
 import com.hazelcast.map.impl.client.MapClearNearCacheRequest;
 import com.hazelcast.map.impl.client.MapClearRequest;
 import com.hazelcast.map.impl.client.MapContainsKeyRequest;
@@ -71,6 +72,7 @@ import com.hazelcast.map.impl.client.MapIsLockedRequest;
 import com.hazelcast.map.impl.client.MapLoadAllKeysRequest;
 import com.hazelcast.map.impl.client.MapLoadGivenKeysRequest;
 import com.hazelcast.map.impl.client.MapLockRequest;
+import com.hazelcast.map.impl.client.MapProjectRequest;
 import com.hazelcast.map.impl.client.MapPutAllRequest;
 import com.hazelcast.map.impl.client.MapPutIfAbsentRequest;
 import com.hazelcast.map.impl.client.MapPutRequest;
@@ -106,8 +108,10 @@ import com.hazelcast.mapreduce.aggregation.Supplier;
 import com.hazelcast.monitor.LocalMapStats;
 import com.hazelcast.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.query.Aggregator;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Projection;
 import com.hazelcast.query.TruePredicate;
 import com.hazelcast.spi.impl.PortableEntryEvent;
 import com.hazelcast.spi.impl.PortableMapPartitionLostEvent;
@@ -135,6 +139,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.hazelcast.cluster.memberselector.MemberSelectors.LITE_MEMBER_SELECTOR;
 import static com.hazelcast.map.impl.ListenerAdapters.createListenerAdapter;
+import static com.hazelcast.map.impl.iterator.AbstractMapIterator.DEFAULT_FETCH_SIZE;
 import static com.hazelcast.map.impl.MapListenerFlagOperator.setAndGetListenerFlags;
 import static com.hazelcast.util.Preconditions.checkNotNull;
 import static com.hazelcast.util.SortingUtil.getSortedQueryResultSet;
@@ -749,6 +754,51 @@ public class ClientMapProxy<K, V> extends ClientProxy implements IMap<K, V> {
         return values;
     }
 
+    @Override
+    public <R> Collection<R> project(Projection<Entry<K, V>, R> projection) {
+        return project(projection, TruePredicate.INSTANCE);
+    }
+
+    @Override
+    public <R> Collection<R> project(Projection<Entry<K, V>, R> projection, Predicate predicate) {
+        checkNotNull(projection, "Projection should not be null!");
+        checkNotNull(predicate, "Predicate should not be null!");
+
+        MapProjectRequest request = new MapProjectRequest(name, projection, predicate);
+        QueryResult result = invoke(request);
+
+        List<R> values = new ArrayList<R>(result.size());
+        for (QueryResultRow row : result) {
+            values.add((R) toObject(row.getValue()));
+        }
+        return values;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return iterator(DEFAULT_FETCH_SIZE);
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator(int fetchSize) {
+        return new ClientMapIterator<K, V>(this, getContext(), fetchSize);
+    }
+
+    @Override
+    public <R> R aggregate(Aggregator<Entry<K, V>, R> aggregator) {
+        return aggregate(aggregator, TruePredicate.INSTANCE);
+    }
+
+    @Override
+    public <R> R aggregate(Aggregator<Entry<K, V>, R> aggregator, Predicate predicate) {
+        checkNotNull(aggregator, "Aggregator should not be null!");
+        checkNotNull(predicate, "Predicate should not be null!");
+
+        MapAggregateRequest request = new MapAggregateRequest(name, aggregator, predicate);
+        Aggregator<Entry<K, V>, R> result = invoke(request);
+        return result.aggregate();
+    }
+
     @Override
     public Set<Entry<K, V>> entrySet() {
         // we pass null instead of TruePredicate.INSTANCE due to security. But null will be interpreted as TruePredicate.
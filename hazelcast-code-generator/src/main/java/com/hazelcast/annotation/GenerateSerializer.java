@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class to get a {@code StreamSerializer} generated at compile time, together with a
+ * {@code SerializerHook} which registers it automatically.
+ * <p/>
+ * The generated serializer is named after the class with a {@code Serializer} suffix and placed in the same package.
+ * It writes the non-static, non-transient fields of the class and of its superclasses, the fields of the topmost
+ * superclass first, each class in declaration order. The fields are accessed directly or, if the serializer can't
+ * access them, for example private fields, through their getter and setter, so no reflection is involved.
+ * <p/>
+ * The class can evolve like a Portable: fields can be added at the end of the class, older readers skip them and
+ * newer readers leave them at the values set by the no-arg constructor when reading data of an older writer.
+ * Fields must not be removed, reordered or change their type.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateSerializer {
+
+    /**
+     * Returns the type id of the generated serializer, it has to be positive and unique among all serializers.
+     *
+     * @return the type id
+     */
+    int typeId();
+}
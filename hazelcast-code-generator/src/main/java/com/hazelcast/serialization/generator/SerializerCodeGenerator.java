@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.serialization.generator;
+
+import com.hazelcast.annotation.GenerateSerializer;
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.log.Logger;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code StreamSerializer} for every class annotated with {@link GenerateSerializer}, and a
+ * {@code META-INF/services/com.hazelcast.SerializerHook} file registering them.
+ */
+@SupportedAnnotationTypes("com.hazelcast.annotation.GenerateSerializer")
+@SupportedSourceVersion(SourceVersion.RELEASE_6)
+public class SerializerCodeGenerator
+        extends AbstractProcessor {
+
+    private static final String HOOK_SERVICES_FILE = "META-INF/services/com.hazelcast.SerializerHook";
+
+    private final List<String> hookClassNames = new ArrayList<String>();
+
+    private Filer filer;
+    private Messager messager;
+    private Elements elementUtils;
+    private Types typeUtils;
+    private Template serializerTemplate;
+
+    @Override
+    public void init(ProcessingEnvironment env) {
+        super.init(env);
+        filer = env.getFiler();
+        messager = env.getMessager();
+        elementUtils = env.getElementUtils();
+        typeUtils = env.getTypeUtils();
+
+        try {
+            Logger.selectLoggerLibrary(Logger.LIBRARY_NONE);
+        } catch (ClassNotFoundException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+        }
+        Configuration cfg = new Configuration(Configuration.VERSION_2_3_23);
+        cfg.setTemplateLoader(new ClassTemplateLoader(getClass(), "/"));
+        try {
+            serializerTemplate = cfg.getTemplate("serializer-template-java.ftl");
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> elements, RoundEnvironment env) {
+        if (env.processingOver()) {
+            saveHooks();
+            return false;
+        }
+        for (Element element : env.getElementsAnnotatedWith(GenerateSerializer.class)) {
+            TypeElement classElement = (TypeElement) element;
+            SerializerModel model = new SerializerModel(classElement, elementUtils, typeUtils, messager);
+            if (!model.isValid()) {
+                continue;
+            }
+            String content = generateFromTemplate(serializerTemplate, model);
+            if (content != null && saveClass(model.getQualifiedClassName(), content, classElement)) {
+                hookClassNames.add(model.getQualifiedClassName() + "$Hook");
+            }
+        }
+        return true;
+    }
+
+    private String generateFromTemplate(Template template, Object model) {
+        String content = null;
+        try {
+            Map<String, Object> data = new HashMap<String, Object>();
+            data.put("model", model);
+            StringWriter writer = new StringWriter();
+            template.process(data, writer);
+            content = writer.toString();
+        } catch (Exception e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+        }
+        return content;
+    }
+
+    private boolean saveClass(String fullClassName, String content, Element originatingElement) {
+        try {
+            JavaFileObject file = filer.createSourceFile(fullClassName, originatingElement);
+            Writer writer = file.openWriter();
+            try {
+                writer.append(content);
+            } finally {
+                writer.close();
+            }
+            return true;
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), originatingElement);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the services file listing the generated hooks. The hooks already listed in the file of the output
+     * directory, for example copied there from the resources of the module, are kept.
+     */
+    private void saveHooks() {
+        if (hookClassNames.isEmpty()) {
+            return;
+        }
+        try {
+            Set<String> lines = new LinkedHashSet<String>(readExistingHooks());
+            lines.addAll(hookClassNames);
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", HOOK_SERVICES_FILE);
+            Writer writer = file.openWriter();
+            try {
+                for (String line : lines) {
+                    writer.append(line).append('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+        }
+    }
+
+    private List<String> readExistingHooks() {
+        List<String> lines = new ArrayList<String>();
+        try {
+            FileObject file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", HOOK_SERVICES_FILE);
+            BufferedReader reader = new BufferedReader(file.openReader(true));
+            try {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (line.trim().length() > 0) {
+                        lines.add(line);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            // there is no services file yet
+            return Collections.emptyList();
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.serialization.generator;
+
+import com.hazelcast.annotation.GenerateSerializer;
+import com.hazelcast.client.protocol.generator.CodeGenerationUtils;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Model of the serializer generated for a class annotated with {@link GenerateSerializer}.
+ * <p/>
+ * The statements writing and reading the fields are built here, so the template only has to lay them out.
+ */
+public class SerializerModel {
+
+    private final String packageName;
+    private final String className;
+    private final String typeName;
+    private final int typeId;
+    private final List<FieldModel> fields = new ArrayList<FieldModel>();
+    private final Elements elementUtils;
+    private final Types typeUtils;
+    private final Messager messager;
+    private boolean valid = true;
+
+    public SerializerModel(TypeElement classElement, Elements elementUtils, Types typeUtils, Messager messager) {
+        this.elementUtils = elementUtils;
+        this.typeUtils = typeUtils;
+        this.messager = messager;
+        packageName = elementUtils.getPackageOf(classElement).getQualifiedName().toString();
+        className = flatName(classElement) + "Serializer";
+        typeName = classElement.getQualifiedName().toString();
+        typeId = classElement.getAnnotation(GenerateSerializer.class).typeId();
+
+        if (typeId <= 0) {
+            error(classElement, "Type id must be positive! Current: " + typeId);
+        }
+        validateClass(classElement);
+        // the fields of the superclasses come first, like in the Java serialization
+        Set<String> names = new HashSet<String>();
+        for (TypeElement type : typeHierarchy(classElement)) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                if (modifiers.contains(Modifier.FINAL)) {
+                    error(field, "Final field " + field.getSimpleName() + " can't be deserialized");
+                    continue;
+                }
+                if (!names.add(field.getSimpleName().toString())) {
+                    error(field, "Field " + field.getSimpleName() + " of " + type.getQualifiedName()
+                            + " hides a field of a superclass");
+                    continue;
+                }
+                addField(classElement, field);
+            }
+        }
+    }
+
+    /**
+     * Returns the class and its superclasses up to, but excluding, {@code java.lang.Object}, the topmost first.
+     */
+    private List<TypeElement> typeHierarchy(TypeElement classElement) {
+        List<TypeElement> hierarchy = new ArrayList<TypeElement>();
+        TypeElement type = classElement;
+        while (type != null && !Object.class.getName().equals(type.getQualifiedName().toString())) {
+            hierarchy.add(0, type);
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) typeUtils.asElement(superclass) : null;
+        }
+        return hierarchy;
+    }
+
+    private void validateClass(TypeElement classElement) {
+        if (classElement.getKind() != ElementKind.CLASS || classElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(classElement, "Serializers can only be generated for concrete classes");
+            return;
+        }
+        for (Element element = classElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            TypeElement typeElement = (TypeElement) element;
+            NestingKind nestingKind = typeElement.getNestingKind();
+            Set<Modifier> modifiers = typeElement.getModifiers();
+            if (nestingKind != NestingKind.TOP_LEVEL && nestingKind != NestingKind.MEMBER
+                    || nestingKind == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.PRIVATE)) {
+                error(classElement, "Class has to be a non-private top level or static member class");
+                return;
+            }
+        }
+        boolean hasConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(classElement.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                hasConstructor = true;
+            }
+        }
+        if (!hasConstructor) {
+            error(classElement, "Class has to have a non-private no-arg constructor");
+        }
+    }
+
+    private void addField(TypeElement classElement, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        DeclaredType classType = (DeclaredType) classElement.asType();
+        // the type of the field as seen from the class, so fields of generic superclasses get their actual types
+        TypeMirror type = typeUtils.asMemberOf(classType, field);
+        String getter;
+        String setter;
+        if (!isAccessible(field)) {
+            String property = CodeGenerationUtils.capitalizeFirstLetter(name);
+            getter = findAccessor(classElement, type, false, "get" + property, "is" + property);
+            setter = findAccessor(classElement, type, true, "set" + property);
+            if (getter == null || setter == null) {
+                error(field, "Field " + name + " isn't accessible from package " + packageName
+                        + ", it needs an accessible getter and setter");
+                return;
+            }
+        } else {
+            getter = name;
+            setter = null;
+        }
+
+        String method = ioMethod(type, typeUtils);
+        String value = "object." + getter + (setter == null ? "" : "()");
+        String readValue = "in.read" + method + "()";
+        if ("Object".equals(method)) {
+            readValue = "(" + typeUtils.erasure(type) + ") " + readValue;
+        }
+        String writeStatement = "out.write" + method + "(" + value + ")";
+        String readStatement = setter == null
+                ? "object." + name + " = " + readValue
+                : "object." + setter + "(" + readValue + ")";
+        fields.add(new FieldModel(name, writeStatement, readStatement));
+    }
+
+    private String findAccessor(TypeElement classElement, TypeMirror type, boolean setter, String... names) {
+        DeclaredType classType = (DeclaredType) classElement.asType();
+        for (ExecutableElement method : ElementFilter.methodsIn(elementUtils.getAllMembers(classElement))) {
+            if (method.getModifiers().contains(Modifier.STATIC) || !isAccessible(method)) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            for (String name : names) {
+                if (!methodName.equals(name)) {
+                    continue;
+                }
+                ExecutableType methodType = (ExecutableType) typeUtils.asMemberOf(classType, method);
+                boolean matches = setter
+                        ? methodType.getParameterTypes().size() == 1
+                                && typeUtils.isSameType(methodType.getParameterTypes().get(0), type)
+                        : methodType.getParameterTypes().isEmpty() && typeUtils.isSameType(methodType.getReturnType(), type);
+                if (matches) {
+                    return methodName;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the generated serializer, which is in the package of the annotated class, can access the member.
+     */
+    private boolean isAccessible(Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return packageName.equals(elementUtils.getPackageOf(member).getQualifiedName().toString());
+    }
+
+    /**
+     * Returns the suffix of the ObjectDataOutput/ObjectDataInput methods writing and reading a value of the given type.
+     */
+    private static String ioMethod(TypeMirror type, Types typeUtils) {
+        TypeKind kind = type.getKind();
+        if (kind.isPrimitive()) {
+            return CodeGenerationUtils.capitalizeFirstLetter(kind.name().toLowerCase());
+        }
+        if (kind == TypeKind.ARRAY) {
+            TypeMirror componentType = ((ArrayType) type).getComponentType();
+            TypeKind componentKind = componentType.getKind();
+            // ObjectDataOutput has no boolean array method
+            if (componentKind.isPrimitive() && componentKind != TypeKind.BOOLEAN) {
+                return ioMethod(componentType, typeUtils) + "Array";
+            }
+        }
+        if (kind == TypeKind.DECLARED && "java.lang.String".equals(typeUtils.erasure(type).toString())) {
+            return "UTF";
+        }
+        return "Object";
+    }
+
+    private static String flatName(TypeElement classElement) {
+        String name = classElement.getSimpleName().toString();
+        Element enclosing = classElement.getEnclosingElement();
+        return enclosing instanceof TypeElement ? flatName((TypeElement) enclosing) + name : name;
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+        valid = false;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getQualifiedClassName() {
+        return packageName.isEmpty() ? className : packageName + "." + className;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public int getTypeId() {
+        return typeId;
+    }
+
+    public List<FieldModel> getFields() {
+        return fields;
+    }
+
+    /**
+     * Model of a serialized field.
+     */
+    public static class FieldModel {
+
+        private final String name;
+        private final String writeStatement;
+        private final String readStatement;
+
+        FieldModel(String name, String writeStatement, String readStatement) {
+            this.name = name;
+            this.writeStatement = writeStatement;
+            this.readStatement = readStatement;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getWriteStatement() {
+            return writeStatement;
+        }
+
+        public String getReadStatement() {
+            return readStatement;
+        }
+    }
+}
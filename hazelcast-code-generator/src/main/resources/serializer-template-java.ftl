@@ -0,0 +1,94 @@
+<#if model.packageName?has_content>
+package ${model.packageName};
+
+</#if>
+import com.hazelcast.nio.BufferObjectDataInput;
+import com.hazelcast.nio.BufferObjectDataOutput;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Serializer;
+import com.hazelcast.nio.serialization.SerializerHook;
+import com.hazelcast.nio.serialization.StreamSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializer of {@link ${model.typeName}}, generated from its {@code @GenerateSerializer} annotation.
+ * <p/>
+ * Writes the number of fields and the length of the fields ahead of the fields, so fields added at the end
+ * by a newer version of the class are skipped and fields missing in the data of an older version are left
+ * at their initial values.
+ */
+@SuppressWarnings("unchecked")
+public final class ${model.className} implements StreamSerializer<${model.typeName}> {
+
+    public static final int TYPE_ID = ${model.typeId?c};
+
+    private static final int FIELD_COUNT = ${model.fields?size};
+
+    private static final int INT_SIZE_IN_BYTES = 4;
+
+    @Override
+    public int getTypeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public void write(ObjectDataOutput objectDataOutput, ${model.typeName} object) throws IOException {
+        if (!(objectDataOutput instanceof BufferObjectDataOutput)) {
+            throw new IllegalArgumentException("ObjectDataOutput must be instance of BufferObjectDataOutput!");
+        }
+        BufferObjectDataOutput out = (BufferObjectDataOutput) objectDataOutput;
+        out.writeInt(FIELD_COUNT);
+        int lengthPosition = out.position();
+        out.writeInt(0);
+<#list model.fields as field>
+        ${field.writeStatement};
+</#list>
+        out.writeInt(lengthPosition, out.position() - lengthPosition - INT_SIZE_IN_BYTES);
+    }
+
+    @Override
+    public ${model.typeName} read(ObjectDataInput objectDataInput) throws IOException {
+        if (!(objectDataInput instanceof BufferObjectDataInput)) {
+            throw new IllegalArgumentException("ObjectDataInput must be instance of BufferObjectDataInput!");
+        }
+        BufferObjectDataInput in = (BufferObjectDataInput) objectDataInput;
+        int fieldCount = in.readInt();
+        int length = in.readInt();
+        int end = in.position() + length;
+        ${model.typeName} object = new ${model.typeName}();
+<#list model.fields as field>
+        if (fieldCount > ${field_index?c}) {
+            ${field.readStatement};
+        }
+</#list>
+        in.position(end);
+        return object;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    /**
+     * Registers the {@link ${model.className}}, it can be overridden by a configured serializer.
+     */
+    public static final class Hook implements SerializerHook<${model.typeName}> {
+
+        @Override
+        public Class<${model.typeName}> getSerializationType() {
+            return ${model.typeName}.class;
+        }
+
+        @Override
+        public Serializer createSerializer() {
+            return new ${model.className}();
+        }
+
+        @Override
+        public boolean isOverwritable() {
+            return true;
+        }
+    }
+}
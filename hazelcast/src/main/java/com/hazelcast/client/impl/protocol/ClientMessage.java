@@ -380,8 +380,8 @@ public class ClientMessage
         if (readLength > 0) {
             final int requiredCapacity = index() + readLength;
             ensureCapacity(requiredCapacity);
-            buffer.putBytes(index(), byteBuffer.array(), byteBuffer.position(), readLength);
-            byteBuffer.position(byteBuffer.position() + readLength);
+            // the source could be a direct buffer, so its backing array is not accessed
+            byteBuffer.get(buffer.byteArray(), index(), readLength);
             index(index() + readLength);
             return readLength;
         }
@@ -735,4 +735,42 @@ public interface MapCodecTemplate {
 
     @Request(id = 59, retryable = false, response = ResponseMessageConst.VOID)
     void clearNearCache(String name, Address target);
+
+    /**
+     * Fetches specified number of entries from the specified partition starting from specified table index.
+     * The entries are fetched from the record map of the partition, the returned table index is used
+     * to fetch the next batch. A negative table index means that all entries of the partition are fetched.
+     *
+     * @param name        Name of the map.
+     * @param partitionId The partition id which owns this map store.
+     * @param tableIndex  The slot number (or index) to start fetching from
+     * @param batch       The number of entries to be batched
+     * @return last index processed and list of entries
+     */
+    @Request(id = 60, retryable = true, response = ResponseMessageConst.ENTRIES_WITH_CURSOR)
+    Object fetchEntries(String name, int partitionId, int tableIndex, int batch);
+
+    /**
+     * Applies the projection to the entries of the map matching the predicate and returns the projected values.
+     * The projection runs on the members owning the entries, so only the projected values are sent back.
+     *
+     * @param name       name of map
+     * @param projection projection to transform the entries with
+     * @param predicate  specified query criteria.
+     * @return the projected values of the matching entries.
+     */
+    @Request(id = 61, retryable = true, response = ResponseMessageConst.LIST_DATA)
+    Object project(String name, Data projection, Data predicate);
+
+    /**
+     * Aggregates the entries of the map matching the predicate and returns the combined aggregator.
+     * The entries are accumulated on the members owning them, so only the aggregators are sent back.
+     *
+     * @param name       name of map
+     * @param aggregator aggregator to accumulate the entries with
+     * @param predicate  specified query criteria.
+     * @return the aggregator combined from the aggregators of all the partitions.
+     */
+    @Request(id = 62, retryable = true, response = ResponseMessageConst.DATA)
+    Object aggregate(String name, Data aggregator, Data predicate);
 }
@@ -144,6 +144,13 @@ public interface ResponseTemplate {
     @Response(ResponseMessageConst.CACHE_KEY_ITERATOR_RESULT)
     void CacheKeyIteratorResult(int tableIndex, List<Data> keys);
 
+    /***
+     * @param tableIndex the last tableIndex processed
+     * @param entries    list of key-value pairs
+     */
+    @Response(ResponseMessageConst.ENTRIES_WITH_CURSOR)
+    void EntriesWithCursor(int tableIndex, List<Map.Entry<Data, Data>> entries);
+
     /**
      * @param errorCode      error code of this exception
      * @param className      java class name of exception
@@ -426,6 +426,10 @@ public abstract class AbstractXmlConfigHelper {
                 serializationConfig.setEnableSharedObject(checkTrue(getTextContent(child)));
             } else if ("allow-unsafe".equals(name)) {
                 serializationConfig.setAllowUnsafe(checkTrue(getTextContent(child)));
+            } else if ("enable-jdk-type-serializers".equals(name)) {
+                serializationConfig.setEnableJdkTypeSerializers(checkTrue(getTextContent(child)));
+            } else if ("enable-class-name-references".equals(name)) {
+                serializationConfig.setEnableClassNameReferences(checkTrue(getTextContent(child)));
             } else if ("data-serializable-factories".equals(name)) {
                 fillDataSerializableFactories(child, serializationConfig);
             } else if ("portable-factories".equals(name)) {
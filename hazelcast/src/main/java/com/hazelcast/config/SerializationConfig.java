@@ -61,6 +61,10 @@ public class SerializationConfig {
 
     private boolean allowUnsafe;
 
+    private boolean enableJdkTypeSerializers;
+
+    private boolean enableClassNameReferences;
+
     private Set<ClassDefinition> classDefinitions;
 
     public SerializationConfig() {
@@ -440,6 +444,60 @@ public class SerializationConfig {
         return this;
     }
 
+    /**
+     * Default value is false.
+     * Compact serializers are used for {@code HashMap}, {@code LinkedHashMap}, {@code TreeMap},
+     * {@code ConcurrentHashMap}, {@code HashSet}, {@code LinkedHashSet}, {@code TreeSet} and {@code UUID}
+     * instead of default java serialization.
+     *
+     * @return true if the compact serializers of JDK types are enabled
+     */
+    public boolean isEnableJdkTypeSerializers() {
+        return enableJdkTypeSerializers;
+    }
+
+    /**
+     * Enables compact serializers for {@code HashMap}, {@code LinkedHashMap}, {@code TreeMap},
+     * {@code ConcurrentHashMap}, {@code HashSet}, {@code LinkedHashSet}, {@code TreeSet} and {@code UUID}
+     * instead of default java serialization.
+     * <p/>
+     * This changes the serialized form of these types. Data written with it enabled can not be read by versions
+     * without these serializers, so all members and clients of a cluster must enable it together.
+     *
+     * @param enableJdkTypeSerializers set to true to enable
+     * @return configured {@link com.hazelcast.config.SerializerConfig} for chaining
+     */
+    public SerializationConfig setEnableJdkTypeSerializers(boolean enableJdkTypeSerializers) {
+        this.enableJdkTypeSerializers = enableJdkTypeSerializers;
+        return this;
+    }
+
+    /**
+     * Default value is false.
+     * The class name of a {@link com.hazelcast.nio.serialization.DataSerializable}, which isn't identified,
+     * is written once per serialized object graph and referred to by the further objects of the same class.
+     *
+     * @return true if class name references are enabled
+     */
+    public boolean isEnableClassNameReferences() {
+        return enableClassNameReferences;
+    }
+
+    /**
+     * Enables writing the class name of a {@link com.hazelcast.nio.serialization.DataSerializable}, which isn't
+     * identified, once per serialized object graph: the further objects of the same class refer to it.
+     * <p/>
+     * Data written with it enabled can not be read by versions without class name references, so all members
+     * and clients of a cluster must enable it together.
+     *
+     * @param enableClassNameReferences set to true to enable
+     * @return configured {@link com.hazelcast.config.SerializerConfig} for chaining
+     */
+    public SerializationConfig setEnableClassNameReferences(boolean enableClassNameReferences) {
+        this.enableClassNameReferences = enableClassNameReferences;
+        return this;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("SerializationConfig{");
@@ -454,6 +512,8 @@ public class SerializationConfig {
         sb.append(", classDefinitions=").append(classDefinitions);
         sb.append(", byteOrder=").append(byteOrder);
         sb.append(", useNativeByteOrder=").append(useNativeByteOrder);
+        sb.append(", enableJdkTypeSerializers=").append(enableJdkTypeSerializers);
+        sb.append(", enableClassNameReferences=").append(enableClassNameReferences);
         sb.append('}');
         return sb.toString();
     }
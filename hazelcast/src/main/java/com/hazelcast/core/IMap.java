@@ -25,9 +25,12 @@ import com.hazelcast.mapreduce.JobTracker;
 import com.hazelcast.mapreduce.aggregation.Aggregation;
 import com.hazelcast.mapreduce.aggregation.Supplier;
 import com.hazelcast.monitor.LocalMapStats;
+import com.hazelcast.query.Aggregator;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Projection;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
@@ -1115,6 +1118,7 @@ public interface IMap<K, V>
      * @return a set clone of the keys contained in this map.
      * @throws QueryResultSizeExceededException on server side if query result size limit is exceeded
      * @see com.hazelcast.instance.GroupProperty#QUERY_RESULT_SIZE_LIMIT
+     * @see #iterator(int)
      */
     Set<K> keySet();
 
@@ -1132,6 +1136,7 @@ public interface IMap<K, V>
      * @return a collection clone of the values contained in this map
      * @throws QueryResultSizeExceededException on server side if query result size limit is exceeded
      * @see com.hazelcast.instance.GroupProperty#QUERY_RESULT_SIZE_LIMIT
+     * @see #iterator(int)
      */
     Collection<V> values();
 
@@ -1149,6 +1154,7 @@ public interface IMap<K, V>
      * @return a set clone of the keys mappings in this map
      * @throws QueryResultSizeExceededException on server side if query result size limit is exceeded
      * @see com.hazelcast.instance.GroupProperty#QUERY_RESULT_SIZE_LIMIT
+     * @see #iterator(int)
      */
     Set<Map.Entry<K, V>> entrySet();
 
@@ -1215,6 +1221,105 @@ public interface IMap<K, V>
      */
     Collection<V> values(Predicate predicate);
 
+    /**
+     * Returns an iterator over the entries of this map, fetching 100 entries at a time.
+     * <p/>
+     * See {@link #iterator(int)}.
+     *
+     * @return an iterator over the entries of this map.
+     */
+    Iterator<Map.Entry<K, V>> iterator();
+
+    /**
+     * Returns an iterator over the entries of this map, fetching the entries lazily,
+     * partition by partition in batches of <code>fetchSize</code> entries.
+     * <p/>
+     * Unlike {@link #keySet()}, {@link #values()} and {@link #entrySet()}, the entries are never
+     * materialized all at once, neither on the members nor on the caller, so the memory used for
+     * an iteration is bounded by the fetch size whatever the size of the map is.
+     * <p/>
+     * <p><b>Warning:</b></p>
+     * The iterator is weakly consistent: the changes to the map during the iteration may or may not
+     * be reflected, and an entry may be missed or returned twice if its partition migrates or grows
+     * during the iteration. {@link Iterator#remove()} removes the last returned entry from the map.
+     *
+     * @param fetchSize the number of entries fetched at a time.
+     * @return an iterator over the entries of this map.
+     * @throws IllegalArgumentException if the fetch size is not positive.
+     */
+    Iterator<Map.Entry<K, V>> iterator(int fetchSize);
+
+    /**
+     * Applies the projection on all map entries and returns the projected values.
+     * <p/>
+     * See {@link #project(Projection, Predicate)}.
+     *
+     * @param projection the projection applied to the entries.
+     * @param <R>        type of the projected values.
+     * @return the projected values of all entries.
+     * @throws QueryResultSizeExceededException if query result size limit is exceeded
+     * @see com.hazelcast.query.Projections
+     */
+    <R> Collection<R> project(Projection<Map.Entry<K, V>, R> projection);
+
+    /**
+     * Queries the map based on the specified predicate and
+     * returns the values of the matching entries transformed by the projection.
+     * <p/>
+     * The projection runs on the members owning the entries in parallel, so only the projected values,
+     * e.g. a few attributes of large values, are serialized and sent back instead of the whole entries.
+     * The projected values of different entries may be equal, the returned collection holds all of them.
+     * Paging predicates are not supported.
+     * <p/>
+     * <p><b>Warning:</b></p>
+     * The collection is <b>NOT</b> backed by the map,
+     * so changes to the map are <b>NOT</b> reflected in the collection, and vice-versa.
+     * <p/>
+     * This method is always executed by a distributed query
+     * so it may throw a {@link QueryResultSizeExceededException}
+     * if {@link com.hazelcast.instance.GroupProperty#QUERY_RESULT_SIZE_LIMIT} is configured.
+     *
+     * @param projection the projection applied to the matching entries.
+     * @param predicate  specified query criteria.
+     * @param <R>        type of the projected values.
+     * @return the projected values of the matching entries.
+     * @throws QueryResultSizeExceededException if query result size limit is exceeded
+     * @see com.hazelcast.query.Projections
+     * @see com.hazelcast.instance.GroupProperty#QUERY_RESULT_SIZE_LIMIT
+     */
+    <R> Collection<R> project(Projection<Map.Entry<K, V>, R> projection, Predicate predicate);
+
+    /**
+     * Aggregates all map entries by the given aggregator.
+     * <p/>
+     * See {@link #aggregate(Aggregator, Predicate)}.
+     *
+     * @param aggregator the aggregator accumulating the entries.
+     * @param <R>        type of the aggregation result.
+     * @return the aggregation result.
+     * @see com.hazelcast.query.Aggregators
+     */
+    <R> R aggregate(Aggregator<Map.Entry<K, V>, R> aggregator);
+
+    /**
+     * Aggregates the map entries matching the specified predicate by the given aggregator.
+     * <p/>
+     * The entries are accumulated on the members owning them: each partition is accumulated by a copy of the
+     * aggregator on its partition thread, the copies are combined on every member, then the members' results are
+     * combined by the caller. Only the aggregator states are sent across the network. If the predicate can be
+     * evaluated by indexes, only the indexed matching entries are accumulated.
+     * Paging predicates are not supported.
+     * <p/>
+     * The given aggregator instance is not modified, it is copied before accumulating any entry.
+     *
+     * @param aggregator the aggregator accumulating the matching entries.
+     * @param predicate  specified query criteria.
+     * @param <R>        type of the aggregation result.
+     * @return the aggregation result.
+     * @see com.hazelcast.query.Aggregators
+     */
+    <R> R aggregate(Aggregator<Map.Entry<K, V>, R> aggregator, Predicate predicate);
+
     /**
      * Returns the locally owned set of keys.
      * <p/>
@@ -1293,6 +1398,17 @@ public interface IMap<K, V>
      * You should also make sure to add the indexes before adding
      * entries to this map.
      * <p/>
+     * <h3>Composite Indexes</h3>
+     * A comma separated list of attributes creates a composite index on the
+     * tuple of their values. If you mostly query by equality on both name and age
+     * <pre>
+     *   imap.addIndex("name, age", false);
+     * </pre>
+     * answers <code>name = 'joe' AND age = 30</code> by a single index lookup instead of
+     * intersecting the results of two indexes. An unordered composite index is used when
+     * all its attributes are compared for equality; an ordered one also when at least its
+     * first two attributes are.
+     * <p/>
      * <h3>Time to Index</h3>
      * Indexing time is executed in parallel on each partition by operation threads. The Map
      * is not blocked during this operation.
@@ -21,11 +21,15 @@ import com.hazelcast.cache.impl.ICacheService;
 import com.hazelcast.client.impl.protocol.MessageTaskFactory;
 import com.hazelcast.client.impl.protocol.MessageTaskFactoryImpl;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.NativeMemoryConfig;
+import com.hazelcast.config.SSLConfig;
 import com.hazelcast.config.SerializationConfig;
 import com.hazelcast.core.PartitioningStrategy;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.internal.storage.DataRef;
 import com.hazelcast.internal.storage.Storage;
+import com.hazelcast.internal.storage.impl.NativeMemoryStats;
+import com.hazelcast.internal.storage.impl.NativeMemoryStorage;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.memory.DefaultMemoryStats;
@@ -33,6 +37,7 @@ import com.hazelcast.memory.MemoryStats;
 import com.hazelcast.nio.ClassLoaderUtil;
 import com.hazelcast.nio.IOService;
 import com.hazelcast.nio.MemberSocketInterceptor;
+import com.hazelcast.nio.ssl.SSLSocketChannelWrapperFactory;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.SerializationServiceBuilder;
 import com.hazelcast.nio.tcp.DefaultSocketChannelWrapperFactory;
@@ -55,17 +60,28 @@ import static com.hazelcast.map.impl.MapServiceConstructor.getDefaultMapServiceC
 
 public class DefaultNodeExtension implements NodeExtension {
 
+    private static final int NATIVE_STORAGE_SEGMENTS_PER_CORE = 4;
+
     protected volatile Node node;
     protected volatile ILogger logger;
     protected volatile ILogger systemLogger;
 
-    private final MemoryStats memoryStats = new DefaultMemoryStats();
+    private volatile MemoryStats memoryStats = new DefaultMemoryStats();
+    private volatile NativeMemoryStorage nativeDataStorage;
 
     @Override
     public void beforeStart(Node node) {
         this.node = node;
         logger = node.getLogger(NodeExtension.class);
         systemLogger = node.getLogger("com.hazelcast.system");
+
+        NativeMemoryConfig nativeMemoryConfig = node.getConfig().getNativeMemoryConfig();
+        if (nativeMemoryConfig.isEnabled()) {
+            int concurrencyLevel = Runtime.getRuntime().availableProcessors() * NATIVE_STORAGE_SEGMENTS_PER_CORE;
+            nativeDataStorage = new NativeMemoryStorage(nativeMemoryConfig, concurrencyLevel);
+            memoryStats = new NativeMemoryStats(nativeDataStorage);
+            logger.info("Native memory storage is enabled: " + nativeMemoryConfig);
+        }
     }
 
     @Override
@@ -94,7 +110,11 @@ public class DefaultNodeExtension implements NodeExtension {
 
     @Override
     public Storage<DataRef> getNativeDataStorage() {
-        throw new UnsupportedOperationException("Native memory feature is only available on Hazelcast Enterprise!");
+        if (nativeDataStorage == null) {
+            throw new UnsupportedOperationException("Native memory is not enabled! "
+                    + "Enable it via NativeMemoryConfig to use InMemoryFormat.NATIVE.");
+        }
+        return nativeDataStorage;
     }
 
     public SerializationService createSerializationService() {
@@ -157,6 +177,10 @@ public class DefaultNodeExtension implements NodeExtension {
 
     @Override
     public SocketChannelWrapperFactory getSocketChannelWrapperFactory() {
+        SSLConfig sslConfig = node.getConfig().getNetworkConfig().getSSLConfig();
+        if (sslConfig != null && sslConfig.isEnabled()) {
+            return new SSLSocketChannelWrapperFactory(sslConfig);
+        }
         return new DefaultSocketChannelWrapperFactory();
     }
 
@@ -192,6 +216,9 @@ public class DefaultNodeExtension implements NodeExtension {
     @Override
     public void destroy() {
         logger.info("Destroying node NodeExtension.");
+        if (nativeDataStorage != null) {
+            nativeDataStorage.destroy();
+        }
     }
 
     @Override
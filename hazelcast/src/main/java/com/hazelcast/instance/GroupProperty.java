@@ -76,6 +76,40 @@ public enum GroupProperty implements HazelcastProperty {
      */
     GENERIC_OPERATION_THREAD_COUNT("hazelcast.operation.generic.thread.count", -1),
 
+    /**
+     * The CPUs the partition operation threads are pinned to, see {@link com.hazelcast.util.ThreadAffinity} for the
+     * format. For example with {@code 0-3} the partition operation threads 0, 1, 2 and 3 run on CPU 0, 1, 2 and 3.
+     * <p/>
+     * By default the threads are not pinned.
+     */
+    PARTITION_OPERATION_THREAD_AFFINITY("hazelcast.operation.thread.affinity"),
+
+    /**
+     * Enables the lock-free multi-producer single-consumer queue of the partition operation threads.
+     * <p/>
+     * Unlike the default blocking queue, it doesn't take a lock or allocate a node for every operation added.
+     * An idle partition operation thread idles according to {@link #PARTITION_OPERATION_THREAD_IDLE_STRATEGY}.
+     */
+    PARTITION_OPERATION_QUEUE_MPSC_ENABLED("hazelcast.operation.partition.queue.mpsc.enabled", false),
+
+    /**
+     * Enables batching of the responses sent by the partition operation threads.
+     * <p/>
+     * The responses to the same member are packed into a single packet until a partition operation thread has run all
+     * the tasks in its queue. This reduces the number of packets for pipelined asynchronous calls. All members of the
+     * cluster need to run a version understanding these batched responses.
+     */
+    OPERATION_RESPONSE_BATCHING_ENABLED("hazelcast.operation.response.batching.enabled", false),
+
+    /**
+     * The idle strategy of the partition operation threads with a multi-producer single-consumer queue:
+     * <ul>
+     * <li>backoff: spins, then yields, then parks until an operation is added. This is the default.</li>
+     * <li>busyspin: keeps spinning, lowest latency at the cost of a CPU core per partition operation thread.</li>
+     * </ul>
+     */
+    PARTITION_OPERATION_THREAD_IDLE_STRATEGY("hazelcast.operation.partition.thread.idle.strategy", "backoff"),
+
     /**
      * The number of threads that the client engine has available for processing requests that are not partition specific.
      * Most of the requests, such as map.put and map.get, are partition specific and will use a partition-operation-thread, but
@@ -166,6 +200,20 @@ public enum GroupProperty implements HazelcastProperty {
      */
     IO_OUTPUT_THREAD_COUNT("hazelcast.io.output.thread.count", IO_THREAD_COUNT),
 
+    /**
+     * The CPUs the socket input threads are pinned to, see {@link com.hazelcast.util.ThreadAffinity} for the format.
+     * <p/>
+     * By default the threads are not pinned.
+     */
+    IO_INPUT_THREAD_AFFINITY("hazelcast.io.input.thread.affinity"),
+
+    /**
+     * The CPUs the socket output threads are pinned to, see {@link com.hazelcast.util.ThreadAffinity} for the format.
+     * <p/>
+     * By default the threads are not pinned.
+     */
+    IO_OUTPUT_THREAD_AFFINITY("hazelcast.io.output.thread.affinity"),
+
     /**
      * The interval in seconds between {@link com.hazelcast.nio.tcp.nonblocking.iobalancer.IOBalancer IOBalancer}
      * executions. The shorter intervals will catch I/O Imbalance faster, but they will cause higher overhead.
@@ -177,6 +225,19 @@ public enum GroupProperty implements HazelcastProperty {
      */
     IO_BALANCER_INTERVAL_SECONDS("hazelcast.io.balancer.interval.seconds", 20, SECONDS),
 
+    /**
+     * The period in milliseconds an IO thread of the spinning IO threading model ({@code -Dhazelcast.io.spinning=true})
+     * keeps spinning without finding any work before it blocks: the input thread on a selector until a socket is
+     * readable, the output thread until a frame is written.
+     * <p/>
+     * Spinning gives the lowest latency while there is traffic, blocking stops an idle member from burning a CPU core
+     * per IO thread. The time spent in each mode is exposed by the {@code spinTimeMs} and {@code blockedTimeMs} metrics
+     * of the IO threads.
+     * <p/>
+     * The default is -1 (the IO threads keep spinning).
+     */
+    IO_SPINNING_IDLE_TIMEOUT_MILLIS("hazelcast.io.spinning.idle.timeout.millis", -1, MILLISECONDS),
+
     PREFER_IPv4_STACK("hazelcast.prefer.ipv4.stack", true),
 
     VERSION_CHECK_ENABLED("hazelcast.version.check.enabled", true),
@@ -236,6 +297,26 @@ public enum GroupProperty implements HazelcastProperty {
      */
     SOCKET_CLIENT_SEND_BUFFER_SIZE("hazelcast.socket.client.send.buffer.size", -1),
 
+    /**
+     * Allocates the socket buffers of the non-blocking IO threads as direct buffers, pooled between the connections.
+     * <p/>
+     * The JDK copies heap buffers into a temporary direct buffer on every socket read and write, direct buffers
+     * avoid this copy. Text (REST and Memcache) connections always use heap buffers.
+     */
+    SOCKET_BUFFER_DIRECT("hazelcast.socket.buffer.direct", false),
+
+    /**
+     * Minimum payload size in bytes of a member packet to be LZ4 compressed before it is written to the socket.
+     * <p/>
+     * Compression is negotiated per connection: packets are only compressed when both members have it enabled, and
+     * a packet which doesn't shrink enough is sent as is. Compressing costs CPU on the sending and the receiving
+     * side, so it pays off on networks where bandwidth, not CPU, is the bottleneck.
+     * <p/>
+     * The default is -1 (disabled). Members having compression enabled announce it with a protocol header which
+     * members of older versions don't recognize, so all members have to support it.
+     */
+    SOCKET_PACKET_COMPRESSION_THRESHOLD("hazelcast.socket.packet.compression.threshold", -1),
+
     SOCKET_LINGER_SECONDS("hazelcast.socket.linger.seconds", 0, SECONDS),
     SOCKET_CONNECT_TIMEOUT_SECONDS("hazelcast.socket.connect.timeout.seconds", 0, SECONDS),
     SOCKET_KEEP_ALIVE("hazelcast.socket.keep.alive", true),
@@ -280,6 +361,16 @@ public enum GroupProperty implements HazelcastProperty {
      */
     MAP_EXPIRY_DELAY_SECONDS("hazelcast.map.expiry.delay.seconds", 10, SECONDS),
 
+    /**
+     * Enables sampling based max-size eviction for IMap.
+     * <p/>
+     * By default, each eviction round sorts the LRU/LFU eviction criteria of all entries in the partition.
+     * When sampling is enabled, every entry to evict is chosen among a fixed number of randomly sampled entries,
+     * so the cost of evicting an entry does not depend on the map size. The resulting eviction order
+     * is an approximation of LRU/LFU.
+     */
+    MAP_EVICTION_SAMPLING_ENABLED("hazelcast.map.eviction.sampling.enabled", false),
+
     LOGGING_TYPE("hazelcast.logging.type", "jdk"),
 
     ENABLE_JMX("hazelcast.jmx", false),
@@ -296,6 +387,17 @@ public enum GroupProperty implements HazelcastProperty {
     PARTITION_MIGRATION_TIMEOUT("hazelcast.partition.migration.timeout", 300, SECONDS),
     PARTITION_MIGRATION_ZIP_ENABLED("hazelcast.partition.migration.zip.enabled", true),
 
+    /**
+     * The maximum size in kilobytes of a chunk of the data of a migrating partition.
+     * <p/>
+     * The data is sent in chunks of about this size, one at a time: the source builds the next chunk from its data once
+     * the destination applied the previous one. This bounds the memory and the partition thread time a migration takes
+     * on both members. Only the data of services supporting it, like maps, is split; a single entry is never split.
+     * <p/>
+     * The default is 16384 (16 MB). A value of 0 or lower sends all data of a partition at once.
+     */
+    PARTITION_MIGRATION_CHUNK_SIZE("hazelcast.partition.migration.chunk.size", 16384),
+
     PARTITION_TABLE_SEND_INTERVAL("hazelcast.partition.table.send.interval", 15, SECONDS),
     PARTITION_BACKUP_SYNC_INTERVAL("hazelcast.partition.backup.sync.interval", 30, SECONDS),
     PARTITION_MAX_PARALLEL_REPLICATIONS("hazelcast.partition.max.parallel.replications", 5),
@@ -488,6 +590,27 @@ public enum GroupProperty implements HazelcastProperty {
      */
     BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION("hazelcast.backpressure.max.concurrent.invocations.per.partition", 100),
 
+    /**
+     * Enables the adaptive limit of the concurrent remote invocations per member.
+     * <p/>
+     * On top of the static limit of concurrent invocations, the number of remote invocations in flight to a member is
+     * limited. The limit grows while the response times of the member stay close to the lowest response time seen, and
+     * shrinks when they rise, which means operations are queueing up on the member. An invocation exceeding the limit
+     * backs off like for the static limit, until {@link #BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS}.
+     * <p/>
+     * This property only has meaning when backpressure is enabled.
+     */
+    BACKPRESSURE_ADAPTIVE_ENABLED("hazelcast.backpressure.adaptive.enabled", false),
+
+    /**
+     * Stores the pending invocations in an array of slots indexed by call-id, instead of a map.
+     * <p/>
+     * Registering and deregistering an invocation then doesn't box the call-id or allocate a map entry, and looking up
+     * the invocation of a response doesn't hash. The capacity of the array is derived from the maximum number of concurrent
+     * invocations when backpressure is enabled.
+     */
+    INVOCATION_REGISTRY_ARRAY_ENABLED("hazelcast.invocation.registry.array.enabled", false),
+
     /**
      * Run Query Evaluations for multiple partitions in parallel.
      * <p/>
@@ -548,6 +671,16 @@ public enum GroupProperty implements HazelcastProperty {
      */
     QUERY_OPTIMIZER_TYPE("hazelcast.query.optimizer.type", QueryOptimizerFactory.Type.RULES.toString()),
 
+    /**
+     * Keep unordered indexes on boolean and enum attributes in bitmaps.
+     * <p/>
+     * A bitmap index costs a bit per indexed entry and distinct value, and AND, OR and NOT queries over
+     * bitmap indexed attributes are evaluated by bit operations.
+     * <p/>
+     * The default is false.
+     */
+    QUERY_BITMAP_INDEXES_ENABLED("hazelcast.query.bitmap.indexes.enabled", false),
+
     /**
      * Forces the JCache provider, which can have values client or server, to force the provider type.
      * If not provided, the provider will be client or server, whichever is found on the classpath first respectively.
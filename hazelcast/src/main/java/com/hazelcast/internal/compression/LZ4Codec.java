@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.compression;
+
+import java.util.Arrays;
+
+import static com.hazelcast.nio.Bits.readIntL;
+
+/**
+ * A pure Java block compressor writing the LZ4 block format.
+ * <p/>
+ * LZ4 trades compression ratio for speed: it only replaces repeated sequences of bytes by back references, which makes
+ * compression and especially decompression cheap enough to do on every large packet.
+ * <p/>
+ * An LZ4Codec isn't thread-safe since it reuses its hash table; decompression is stateless.
+ */
+public final class LZ4Codec {
+
+    private static final int MIN_MATCH = 4;
+    // the last literals of a block; a match can't extend into them
+    private static final int LAST_LITERALS = 5;
+    // a match can't start within this many bytes of the end of the block
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = (1 << 16) - 1;
+    private static final int HASH_LOG = 12;
+    private static final int HASH_MULTIPLIER = -1640531535;
+    private static final int RUN_MASK = 15;
+    private static final int ML_BITS = 4;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MAX_OVERHEAD = 16;
+    // after so many misses in a row the step of the match search grows, so incompressible data is skipped quickly
+    private static final int SKIP_TRIGGER = 6;
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+
+    /**
+     * Returns the maximum size of the compressed form of a block.
+     *
+     * @param length the size of the block
+     * @return the maximum size of its compressed form
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / BYTE_MASK + MAX_OVERHEAD;
+    }
+
+    /**
+     * Compresses a block.
+     *
+     * @param src    the array containing the block
+     * @param srcOff the offset of the block
+     * @param srcLen the size of the block
+     * @param dst    the array to write the compressed block to, having at least {@link #maxCompressedLength(int)} bytes
+     *               from dstOff on
+     * @param dstOff the offset to write the compressed block at
+     * @return the size of the compressed block
+     */
+    public int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff) {
+        int srcEnd = srcOff + srcLen;
+        int matchLimit = srcEnd - LAST_LITERALS;
+        int mfLimit = srcEnd - MF_LIMIT;
+        int anchor = srcOff;
+        int dp = dstOff;
+
+        if (srcLen > MF_LIMIT) {
+            Arrays.fill(hashTable, -1);
+            int sp = srcOff;
+            int misses = 0;
+            while (sp < mfLimit) {
+                int sequence = readIntL(src, sp);
+                int hash = hash(sequence);
+                int ref = hashTable[hash];
+                hashTable[hash] = sp;
+                if (ref < 0 || sp - ref > MAX_DISTANCE || readIntL(src, ref) != sequence) {
+                    sp += 1 + (misses++ >>> SKIP_TRIGGER);
+                    continue;
+                }
+                misses = 0;
+
+                // extends the match backwards into the pending literals
+                while (sp > anchor && ref > srcOff && src[sp - 1] == src[ref - 1]) {
+                    sp--;
+                    ref--;
+                }
+
+                int matchEnd = sp + MIN_MATCH;
+                int refEnd = ref + MIN_MATCH;
+                while (matchEnd < matchLimit && src[matchEnd] == src[refEnd]) {
+                    matchEnd++;
+                    refEnd++;
+                }
+
+                dp = writeSequence(src, anchor, sp - anchor, sp - ref, matchEnd - sp - MIN_MATCH, dst, dp);
+                sp = matchEnd;
+                anchor = sp;
+            }
+        }
+
+        return writeLastLiterals(src, anchor, srcEnd - anchor, dst, dp) - dstOff;
+    }
+
+    private static int writeSequence(byte[] src, int literalOff, int literalLen, int offset, int matchLen,
+                                     byte[] dst, int dp) {
+        int tokenPos = dp++;
+        dp = writeLength(literalLen, dst, dp);
+        System.arraycopy(src, literalOff, dst, dp, literalLen);
+        dp += literalLen;
+
+        dst[dp++] = (byte) offset;
+        dst[dp++] = (byte) (offset >>> Byte.SIZE);
+        dp = writeLength(matchLen, dst, dp);
+
+        dst[tokenPos] = (byte) ((Math.min(literalLen, RUN_MASK) << ML_BITS) | Math.min(matchLen, RUN_MASK));
+        return dp;
+    }
+
+    private static int writeLastLiterals(byte[] src, int literalOff, int literalLen, byte[] dst, int dp) {
+        dst[dp++] = (byte) (Math.min(literalLen, RUN_MASK) << ML_BITS);
+        dp = writeLength(literalLen, dst, dp);
+        System.arraycopy(src, literalOff, dst, dp, literalLen);
+        return dp + literalLen;
+    }
+
+    /**
+     * Writes the part of a length which doesn't fit in the 4 bits of the token.
+     */
+    private static int writeLength(int length, byte[] dst, int dp) {
+        if (length < RUN_MASK) {
+            return dp;
+        }
+        int remaining = length - RUN_MASK;
+        while (remaining >= BYTE_MASK) {
+            dst[dp++] = (byte) BYTE_MASK;
+            remaining -= BYTE_MASK;
+        }
+        dst[dp++] = (byte) remaining;
+        return dp;
+    }
+
+    /**
+     * Decompresses a block.
+     *
+     * @param src    the array containing the compressed block
+     * @param srcOff the offset of the compressed block
+     * @param srcLen the size of the compressed block
+     * @param dst    the array to write the block to
+     * @param dstOff the offset to write the block at
+     * @param dstLen the size of the block
+     * @throws IllegalArgumentException if the compressed block is malformed or doesn't decompress to dstLen bytes
+     */
+    public static void decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int dstLen) {
+        int srcEnd = srcOff + srcLen;
+        int dstEnd = dstOff + dstLen;
+        int sp = srcOff;
+        int dp = dstOff;
+        try {
+            for (; ; ) {
+                int token = src[sp++] & BYTE_MASK;
+
+                int literalLen = token >>> ML_BITS;
+                if (literalLen == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[sp++] & BYTE_MASK;
+                        literalLen += b;
+                    } while (b == BYTE_MASK);
+                }
+                checkBlock(dp + literalLen <= dstEnd && sp + literalLen <= srcEnd);
+                System.arraycopy(src, sp, dst, dp, literalLen);
+                sp += literalLen;
+                dp += literalLen;
+
+                if (sp == srcEnd) {
+                    break;
+                }
+
+                int offset = (src[sp++] & BYTE_MASK) | ((src[sp++] & BYTE_MASK) << Byte.SIZE);
+                int matchLen = token & RUN_MASK;
+                if (matchLen == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[sp++] & BYTE_MASK;
+                        matchLen += b;
+                    } while (b == BYTE_MASK);
+                }
+                matchLen += MIN_MATCH;
+
+                int ref = dp - offset;
+                checkBlock(offset > 0 && ref >= dstOff && dp + matchLen <= dstEnd);
+                // byte by byte, since the match may overlap with the bytes it produces
+                for (int end = dp + matchLen; dp < end; ) {
+                    dst[dp++] = dst[ref++];
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed LZ4 block", e);
+        }
+        checkBlock(dp == dstEnd);
+    }
+
+    private static void checkBlock(boolean valid) {
+        if (!valid) {
+            throw new IllegalArgumentException("Malformed LZ4 block");
+        }
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * HASH_MULTIPLIER) >>> (Integer.SIZE - HASH_LOG);
+    }
+}
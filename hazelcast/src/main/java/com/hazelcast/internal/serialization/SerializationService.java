@@ -22,6 +22,7 @@ import com.hazelcast.nio.BufferObjectDataInput;
 import com.hazelcast.nio.BufferObjectDataOutput;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.ClassDefinition;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.PortableReader;
 import com.hazelcast.nio.serialization.Serializer;
@@ -73,6 +74,14 @@ public interface SerializationService {
 
     PortableReader createPortableReader(Data data) throws IOException;
 
+    /**
+     * Returns the layout declared for an IdentifiedDataSerializable type by its
+     * {@link com.hazelcast.nio.serialization.DataSerializableDefinitionFactory}.
+     *
+     * @return the class definition or null if the type does not declare its layout
+     */
+    ClassDefinition getDataSerializableClassDefinition(int factoryId, int typeId);
+
     ClassLoader getClassLoader();
 
     ManagedContext getManagedContext();
@@ -56,6 +56,10 @@ public interface SerializationServiceBuilder {
 
     SerializationServiceBuilder setAllowUnsafe(boolean allowUnsafe);
 
+    SerializationServiceBuilder setEnableJdkTypeSerializers(boolean enableJdkTypeSerializers);
+
+    SerializationServiceBuilder setEnableClassNameReferences(boolean enableClassNameReferences);
+
     SerializationServiceBuilder setPartitioningStrategy(PartitioningStrategy partitionStrategy);
 
     SerializationServiceBuilder setInitialOutputBufferSize(int initialOutputBufferSize);
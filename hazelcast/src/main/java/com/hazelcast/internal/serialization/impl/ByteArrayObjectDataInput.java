@@ -85,7 +85,7 @@ class ByteArrayObjectDataInput extends InputStream implements BufferObjectDataIn
     }
 
     @Override
-    public final int read(byte[] b, int off, int len) throws IOException {
+    public int read(byte[] b, int off, int len) throws IOException {
         if (b == null) {
             throw new NullPointerException();
         } else if ((off < 0) || (off > b.length) || (len < 0)
@@ -522,12 +522,40 @@ class ByteArrayObjectDataInput extends InputStream implements BufferObjectDataIn
      */
     @Override
     public final String readUTF() throws IOException {
+        String str = readAsciiUTF();
+        if (str != null) {
+            return str;
+        }
         if (utfBuffer == null) {
             utfBuffer = new byte[UTF_BUFFER_SIZE];
         }
         return UTFEncoderDecoder.readUTF(this, utfBuffer);
     }
 
+    /**
+     * Reads a string written as a single chunk of ASCII chars straight from the buffer. A chunk is all ASCII
+     * when its UTF length equals the length of the string, since any other char takes more than one byte.
+     *
+     * @return the string or null if it has to be decoded by {@link UTFEncoderDecoder}
+     */
+    @SuppressWarnings("deprecation")
+    String readAsciiUTF() throws IOException {
+        final int headerSize = UTFEncoderDecoder.getSingleChunkHeaderSize();
+        if (size - pos < headerSize || data[pos] != 0) {
+            return null;
+        }
+        final int length = readInt(pos + Bits.BOOLEAN_SIZE_IN_BYTES);
+        if (!UTFEncoderDecoder.isSingleChunk(length) || size - pos - headerSize < length
+                || readInt(pos + Bits.BOOLEAN_SIZE_IN_BYTES + INT_SIZE_IN_BYTES) != length
+                || (readShort(pos + Bits.BOOLEAN_SIZE_IN_BYTES + 2 * INT_SIZE_IN_BYTES) & 0xffff) != length) {
+            return null;
+        }
+        // the bytes of ASCII chars are their chars, so the string is built without an intermediate char array
+        final String str = new String(data, 0, pos + headerSize, length);
+        pos += headerSize + length;
+        return str;
+    }
+
     @Override
     public final Object readObject() throws IOException {
         return service.readObject(this);
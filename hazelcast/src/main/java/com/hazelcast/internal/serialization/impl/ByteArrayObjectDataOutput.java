@@ -25,6 +25,7 @@ import com.hazelcast.internal.serialization.SerializationService;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteOrder;
+import java.util.IdentityHashMap;
 
 import static com.hazelcast.nio.Bits.CHAR_SIZE_IN_BYTES;
 import static com.hazelcast.nio.Bits.INT_SIZE_IN_BYTES;
@@ -43,6 +44,9 @@ class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectData
 
     private byte[] utfBuffer;
 
+    // positions of the DataSerializable class names written to the buffer, see DataSerializer
+    private IdentityHashMap<Class, Integer> classNamePositions;
+
     private final boolean isBigEndian;
 
     ByteArrayObjectDataOutput(int size, SerializationService service, ByteOrder byteOrder) {
@@ -249,12 +253,43 @@ class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectData
 
     @Override
     public void writeUTF(final String str) throws IOException {
+        if (str != null && UTFEncoderDecoder.isSingleChunk(str.length()) && writeAsciiUTF(str)) {
+            return;
+        }
         if (utfBuffer == null) {
             utfBuffer = new byte[UTF_BUFFER_SIZE];
         }
         UTFEncoderDecoder.writeUTF(this, str, utfBuffer);
     }
 
+    /**
+     * Copies a string of ASCII chars straight into the buffer, in the same format as {@link UTFEncoderDecoder}.
+     *
+     * @return false if the string contains a non-ASCII char and nothing has been written
+     */
+    private boolean writeAsciiUTF(String str) throws IOException {
+        final int length = str.length();
+        final int headerSize = UTFEncoderDecoder.getSingleChunkHeaderSize();
+        ensureAvailable(headerSize + length);
+        int bytePos = pos + headerSize;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c == 0 || c > Byte.MAX_VALUE) {
+                return false;
+            }
+            buffer[bytePos++] = (byte) c;
+        }
+        writeBoolean(false);
+        writeInt(length);
+        writeInt(length);
+        writeShort(length);
+        if (UTFEncoderDecoder.isAsciiAware()) {
+            writeBoolean(true);
+        }
+        pos = bytePos;
+        return true;
+    }
+
     @Override
     public void writeByteArray(byte[] bytes) throws IOException {
         int len = (bytes == null) ? 0 : bytes.length;
@@ -264,6 +299,20 @@ class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectData
         }
     }
 
+    /**
+     * Writes the content of native memory data like {@link #writeByteArray(byte[])}, copying it straight
+     * from native memory into the buffer.
+     */
+    void writeNativeData(NativeMemoryData data) throws IOException {
+        int len = data.totalSize();
+        writeInt(len);
+        if (len > 0) {
+            ensureAvailable(len);
+            data.copyTo(buffer, pos);
+            pos += len;
+        }
+    }
+
     @Override
     public void writeCharArray(char[] chars) throws IOException {
         int len = chars != null ? chars.length : 0;
@@ -384,9 +433,29 @@ class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectData
         return newBuffer;
     }
 
+    /**
+     * Returns the position of the class name of the given DataSerializable type in the buffer.
+     *
+     * @return the position or -1 if the class name hasn't been written to the buffer
+     */
+    int getClassNamePosition(Class type) {
+        Integer position = classNamePositions == null ? null : classNamePositions.get(type);
+        return position == null ? -1 : position;
+    }
+
+    void putClassNamePosition(Class type, int position) {
+        if (classNamePositions == null) {
+            classNamePositions = new IdentityHashMap<Class, Integer>();
+        }
+        classNamePositions.put(type, position);
+    }
+
     @Override
     public void clear() {
         pos = 0;
+        if (classNamePositions != null) {
+            classNamePositions.clear();
+        }
         if (buffer != null && buffer.length > initialSize * 8) {
             buffer = new byte[initialSize * 8];
         }
@@ -396,6 +465,7 @@ class ByteArrayObjectDataOutput extends OutputStream implements BufferObjectData
     public void close() {
         pos = 0;
         buffer = null;
+        classNamePositions = null;
     }
 
     @Override
@@ -18,10 +18,14 @@ package com.hazelcast.internal.serialization.impl;
 
 
 import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.BufferObjectDataInput;
 import com.hazelcast.nio.ClassLoaderUtil;
+import com.hazelcast.nio.IOUtil;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.ClassDefinition;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.DataSerializableDefinitionFactory;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
 import com.hazelcast.internal.serialization.DataSerializerHook;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
@@ -36,6 +40,9 @@ import java.util.Iterator;
 import java.util.Map;
 
 import static com.hazelcast.internal.serialization.impl.SerializationConstants.CONSTANT_TYPE_DATA_SERIALIZABLE;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.DATA_SERIALIZABLE_CLASS_NAME;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.DATA_SERIALIZABLE_CLASS_NAME_REFERENCE;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.DATA_SERIALIZABLE_IDENTIFIED;
 
 /**
  * This class is the default serializer for all types that are serialized using Hazelcast
@@ -43,6 +50,13 @@ import static com.hazelcast.internal.serialization.impl.SerializationConstants.C
  * has a dependency to {@link com.hazelcast.nio.IOUtil#extractOperationCallId(com.hazelcast.nio.serialization.Data,
  * com.hazelcast.internal.serialization.SerializationService)}.
  * If the way the DataSerializer serializes values is changed the extract method needs to be changed too!
+ * The same holds for {@code com.hazelcast.query.impl.DataSerializableExtractor}, which reads declared fields
+ * of IdentifiedDataSerializable values.
+ * <p/>
+ * When class name references are enabled, the class name of a DataSerializable, which isn't identified, is written
+ * once per buffer: further objects of the same class in the buffer refer to the position of the class name, written
+ * as a var int. The class is then resolved through the constructor cache of {@link ClassLoaderUtil}. References are
+ * always read, but only written when enabled since readers of earlier versions can't resolve them.
  */
 final class DataSerializer implements StreamSerializer<DataSerializable> {
 
@@ -50,7 +64,11 @@ final class DataSerializer implements StreamSerializer<DataSerializable> {
 
     private final Int2ObjectHashMap<DataSerializableFactory> factories = new Int2ObjectHashMap<DataSerializableFactory>();
 
-    DataSerializer(Map<Integer, ? extends DataSerializableFactory> dataSerializableFactories, ClassLoader classLoader) {
+    private final boolean classNameReferences;
+
+    DataSerializer(Map<Integer, ? extends DataSerializableFactory> dataSerializableFactories, ClassLoader classLoader,
+                   boolean classNameReferences) {
+        this.classNameReferences = classNameReferences;
         try {
             final Iterator<DataSerializerHook> hooks = ServiceLoader.iterator(DataSerializerHook.class, FACTORY_ID, classLoader);
             while (hooks.hasNext()) {
@@ -86,6 +104,20 @@ final class DataSerializer implements StreamSerializer<DataSerializable> {
         }
     }
 
+    /**
+     * Returns the layout declared by the factory of given IdentifiedDataSerializable type.
+     *
+     * @return the class definition or null if the type does not declare its layout
+     * @see DataSerializableDefinitionFactory
+     */
+    ClassDefinition getClassDefinition(int factoryId, int typeId) {
+        DataSerializableFactory factory = factories.get(factoryId);
+        if (factory instanceof DataSerializableDefinitionFactory) {
+            return ((DataSerializableDefinitionFactory) factory).getClassDefinition(typeId);
+        }
+        return null;
+    }
+
     @Override
     public int getTypeId() {
         return CONSTANT_TYPE_DATA_SERIALIZABLE;
@@ -94,14 +126,14 @@ final class DataSerializer implements StreamSerializer<DataSerializable> {
     @Override
     public DataSerializable read(ObjectDataInput in) throws IOException {
         final DataSerializable ds;
-        final boolean identified = in.readBoolean();
+        final byte header = in.readByte();
         int id = 0;
         int factoryId = 0;
         String className = null;
         try {
             // If you ever change the way this is serialized think about to change
             // BasicOperationService::extractOperationCallId
-            if (identified) {
+            if (header == DATA_SERIALIZABLE_IDENTIFIED) {
                 factoryId = in.readInt();
                 final DataSerializableFactory dsf = factories.get(factoryId);
                 if (dsf == null) {
@@ -115,7 +147,7 @@ final class DataSerializer implements StreamSerializer<DataSerializable> {
                 }
                 // TODO: @mm - we can check if DS class is final.
             } else {
-                className = in.readUTF();
+                className = readClassName(in, header);
                 ds = ClassLoaderUtil.newInstance(in.getClassLoader(), className);
             }
             ds.readData(in);
@@ -135,22 +167,58 @@ final class DataSerializer implements StreamSerializer<DataSerializable> {
         }
     }
 
+    private static String readClassName(ObjectDataInput in, byte header) throws IOException {
+        if (header == DATA_SERIALIZABLE_CLASS_NAME) {
+            return in.readUTF();
+        }
+        if (header != DATA_SERIALIZABLE_CLASS_NAME_REFERENCE) {
+            throw new HazelcastSerializationException("Unknown DataSerializable header: " + header);
+        }
+        if (!(in instanceof BufferObjectDataInput)) {
+            throw new HazelcastSerializationException("Class name references can only be read from a BufferObjectDataInput");
+        }
+        BufferObjectDataInput input = (BufferObjectDataInput) in;
+        int classNamePosition = IOUtil.readVarInt(input);
+        int position = input.position();
+        input.position(classNamePosition);
+        String className = input.readUTF();
+        input.position(position);
+        return className;
+    }
+
     @Override
     public void write(ObjectDataOutput out, DataSerializable obj) throws IOException {
         // If you ever change the way this is serialized think about to change
         // BasicOperationService::extractOperationCallId
-        final boolean identified = obj instanceof IdentifiedDataSerializable;
-        out.writeBoolean(identified);
-        if (identified) {
+        if (obj instanceof IdentifiedDataSerializable) {
             final IdentifiedDataSerializable ds = (IdentifiedDataSerializable) obj;
+            out.writeByte(DATA_SERIALIZABLE_IDENTIFIED);
             out.writeInt(ds.getFactoryId());
             out.writeInt(ds.getId());
         } else {
-            out.writeUTF(obj.getClass().getName());
+            writeClassName(out, obj.getClass());
         }
         obj.writeData(out);
     }
 
+    private void writeClassName(ObjectDataOutput out, Class type) throws IOException {
+        if (classNameReferences && out instanceof ByteArrayObjectDataOutput) {
+            ByteArrayObjectDataOutput buffer = (ByteArrayObjectDataOutput) out;
+            int classNamePosition = buffer.getClassNamePosition(type);
+            if (classNamePosition != -1) {
+                buffer.writeByte(DATA_SERIALIZABLE_CLASS_NAME_REFERENCE);
+                IOUtil.writeVarInt(buffer, classNamePosition);
+                return;
+            }
+            buffer.writeByte(DATA_SERIALIZABLE_CLASS_NAME);
+            buffer.putClassNamePosition(type, buffer.position());
+            buffer.writeUTF(type.getName());
+            return;
+        }
+        out.writeByte(DATA_SERIALIZABLE_CLASS_NAME);
+        out.writeUTF(type.getName());
+    }
+
     @Override
     public void destroy() {
         factories.clear();
@@ -73,6 +73,10 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
 
     protected boolean allowUnsafe;
 
+    protected boolean enableJdkTypeSerializers;
+
+    protected boolean enableClassNameReferences;
+
     protected int initialOutputBufferSize = DEFAULT_OUT_BUFFER_SIZE;
 
     protected PartitioningStrategy partitioningStrategy;
@@ -106,6 +110,8 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
         enableCompression = config.isEnableCompression();
         enableSharedObject = config.isEnableSharedObject();
         allowUnsafe = config.isAllowUnsafe();
+        enableJdkTypeSerializers = config.isEnableJdkTypeSerializers();
+        enableClassNameReferences = config.isEnableClassNameReferences();
         return this;
     }
 
@@ -175,6 +181,18 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
         return this;
     }
 
+    @Override
+    public SerializationServiceBuilder setEnableJdkTypeSerializers(boolean enableJdkTypeSerializers) {
+        this.enableJdkTypeSerializers = enableJdkTypeSerializers;
+        return this;
+    }
+
+    @Override
+    public SerializationServiceBuilder setEnableClassNameReferences(boolean enableClassNameReferences) {
+        this.enableClassNameReferences = enableClassNameReferences;
+        return this;
+    }
+
     @Override
     public SerializationServiceBuilder setPartitioningStrategy(PartitioningStrategy partitionStrategy) {
         this.partitioningStrategy = partitionStrategy;
@@ -232,7 +250,8 @@ public class DefaultSerializationServiceBuilder implements SerializationServiceB
         return new SerializationServiceImpl(inputOutputFactory, version,
                     classLoader, dataSerializableFactories,
                     portableFactories, classDefinitions, checkClassDefErrors, managedContext, partitioningStrategy,
-                    initialOutputBufferSize, enableCompression, enableSharedObject, new BufferPoolFactoryImpl());
+                    initialOutputBufferSize, enableCompression, enableSharedObject, enableJdkTypeSerializers,
+                    enableClassNameReferences, new BufferPoolFactoryImpl());
     }
 
     private void registerSerializerHooks(SerializationServiceImpl ss) {
@@ -115,7 +115,14 @@ public class HeapData implements Data {
             return false;
         }
 
-        return dataSize == 0 || equals(this.payload, data.toByteArray());
+        if (dataSize == 0) {
+            return true;
+        }
+        if (data instanceof NativeMemoryData) {
+            // compare straight with native memory instead of copying it to the heap
+            return ((NativeMemoryData) data).contentEquals(payload);
+        }
+        return equals(this.payload, data.toByteArray());
     }
 
     // Same as Arrays.equals(byte[] a, byte[] a2) but loop order is reversed.
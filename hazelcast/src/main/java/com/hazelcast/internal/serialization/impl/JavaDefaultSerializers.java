@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.StreamSerializer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_CONCURRENT_HASH_MAP;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_HASH_MAP;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_HASH_SET;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_LINKED_HASH_MAP;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_LINKED_HASH_SET;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_TREE_MAP;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_TREE_SET;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.JAVA_DEFAULT_TYPE_UUID;
+import static com.hazelcast.util.MapUtil.calculateInitialCapacity;
+
+/**
+ * Serializers of common JDK collections and value types, which would otherwise be serialized by Java serialization.
+ * <p/>
+ * The elements, keys and values of the collections are written with {@link ObjectDataOutput#writeObject(Object)},
+ * so they are serialized by the serializers of their own types. A sorted collection writes its comparator the same
+ * way, so a comparator other than the natural ordering has to be serializable.
+ * <p/>
+ * These serializers are only used for their exact types: a subclass, which can have state of its own, is not
+ * serialized as its JDK superclass.
+ */
+public final class JavaDefaultSerializers {
+
+    public static final class HashMapStreamSerializer extends AbstractMapStreamSerializer<HashMap> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_HASH_MAP;
+        }
+
+        @Override
+        protected HashMap createMap(ObjectDataInput in, int size) {
+            return new HashMap(calculateInitialCapacity(size));
+        }
+    }
+
+    public static final class LinkedHashMapStreamSerializer extends AbstractMapStreamSerializer<LinkedHashMap> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_LINKED_HASH_MAP;
+        }
+
+        @Override
+        protected LinkedHashMap createMap(ObjectDataInput in, int size) {
+            return new LinkedHashMap(calculateInitialCapacity(size));
+        }
+    }
+
+    public static final class ConcurrentHashMapStreamSerializer extends AbstractMapStreamSerializer<ConcurrentHashMap> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_CONCURRENT_HASH_MAP;
+        }
+
+        @Override
+        protected ConcurrentHashMap createMap(ObjectDataInput in, int size) {
+            return new ConcurrentHashMap(calculateInitialCapacity(size));
+        }
+    }
+
+    public static final class TreeMapStreamSerializer extends AbstractMapStreamSerializer<TreeMap> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_TREE_MAP;
+        }
+
+        @Override
+        protected void beforeWrite(ObjectDataOutput out, TreeMap map) throws IOException {
+            out.writeObject(map.comparator());
+        }
+
+        @Override
+        protected TreeMap createMap(ObjectDataInput in, int size) throws IOException {
+            Comparator comparator = in.readObject();
+            return new TreeMap(comparator);
+        }
+    }
+
+    public static final class HashSetStreamSerializer extends AbstractCollectionStreamSerializer<HashSet> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_HASH_SET;
+        }
+
+        @Override
+        protected HashSet createCollection(ObjectDataInput in, int size) {
+            return new HashSet(calculateInitialCapacity(size));
+        }
+    }
+
+    public static final class LinkedHashSetStreamSerializer extends AbstractCollectionStreamSerializer<LinkedHashSet> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_LINKED_HASH_SET;
+        }
+
+        @Override
+        protected LinkedHashSet createCollection(ObjectDataInput in, int size) {
+            return new LinkedHashSet(calculateInitialCapacity(size));
+        }
+    }
+
+    public static final class TreeSetStreamSerializer extends AbstractCollectionStreamSerializer<TreeSet> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_TREE_SET;
+        }
+
+        @Override
+        protected void beforeWrite(ObjectDataOutput out, TreeSet set) throws IOException {
+            out.writeObject(set.comparator());
+        }
+
+        @Override
+        protected TreeSet createCollection(ObjectDataInput in, int size) throws IOException {
+            Comparator comparator = in.readObject();
+            return new TreeSet(comparator);
+        }
+    }
+
+    public static final class UuidStreamSerializer extends SingletonSerializer<UUID> {
+
+        @Override
+        public int getTypeId() {
+            return JAVA_DEFAULT_TYPE_UUID;
+        }
+
+        @Override
+        public void write(ObjectDataOutput out, UUID uuid) throws IOException {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+
+        @Override
+        public UUID read(ObjectDataInput in) throws IOException {
+            return new UUID(in.readLong(), in.readLong());
+        }
+    }
+
+    /**
+     * Writes the size followed by the keys and values of a map.
+     *
+     * @param <M> the type of the map
+     */
+    private abstract static class AbstractMapStreamSerializer<M extends Map> extends SingletonSerializer<M> {
+
+        @Override
+        public void write(ObjectDataOutput out, M map) throws IOException {
+            out.writeInt(map.size());
+            beforeWrite(out, map);
+            for (Object o : map.entrySet()) {
+                Map.Entry entry = (Map.Entry) o;
+                out.writeObject(entry.getKey());
+                out.writeObject(entry.getValue());
+            }
+        }
+
+        @Override
+        public M read(ObjectDataInput in) throws IOException {
+            int size = in.readInt();
+            M map = createMap(in, size);
+            for (int i = 0; i < size; i++) {
+                Object key = in.readObject();
+                Object value = in.readObject();
+                map.put(key, value);
+            }
+            return map;
+        }
+
+        /**
+         * Writes, after the size, the state of the map needed to create it, like the comparator of a sorted map.
+         */
+        protected void beforeWrite(ObjectDataOutput out, M map) throws IOException {
+        }
+
+        /**
+         * Creates an empty map for the given number of entries, reading the state written by
+         * {@link #beforeWrite(ObjectDataOutput, Map)}.
+         */
+        protected abstract M createMap(ObjectDataInput in, int size) throws IOException;
+    }
+
+    /**
+     * Writes the size followed by the elements of a collection.
+     *
+     * @param <C> the type of the collection
+     */
+    private abstract static class AbstractCollectionStreamSerializer<C extends Collection> extends SingletonSerializer<C> {
+
+        @Override
+        public void write(ObjectDataOutput out, C collection) throws IOException {
+            out.writeInt(collection.size());
+            beforeWrite(out, collection);
+            for (Object element : collection) {
+                out.writeObject(element);
+            }
+        }
+
+        @Override
+        public C read(ObjectDataInput in) throws IOException {
+            int size = in.readInt();
+            C collection = createCollection(in, size);
+            for (int i = 0; i < size; i++) {
+                collection.add(in.readObject());
+            }
+            return collection;
+        }
+
+        /**
+         * Writes, after the size, the state of the collection needed to create it, like the comparator of a sorted set.
+         */
+        protected void beforeWrite(ObjectDataOutput out, C collection) throws IOException {
+        }
+
+        /**
+         * Creates an empty collection for the given number of elements, reading the state written by
+         * {@link #beforeWrite(ObjectDataOutput, Collection)}.
+         */
+        protected abstract C createCollection(ObjectDataInput in, int size) throws IOException;
+    }
+
+    private abstract static class SingletonSerializer<T> implements StreamSerializer<T> {
+
+        @Override
+        public void destroy() {
+        }
+    }
+
+    private JavaDefaultSerializers() {
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.nio.Bits;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.util.HashUtil;
+
+import java.nio.ByteOrder;
+
+import static com.hazelcast.internal.serialization.impl.HeapData.DATA_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.PARTITION_HASH_BIT_OFFSET;
+import static com.hazelcast.internal.serialization.impl.HeapData.TYPE_OFFSET;
+import static com.hazelcast.nio.UnsafeHelper.BYTE_ARRAY_BASE_OFFSET;
+import static com.hazelcast.nio.UnsafeHelper.UNSAFE;
+import static com.hazelcast.nio.UnsafeHelper.copyMemory;
+
+/**
+ * A {@link Data} implementation where the content lives in native memory, in the same layout as {@link HeapData}.
+ * <p/>
+ * It is a view of {@code size} bytes at {@code address}. It is equal to, and has the same hash as, a {@link HeapData}
+ * with the same content. It is deserialized straight from native memory by a {@link NativeMemoryDataInput}, and its
+ * content is copied straight from native memory into a {@link com.hazelcast.nio.BufferObjectDataOutput} when written.
+ * {@link #toByteArray()} copies it to the heap.
+ * <p/>
+ * A view handed out by the owner of the memory, like
+ * {@link com.hazelcast.internal.storage.impl.NativeMemoryStorage#acquire(int, com.hazelcast.internal.storage.DataRef)},
+ * holds a reference to it: the memory is not freed before the view is {@link #release() released}, even if the value
+ * is removed in the meantime. A view is released by whoever acquired it, exactly once, and must not be used or handed
+ * out after that; a caller which needs the value for longer copies it to the heap first.
+ */
+public class NativeMemoryData implements Data {
+
+    // object header + address + size
+    private static final int HEAP_COST = 24;
+
+    private static final boolean BIG_ENDIAN_NATIVE_ORDER = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+
+    private final long address;
+    private final int size;
+
+    public NativeMemoryData() {
+        this(0L, 0);
+    }
+
+    public NativeMemoryData(long address, int size) {
+        if (size > 0 && size < DATA_OFFSET) {
+            throw new IllegalArgumentException("Data should be either empty or should contain more than "
+                    + DATA_OFFSET + " bytes! -> " + size);
+        }
+        this.address = address;
+        this.size = size;
+    }
+
+    /**
+     * Releases the reference this view holds to its memory. A view which doesn't hold a reference, like one created
+     * by the owner of the memory for its own use, does nothing.
+     */
+    public void release() {
+    }
+
+    public long address() {
+        return address;
+    }
+
+    /**
+     * Copies the content to the given array.
+     *
+     * @param dest       the destination array
+     * @param destOffset the offset in the destination array
+     */
+    public void copyTo(byte[] dest, int destOffset) {
+        if (destOffset < 0 || dest.length - destOffset < size) {
+            throw new IndexOutOfBoundsException("Cannot copy " + size + " bytes to offset " + destOffset
+                    + " of an array of " + dest.length + " bytes");
+        }
+        copyMemory(null, address, dest, BYTE_ARRAY_BASE_OFFSET + destOffset, size);
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        if (size == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[size];
+        copyTo(bytes, 0);
+        return bytes;
+    }
+
+    @Override
+    public int getType() {
+        if (size == 0) {
+            return SerializationConstants.CONSTANT_TYPE_NULL;
+        }
+        return readIntB(TYPE_OFFSET);
+    }
+
+    @Override
+    public int totalSize() {
+        return size;
+    }
+
+    @Override
+    public int dataSize() {
+        return Math.max(size - DATA_OFFSET, 0);
+    }
+
+    @Override
+    public int getHeapCost() {
+        return HEAP_COST;
+    }
+
+    @Override
+    public int getPartitionHash() {
+        if (hasPartitionHash()) {
+            return readIntB(size - Bits.INT_SIZE_IN_BYTES);
+        }
+        return hashCode();
+    }
+
+    @Override
+    public boolean hasPartitionHash() {
+        return size != 0 && UNSAFE.getByte(address + PARTITION_HASH_BIT_OFFSET) != 0;
+    }
+
+    @Override
+    public long hash64() {
+        return HashUtil.MurmurHash3_x64_64_direct(address, DATA_OFFSET, dataSize());
+    }
+
+    @Override
+    public boolean isPortable() {
+        return SerializationConstants.CONSTANT_TYPE_PORTABLE == getType();
+    }
+
+    // type and partition hash are always written with BIG_ENDIAN byte-order
+    private int readIntB(int offset) {
+        int value = UNSAFE.getInt(address + offset);
+        return BIG_ENDIAN_NATIVE_ORDER ? value : Integer.reverseBytes(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Data)) {
+            return false;
+        }
+
+        Data data = (Data) o;
+        if (getType() != data.getType() || dataSize() != data.dataSize()) {
+            return false;
+        }
+        if (dataSize() == 0) {
+            return true;
+        }
+        if (data instanceof NativeMemoryData) {
+            return contentEquals((NativeMemoryData) data);
+        }
+        return contentEquals(data.toByteArray());
+    }
+
+    /**
+     * Compares the content after the header with the same part of the given payload,
+     * whose size has already been checked by the caller.
+     */
+    boolean contentEquals(byte[] payload) {
+        for (int i = size - 1; i >= DATA_OFFSET; i--) {
+            if (UNSAFE.getByte(address + i) != payload[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean contentEquals(NativeMemoryData data) {
+        if (address == data.address) {
+            return true;
+        }
+        for (int i = size - 1; i >= DATA_OFFSET; i--) {
+            if (UNSAFE.getByte(address + i) != UNSAFE.getByte(data.address + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return HashUtil.MurmurHash3_x86_32_direct(address, DATA_OFFSET, dataSize());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("NativeMemoryData{");
+        sb.append("address=").append(address);
+        sb.append(", type=").append(getType());
+        sb.append(", hashCode=").append(hashCode());
+        sb.append(", partitionHash=").append(getPartitionHash());
+        sb.append(", totalSize=").append(size);
+        sb.append(", dataSize=").append(dataSize());
+        sb.append('}');
+        return sb.toString();
+    }
+}
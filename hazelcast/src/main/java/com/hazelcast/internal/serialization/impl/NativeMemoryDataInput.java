@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.internal.serialization.SerializationService;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+import static com.hazelcast.nio.Bits.CHAR_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.SHORT_SIZE_IN_BYTES;
+import static com.hazelcast.nio.UnsafeHelper.BYTE_ARRAY_BASE_OFFSET;
+import static com.hazelcast.nio.UnsafeHelper.UNSAFE;
+import static com.hazelcast.nio.UnsafeHelper.copyMemory;
+
+/**
+ * Reads the content of a {@link NativeMemoryData} straight from native memory, so a value kept in native memory is
+ * deserialized without copying it to the heap first. Positions are offsets from the start of the data, like the
+ * positions of a {@link ByteArrayObjectDataInput} reading a {@link HeapData}.
+ * <p/>
+ * The data must stay acquired while it is read.
+ */
+class NativeMemoryDataInput extends ByteArrayObjectDataInput {
+
+    private final boolean nativeOrder;
+
+    private long address;
+
+    NativeMemoryDataInput(NativeMemoryData data, SerializationService service, ByteOrder byteOrder) {
+        super(null, service, byteOrder);
+        this.nativeOrder = byteOrder == ByteOrder.nativeOrder();
+        this.address = data.address();
+        this.size = data.totalSize();
+        this.pos = HeapData.DATA_OFFSET;
+    }
+
+    @Override
+    public void init(byte[] data, int offset) {
+        throw new UnsupportedOperationException("NativeMemoryDataInput cannot read a byte array!");
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        address = 0L;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return (pos < size) ? UNSAFE.getByte(address + pos++) & 0xff : -1;
+    }
+
+    @Override
+    public int read(int position) throws IOException {
+        return (position < size) ? UNSAFE.getByte(address + position) & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (b == null) {
+            throw new NullPointerException();
+        } else if ((off < 0) || (off > b.length) || (len < 0)
+                || ((off + len) > b.length)
+                || ((off + len) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len <= 0) {
+            return 0;
+        }
+        if (pos >= size) {
+            return -1;
+        }
+        if (pos + len > size) {
+            len = size - pos;
+        }
+        copyMemory(null, address + pos, b, BYTE_ARRAY_BASE_OFFSET + off, len);
+        pos += len;
+        return len;
+    }
+
+    @Override
+    public char readChar(int position) throws IOException {
+        checkAvailable(position, CHAR_SIZE_IN_BYTES);
+        char c = UNSAFE.getChar(address + position);
+        return nativeOrder ? c : Character.reverseBytes(c);
+    }
+
+    @Override
+    public int readInt(int position) throws IOException {
+        return readInt(position, nativeOrder);
+    }
+
+    @Override
+    public int readInt(int position, ByteOrder byteOrder) throws IOException {
+        return readInt(position, byteOrder == ByteOrder.nativeOrder());
+    }
+
+    private int readInt(int position, boolean nativeOrder) throws IOException {
+        checkAvailable(position, INT_SIZE_IN_BYTES);
+        int v = UNSAFE.getInt(address + position);
+        return nativeOrder ? v : Integer.reverseBytes(v);
+    }
+
+    @Override
+    public long readLong(int position) throws IOException {
+        return readLong(position, nativeOrder);
+    }
+
+    @Override
+    public long readLong(int position, ByteOrder byteOrder) throws IOException {
+        return readLong(position, byteOrder == ByteOrder.nativeOrder());
+    }
+
+    private long readLong(int position, boolean nativeOrder) throws IOException {
+        checkAvailable(position, LONG_SIZE_IN_BYTES);
+        long v = UNSAFE.getLong(address + position);
+        return nativeOrder ? v : Long.reverseBytes(v);
+    }
+
+    @Override
+    public short readShort(int position) throws IOException {
+        return readShort(position, nativeOrder);
+    }
+
+    @Override
+    public short readShort(int position, ByteOrder byteOrder) throws IOException {
+        return readShort(position, byteOrder == ByteOrder.nativeOrder());
+    }
+
+    private short readShort(int position, boolean nativeOrder) throws IOException {
+        checkAvailable(position, SHORT_SIZE_IN_BYTES);
+        short v = UNSAFE.getShort(address + position);
+        return nativeOrder ? v : Short.reverseBytes(v);
+    }
+
+    @Override
+    String readAsciiUTF() throws IOException {
+        // strings are decoded from native memory by UTFEncoderDecoder
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("NativeMemoryDataInput");
+        sb.append("{address=").append(address);
+        sb.append(", size=").append(size);
+        sb.append(", pos=").append(pos);
+        sb.append(", mark=").append(mark);
+        sb.append(", byteOrder=").append(getByteOrder());
+        sb.append('}');
+        return sb.toString();
+    }
+}
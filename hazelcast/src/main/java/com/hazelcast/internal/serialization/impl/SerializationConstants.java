@@ -79,6 +79,37 @@ public final class SerializationConstants {
 
     public static final int DEFAULT_TYPE_ENUM = -25;
 
+    // ------------------------------------------------------------
+    // JAVA DEFAULT SERIALIZERS, ONLY USED FOR THEIR EXACT TYPES
+
+    public static final int JAVA_DEFAULT_TYPE_HASH_MAP = -26;
+
+    public static final int JAVA_DEFAULT_TYPE_LINKED_HASH_MAP = -27;
+
+    public static final int JAVA_DEFAULT_TYPE_TREE_MAP = -28;
+
+    public static final int JAVA_DEFAULT_TYPE_CONCURRENT_HASH_MAP = -29;
+
+    public static final int JAVA_DEFAULT_TYPE_HASH_SET = -30;
+
+    public static final int JAVA_DEFAULT_TYPE_LINKED_HASH_SET = -31;
+
+    public static final int JAVA_DEFAULT_TYPE_TREE_SET = -32;
+
+    public static final int JAVA_DEFAULT_TYPE_UUID = -33;
+
+    // ------------------------------------------------------------
+    // DATA SERIALIZABLE HEADERS, WRITTEN AHEAD OF A DATA SERIALIZABLE
+
+    // followed by the class name
+    public static final byte DATA_SERIALIZABLE_CLASS_NAME = 0;
+
+    // followed by the factory id and the type id
+    public static final byte DATA_SERIALIZABLE_IDENTIFIED = 1;
+
+    // followed by the position of the class name, written ahead in the same buffer, as a var int
+    public static final byte DATA_SERIALIZABLE_CLASS_NAME_REFERENCE = 2;
+
     // ------------------------------------------------------------
     // AUTOMATICALLY REGISTERED SERIALIZERS
 
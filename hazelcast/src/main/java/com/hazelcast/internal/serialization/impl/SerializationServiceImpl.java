@@ -65,6 +65,14 @@ import com.hazelcast.internal.serialization.impl.DefaultSerializers.DateSerializ
 import com.hazelcast.internal.serialization.impl.DefaultSerializers.EnumSerializer;
 import com.hazelcast.internal.serialization.impl.DefaultSerializers.Externalizer;
 import com.hazelcast.internal.serialization.impl.DefaultSerializers.ObjectSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.ConcurrentHashMapStreamSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.HashMapStreamSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.HashSetStreamSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.LinkedHashMapStreamSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.LinkedHashSetStreamSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.TreeMapStreamSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.TreeSetStreamSerializer;
+import com.hazelcast.internal.serialization.impl.JavaDefaultSerializers.UuidStreamSerializer;
 import com.hazelcast.internal.serialization.impl.bufferpool.BufferPool;
 import com.hazelcast.internal.serialization.impl.bufferpool.BufferPoolFactory;
 import com.hazelcast.internal.serialization.impl.bufferpool.BufferPoolThreadLocal;
@@ -81,10 +89,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -113,10 +126,14 @@ public class SerializationServiceImpl implements SerializationService {
             = new IdentityHashMap<Class, SerializerAdapter>(CONSTANT_SERIALIZERS_SIZE);
     private final SerializerAdapter[] constantTypeIds = new SerializerAdapter[CONSTANT_SERIALIZERS_SIZE];
 
+    // serializers which replace the default serializers of their exact types, but not of their subclasses
+    private final IdentityHashMap<Class, SerializerAdapter> javaDefaultTypesMap = new IdentityHashMap<Class, SerializerAdapter>();
+
     private final ConcurrentMap<Class, SerializerAdapter> typeMap = new ConcurrentHashMap<Class, SerializerAdapter>();
     private final ConcurrentMap<Integer, SerializerAdapter> idMap = new ConcurrentHashMap<Integer, SerializerAdapter>();
     private final AtomicReference<SerializerAdapter> global = new AtomicReference<SerializerAdapter>();
     private final PortableSerializer portableSerializer;
+    private final DataSerializer dataSerializer;
     private final SerializerAdapter dataSerializerAdapter;
     private final SerializerAdapter portableSerializerAdapter;
     private final ClassLoader classLoader;
@@ -131,6 +148,7 @@ public class SerializationServiceImpl implements SerializationService {
                              Collection<ClassDefinition> classDefinitions, boolean checkClassDefErrors,
                              ManagedContext managedContext, PartitioningStrategy partitionStrategy,
                              int initialOutputBufferSize, boolean enableCompression, boolean enableSharedObject,
+                             boolean enableJdkTypeSerializers, boolean enableClassNameReferences,
                              BufferPoolFactory bufferPoolFactory) {
 
         this.inputOutputFactory = inputOutputFactory;
@@ -148,12 +166,14 @@ public class SerializationServiceImpl implements SerializationService {
             portableContext.registerClassDefinition(cd);
         }
 
-        dataSerializerAdapter = createSerializerAdapter(new DataSerializer(dataSerializableFactories, classLoader));
+        dataSerializer = new DataSerializer(dataSerializableFactories, classLoader, enableClassNameReferences);
+        dataSerializerAdapter = createSerializerAdapter(dataSerializer);
         portableSerializer = new PortableSerializer(portableContext, loader.getFactories());
         portableSerializerAdapter = createSerializerAdapter(portableSerializer);
 
         registerConstantSerializers();
         registerJvmTypeSerializers(enableCompression, enableSharedObject);
+        registerJavaDefaultSerializers(enableJdkTypeSerializers);
         registerClassDefinitions(classDefinitions, checkClassDefErrors);
     }
 
@@ -167,6 +187,22 @@ public class SerializationServiceImpl implements SerializationService {
         safeRegister(Enum.class, new EnumSerializer());
     }
 
+    /**
+     * The serializers of the JDK types are always registered by their type ids, so their data can be read, but they
+     * are only used to write their types when enabled: otherwise the types keep going through java serialization
+     * and their serialized form stays readable by the members and clients without these serializers.
+     */
+    private void registerJavaDefaultSerializers(boolean enabled) {
+        registerJavaDefault(HashMap.class, new HashMapStreamSerializer(), enabled);
+        registerJavaDefault(LinkedHashMap.class, new LinkedHashMapStreamSerializer(), enabled);
+        registerJavaDefault(TreeMap.class, new TreeMapStreamSerializer(), enabled);
+        registerJavaDefault(ConcurrentHashMap.class, new ConcurrentHashMapStreamSerializer(), enabled);
+        registerJavaDefault(HashSet.class, new HashSetStreamSerializer(), enabled);
+        registerJavaDefault(LinkedHashSet.class, new LinkedHashSetStreamSerializer(), enabled);
+        registerJavaDefault(TreeSet.class, new TreeSetStreamSerializer(), enabled);
+        registerJavaDefault(UUID.class, new UuidStreamSerializer(), enabled);
+    }
+
     private void registerConstantSerializers() {
         registerConstant(DataSerializable.class, dataSerializerAdapter);
         registerConstant(Portable.class, portableSerializerAdapter);
@@ -299,7 +335,9 @@ public class SerializationServiceImpl implements SerializationService {
         }
 
         BufferPool pool = bufferPoolThreadLocal.get();
-        BufferObjectDataInput in = pool.takeInputBuffer(data);
+        // native memory is read in place, pooled inputs read byte arrays only
+        boolean nativeData = data instanceof NativeMemoryData;
+        BufferObjectDataInput in = nativeData ? createObjectDataInput(data) : pool.takeInputBuffer(data);
         try {
             final int typeId = data.getType();
             final SerializerAdapter serializer = serializerFor(typeId);
@@ -318,7 +356,11 @@ public class SerializationServiceImpl implements SerializationService {
         } catch (Throwable e) {
             throw handleException(e);
         } finally {
-            pool.returnInputBuffer(in);
+            if (nativeData) {
+                in.close();
+            } else {
+                pool.returnInputBuffer(in);
+            }
         }
     }
 
@@ -386,6 +428,10 @@ public class SerializationServiceImpl implements SerializationService {
     }
 
     protected void writeDataInternal(ObjectDataOutput out, Data data) throws IOException {
+        if (data instanceof NativeMemoryData && out instanceof ByteArrayObjectDataOutput) {
+            ((ByteArrayObjectDataOutput) out).writeNativeData((NativeMemoryData) data);
+            return;
+        }
         out.writeByteArray(data.toByteArray());
     }
 
@@ -427,6 +473,9 @@ public class SerializationServiceImpl implements SerializationService {
 
     @Override
     public final BufferObjectDataInput createObjectDataInput(Data data) {
+        if (data instanceof NativeMemoryData) {
+            return new NativeMemoryDataInput((NativeMemoryData) data, this, getByteOrder());
+        }
         return inputOutputFactory.createInput(data, this);
     }
 
@@ -520,29 +569,15 @@ public class SerializationServiceImpl implements SerializationService {
     protected final SerializerAdapter lookupSerializer(Class type) {
         SerializerAdapter serializer = typeMap.get(type);
         if (serializer == null) {
-            // look for super classes
-            Class typeSuperclass = type.getSuperclass();
-            final Set<Class> interfaces = new LinkedHashSet<Class>(5);
-            getInterfaces(type, interfaces);
-            while (typeSuperclass != null) {
-                serializer = registerFromSuperType(type, typeSuperclass);
-                if (serializer != null) {
-                    break;
-                }
-                getInterfaces(typeSuperclass, interfaces);
-                typeSuperclass = typeSuperclass.getSuperclass();
-            }
-            if (serializer == null) {
-                // look for interfaces
-                for (Class typeInterface : interfaces) {
-                    serializer = registerFromSuperType(type, typeInterface);
-                    if (serializer != null) {
-                        break;
-                    }
+            serializer = lookupSuperTypeSerializer(type);
+            if (serializer != null) {
+                // a java default serializer replaces a default serializer, but not a custom one
+                SerializerAdapter javaDefaultSerializer = javaDefaultTypesMap.get(type);
+                if (javaDefaultSerializer != null && serializer.getTypeId() <= 0) {
+                    serializer = javaDefaultSerializer;
                 }
-            }
-
-            if (serializer == null) {
+                safeRegister(type, serializer);
+            } else {
                 serializer = global.get();
                 if (serializer != null) {
                     safeRegister(type, serializer);
@@ -562,12 +597,35 @@ public class SerializationServiceImpl implements SerializationService {
         }
     }
 
-    private SerializerAdapter registerFromSuperType(final Class type, final Class superType) {
-        final SerializerAdapter serializer = typeMap.get(superType);
-        if (serializer != null) {
-            safeRegister(type, serializer);
+    private SerializerAdapter lookupSuperTypeSerializer(Class type) {
+        // look for super classes
+        Class typeSuperclass = type.getSuperclass();
+        final Set<Class> interfaces = new LinkedHashSet<Class>(5);
+        getInterfaces(type, interfaces);
+        while (typeSuperclass != null) {
+            SerializerAdapter serializer = typeMap.get(typeSuperclass);
+            if (serializer != null) {
+                return serializer;
+            }
+            getInterfaces(typeSuperclass, interfaces);
+            typeSuperclass = typeSuperclass.getSuperclass();
         }
-        return serializer;
+        // look for interfaces
+        for (Class typeInterface : interfaces) {
+            SerializerAdapter serializer = typeMap.get(typeInterface);
+            if (serializer != null) {
+                return serializer;
+            }
+        }
+        return null;
+    }
+
+    private void registerJavaDefault(Class type, Serializer serializer, boolean enabled) {
+        SerializerAdapter adapter = createSerializerAdapter(serializer);
+        if (enabled) {
+            javaDefaultTypesMap.put(type, adapter);
+        }
+        idMap.put(serializer.getTypeId(), adapter);
     }
 
     private void registerConstant(Class type, Serializer serializer) {
@@ -626,6 +684,10 @@ public class SerializationServiceImpl implements SerializationService {
 
     }
 
+    public ClassDefinition getDataSerializableClassDefinition(int factoryId, int typeId) {
+        return dataSerializer.getClassDefinition(factoryId, typeId);
+    }
+
     public void destroy() {
         active = false;
         for (SerializerAdapter serializer : typeMap.values()) {
@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.storage;
 
+import com.hazelcast.internal.serialization.impl.NativeMemoryData;
 import com.hazelcast.nio.serialization.Data;
 
 /**
@@ -28,8 +29,22 @@ public interface Storage<REF extends DataRef> {
 
     REF put(int hash, Data data);
 
+    /**
+     * Gets a copy of the stored data on the heap, which the caller may keep. A caller which only reads the data
+     * should {@link #acquire(int, DataRef) acquire} it instead, to not allocate a copy.
+     *
+     * @return the stored data, or null if it has been removed in the meantime
+     */
     Data get(int hash, REF ref);
 
+    /**
+     * Acquires the stored data in place, without copying it. The data stays readable until it is released
+     * by {@link NativeMemoryData#release()}, even if it is removed in the meantime.
+     *
+     * @return the stored data, or null if it has been removed in the meantime
+     */
+    NativeMemoryData acquire(int hash, REF ref);
+
     void remove(int hash, REF ref);
 
     void destroy();
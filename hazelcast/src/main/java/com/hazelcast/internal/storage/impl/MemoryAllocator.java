@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+/**
+ * Allocates and frees blocks of native memory.
+ * <p/>
+ * Implementations are not required to be thread-safe; {@link NativeMemoryStorage}
+ * guards every allocator instance by its own segment lock.
+ */
+interface MemoryAllocator {
+
+    /**
+     * Allocates a block of native memory.
+     *
+     * @param size requested size in bytes
+     * @return address of the allocated block
+     * @throws com.hazelcast.memory.NativeOutOfMemoryError if memory limit is exceeded
+     */
+    long allocate(long size);
+
+    /**
+     * Frees a block of native memory previously returned by {@link #allocate(long)}.
+     *
+     * @param address address of the block
+     * @param size    size of the block, as passed to {@link #allocate(long)}
+     */
+    void free(long address, long size);
+
+    /**
+     * Frees all native memory held by this allocator.
+     */
+    void dispose();
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+import com.hazelcast.internal.storage.DataRef;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * {@link DataRef} pointing to a serialized value kept in native memory.
+ * This is the only heap-side footprint of an off-heap value.
+ * <p/>
+ * The value is reference counted: the storage holds one reference until the value is removed, and every view
+ * acquired by {@link NativeMemoryStorage#acquire(int, DataRef)} holds one until it is released. The memory is
+ * freed when the last reference is released.
+ */
+final class NativeDataRef implements DataRef {
+
+    // object header + address + size + references + removed
+    private static final int HEAP_COST = 32;
+
+    private static final AtomicIntegerFieldUpdater<NativeDataRef> REFERENCES
+            = AtomicIntegerFieldUpdater.newUpdater(NativeDataRef.class, "references");
+    private static final AtomicIntegerFieldUpdater<NativeDataRef> REMOVED
+            = AtomicIntegerFieldUpdater.newUpdater(NativeDataRef.class, "removed");
+
+    final long address;
+    final int size;
+
+    private volatile int references = 1;
+    private volatile int removed;
+
+    NativeDataRef(long address, int size) {
+        this.address = address;
+        this.size = size;
+    }
+
+    /**
+     * Takes a reference to the value.
+     *
+     * @return true if the reference is taken, false if the value has already been freed
+     */
+    boolean retain() {
+        for (; ; ) {
+            int current = references;
+            if (current == 0) {
+                return false;
+            }
+            if (REFERENCES.compareAndSet(this, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives a reference back.
+     *
+     * @return true if it was the last reference, so the value has to be freed by the caller
+     */
+    boolean release() {
+        return REFERENCES.decrementAndGet(this) == 0;
+    }
+
+    /**
+     * Marks the value as removed from the storage, so the reference of the storage is released only once.
+     *
+     * @return true if the value was not removed before
+     */
+    boolean markRemoved() {
+        return REMOVED.compareAndSet(this, 0, 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int heapCost() {
+        return HEAP_COST;
+    }
+
+    @Override
+    public String toString() {
+        return "NativeDataRef{address=" + address + ", size=" + size + ", references=" + references + '}';
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+import com.hazelcast.memory.MemorySize;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of native memory committed by all allocators of a node
+ * and enforces the configured per-node limit.
+ */
+final class NativeMemoryBudget {
+
+    private final long maxMemory;
+    private final AtomicLong committedMemory = new AtomicLong();
+
+    NativeMemoryBudget(long maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    void reserve(long size) {
+        for (;;) {
+            long current = committedMemory.get();
+            long update = current + size;
+            if (update > maxMemory) {
+                throw new NativeOutOfMemoryError("Not enough native memory! Requested: " + MemorySize.toPrettyString(size)
+                        + ", Committed: " + MemorySize.toPrettyString(current)
+                        + ", Max: " + MemorySize.toPrettyString(maxMemory));
+            }
+            if (committedMemory.compareAndSet(current, update)) {
+                return;
+            }
+        }
+    }
+
+    void release(long size) {
+        committedMemory.addAndGet(-size);
+    }
+
+    long getMaxMemory() {
+        return maxMemory;
+    }
+
+    long getCommittedMemory() {
+        return committedMemory.get();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+import com.hazelcast.memory.DefaultMemoryStats;
+
+/**
+ * {@link com.hazelcast.memory.MemoryStats} reporting native memory usage of a {@link NativeMemoryStorage}.
+ */
+public class NativeMemoryStats extends DefaultMemoryStats {
+
+    private final NativeMemoryStorage storage;
+
+    public NativeMemoryStats(NativeMemoryStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public long getMaxNativeMemory() {
+        return storage.getMaxMemory();
+    }
+
+    @Override
+    public long getCommittedNativeMemory() {
+        return storage.getCommittedMemory();
+    }
+
+    @Override
+    public long getUsedNativeMemory() {
+        return storage.getUsedMemory();
+    }
+
+    @Override
+    public long getFreeNativeMemory() {
+        return storage.getMaxMemory() - storage.getCommittedMemory();
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+import com.hazelcast.config.NativeMemoryConfig;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.NativeMemoryData;
+import com.hazelcast.internal.storage.DataRef;
+import com.hazelcast.internal.storage.Storage;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.nio.serialization.Data;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.nio.UnsafeHelper.BYTE_ARRAY_BASE_OFFSET;
+import static com.hazelcast.nio.UnsafeHelper.UNSAFE_AVAILABLE;
+import static com.hazelcast.nio.UnsafeHelper.copyMemory;
+import static com.hazelcast.util.Preconditions.checkPositive;
+import static com.hazelcast.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * {@link Storage} keeping serialized values in native memory.
+ * <p/>
+ * Storage is split into segments selected by the hash passed by the caller, each segment having its own
+ * {@link MemoryAllocator} guarded by the segment lock. Callers always pass the partition hash of the owning key,
+ * so partition threads do not contend with each other as long as there are enough segments.
+ * All segments share a single {@link NativeMemoryBudget}, which enforces the per-node limit configured via
+ * {@link NativeMemoryConfig#getSize()}.
+ * <p/>
+ * The content of a {@link NativeMemoryData} is copied from native memory to native memory, without going
+ * through the heap. Values are read either as {@link HeapData} copies by {@link #get(int, DataRef)}, or in place by
+ * {@link #acquire(int, DataRef)}. A value is reference counted, see {@link NativeDataRef}: when it is replaced or
+ * removed, its memory is freed once the views acquired for it have been released.
+ * <p/>
+ * Only the values are kept in native memory. An entry of a {@link com.hazelcast.config.InMemoryFormat#NATIVE} map still
+ * keeps its record (about 70 bytes), its {@link NativeDataRef} (32 bytes) and its key as a {@link HeapData} on the heap,
+ * so the heap cost of an entry is around a hundred bytes plus its key rather than a few bytes. {@link #get(int, DataRef)}
+ * also allocates a heap copy of the value on every call; callers which only inspect a value, like query and aggregation
+ * scans and the responses to remote callers, acquire it instead.
+ */
+public final class NativeMemoryStorage implements Storage<DataRef> {
+
+    private static final long NULL_ADDRESS = 0L;
+
+    private final NativeMemoryBudget budget;
+    private final Segment[] segments;
+    private final AtomicLong usedMemory = new AtomicLong();
+
+    public NativeMemoryStorage(NativeMemoryConfig config, int concurrencyLevel) {
+        if (!UNSAFE_AVAILABLE) {
+            throw new UnsupportedOperationException("Native memory storage requires sun.misc.Unsafe!");
+        }
+        checkPositive(concurrencyLevel, "Concurrency level should be positive");
+        this.budget = new NativeMemoryBudget(config.getSize().bytes());
+        this.segments = new Segment[nextPowerOfTwo(concurrencyLevel)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(createAllocator(config, budget));
+        }
+    }
+
+    private static MemoryAllocator createAllocator(NativeMemoryConfig config, NativeMemoryBudget budget) {
+        switch (config.getAllocatorType()) {
+            case STANDARD:
+                return new StandardMemoryAllocator(budget);
+            case POOLED:
+                return new PooledMemoryAllocator(budget, nextPowerOfTwo(config.getPageSize()), config.getMinBlockSize());
+            default:
+                throw new IllegalArgumentException("Unknown memory allocator type: " + config.getAllocatorType());
+        }
+    }
+
+    @Override
+    public DataRef put(int hash, Data data) {
+        int size = data.totalSize();
+        if (size == 0) {
+            return new NativeDataRef(NULL_ADDRESS, 0);
+        }
+
+        Segment segment = segmentFor(hash);
+        long address;
+        try {
+            address = segment.put(data);
+        } catch (NativeOutOfMemoryError e) {
+            // free memory may be retained by other segments, give it back and retry once
+            compact();
+            address = segment.put(data);
+        }
+        usedMemory.addAndGet(size);
+        return new NativeDataRef(address, size);
+    }
+
+    @Override
+    public Data get(int hash, DataRef ref) {
+        NativeDataRef nativeRef = (NativeDataRef) ref;
+        if (nativeRef.size == 0) {
+            return new HeapData();
+        }
+        if (!nativeRef.retain()) {
+            // removed by the partition thread while a query or iteration thread read it
+            return null;
+        }
+        try {
+            byte[] payload = new byte[nativeRef.size];
+            copyMemory(null, nativeRef.address, payload, BYTE_ARRAY_BASE_OFFSET, payload.length);
+            return new HeapData(payload);
+        } finally {
+            release(hash, nativeRef);
+        }
+    }
+
+    @Override
+    public NativeMemoryData acquire(int hash, DataRef ref) {
+        NativeDataRef nativeRef = (NativeDataRef) ref;
+        if (nativeRef.size == 0) {
+            return new NativeMemoryData();
+        }
+        if (!nativeRef.retain()) {
+            return null;
+        }
+        return new AcquiredData(this, hash, nativeRef);
+    }
+
+    @Override
+    public void remove(int hash, DataRef ref) {
+        NativeDataRef nativeRef = (NativeDataRef) ref;
+        if (nativeRef.size == 0) {
+            return;
+        }
+        if (nativeRef.markRemoved()) {
+            release(hash, nativeRef);
+        }
+    }
+
+    private void release(int hash, NativeDataRef ref) {
+        if (ref.release()) {
+            segmentFor(hash).free(ref);
+            usedMemory.addAndGet(-ref.size);
+        }
+    }
+
+    /**
+     * Gives free native memory retained by allocators back to the operating system.
+     */
+    public void compact() {
+        for (Segment segment : segments) {
+            segment.compact();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Segment segment : segments) {
+            segment.destroy();
+        }
+        usedMemory.set(0);
+    }
+
+    /**
+     * @return maximum amount of native memory this storage can use in bytes
+     */
+    public long getMaxMemory() {
+        return budget.getMaxMemory();
+    }
+
+    /**
+     * @return amount of native memory requested from the operating system in bytes
+     */
+    public long getCommittedMemory() {
+        return budget.getCommittedMemory();
+    }
+
+    /**
+     * @return amount of native memory occupied by stored values in bytes
+     */
+    public long getUsedMemory() {
+        return usedMemory.get();
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /**
+     * A view of a value holding a reference to it until it is released.
+     */
+    private static final class AcquiredData extends NativeMemoryData {
+
+        private static final AtomicIntegerFieldUpdater<AcquiredData> RELEASED
+                = AtomicIntegerFieldUpdater.newUpdater(AcquiredData.class, "released");
+
+        private final NativeMemoryStorage storage;
+        private final int hash;
+        private final NativeDataRef ref;
+        private volatile int released;
+
+        AcquiredData(NativeMemoryStorage storage, int hash, NativeDataRef ref) {
+            super(ref.address, ref.size);
+            this.storage = storage;
+            this.hash = hash;
+            this.ref = ref;
+        }
+
+        @Override
+        public void release() {
+            // a view is released once, even if the caller releases it on more than one failure path
+            if (RELEASED.compareAndSet(this, 0, 1)) {
+                storage.release(hash, ref);
+            }
+        }
+    }
+
+    private static final class Segment {
+
+        private final MemoryAllocator allocator;
+        // views may still be released after the storage is destroyed
+        private boolean destroyed;
+
+        Segment(MemoryAllocator allocator) {
+            this.allocator = allocator;
+        }
+
+        synchronized long put(Data data) {
+            int size = data.totalSize();
+            long address = allocator.allocate(size);
+            if (data instanceof NativeMemoryData) {
+                copyMemory(null, ((NativeMemoryData) data).address(), null, address, size);
+            } else {
+                copyMemory(data.toByteArray(), BYTE_ARRAY_BASE_OFFSET, null, address, size);
+            }
+            return address;
+        }
+
+        synchronized void free(NativeDataRef ref) {
+            if (!destroyed) {
+                allocator.free(ref.address, ref.size);
+            }
+        }
+
+        synchronized void compact() {
+            if (allocator instanceof PooledMemoryAllocator) {
+                ((PooledMemoryAllocator) allocator).compact();
+            }
+        }
+
+        synchronized void destroy() {
+            destroyed = true;
+            allocator.dispose();
+        }
+    }
+}
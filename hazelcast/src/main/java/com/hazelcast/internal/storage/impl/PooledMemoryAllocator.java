@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.util.collection.Long2LongHashMap;
+import com.hazelcast.util.function.LongLongConsumer;
+
+import static com.hazelcast.nio.UnsafeHelper.UNSAFE;
+import static com.hazelcast.util.QuickMath.isPowerOfTwo;
+import static com.hazelcast.util.QuickMath.log2;
+import static com.hazelcast.util.QuickMath.nextPowerOfTwo;
+import static com.hazelcast.util.Preconditions.checkTrue;
+
+/**
+ * Slab based {@link MemoryAllocator}.
+ * <p/>
+ * Native memory is requested from the operating system in fixed size pages. Each page is dedicated to
+ * a single size class, where size classes are powers of two between the minimum block size and the page size.
+ * Freed blocks are pushed to an intrusive free-list of their page; the next-pointer is kept inside the freed
+ * block itself so no heap memory is needed for free-list bookkeeping.
+ * <p/>
+ * When the last block of a page is freed, the page is unlinked from its size class and given back, so free
+ * memory does not stay fragmented over free-lists of size classes which are not in use anymore.
+ * One empty page is retained to avoid allocate/free oscillation on the page boundary;
+ * it can be released via {@link #compact()}.
+ * <p/>
+ * Requests larger than a page are allocated directly from the operating system.
+ * <p/>
+ * Every block starts with a {@link #HEADER_SIZE} bytes long header which holds the index of its owning page.
+ * <p/>
+ * This class is not thread-safe.
+ */
+final class PooledMemoryAllocator implements MemoryAllocator {
+
+    static final int HEADER_SIZE = 8;
+
+    private static final int MIN_BLOCK_SIZE = 16;
+    private static final int HUGE_BLOCK_INDEX = -1;
+    private static final int INITIAL_PAGE_TABLE_SIZE = 16;
+    private static final long MISSING = -1L;
+
+    private final NativeMemoryBudget budget;
+    private final int pageSize;
+    private final int minBlockSize;
+    private final int minBlockSizePower;
+
+    // heads of the doubly linked lists of pages having at least one free block, per size class
+    private final Page[] availablePages;
+    private final Long2LongHashMap hugeBlocks = new Long2LongHashMap(MISSING);
+
+    private Page[] pages = new Page[INITIAL_PAGE_TABLE_SIZE];
+    private int[] freePageIndexes = new int[INITIAL_PAGE_TABLE_SIZE];
+    private int freePageIndexCount;
+    private int pageCount;
+    private Page emptyPage;
+
+    PooledMemoryAllocator(NativeMemoryBudget budget, int pageSize, int minBlockSize) {
+        checkTrue(isPowerOfTwo(pageSize), "Page size must be power of two! -> " + pageSize);
+        this.minBlockSize = nextPowerOfTwo(Math.max(minBlockSize, MIN_BLOCK_SIZE));
+        checkTrue(pageSize >= this.minBlockSize, "Page size must not be smaller than minimum block size! -> "
+                + pageSize + " < " + this.minBlockSize);
+        this.budget = budget;
+        this.pageSize = pageSize;
+        this.minBlockSizePower = log2(this.minBlockSize);
+        this.availablePages = new Page[log2(pageSize) - minBlockSizePower + 1];
+    }
+
+    @Override
+    public long allocate(long size) {
+        long required = size + HEADER_SIZE;
+        if (required > pageSize) {
+            return allocateHugeBlock(required) + HEADER_SIZE;
+        }
+
+        int sizeClass = sizeClassOf((int) required);
+        Page page = availablePages[sizeClass];
+        if (page == null) {
+            page = acquirePage(sizeClass);
+            link(page);
+        }
+        long block = page.allocateBlock();
+        if (page.isFull()) {
+            unlink(page);
+        }
+        UNSAFE.putInt(block, page.index);
+        return block + HEADER_SIZE;
+    }
+
+    @Override
+    public void free(long address, long size) {
+        long block = address - HEADER_SIZE;
+        int pageIndex = UNSAFE.getInt(block);
+        if (pageIndex == HUGE_BLOCK_INDEX) {
+            freeHugeBlock(block, size + HEADER_SIZE);
+            return;
+        }
+
+        Page page = pages[pageIndex];
+        boolean wasFull = page.isFull();
+        page.freeBlock(block);
+        if (page.isEmpty()) {
+            if (!wasFull) {
+                unlink(page);
+            }
+            releasePage(page);
+        } else if (wasFull) {
+            link(page);
+        }
+    }
+
+    /**
+     * Gives the retained empty page back to the operating system.
+     */
+    void compact() {
+        if (emptyPage != null) {
+            Page page = emptyPage;
+            emptyPage = null;
+            destroyPage(page);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (int i = 0; i < pageCount; i++) {
+            Page page = pages[i];
+            if (page != null) {
+                destroyPage(page);
+            }
+        }
+        emptyPage = null;
+        pageCount = 0;
+        freePageIndexCount = 0;
+        for (int i = 0; i < availablePages.length; i++) {
+            availablePages[i] = null;
+        }
+
+        hugeBlocks.longForEach(new LongLongConsumer() {
+            @Override
+            public void accept(long block, long size) {
+                UNSAFE.freeMemory(block);
+                budget.release(size);
+            }
+        });
+        hugeBlocks.clear();
+    }
+
+    private int sizeClassOf(int required) {
+        int blockSize = Math.max(nextPowerOfTwo(required), minBlockSize);
+        return log2(blockSize) - minBlockSizePower;
+    }
+
+    private long allocateHugeBlock(long size) {
+        long block = allocateMemory(size);
+        UNSAFE.putInt(block, HUGE_BLOCK_INDEX);
+        hugeBlocks.put(block, size);
+        return block;
+    }
+
+    private void freeHugeBlock(long block, long size) {
+        if (hugeBlocks.remove(block) == MISSING) {
+            throw new IllegalArgumentException("Unknown native memory address: " + (block + HEADER_SIZE));
+        }
+        UNSAFE.freeMemory(block);
+        budget.release(size);
+    }
+
+    private long allocateMemory(long size) {
+        budget.reserve(size);
+        try {
+            return UNSAFE.allocateMemory(size);
+        } catch (OutOfMemoryError e) {
+            budget.release(size);
+            throw new NativeOutOfMemoryError("Cannot allocate " + size + " bytes of native memory", e);
+        }
+    }
+
+    private Page acquirePage(int sizeClass) {
+        Page page = emptyPage;
+        if (page != null) {
+            emptyPage = null;
+        } else {
+            long address = allocateMemory(pageSize);
+            page = new Page(address, nextPageIndex());
+            pages[page.index] = page;
+        }
+        page.reset(minBlockSize << sizeClass, pageSize);
+        return page;
+    }
+
+    private void releasePage(Page page) {
+        if (emptyPage == null) {
+            emptyPage = page;
+        } else {
+            destroyPage(page);
+        }
+    }
+
+    private void destroyPage(Page page) {
+        pages[page.index] = null;
+        if (freePageIndexCount == freePageIndexes.length) {
+            int[] newIndexes = new int[freePageIndexes.length << 1];
+            System.arraycopy(freePageIndexes, 0, newIndexes, 0, freePageIndexCount);
+            freePageIndexes = newIndexes;
+        }
+        freePageIndexes[freePageIndexCount++] = page.index;
+        UNSAFE.freeMemory(page.address);
+        budget.release(pageSize);
+    }
+
+    private int nextPageIndex() {
+        if (freePageIndexCount > 0) {
+            return freePageIndexes[--freePageIndexCount];
+        }
+        if (pageCount == pages.length) {
+            Page[] newPages = new Page[pages.length << 1];
+            System.arraycopy(pages, 0, newPages, 0, pageCount);
+            pages = newPages;
+        }
+        return pageCount++;
+    }
+
+    private void link(Page page) {
+        int sizeClass = sizeClassOf(page.blockSize);
+        Page head = availablePages[sizeClass];
+        page.prev = null;
+        page.next = head;
+        if (head != null) {
+            head.prev = page;
+        }
+        availablePages[sizeClass] = page;
+    }
+
+    private void unlink(Page page) {
+        if (page.prev != null) {
+            page.prev.next = page.next;
+        } else {
+            availablePages[sizeClassOf(page.blockSize)] = page.next;
+        }
+        if (page.next != null) {
+            page.next.prev = page.prev;
+        }
+        page.prev = null;
+        page.next = null;
+    }
+
+    /**
+     * Heap-side descriptor of a native memory page.
+     */
+    private static final class Page {
+
+        final long address;
+        final int index;
+
+        int blockSize;
+        int capacity;
+        int usedBlocks;
+        // offset of the first never allocated block
+        int tail;
+        // address of the first block in the free-list, 0 if empty
+        long freeListHead;
+
+        Page prev;
+        Page next;
+
+        Page(long address, int index) {
+            this.address = address;
+            this.index = index;
+        }
+
+        void reset(int blockSize, int pageSize) {
+            this.blockSize = blockSize;
+            this.capacity = pageSize / blockSize;
+            this.usedBlocks = 0;
+            this.tail = 0;
+            this.freeListHead = 0L;
+        }
+
+        long allocateBlock() {
+            long block;
+            if (freeListHead != 0L) {
+                block = freeListHead;
+                freeListHead = UNSAFE.getLong(block);
+            } else {
+                block = address + tail;
+                tail += blockSize;
+            }
+            usedBlocks++;
+            return block;
+        }
+
+        void freeBlock(long block) {
+            UNSAFE.putLong(block, freeListHead);
+            freeListHead = block;
+            usedBlocks--;
+        }
+
+        boolean isFull() {
+            return usedBlocks == capacity;
+        }
+
+        boolean isEmpty() {
+            return usedBlocks == 0;
+        }
+    }
+}
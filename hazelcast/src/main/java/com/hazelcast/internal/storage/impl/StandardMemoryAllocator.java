@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.util.collection.Long2LongHashMap;
+import com.hazelcast.util.function.LongLongConsumer;
+
+import static com.hazelcast.nio.UnsafeHelper.UNSAFE;
+
+/**
+ * {@link MemoryAllocator} which delegates every allocation to the operating system
+ * via {@link sun.misc.Unsafe#allocateMemory(long)}. Only the node-wide memory limit is applied.
+ * <p/>
+ * Live blocks are tracked so that they can be released on {@link #dispose()}.
+ */
+final class StandardMemoryAllocator implements MemoryAllocator {
+
+    private static final long MISSING = -1L;
+
+    private final NativeMemoryBudget budget;
+    private final Long2LongHashMap blocks = new Long2LongHashMap(MISSING);
+
+    StandardMemoryAllocator(NativeMemoryBudget budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public long allocate(long size) {
+        budget.reserve(size);
+        long address;
+        try {
+            address = UNSAFE.allocateMemory(size);
+        } catch (OutOfMemoryError e) {
+            budget.release(size);
+            throw new NativeOutOfMemoryError("Cannot allocate " + size + " bytes of native memory", e);
+        }
+        blocks.put(address, size);
+        return address;
+    }
+
+    @Override
+    public void free(long address, long size) {
+        if (blocks.remove(address) == MISSING) {
+            throw new IllegalArgumentException("Unknown native memory address: " + address);
+        }
+        UNSAFE.freeMemory(address);
+        budget.release(size);
+    }
+
+    @Override
+    public void dispose() {
+        blocks.longForEach(new LongLongConsumer() {
+            @Override
+            public void accept(long address, long size) {
+                UNSAFE.freeMemory(address);
+                budget.release(size);
+            }
+        });
+        blocks.clear();
+    }
+}
@@ -19,7 +19,6 @@ package com.hazelcast.map.impl;
 import com.hazelcast.spi.ClientAwareService;
 import com.hazelcast.spi.EventPublishingService;
 import com.hazelcast.spi.ManagedService;
-import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.PartitionAwareService;
 import com.hazelcast.spi.PostJoinAwareService;
 import com.hazelcast.spi.QuorumAwareService;
@@ -28,6 +27,7 @@ import com.hazelcast.spi.ReplicationSupportingService;
 import com.hazelcast.spi.SplitBrainHandlerService;
 import com.hazelcast.spi.StatisticsAwareService;
 import com.hazelcast.spi.TransactionalService;
+import com.hazelcast.spi.impl.ChunkedMigrationAwareService;
 
 import static com.hazelcast.util.Preconditions.checkNotNull;
 
@@ -48,12 +48,12 @@ abstract class AbstractMapServiceFactory implements MapServiceFactory {
     abstract ManagedService createManagedService();
 
     /**
-     * Creates a new {@link MigrationAwareService} for {@link MapService}.
+     * Creates a new {@link ChunkedMigrationAwareService} for {@link MapService}.
      *
-     * @return Creates a new {@link MigrationAwareService} implementation.
-     * @see com.hazelcast.spi.MigrationAwareService
+     * @return Creates a new {@link ChunkedMigrationAwareService} implementation.
+     * @see com.hazelcast.spi.impl.ChunkedMigrationAwareService
      */
-    abstract MigrationAwareService createMigrationAwareService();
+    abstract ChunkedMigrationAwareService createMigrationAwareService();
 
     /**
      * Creates a new {@link TransactionalService} for {@link MapService}.
@@ -147,7 +147,7 @@ abstract class AbstractMapServiceFactory implements MapServiceFactory {
     public MapService createMapService() {
         MapServiceContext mapServiceContext = getMapServiceContext();
         ManagedService managedService = createManagedService();
-        MigrationAwareService migrationAwareService = createMigrationAwareService();
+        ChunkedMigrationAwareService migrationAwareService = createMigrationAwareService();
         TransactionalService transactionalService = createTransactionalService();
         RemoteService remoteService = createRemoteService();
         EventPublishingService eventPublishingService = createEventPublishingService();
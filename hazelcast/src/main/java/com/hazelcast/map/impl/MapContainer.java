@@ -21,6 +21,7 @@ import com.hazelcast.config.PartitioningStrategyConfig;
 import com.hazelcast.config.WanReplicationRef;
 import com.hazelcast.core.IFunction;
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.instance.GroupProperty;
 import com.hazelcast.map.MapInterceptor;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.record.DataRecordFactory;
@@ -63,7 +64,7 @@ public class MapContainer {
 
     private final Map<String, MapInterceptor> interceptorMap;
 
-    private final Indexes indexes = new Indexes();
+    private final Indexes indexes;
 
     private final SizeEstimator nearCacheSizeEstimator;
 
@@ -101,6 +102,7 @@ public class MapContainer {
         this.partitioningStrategy = createPartitioningStrategy();
         this.quorumName = mapConfig.getQuorumName();
         final NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
+        indexes = new Indexes(nodeEngine.getGroupProperties().getBoolean(GroupProperty.QUERY_BITMAP_INDEXES_ENABLED));
         recordFactory = createRecordFactory(nodeEngine);
         initWanReplication(nodeEngine);
         interceptors = new CopyOnWriteArrayList<MapInterceptor>();
@@ -21,6 +21,10 @@ import com.hazelcast.map.impl.operation.PutBackupOperation;
 import com.hazelcast.map.impl.operation.PutOperation;
 import com.hazelcast.map.impl.operation.RemoveBackupOperation;
 import com.hazelcast.map.impl.operation.RemoveOperation;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.query.AggregationOperation;
+import com.hazelcast.map.impl.query.AggregationPartitionOperation;
+import com.hazelcast.map.impl.query.AggregationResult;
 import com.hazelcast.map.impl.query.QueryResult;
 import com.hazelcast.map.impl.query.QueryResultRow;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
@@ -30,6 +34,13 @@ import com.hazelcast.internal.serialization.impl.ArrayDataSerializableFactory;
 import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.util.ConstructorFunction;
 import com.hazelcast.map.impl.query.QueryResultSet;
+import com.hazelcast.query.AttributeTuple;
+import com.hazelcast.query.impl.aggregators.CountAggregator;
+import com.hazelcast.query.impl.aggregators.DoubleAverageAggregator;
+import com.hazelcast.query.impl.aggregators.DoubleSumAggregator;
+import com.hazelcast.query.impl.aggregators.LongSumAggregator;
+import com.hazelcast.query.impl.aggregators.MaxAggregator;
+import com.hazelcast.query.impl.aggregators.MinAggregator;
 
 import static com.hazelcast.internal.serialization.impl.FactoryIdHelper.MAP_DS_FACTORY;
 import static com.hazelcast.internal.serialization.impl.FactoryIdHelper.MAP_DS_FACTORY_ID;
@@ -54,8 +65,19 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int QUERY_RESULT_ROW = 13;
     public static final int QUERY_RESULT_SET = 14;
     public static final int QUERY_RESULT = 15;
+    public static final int AGGREGATION_RESULT = 16;
+    public static final int ENTRIES_WITH_CURSOR = 17;
+    public static final int ATTRIBUTE_TUPLE = 18;
+    public static final int COUNT_AGGREGATOR = 19;
+    public static final int LONG_SUM_AGGREGATOR = 20;
+    public static final int DOUBLE_SUM_AGGREGATOR = 21;
+    public static final int DOUBLE_AVERAGE_AGGREGATOR = 22;
+    public static final int MIN_AGGREGATOR = 23;
+    public static final int MAX_AGGREGATOR = 24;
+    public static final int AGGREGATION_OPERATION = 25;
+    public static final int AGGREGATION_PARTITION_OPERATION = 26;
 
-    private static final int LEN = QUERY_RESULT + 1;
+    private static final int LEN = AGGREGATION_PARTITION_OPERATION + 1;
 
     @Override
     public int getFactoryId() {
@@ -132,6 +154,61 @@ public final class MapDataSerializerHook implements DataSerializerHook {
                 return new QueryResult();
             }
         };
+        constructors[AGGREGATION_RESULT] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new AggregationResult();
+            }
+        };
+        constructors[ENTRIES_WITH_CURSOR] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new MapEntriesWithCursor();
+            }
+        };
+        constructors[ATTRIBUTE_TUPLE] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new AttributeTuple();
+            }
+        };
+        constructors[COUNT_AGGREGATOR] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new CountAggregator();
+            }
+        };
+        constructors[LONG_SUM_AGGREGATOR] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new LongSumAggregator();
+            }
+        };
+        constructors[DOUBLE_SUM_AGGREGATOR] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new DoubleSumAggregator();
+            }
+        };
+        constructors[DOUBLE_AVERAGE_AGGREGATOR] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new DoubleAverageAggregator();
+            }
+        };
+        constructors[MIN_AGGREGATOR] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new MinAggregator();
+            }
+        };
+        constructors[MAX_AGGREGATOR] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new MaxAggregator();
+            }
+        };
+        constructors[AGGREGATION_OPERATION] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new AggregationOperation();
+            }
+        };
+        constructors[AGGREGATION_PARTITION_OPERATION] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new AggregationPartitionOperation();
+            }
+        };
 
         return new ArrayDataSerializableFactory(constructors);
     }
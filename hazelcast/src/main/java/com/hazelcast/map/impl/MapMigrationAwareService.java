@@ -23,10 +23,10 @@ import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.partition.MigrationEndpoint;
 import com.hazelcast.query.impl.Indexes;
 import com.hazelcast.query.impl.QueryEntry;
-import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionMigrationEvent;
 import com.hazelcast.spi.PartitionReplicationEvent;
+import com.hazelcast.spi.impl.ChunkedMigrationAwareService;
 import com.hazelcast.util.Clock;
 
 import java.util.Iterator;
@@ -36,7 +36,7 @@ import java.util.Iterator;
  *
  * @see MapService
  */
-class MapMigrationAwareService implements MigrationAwareService {
+class MapMigrationAwareService implements ChunkedMigrationAwareService {
 
     private final MapServiceContext mapServiceContext;
     private final SerializationService serializationService;
@@ -60,6 +60,13 @@ class MapMigrationAwareService implements MigrationAwareService {
         return operation.isEmpty() ? null : operation;
     }
 
+    @Override
+    public Iterator<Operation> prepareReplicationChunks(PartitionReplicationEvent event, long maxChunkSize) {
+        PartitionContainer container = mapServiceContext.getPartitionContainer(event.getPartitionId());
+        return MapReplicationOperation.chunks(mapServiceContext.getService(), container, event.getPartitionId(),
+                event.getReplicaIndex(), maxChunkSize);
+    }
+
     @Override
     public void commitMigration(PartitionMigrationEvent event) {
         migrateIndex(event);
@@ -20,11 +20,12 @@ import com.hazelcast.core.DistributedObject;
 import com.hazelcast.map.impl.event.EventData;
 import com.hazelcast.map.impl.event.MapEventPublishingService;
 import com.hazelcast.monitor.LocalMapStats;
+import com.hazelcast.nio.Address;
 import com.hazelcast.partition.InternalPartitionLostEvent;
 import com.hazelcast.spi.ClientAwareService;
 import com.hazelcast.spi.EventPublishingService;
+import com.hazelcast.spi.ExecutionTracingService;
 import com.hazelcast.spi.ManagedService;
-import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionAwareService;
@@ -37,9 +38,11 @@ import com.hazelcast.spi.ReplicationSupportingService;
 import com.hazelcast.spi.SplitBrainHandlerService;
 import com.hazelcast.spi.StatisticsAwareService;
 import com.hazelcast.spi.TransactionalService;
+import com.hazelcast.spi.impl.ChunkedMigrationAwareService;
 import com.hazelcast.transaction.TransactionalObject;
 import com.hazelcast.transaction.impl.Transaction;
 import com.hazelcast.wan.WanReplicationEvent;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
 
@@ -60,10 +63,10 @@ import java.util.Properties;
  * @see MapClientAwareService
  * @see MapServiceContext
  */
-public class MapService implements ManagedService, MigrationAwareService,
+public class MapService implements ManagedService, ChunkedMigrationAwareService,
         TransactionalService, RemoteService, EventPublishingService<EventData, ListenerAdapter>,
         PostJoinAwareService, SplitBrainHandlerService, ReplicationSupportingService, StatisticsAwareService,
-        PartitionAwareService, ClientAwareService, QuorumAwareService {
+        PartitionAwareService, ClientAwareService, QuorumAwareService, ExecutionTracingService {
 
     /**
      * Service name of map service used
@@ -72,7 +75,7 @@ public class MapService implements ManagedService, MigrationAwareService,
     public static final String SERVICE_NAME = "hz:impl:mapService";
 
     protected ManagedService managedService;
-    protected MigrationAwareService migrationAwareService;
+    protected ChunkedMigrationAwareService migrationAwareService;
     protected TransactionalService transactionalService;
     protected RemoteService remoteService;
     protected EventPublishingService eventPublishingService;
@@ -113,6 +116,11 @@ public class MapService implements ManagedService, MigrationAwareService,
         return migrationAwareService.prepareReplicationOperation(event);
     }
 
+    @Override
+    public Iterator<Operation> prepareReplicationChunks(PartitionReplicationEvent event, long maxChunkSize) {
+        return migrationAwareService.prepareReplicationChunks(event, maxChunkSize);
+    }
+
     @Override
     public void beforeMigration(PartitionMigrationEvent event) {
         migrationAwareService.beforeMigration(event);
@@ -191,4 +199,12 @@ public class MapService implements ManagedService, MigrationAwareService,
     public void clientDisconnected(String clientUuid) {
         clientAwareService.clientDisconnected(clientUuid);
     }
+
+    /**
+     * Only the aggregations are traced, see {@link com.hazelcast.map.impl.query.AggregationOperation}.
+     */
+    @Override
+    public boolean isOperationExecuting(Address callerAddress, String callerUuid, Object identifier) {
+        return mapServiceContext.getMapQueryEngine().isAggregationRunning(String.valueOf(identifier));
+    }
 }
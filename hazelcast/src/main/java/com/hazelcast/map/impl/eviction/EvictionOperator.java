@@ -21,6 +21,8 @@ import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizeConfig;
 import com.hazelcast.core.EntryEventType;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.instance.GroupProperty;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.event.MapEventPublisher;
 import com.hazelcast.map.impl.record.Record;
@@ -31,9 +33,11 @@ import com.hazelcast.spi.EventService;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.MemoryInfoAccessor;
+import com.hazelcast.util.SampleableConcurrentHashMap;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Map;
 
 import static com.hazelcast.core.EntryEventType.EVICTED;
 import static com.hazelcast.core.EntryEventType.EXPIRED;
@@ -45,6 +49,10 @@ import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
 public final class EvictionOperator {
 
     private static final int ONE_HUNDRED_PERCENT = 100;
+    /**
+     * Number of records sampled to find a record to evict when sampling based eviction is enabled.
+     */
+    private static final int SAMPLE_COUNT = 15;
     private MapServiceContext mapServiceContext;
     private MaxSizeChecker maxSizeChecker;
 
@@ -84,6 +92,12 @@ public final class EvictionOperator {
     public void removeEvictableRecords(RecordStore recordStore, int evictableSize, MapConfig mapConfig, boolean backup) {
         long now = Clock.currentTimeMillis();
         final EvictionPolicy evictionPolicy = mapConfig.getEvictionPolicy();
+        final Map<Data, Record> records = recordStore.getRecordMap();
+        if (isSamplingEnabled() && records instanceof SampleableConcurrentHashMap) {
+            removeEvictableRecordsBySampling(recordStore, (SampleableConcurrentHashMap<Data, Record>) records,
+                    evictableSize, evictionPolicy, backup, now);
+            return;
+        }
         // criteria is a long value, like last access times or hits,
         // used for calculating LFU or LRU.
         final long[] criterias = createAndPopulateEvictionCriteriaArray(recordStore, evictionPolicy);
@@ -110,6 +124,53 @@ public final class EvictionOperator {
         }
     }
 
+    private boolean isSamplingEnabled() {
+        GroupProperties groupProperties = mapServiceContext.getNodeEngine().getGroupProperties();
+        return groupProperties.getBoolean(GroupProperty.MAP_EVICTION_SAMPLING_ENABLED);
+    }
+
+    /**
+     * Evicts records one by one, each time choosing the record with the lowest eviction criteria among
+     * {@link #SAMPLE_COUNT} randomly sampled records. Locked samples are skipped and an expired sample
+     * is evicted right away.
+     * <p/>
+     * Unlike the sorting based eviction, the cost of evicting a record does not depend on the record store size.
+     */
+    private void removeEvictableRecordsBySampling(RecordStore recordStore, SampleableConcurrentHashMap<Data, Record> records,
+                                                  int evictableSize, EvictionPolicy evictionPolicy, boolean backup, long now) {
+        int evictedRecordCounter = 0;
+        while (evictedRecordCounter < evictableSize) {
+            final Record record = selectEvictableRecord(recordStore, records, evictionPolicy, backup, now);
+            if (record == null || !tryEvict(record, recordStore, backup, now)) {
+                break;
+            }
+            evictedRecordCounter++;
+        }
+    }
+
+    private Record selectEvictableRecord(RecordStore recordStore, SampleableConcurrentHashMap<Data, Record> records,
+                                         EvictionPolicy evictionPolicy, boolean backup, long now) {
+        Record selected = null;
+        long selectedValue = Long.MAX_VALUE;
+        final Iterable<SampleableConcurrentHashMap<Data, Record>.SamplingEntry> samples
+                = records.getRandomSamples(SAMPLE_COUNT);
+        for (SampleableConcurrentHashMap<Data, Record>.SamplingEntry sample : samples) {
+            final Record record = sample.getValue();
+            if (recordStore.isLocked(record.getKey())) {
+                continue;
+            }
+            if (recordStore.isExpired(record, now, backup)) {
+                return record;
+            }
+            final long value = getEvictionCriteriaValue(record, evictionPolicy);
+            if (selected == null || value < selectedValue) {
+                selected = record;
+                selectedValue = value;
+            }
+        }
+        return selected;
+    }
+
     protected boolean tryEvict(Record record, RecordStore recordStore, boolean backup, long now) {
         String mapName = recordStore.getName();
         Data key = record.getKey();
@@ -228,6 +289,10 @@ public final class EvictionOperator {
             case USED_HEAP_SIZE:
             case FREE_HEAP_PERCENTAGE:
             case FREE_HEAP_SIZE:
+            case USED_NATIVE_MEMORY_PERCENTAGE:
+            case USED_NATIVE_MEMORY_SIZE:
+            case FREE_NATIVE_MEMORY_PERCENTAGE:
+            case FREE_NATIVE_MEMORY_SIZE:
                 // if we have an evictable size, be sure to evict at least one entry in worst case.
                 evictableSize = Math.max(currentPartitionSize * evictionPercentage / ONE_HUNDRED_PERCENT, 1);
                 break;
@@ -22,10 +22,12 @@ import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.memory.MemoryStats;
 import com.hazelcast.nio.Address;
 import com.hazelcast.partition.InternalPartition;
 import com.hazelcast.partition.InternalPartitionService;
 import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.util.MemoryInfoAccessor;
 import com.hazelcast.util.RuntimeMemoryInfoAccessor;
 
@@ -83,6 +85,18 @@ public class MaxSizeChecker {
             case FREE_HEAP_SIZE:
                 result = isEvictableFreeHeapSize(mapContainer);
                 break;
+            case USED_NATIVE_MEMORY_SIZE:
+                result = isEvictableNativeMemorySize(mapContainer);
+                break;
+            case USED_NATIVE_MEMORY_PERCENTAGE:
+                result = isEvictableNativeMemoryPercentage(mapContainer);
+                break;
+            case FREE_NATIVE_MEMORY_SIZE:
+                result = isEvictableFreeNativeMemorySize(mapContainer);
+                break;
+            case FREE_NATIVE_MEMORY_PERCENTAGE:
+                result = isEvictableFreeNativeMemoryPercentage(mapContainer);
+                break;
             default:
                 throw new IllegalArgumentException("Not an appropriate max size policy [" + maxSizePolicy + ']');
         }
@@ -160,6 +174,51 @@ public class MaxSizeChecker {
         return freeHeapPercentage > (1D * ONE_HUNDRED_PERCENT * currentFreeHeapSize / total);
     }
 
+    private boolean isEvictableNativeMemorySize(final MapContainer mapContainer) {
+        final long usedNativeMemory = getMemoryStats().getUsedNativeMemory();
+        final MaxSizeConfig maxSizeConfig = mapContainer.getMapConfig().getMaxSizeConfig();
+        final double maxSize = getApproximateMaxSize(maxSizeConfig.getSize());
+        return maxSize < (1D * usedNativeMemory / ONE_MEGABYTE);
+    }
+
+    private boolean isEvictableNativeMemoryPercentage(final MapContainer mapContainer) {
+        final MemoryStats memoryStats = getMemoryStats();
+        final long maxNativeMemory = memoryStats.getMaxNativeMemory();
+        if (maxNativeMemory <= 0L) {
+            return false;
+        }
+        final MaxSizeConfig maxSizeConfig = mapContainer.getMapConfig().getMaxSizeConfig();
+        final double maxSize = getApproximateMaxSize(maxSizeConfig.getSize());
+        return maxSize < (1D * ONE_HUNDRED_PERCENT * memoryStats.getUsedNativeMemory() / maxNativeMemory);
+    }
+
+    private boolean isEvictableFreeNativeMemorySize(final MapContainer mapContainer) {
+        final long freeNativeMemory = getMemoryStats().getFreeNativeMemory();
+        final MaxSizeConfig maxSizeConfig = mapContainer.getMapConfig().getMaxSizeConfig();
+        final double minFreeNativeMemorySize = getApproximateMaxSize(maxSizeConfig.getSize());
+        return minFreeNativeMemorySize > (1D * freeNativeMemory / ONE_MEGABYTE);
+    }
+
+    private boolean isEvictableFreeNativeMemoryPercentage(final MapContainer mapContainer) {
+        final MemoryStats memoryStats = getMemoryStats();
+        final long maxNativeMemory = memoryStats.getMaxNativeMemory();
+        if (maxNativeMemory <= 0L) {
+            return false;
+        }
+        final MaxSizeConfig maxSizeConfig = mapContainer.getMapConfig().getMaxSizeConfig();
+        final double freeNativeMemoryPercentage = getApproximateMaxSize(maxSizeConfig.getSize());
+        return freeNativeMemoryPercentage
+                > (1D * ONE_HUNDRED_PERCENT * memoryStats.getFreeNativeMemory() / maxNativeMemory);
+    }
+
+    /**
+     * Native memory is shared by all maps on a node, so native memory based policies are node-wide.
+     */
+    private MemoryStats getMemoryStats() {
+        final NodeEngineImpl nodeEngine = (NodeEngineImpl) mapServiceContext.getNodeEngine();
+        return nodeEngine.getNode().getNodeExtension().getMemoryStats();
+    }
+
     private long getTotalMemory() {
         return memoryInfoAccessor.getTotalMemory();
     }
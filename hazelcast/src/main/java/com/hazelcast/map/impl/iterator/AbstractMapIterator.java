@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.iterator;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.LazyMapEntry;
+import com.hazelcast.nio.serialization.Data;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.util.Preconditions.checkPositive;
+
+/**
+ * Base class of the iterators returned by {@link IMap#iterator(int)}.
+ * <p/>
+ * The entries are fetched partition by partition, a batch of at most <code>fetchSize</code> entries
+ * at a time. A batch is fetched from the record map of the partition starting at the table index which
+ * the previous batch returned, so neither the member nor the caller holds more than a batch of entries
+ * for an iteration.
+ * <p/>
+ * The iteration is weakly consistent: the entries updated during the iteration may or may not be
+ * reflected, and an entry may be missed or returned twice if its partition migrates or its record map
+ * is resized between two batches.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public abstract class AbstractMapIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+    /**
+     * The fetch size of {@link IMap#iterator()}.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 100;
+
+    /**
+     * The table index to fetch the first batch of a partition from.
+     */
+    protected static final int FIRST_TABLE_INDEX = Integer.MAX_VALUE;
+
+    protected final IMap<K, V> map;
+    protected final int partitionCount;
+    protected final int fetchSize;
+
+    private final SerializationService serializationService;
+
+    private int partitionId = -1;
+    private int nextTableIndex = FIRST_TABLE_INDEX;
+    private List<Map.Entry<Data, Data>> batch;
+    private int index;
+    private Data lastReturnedKey;
+
+    protected AbstractMapIterator(IMap<K, V> map, int partitionCount, int fetchSize,
+                                  SerializationService serializationService) {
+        this.map = map;
+        this.partitionCount = partitionCount;
+        this.fetchSize = checkPositive(fetchSize, "fetchSize should be positive");
+        this.serializationService = serializationService;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return (batch != null && index < batch.size()) || advance();
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Map.Entry<Data, Data> entry = batch.get(index++);
+        lastReturnedKey = entry.getKey();
+        return new LazyMapEntry(entry.getKey(), entry.getValue(), serializationService);
+    }
+
+    /**
+     * Removes the last returned entry from the map.
+     */
+    @Override
+    public void remove() {
+        if (lastReturnedKey == null) {
+            throw new IllegalStateException("Iterator.next() must be called before remove()!");
+        }
+        map.delete(serializationService.toObject(lastReturnedKey));
+        lastReturnedKey = null;
+    }
+
+    /**
+     * Fetches batches until a non-empty one is found, moving to the next partition whenever the
+     * current one is exhausted.
+     *
+     * @return <code>true</code> if a non-empty batch was fetched, <code>false</code> if all partitions
+     * are exhausted
+     */
+    private boolean advance() {
+        while (true) {
+            if (batch == null || nextTableIndex < 0) {
+                if (++partitionId >= partitionCount) {
+                    batch = null;
+                    return false;
+                }
+                nextTableIndex = FIRST_TABLE_INDEX;
+            }
+            MapEntriesWithCursor entriesWithCursor = fetch(partitionId, nextTableIndex);
+            batch = entriesWithCursor.getEntries();
+            nextTableIndex = entriesWithCursor.getNextTableIndexToReadFrom();
+            index = 0;
+            if (!batch.isEmpty()) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Fetches a batch of at most {@link #fetchSize} entries of given partition.
+     *
+     * @param partitionId the partition to fetch from
+     * @param tableIndex  the table index to start fetching from
+     * @return the fetched entries with the table index to continue fetching from
+     */
+    protected abstract MapEntriesWithCursor fetch(int partitionId, int tableIndex);
+}
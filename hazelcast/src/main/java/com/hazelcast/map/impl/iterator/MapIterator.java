@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.iterator;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.operation.MapFetchEntriesOperation;
+import com.hazelcast.spi.InternalCompletableFuture;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.OperationService;
+
+/**
+ * Member side iterator of {@link IMap#iterator(int)}, fetches the batches by {@link MapFetchEntriesOperation}s.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @see AbstractMapIterator
+ */
+public class MapIterator<K, V> extends AbstractMapIterator<K, V> {
+
+    private final OperationService operationService;
+
+    public MapIterator(IMap<K, V> map, NodeEngine nodeEngine, int fetchSize) {
+        super(map, nodeEngine.getPartitionService().getPartitionCount(), fetchSize, nodeEngine.getSerializationService());
+        this.operationService = nodeEngine.getOperationService();
+    }
+
+    @Override
+    protected MapEntriesWithCursor fetch(int partitionId, int tableIndex) {
+        MapFetchEntriesOperation operation = new MapFetchEntriesOperation(map.getName(), tableIndex, fetchSize);
+        InternalCompletableFuture<MapEntriesWithCursor> future
+                = operationService.invokeOnPartition(MapService.SERVICE_NAME, operation, partitionId);
+        return future.getSafely();
+    }
+}
@@ -24,24 +24,25 @@ import com.hazelcast.map.impl.SizeEstimator;
 import com.hazelcast.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
-import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.ExceptionUtil;
+import com.hazelcast.util.SampleableConcurrentHashMap;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
-import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * NearCache.
+ * <p/>
+ * When the near cache is full, an entry is evicted on put by comparing a fixed number of randomly sampled
+ * records with the comparator of the configured eviction policy, so the cost of a put does not depend on
+ * the near cache size.
  */
 public class NearCache {
     /**
@@ -49,7 +50,8 @@ public class NearCache {
      */
     public static final Object NULL_OBJECT = new Object();
     public static final String NEAR_CACHE_EXECUTOR_NAME = "hz:near-cache";
-    private static final double EVICTION_FACTOR = 0.2;
+    private static final int EVICTION_SAMPLE_COUNT = 15;
+    private static final int INITIAL_CAPACITY = 1000;
     private static final int CLEANUP_INTERVAL = 5000;
     private final int maxSize;
     private volatile long lastCleanup;
@@ -59,8 +61,7 @@ public class NearCache {
     private final InMemoryFormat inMemoryFormat;
     private final NodeEngine nodeEngine;
     private final AtomicBoolean canCleanUp;
-    private final AtomicBoolean canEvict;
-    private final ConcurrentMap<Data, NearCacheRecord> cache;
+    private final SampleableConcurrentHashMap<Data, NearCacheRecord> cache;
     private final NearCacheStatsImpl nearCacheStats;
     private final SerializationService serializationService;
     private final Comparator<NearCacheRecord> selectedComparator;
@@ -81,9 +82,8 @@ public class NearCache {
         timeToLiveMillis = TimeUnit.SECONDS.toMillis(nearCacheConfig.getTimeToLiveSeconds());
         evictionPolicy = EvictionPolicy.valueOf(nearCacheConfig.getEvictionPolicy());
         selectedComparator = NearCacheRecord.getComparator(evictionPolicy);
-        cache = new ConcurrentHashMap<Data, NearCacheRecord>();
+        cache = new SampleableConcurrentHashMap<Data, NearCacheRecord>(INITIAL_CAPACITY);
         canCleanUp = new AtomicBoolean(true);
-        canEvict = new AtomicBoolean(true);
         nearCacheStats = new NearCacheStatsImpl();
         lastCleanup = Clock.currentTimeMillis();
         serializationService = nodeEngine.getSerializationService();
@@ -100,8 +100,8 @@ public class NearCache {
                 return inMemoryFormat.equals(InMemoryFormat.OBJECT) ? serializationService.toObject(data) : data;
             }
         }
-        if (evictionPolicy != EvictionPolicy.NONE && cache.size() >= maxSize) {
-            fireEvictCache();
+        if (evictionPolicy != EvictionPolicy.NONE) {
+            evictIfRequired();
         }
         final Object value;
         if (data == null) {
@@ -135,43 +135,32 @@ public class NearCache {
         return nearCacheStats;
     }
 
-    private void fireEvictCache() {
-        if (canEvict.compareAndSet(true, false)) {
-            try {
-                final ExecutionService executionService = nodeEngine.getExecutionService();
-                executionService.execute(NEAR_CACHE_EXECUTOR_NAME, new Runnable() {
-                    public void run() {
-                        try {
-                            TreeSet<NearCacheRecord> records = new TreeSet<NearCacheRecord>(selectedComparator);
-                            records.addAll(cache.values());
-                            int evictSize = (int) (cache.size() * EVICTION_FACTOR);
-                            int i = 0;
-                            for (NearCacheRecord record : records) {
-                                cache.remove(record.getKey());
-                                updateSizeEstimator(-calculateCost(record));
-                                if (++i > evictSize) {
-                                    break;
-                                }
-                            }
-                        } finally {
-                            canEvict.set(true);
-                        }
+    private void evictIfRequired() {
+        while (cache.size() >= maxSize) {
+            NearCacheRecord record = selectEvictionCandidate();
+            if (record == null) {
+                return;
+            }
+            if (cache.remove(record.getKey(), record)) {
+                updateSizeEstimator(-calculateCost(record));
+            }
+        }
+    }
 
-                        if (cache.size() >= maxSize && canEvict.compareAndSet(true, false)) {
-                            try {
-                                executionService.execute(NEAR_CACHE_EXECUTOR_NAME, this);
-                            } catch (RejectedExecutionException e) {
-                                canEvict.set(true);
-                            }
-                        }
-                    }
-                });
-            } catch (RejectedExecutionException e) {
-                canEvict.set(true);
-            } catch (Exception e) {
-                throw ExceptionUtil.rethrow(e);
+    private NearCacheRecord selectEvictionCandidate() {
+        NearCacheRecord candidate = null;
+        Iterable<SampleableConcurrentHashMap<Data, NearCacheRecord>.SamplingEntry> samples
+                = cache.getRandomSamples(EVICTION_SAMPLE_COUNT);
+        for (SampleableConcurrentHashMap<Data, NearCacheRecord>.SamplingEntry sample : samples) {
+            NearCacheRecord record = sample.getValue();
+            if (record.isExpired(maxIdleMillis, timeToLiveMillis)) {
+                return record;
+            }
+            if (candidate == null || selectedComparator.compare(record, candidate) < 0) {
+                candidate = record;
             }
         }
+        return candidate;
     }
 
     private void fireTtlCleanup() {
@@ -18,12 +18,14 @@ package com.hazelcast.map.impl.operation;
 
 import com.hazelcast.concurrent.lock.LockWaitNotifyKey;
 import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.internal.serialization.impl.NativeMemoryData;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.spi.DefaultObjectNamespace;
+import com.hazelcast.spi.OperationResponseHandler;
 import com.hazelcast.spi.ReadonlyOperation;
 import com.hazelcast.spi.WaitNotifyKey;
 import com.hazelcast.spi.WaitSupport;
@@ -43,13 +45,36 @@ public final class GetOperation extends KeyBasedMapOperation
     @Override
     public void run() {
         MapServiceContext mapServiceContext = mapService.getMapServiceContext();
-        result = mapServiceContext.toData(recordStore.get(dataKey, false));
+        OperationResponseHandler responseHandler = getOperationResponseHandler();
+        if (responseHandler != null && !responseHandler.isLocal()) {
+            // the response to a remote caller is serialized before afterRun, so a value kept in native memory
+            // is written into the response straight from native memory and released afterwards
+            result = mapServiceContext.toData(recordStore.getInPlace(dataKey));
+        } else {
+            result = mapServiceContext.toData(recordStore.get(dataKey, false));
+        }
     }
 
     @Override
     public void afterRun() {
-        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
-        mapServiceContext.interceptAfterGet(name, result);
+        try {
+            MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+            mapServiceContext.interceptAfterGet(name, result);
+        } finally {
+            releaseResult();
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Throwable e) {
+        // afterRun is not called when the response cannot be sent
+        releaseResult();
+    }
+
+    private void releaseResult() {
+        if (result instanceof NativeMemoryData) {
+            ((NativeMemoryData) result).release();
+        }
     }
 
     @Override
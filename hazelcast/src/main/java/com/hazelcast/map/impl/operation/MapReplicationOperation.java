@@ -34,26 +34,34 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.MutatingOperation;
 import com.hazelcast.util.Clock;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import static com.hazelcast.map.impl.record.Records.applyRecordInfo;
 
 public class MapReplicationOperation extends AbstractOperation implements MutatingOperation {
 
+    // estimated size of the record info of a record, besides its key and value
+    private static final int RECORD_INFO_SIZE = 64;
+
     private Map<String, Set<RecordReplicationInfo>> data;
     private Map<String, Collection<DelayedEntry>> delayedEntries;
+    // the maps whose records continue the ones of the previous chunk, so their record stores are not reset
+    private Set<String> continuedMaps = Collections.emptySet();
 
     public MapReplicationOperation() {
     }
@@ -112,7 +120,9 @@ public class MapReplicationOperation extends AbstractOperation implements Mutati
                 Set<RecordReplicationInfo> recordReplicationInfos = dataEntry.getValue();
                 final String mapName = dataEntry.getKey();
                 RecordStore recordStore = mapServiceContext.getRecordStore(getPartitionId(), mapName);
-                recordStore.reset();
+                if (!continuedMaps.contains(mapName)) {
+                    recordStore.reset();
+                }
 
                 for (RecordReplicationInfo recordReplicationInfo : recordReplicationInfos) {
                     Data key = recordReplicationInfo.getKey();
@@ -173,6 +183,11 @@ public class MapReplicationOperation extends AbstractOperation implements Mutati
             }
             delayedEntries.put(mapName, delayedEntriesList);
         }
+        size = in.readInt();
+        continuedMaps = new HashSet<String>(size);
+        for (int i = 0; i < size; i++) {
+            continuedMaps.add(in.readUTF());
+        }
     }
 
     @Override
@@ -202,15 +217,139 @@ public class MapReplicationOperation extends AbstractOperation implements Mutati
                 out.writeInt(e.getPartitionId());
             }
         }
+        out.writeInt(continuedMaps.size());
+        for (String mapName : continuedMaps) {
+            out.writeUTF(mapName);
+        }
+    }
+
+    /**
+     * Prepares the replication of a partition in chunks, see {@link com.hazelcast.spi.impl.ChunkedMigrationAwareService}.
+     * The records are read from the record stores as the chunks are built; the delayed entries of the write-behind
+     * queues go with the last chunk.
+     */
+    public static Iterator<Operation> chunks(MapService mapService, PartitionContainer container, int partitionId,
+                                             int replicaIndex, long maxChunkSize) {
+        return new ChunkIterator(mapService, container, partitionId, replicaIndex, maxChunkSize);
+    }
+
+    private static long estimateSize(RecordReplicationInfo record) {
+        Data value = record.getValue();
+        return record.getKey().getHeapCost() + (value == null ? 0 : value.getHeapCost()) + RECORD_INFO_SIZE;
     }
 
     public boolean isEmpty() {
         return data == null || data.isEmpty();
     }
 
-    private RecordReplicationInfo createRecordReplicationInfo(Record record, MapService mapService) {
+    private static RecordReplicationInfo createRecordReplicationInfo(Record record, MapService mapService) {
         final RecordInfo info = Records.buildRecordInfo(record);
         return new RecordReplicationInfo(record.getKey(), mapService.getMapServiceContext().toData(record.getValue()),
                 info);
     }
+
+    /**
+     * Builds the chunks of {@link #chunks(MapService, PartitionContainer, int, int, long)}, continuing the iteration of the
+     * record stores where the previous chunk stopped.
+     */
+    private static final class ChunkIterator implements Iterator<Operation> {
+
+        private final MapService mapService;
+        private final PartitionContainer container;
+        private final int partitionId;
+        private final int replicaIndex;
+        private final long maxChunkSize;
+        // a copy, so the maps created while the partition is migrating don't affect the iteration
+        private final Iterator<Entry<String, RecordStore>> recordStores;
+
+        private String mapName;
+        // the records of the current map, null if the next map is not started yet
+        private Iterator<Record> records;
+        // the record which didn't fit in the previous chunk
+        private RecordReplicationInfo pendingRecord;
+        private boolean done;
+
+        ChunkIterator(MapService mapService, PartitionContainer container, int partitionId, int replicaIndex,
+                      long maxChunkSize) {
+            this.mapService = mapService;
+            this.container = container;
+            this.partitionId = partitionId;
+            this.replicaIndex = replicaIndex;
+            this.maxChunkSize = maxChunkSize;
+            this.recordStores = new ArrayList<Entry<String, RecordStore>>(container.getMaps().entrySet()).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !done;
+        }
+
+        @Override
+        public Operation next() {
+            if (done) {
+                throw new NoSuchElementException();
+            }
+            MapReplicationOperation chunk = newChunk();
+            if (records != null) {
+                chunk.data.put(mapName, new HashSet<RecordReplicationInfo>());
+                chunk.continuedMaps.add(mapName);
+            }
+
+            long chunkSize = 0;
+            for (; ; ) {
+                if (records == null) {
+                    if (!nextMap()) {
+                        chunk.readDelayedEntries(container);
+                        done = true;
+                        return chunk;
+                    }
+                    chunk.data.put(mapName, new HashSet<RecordReplicationInfo>());
+                }
+
+                Set<RecordReplicationInfo> recordSet = chunk.data.get(mapName);
+                while (pendingRecord != null || records.hasNext()) {
+                    RecordReplicationInfo record = pendingRecord != null
+                            ? pendingRecord : createRecordReplicationInfo(records.next(), mapService);
+                    long recordSize = estimateSize(record);
+                    if (chunkSize > 0 && chunkSize + recordSize > maxChunkSize) {
+                        pendingRecord = record;
+                        return chunk;
+                    }
+                    pendingRecord = null;
+                    recordSet.add(record);
+                    chunkSize += recordSize;
+                }
+                records = null;
+            }
+        }
+
+        private boolean nextMap() {
+            while (recordStores.hasNext()) {
+                Entry<String, RecordStore> entry = recordStores.next();
+                RecordStore recordStore = entry.getValue();
+                if (recordStore.getMapContainer().getMapConfig().getTotalBackupCount() < replicaIndex) {
+                    continue;
+                }
+                mapName = entry.getKey();
+                records = recordStore.iterator();
+                return true;
+            }
+            return false;
+        }
+
+        private MapReplicationOperation newChunk() {
+            MapReplicationOperation chunk = new MapReplicationOperation();
+            chunk.setPartitionId(partitionId).setReplicaIndex(replicaIndex);
+            chunk.setService(mapService);
+            chunk.data = new HashMap<String, Set<RecordReplicationInfo>>();
+            chunk.delayedEntries = Collections.emptyMap();
+            chunk.continuedMaps = new HashSet<String>();
+            return chunk;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.MemberLeftException;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.operation.AbstractMapOperation;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.Aggregator;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.spi.ExceptionAction;
+import com.hazelcast.spi.ReadonlyOperation;
+import com.hazelcast.spi.TraceableOperation;
+import com.hazelcast.spi.exception.TargetNotMemberException;
+
+import java.io.IOException;
+
+import static com.hazelcast.spi.ExceptionAction.THROW_EXCEPTION;
+import static com.hazelcast.util.UuidUtil.newUnsecureUuidString;
+
+/**
+ * Aggregates the entries of the partitions owned by the member, see
+ * {@link MapQueryEngine#aggregateLocalPartitions(String, Predicate, Aggregator, String, ExecutionCallback)}.
+ * The response is sent when the partitions complete, so the operation doesn't hold its thread meanwhile.
+ * Since the operation doesn't run on an operation thread while its partitions are aggregated, it is traced by its
+ * aggregation id, so the still-executing check of a long running aggregation finds it.
+ */
+public class AggregationOperation extends AbstractMapOperation
+        implements ReadonlyOperation, TraceableOperation, IdentifiedDataSerializable {
+
+    private String aggregationId;
+    private Predicate predicate;
+    private Aggregator aggregator;
+
+    public AggregationOperation() {
+    }
+
+    public AggregationOperation(String mapName, Predicate predicate, Aggregator aggregator) {
+        super(mapName);
+        this.aggregationId = newUnsecureUuidString();
+        this.predicate = predicate;
+        this.aggregator = aggregator;
+    }
+
+    @Override
+    public void run() throws Exception {
+        MapQueryEngine queryEngine = mapService.getMapServiceContext().getMapQueryEngine();
+        queryEngine.aggregateLocalPartitions(name, predicate, aggregator, aggregationId,
+                new ExecutionCallback<AggregationResult>() {
+                    @Override
+                    public void onResponse(AggregationResult response) {
+                        sendResponse(response);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        sendResponse(t);
+                    }
+                });
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    public Object getTraceIdentifier() {
+        return aggregationId;
+    }
+
+    @Override
+    public ExceptionAction onInvocationException(Throwable throwable) {
+        if (throwable instanceof MemberLeftException || throwable instanceof TargetNotMemberException) {
+            return THROW_EXCEPTION;
+        }
+        return super.onInvocationException(throwable);
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeUTF(aggregationId);
+        out.writeObject(predicate);
+        out.writeObject(aggregator);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        aggregationId = in.readUTF();
+        predicate = in.readObject();
+        aggregator = in.readObject();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return MapDataSerializerHook.AGGREGATION_OPERATION;
+    }
+}
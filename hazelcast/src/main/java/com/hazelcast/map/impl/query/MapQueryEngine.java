@@ -16,8 +16,11 @@
 
 package com.hazelcast.map.impl.query;
 
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.query.Aggregator;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Projection;
 import com.hazelcast.util.IterationType;
 
 import java.util.Set;
@@ -40,6 +43,20 @@ public interface MapQueryEngine {
     QueryResult queryLocalPartitions(String name, Predicate predicate, IterationType iterationType)
             throws ExecutionException, InterruptedException;
 
+    /**
+     * Executes a query on all the local partitions, the matching entries are transformed by the given projection.
+     *
+     * @param name          the name of the map
+     * @param predicate     the predicate
+     * @param iterationType the IterationType, ignored if there is a projection
+     * @param projection    the projection, null to query the entries as they are
+     * @return the QueryResult holding the projected values as row values if there is a projection
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    QueryResult queryLocalPartitions(String name, Predicate predicate, IterationType iterationType, Projection projection)
+            throws ExecutionException, InterruptedException;
+
     /**
      * Executes a query a specific local partition.
      *
@@ -52,6 +69,19 @@ public interface MapQueryEngine {
      */
     QueryResult queryLocalPartition(String mapName, Predicate predicate, int partitionId, IterationType iterationType);
 
+    /**
+     * Executes a query a specific local partition, the matching entries are transformed by the given projection.
+     *
+     * @param mapName       map name.
+     * @param predicate     any predicate.
+     * @param partitionId   partition id.
+     * @param iterationType the IterationType, ignored if there is a projection
+     * @param projection    the projection, null to query the entries as they are
+     * @return result of query
+     */
+    QueryResult queryLocalPartition(String mapName, Predicate predicate, int partitionId, IterationType iterationType,
+                                    Projection projection);
+
     /**
      * Query all local partitions.
      *
@@ -73,6 +103,17 @@ public interface MapQueryEngine {
      */
     QueryResult invokeQueryAllPartitions(String mapName, Predicate predicate, IterationType iterationType);
 
+    /**
+     * Queries all partitions and transforms the matching entries by the given projection on the members owning them.
+     * Paging predicates are not allowed.
+     *
+     * @param mapName    map name.
+     * @param predicate  except paging predicate.
+     * @param projection the projection
+     * @return the QueryResult holding the projected values as row values
+     */
+    QueryResult invokeQueryAllPartitions(String mapName, Predicate predicate, Projection projection);
+
     /**
      * Query all local partitions with a paging predicate.
      *
@@ -99,4 +140,48 @@ public interface MapQueryEngine {
      * @return {@link SortedQueryResultSet}
      */
     Set queryAllPartitionsWithPagingPredicate(String mapName, PagingPredicate pagingPredicate, IterationType iterationType);
+
+    /**
+     * Aggregates the matching entries of all the local partitions. Indexes are used if the predicate allows,
+     * otherwise every partition is aggregated by a copy of the aggregator on its partition thread. The copies are
+     * combined into a single aggregator as the partitions complete, so the calling thread doesn't wait for them.
+     *
+     * @param mapName       map name.
+     * @param predicate     except paging predicate.
+     * @param aggregator    the aggregator, it is copied before accumulating any entry
+     * @param aggregationId the id by which the aggregation is known to be running until the callback is notified,
+     *                      see {@link #isAggregationRunning(String)}
+     * @param callback      notified with the combined aggregator and the partitions it covers, or with the failure
+     */
+    void aggregateLocalPartitions(String mapName, Predicate predicate, Aggregator aggregator, String aggregationId,
+                                  ExecutionCallback<AggregationResult> callback);
+
+    /**
+     * Checks if an aggregation of the local partitions is still running.
+     *
+     * @param aggregationId the id of the aggregation
+     * @return true if the aggregation has been started and its callback is not notified yet
+     */
+    boolean isAggregationRunning(String aggregationId);
+
+    /**
+     * Aggregates the matching entries of a local partition into the given aggregator.
+     *
+     * @param mapName     map name.
+     * @param predicate   except paging predicate.
+     * @param partitionId partition id.
+     * @param aggregator  the aggregator accumulating the entries
+     */
+    void aggregateLocalPartition(String mapName, Predicate predicate, int partitionId, Aggregator aggregator);
+
+    /**
+     * Aggregates the matching entries of all partitions: the members aggregate their local partitions and
+     * the results are combined by the caller. Paging predicates are not allowed.
+     *
+     * @param mapName    map name.
+     * @param predicate  except paging predicate.
+     * @param aggregator the aggregator, it is not modified
+     * @return a copy of the aggregator combining all the partitions
+     */
+    Aggregator invokeAggregateAllPartitions(String mapName, Predicate predicate, Aggregator aggregator);
 }
@@ -17,8 +17,11 @@
 package com.hazelcast.map.impl.query;
 
 import com.hazelcast.cluster.ClusterService;
+import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.Member;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.NativeMemoryData;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.QueryResultSizeExceededException;
 import com.hazelcast.map.impl.LocalMapStatsProvider;
@@ -26,12 +29,15 @@ import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.record.NativeMemoryRecord;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.partition.InternalPartitionService;
+import com.hazelcast.query.Aggregator;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Projection;
 import com.hazelcast.query.TruePredicate;
 import com.hazelcast.query.impl.QueryEntry;
 import com.hazelcast.query.impl.QueryableEntry;
@@ -54,8 +60,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.hazelcast.instance.GroupProperty.QUERY_PREDICATE_PARALLEL_EVALUATION;
 import static com.hazelcast.map.impl.record.Record.NOT_CACHED;
@@ -89,6 +98,8 @@ public class MapQueryEngineImpl implements MapQueryEngine {
     private final LocalMapStatsProvider localMapStatsProvider;
     private final boolean parallelEvaluation;
     private final ManagedExecutorService executor;
+    // the ids of the aggregations waiting for their partitions
+    private final Set<String> runningAggregations = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
     public MapQueryEngineImpl(MapServiceContext mapServiceContext, QueryOptimizer optimizer) {
         this.mapServiceContext = mapServiceContext;
@@ -112,6 +123,12 @@ public class MapQueryEngineImpl implements MapQueryEngine {
     @Override
     public QueryResult queryLocalPartitions(String mapName, Predicate predicate, IterationType iterationType)
             throws ExecutionException, InterruptedException {
+        return queryLocalPartitions(mapName, predicate, iterationType, null);
+    }
+
+    @Override
+    public QueryResult queryLocalPartitions(String mapName, Predicate predicate, IterationType iterationType,
+                                            Projection projection) throws ExecutionException, InterruptedException {
 
         int initialPartitionStateVersion = partitionService.getPartitionStateVersion();
         Collection<Integer> initialPartitions = mapServiceContext.getOwnedPartitions();
@@ -123,9 +140,9 @@ public class MapQueryEngineImpl implements MapQueryEngine {
         // then we try to run using an index, but if that doesn't work, we'll try a full table scan
         // This would be the point where a query-plan should be added. It should determine if a full table scan
         // or an index should be used.
-        QueryResult result = tryQueryUsingIndexes(predicate, initialPartitions, mapContainer, iterationType);
+        QueryResult result = tryQueryUsingIndexes(predicate, initialPartitions, mapContainer, iterationType, projection);
         if (result == null) {
-            result = queryUsingFullTableScan(mapName, predicate, initialPartitions, iterationType);
+            result = queryUsingFullTableScan(mapName, predicate, initialPartitions, iterationType, projection);
         }
 
         if (hasPartitionVersion(initialPartitionStateVersion, predicate)) {
@@ -138,7 +155,7 @@ public class MapQueryEngineImpl implements MapQueryEngine {
     }
 
     private QueryResult tryQueryUsingIndexes(Predicate predicate, Collection<Integer> partitions, MapContainer mapContainer,
-                                             IterationType iterationType) {
+                                             IterationType iterationType, Projection projection) {
 
         if (partitionService.hasOnGoingMigrationLocal()) {
             return null;
@@ -149,7 +166,7 @@ public class MapQueryEngineImpl implements MapQueryEngine {
             return null;
         }
 
-        QueryResult result = newQueryResult(partitions.size(), iterationType);
+        QueryResult result = newQueryResult(partitions.size(), iterationType, projection);
         result.addAll(entries);
         return result;
     }
@@ -162,22 +179,22 @@ public class MapQueryEngineImpl implements MapQueryEngine {
     }
 
     private QueryResult queryUsingFullTableScan(String name, Predicate predicate, Collection<Integer> partitions,
-                                                IterationType iterationType)
+                                                IterationType iterationType, Projection projection)
             throws InterruptedException, ExecutionException {
 
         if (predicate instanceof PagingPredicate) {
-            return queryParallelForPaging(name, (PagingPredicate) predicate, partitions, iterationType);
+            return queryParallelForPaging(name, (PagingPredicate) predicate, partitions, iterationType, projection);
         } else if (parallelEvaluation) {
-            return queryParallel(name, predicate, partitions, iterationType);
+            return queryParallel(name, predicate, partitions, iterationType, projection);
         } else {
-            return querySequential(name, predicate, partitions, iterationType);
+            return querySequential(name, predicate, partitions, iterationType, projection);
         }
     }
 
     protected QueryResult querySequential(String name, Predicate predicate, Collection<Integer> partitions,
-                                          IterationType iterationType) {
+                                          IterationType iterationType, Projection projection) {
 
-        QueryResult result = newQueryResult(partitions.size(), iterationType);
+        QueryResult result = newQueryResult(partitions.size(), iterationType, projection);
         RetryableHazelcastException storedException = null;
         for (Integer partitionId : partitions) {
             try {
@@ -199,8 +216,9 @@ public class MapQueryEngineImpl implements MapQueryEngine {
     }
 
     private QueryResult queryParallel(String name, Predicate predicate, Collection<Integer> partitions,
-                                      IterationType iterationType) throws InterruptedException, ExecutionException {
-        QueryResult result = newQueryResult(partitions.size(), iterationType);
+                                      IterationType iterationType, Projection projection)
+            throws InterruptedException, ExecutionException {
+        QueryResult result = newQueryResult(partitions.size(), iterationType, projection);
 
         List<Future<Collection<QueryableEntry>>> futures
                 = new ArrayList<Future<Collection<QueryableEntry>>>(partitions.size());
@@ -223,8 +241,9 @@ public class MapQueryEngineImpl implements MapQueryEngine {
     }
 
     private QueryResult queryParallelForPaging(String name, PagingPredicate predicate, Collection<Integer> partitions,
-                                               IterationType iterationType) throws InterruptedException, ExecutionException {
-        QueryResult result = newQueryResult(partitions.size(), iterationType);
+                                               IterationType iterationType, Projection projection)
+            throws InterruptedException, ExecutionException {
+        QueryResult result = newQueryResult(partitions.size(), iterationType, projection);
 
         List<Future<Collection<QueryableEntry>>> futures =
                 new ArrayList<Future<Collection<QueryableEntry>>>(partitions.size());
@@ -269,6 +288,14 @@ public class MapQueryEngineImpl implements MapQueryEngine {
         while (iterator.hasNext()) {
             Record record = iterator.next();
             Data key = record.getKey();
+            if (record instanceof NativeMemoryRecord) {
+                QueryEntry queryEntry = queryInPlace(key, (NativeMemoryRecord) record, predicate, pagingPredicate,
+                        nearestAnchorEntry);
+                if (queryEntry != null) {
+                    resultList.add(queryEntry);
+                }
+                continue;
+            }
             Object value = getValueOrCachedValue(record);
             if (value == null) {
                 continue;
@@ -282,10 +309,39 @@ public class MapQueryEngineImpl implements MapQueryEngine {
         return getSortedSubList(resultList, pagingPredicate, nearestAnchorEntry);
     }
 
+    /**
+     * Applies the predicate to a value kept in native memory without copying it to the heap. The value of a
+     * matching entry is copied to the heap, since the entry is kept in the result.
+     *
+     * @return the matching entry or null if the entry doesn't match
+     */
+    private QueryEntry queryInPlace(Data key, NativeMemoryRecord record, Predicate predicate, PagingPredicate pagingPredicate,
+                                    Map.Entry<Integer, Map.Entry> nearestAnchorEntry) {
+        NativeMemoryData value = record.acquireValue();
+        if (value == null) {
+            return null;
+        }
+        try {
+            QueryEntry queryEntry = new QueryEntry(serializationService, key, key, value);
+            if (!predicate.apply(queryEntry) || !compareAnchor(pagingPredicate, queryEntry, nearestAnchorEntry)) {
+                return null;
+            }
+            return new QueryEntry(serializationService, key, key, new HeapData(value.toByteArray()));
+        } finally {
+            value.release();
+        }
+    }
+
     @Override
     public QueryResult queryLocalPartition(String mapName, Predicate predicate, int partitionId, IterationType iterationType) {
+        return queryLocalPartition(mapName, predicate, partitionId, iterationType, null);
+    }
+
+    @Override
+    public QueryResult queryLocalPartition(String mapName, Predicate predicate, int partitionId, IterationType iterationType,
+                                           Projection projection) {
         Collection<QueryableEntry> queryableEntries = queryTheLocalPartition(mapName, predicate, partitionId);
-        QueryResult result = newQueryResult(1, iterationType);
+        QueryResult result = newQueryResult(1, iterationType, projection);
         result.addAll(queryableEntries);
         result.setPartitionIds(singletonList(partitionId));
         return result;
@@ -310,7 +366,7 @@ public class MapQueryEngineImpl implements MapQueryEngine {
         checkNotPagingPredicate(predicate);
 
         List<Integer> partitionIds = getLocalPartitionIds();
-        QueryResult result = newQueryResult(partitionIds.size(), iterationType);
+        QueryResult result = newQueryResult(partitionIds.size(), iterationType, null);
 
         try {
             Future<QueryResult> future = queryOnLocalMember(mapName, predicate, iterationType);
@@ -402,16 +458,26 @@ public class MapQueryEngineImpl implements MapQueryEngine {
 
     @Override
     public QueryResult invokeQueryAllPartitions(String mapName, Predicate predicate, IterationType iterationType) {
+        return invokeQueryAllPartitions(mapName, predicate, iterationType, null);
+    }
+
+    @Override
+    public QueryResult invokeQueryAllPartitions(String mapName, Predicate predicate, Projection projection) {
+        return invokeQueryAllPartitions(mapName, predicate, IterationType.VALUE, projection);
+    }
+
+    private QueryResult invokeQueryAllPartitions(String mapName, Predicate predicate, IterationType iterationType,
+                                                 Projection projection) {
         checkNotPagingPredicate(predicate);
         if (predicate == TruePredicate.INSTANCE) {
             queryResultSizeLimiter.checkMaxResultLimitOnLocalPartitions(mapName);
         }
 
         Set<Integer> partitionIds = getAllPartitionIds();
-        QueryResult result = newQueryResult(partitionIds.size(), iterationType);
+        QueryResult result = newQueryResult(partitionIds.size(), iterationType, null);
 
         try {
-            List<Future<QueryResult>> futures = queryOnMembers(mapName, predicate, iterationType);
+            List<Future<QueryResult>> futures = queryOnMembers(mapName, predicate, iterationType, projection);
             addResultsOfPredicate(futures, result, partitionIds);
             if (partitionIds.isEmpty()) {
                 return result;
@@ -424,7 +490,7 @@ public class MapQueryEngineImpl implements MapQueryEngine {
         }
 
         try {
-            List<Future<QueryResult>> futures = queryPartitions(mapName, predicate, partitionIds, iterationType);
+            List<Future<QueryResult>> futures = queryPartitions(mapName, predicate, partitionIds, iterationType, projection);
             addResultsOfPredicate(futures, result, partitionIds);
         } catch (Throwable t) {
             throw rethrow(t);
@@ -433,14 +499,275 @@ public class MapQueryEngineImpl implements MapQueryEngine {
         return result;
     }
 
+    @Override
+    public void aggregateLocalPartitions(String mapName, Predicate predicate, Aggregator aggregator,
+                                         String aggregationId, ExecutionCallback<AggregationResult> callback) {
+        runningAggregations.add(aggregationId);
+        try {
+            aggregateLocalPartitions(mapName, predicate, aggregator, new TracedAggregationCallback(aggregationId, callback));
+        } catch (RuntimeException e) {
+            runningAggregations.remove(aggregationId);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isAggregationRunning(String aggregationId) {
+        return runningAggregations.contains(aggregationId);
+    }
+
+    private void aggregateLocalPartitions(String mapName, Predicate predicate, Aggregator aggregator,
+                                          ExecutionCallback<AggregationResult> callback) {
+        int initialPartitionStateVersion = partitionService.getPartitionStateVersion();
+        Collection<Integer> initialPartitions = mapServiceContext.getOwnedPartitions();
+        MapContainer mapContainer = mapServiceContext.getMapContainer(mapName);
+
+        // the optimized predicate is only evaluated against the local indexes, the partitions get the original one
+        Predicate optimizedPredicate = queryOptimizer.optimize(predicate, mapContainer.getIndexes());
+
+        Aggregator result = tryAggregateUsingIndexes(optimizedPredicate, mapContainer, aggregator);
+        if (result != null) {
+            callback.onResponse(newAggregationResult(result, initialPartitionStateVersion, initialPartitions,
+                    predicate, mapContainer));
+            return;
+        }
+
+        PartitionAggregationCallback partitionCallback = new PartitionAggregationCallback(copyOf(aggregator),
+                initialPartitionStateVersion, initialPartitions, predicate, mapContainer, callback);
+        if (initialPartitions.isEmpty()) {
+            partitionCallback.complete();
+            return;
+        }
+        for (Integer partitionId : initialPartitions) {
+            AggregationPartitionOperation op = new AggregationPartitionOperation(mapName, predicate, copyOf(aggregator));
+            operationService.<Aggregator>invokeOnPartition(MapService.SERVICE_NAME, op, partitionId)
+                    .andThen(partitionCallback);
+        }
+    }
+
+    private AggregationResult newAggregationResult(Aggregator aggregator, int initialPartitionStateVersion,
+                                                   Collection<Integer> initialPartitions, Predicate predicate,
+                                                   MapContainer mapContainer) {
+        AggregationResult aggregationResult = new AggregationResult(aggregator);
+        if (hasPartitionVersion(initialPartitionStateVersion, predicate)) {
+            aggregationResult.setPartitionIds(initialPartitions);
+        }
+
+        updateStatistics(mapContainer);
+
+        return aggregationResult;
+    }
+
+    private Aggregator tryAggregateUsingIndexes(Predicate predicate, MapContainer mapContainer, Aggregator aggregator) {
+        if (partitionService.hasOnGoingMigrationLocal()) {
+            return null;
+        }
+
+        Set<QueryableEntry> entries = mapContainer.getIndexes().query(predicate);
+        if (entries == null) {
+            return null;
+        }
+
+        Aggregator result = copyOf(aggregator);
+        for (QueryableEntry entry : entries) {
+            result.accumulate(entry);
+        }
+        return result;
+    }
+
+    @Override
+    public void aggregateLocalPartition(String mapName, Predicate predicate, int partitionId, Aggregator aggregator) {
+        PartitionContainer container = mapServiceContext.getPartitionContainer(partitionId);
+        Iterator<Record> iterator = container.getRecordStore(mapName).loadAwareIterator(getNow(), false);
+        QueryEntry queryEntry = new QueryEntry();
+        while (iterator.hasNext()) {
+            Record record = iterator.next();
+            Data key = record.getKey();
+            // the entry is not kept, so a value kept in native memory is read in place
+            NativeMemoryData nativeValue = record instanceof NativeMemoryRecord
+                    ? ((NativeMemoryRecord) record).acquireValue() : null;
+            Object value = nativeValue != null ? nativeValue : getValueOrCachedValue(record);
+            if (value == null) {
+                continue;
+            }
+            try {
+                // the entry is not kept, so it can be reused
+                queryEntry.init(serializationService, key, key, value);
+                if (predicate.apply(queryEntry)) {
+                    aggregator.accumulate(queryEntry);
+                }
+            } finally {
+                if (nativeValue != null) {
+                    nativeValue.release();
+                }
+            }
+        }
+    }
+
+    @Override
+    public Aggregator invokeAggregateAllPartitions(String mapName, Predicate predicate, Aggregator aggregator) {
+        checkNotPagingPredicate(predicate);
+
+        Set<Integer> partitionIds = getAllPartitionIds();
+        Aggregator result = copyOf(aggregator);
+
+        try {
+            List<Future<AggregationResult>> futures = aggregateOnMembers(mapName, predicate, aggregator);
+            combineResultsOfMembers(futures, result, partitionIds);
+            if (partitionIds.isEmpty()) {
+                return result;
+            }
+        } catch (Throwable t) {
+            logger.warning("Could not get results", t);
+        }
+
+        try {
+            List<Future<Aggregator>> futures = new ArrayList<Future<Aggregator>>(partitionIds.size());
+            for (Integer partitionId : partitionIds) {
+                AggregationPartitionOperation op = new AggregationPartitionOperation(mapName, predicate, copyOf(aggregator));
+                futures.add(operationService.<Aggregator>invokeOnPartition(MapService.SERVICE_NAME, op, partitionId));
+            }
+            for (Future<Aggregator> future : futures) {
+                result.combine(future.get());
+            }
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+
+        return result;
+    }
+
+    private List<Future<AggregationResult>> aggregateOnMembers(String mapName, Predicate predicate, Aggregator aggregator) {
+        Collection<Member> members = clusterService.getMembers();
+        List<Future<AggregationResult>> futures = new ArrayList<Future<AggregationResult>>(members.size());
+        for (Member member : members) {
+            AggregationOperation op = new AggregationOperation(mapName, predicate, aggregator);
+            futures.add(operationService.<AggregationResult>invokeOnTarget(MapService.SERVICE_NAME, op, member.getAddress()));
+        }
+        return futures;
+    }
+
+    /**
+     * Combines the results of members into the given aggregator and removes the aggregated partition ids.
+     * A result overlapping already combined partitions is discarded, since its entries would be accumulated twice;
+     * its partitions are aggregated separately later.
+     */
+    private void combineResultsOfMembers(List<Future<AggregationResult>> futures, Aggregator result,
+                                         Collection<Integer> partitionIds) throws ExecutionException, InterruptedException {
+        for (Future<AggregationResult> future : futures) {
+            AggregationResult aggregationResult = future.get();
+            if (aggregationResult == null) {
+                continue;
+            }
+            Collection<Integer> aggregatedPartitionIds = aggregationResult.getPartitionIds();
+            if (aggregatedPartitionIds != null && partitionIds.containsAll(aggregatedPartitionIds)) {
+                partitionIds.removeAll(aggregatedPartitionIds);
+                result.combine(aggregationResult.getAggregator());
+            }
+        }
+    }
+
+    /**
+     * Combines the aggregators of the local partitions, which are aggregated by a copy of the aggregator on their
+     * partition threads, as their operations complete. The aggregation of the member completes with the last
+     * partition or with the first failure, so no thread waits for the partitions.
+     */
+    private final class PartitionAggregationCallback implements ExecutionCallback<Aggregator> {
+
+        private final Aggregator result;
+        private final int initialPartitionStateVersion;
+        private final Collection<Integer> initialPartitions;
+        private final Predicate predicate;
+        private final MapContainer mapContainer;
+        private final ExecutionCallback<AggregationResult> callback;
+        private final AtomicInteger pendingPartitions;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        PartitionAggregationCallback(Aggregator result, int initialPartitionStateVersion,
+                                     Collection<Integer> initialPartitions, Predicate predicate, MapContainer mapContainer,
+                                     ExecutionCallback<AggregationResult> callback) {
+            this.result = result;
+            this.initialPartitionStateVersion = initialPartitionStateVersion;
+            this.initialPartitions = initialPartitions;
+            this.predicate = predicate;
+            this.mapContainer = mapContainer;
+            this.callback = callback;
+            this.pendingPartitions = new AtomicInteger(initialPartitions.size());
+        }
+
+        @Override
+        public void onResponse(Aggregator response) {
+            synchronized (result) {
+                result.combine(response);
+            }
+            if (pendingPartitions.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            if (completed.compareAndSet(false, true)) {
+                callback.onFailure(t);
+            }
+        }
+
+        void complete() {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            AggregationResult aggregationResult;
+            synchronized (result) {
+                aggregationResult = newAggregationResult(result, initialPartitionStateVersion, initialPartitions,
+                        predicate, mapContainer);
+            }
+            callback.onResponse(aggregationResult);
+        }
+    }
+
+    /**
+     * Ends the tracing of an aggregation when it completes, see {@link #isAggregationRunning(String)}.
+     */
+    private final class TracedAggregationCallback implements ExecutionCallback<AggregationResult> {
+
+        private final String aggregationId;
+        private final ExecutionCallback<AggregationResult> callback;
+
+        TracedAggregationCallback(String aggregationId, ExecutionCallback<AggregationResult> callback) {
+            this.aggregationId = aggregationId;
+            this.callback = callback;
+        }
+
+        @Override
+        public void onResponse(AggregationResult response) {
+            runningAggregations.remove(aggregationId);
+            callback.onResponse(response);
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            runningAggregations.remove(aggregationId);
+            callback.onFailure(t);
+        }
+    }
+
+    /**
+     * Copies the aggregator through serialization, so its state is never shared by concurrent accumulations.
+     */
+    private Aggregator copyOf(Aggregator aggregator) {
+        return serializationService.toObject(serializationService.toData(aggregator));
+    }
+
     /**
      * Creates a {@link QueryResult} with configured result limit (according to the number of partitions) if feature is enabled.
      *
      * @param numberOfPartitions number of partitions to calculate result limit
+     * @param projection         the projection applied to the entries added to the result, null if there is none
      * @return {@link QueryResult}
      */
-    private QueryResult newQueryResult(int numberOfPartitions, IterationType iterationType) {
-        return new QueryResult(iterationType, queryResultSizeLimiter.getNodeResultLimit(numberOfPartitions));
+    private QueryResult newQueryResult(int numberOfPartitions, IterationType iterationType, Projection projection) {
+        long resultLimit = queryResultSizeLimiter.getNodeResultLimit(numberOfPartitions);
+        return new QueryResult(iterationType, resultLimit, projection, serializationService);
     }
 
     private void checkNotPagingPredicate(Predicate predicate) {
@@ -455,10 +782,15 @@ public class MapQueryEngineImpl implements MapQueryEngine {
     }
 
     private List<Future<QueryResult>> queryOnMembers(String mapName, Predicate predicate, IterationType iterationType) {
+        return queryOnMembers(mapName, predicate, iterationType, null);
+    }
+
+    private List<Future<QueryResult>> queryOnMembers(String mapName, Predicate predicate, IterationType iterationType,
+                                                     Projection projection) {
         Collection<Member> members = clusterService.getMembers();
         List<Future<QueryResult>> futures = new ArrayList<Future<QueryResult>>(members.size());
         for (Member member : members) {
-            QueryOperation op = new QueryOperation(mapName, predicate, iterationType);
+            QueryOperation op = new QueryOperation(mapName, predicate, iterationType, projection);
             Future<QueryResult> future = operationService.invokeOnTarget(MapService.SERVICE_NAME, op, member.getAddress());
             futures.add(future);
         }
@@ -467,13 +799,18 @@ public class MapQueryEngineImpl implements MapQueryEngine {
 
     private List<Future<QueryResult>> queryPartitions(String mapName, Predicate predicate,
                                                       Collection<Integer> partitionIds, IterationType iterationType) {
+        return queryPartitions(mapName, predicate, partitionIds, iterationType, null);
+    }
+
+    private List<Future<QueryResult>> queryPartitions(String mapName, Predicate predicate, Collection<Integer> partitionIds,
+                                                      IterationType iterationType, Projection projection) {
         if (partitionIds == null || partitionIds.isEmpty()) {
             return Collections.emptyList();
         }
 
         List<Future<QueryResult>> futures = new ArrayList<Future<QueryResult>>(partitionIds.size());
         for (Integer partitionId : partitionIds) {
-            QueryPartitionOperation op = new QueryPartitionOperation(mapName, predicate, iterationType);
+            QueryPartitionOperation op = new QueryPartitionOperation(mapName, predicate, iterationType, projection);
             op.setPartitionId(partitionId);
             try {
                 Future<QueryResult> future = operationService
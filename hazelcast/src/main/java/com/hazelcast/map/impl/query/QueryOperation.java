@@ -21,6 +21,7 @@ import com.hazelcast.map.impl.operation.AbstractMapOperation;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Projection;
 import com.hazelcast.spi.ExceptionAction;
 import com.hazelcast.spi.ReadonlyOperation;
 import com.hazelcast.spi.exception.TargetNotMemberException;
@@ -35,20 +36,26 @@ public class QueryOperation extends AbstractMapOperation implements ReadonlyOper
     private Predicate predicate;
     private QueryResult result;
     private IterationType iterationType;
+    private Projection projection;
 
     public QueryOperation() {
     }
 
     public QueryOperation(String mapName, Predicate predicate, IterationType iterationType) {
+        this(mapName, predicate, iterationType, null);
+    }
+
+    public QueryOperation(String mapName, Predicate predicate, IterationType iterationType, Projection projection) {
         super(mapName);
         this.predicate = predicate;
         this.iterationType = iterationType;
+        this.projection = projection;
     }
 
     @Override
     public void run() throws Exception {
         MapQueryEngine queryEngine = mapService.getMapServiceContext().getMapQueryEngine();
-        result = queryEngine.queryLocalPartitions(name, predicate, iterationType);
+        result = queryEngine.queryLocalPartitions(name, predicate, iterationType, projection);
     }
 
     @Override
@@ -70,6 +77,7 @@ public class QueryOperation extends AbstractMapOperation implements ReadonlyOper
         out.writeUTF(name);
         out.writeObject(predicate);
         out.writeByte(iterationType.getId());
+        out.writeObject(projection);
     }
 
     @Override
@@ -78,5 +86,6 @@ public class QueryOperation extends AbstractMapOperation implements ReadonlyOper
         name = in.readUTF();
         predicate = in.readObject();
         iterationType = IterationType.getById(in.readByte());
+        projection = in.readObject();
     }
 }
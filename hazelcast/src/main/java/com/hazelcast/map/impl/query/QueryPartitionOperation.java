@@ -21,6 +21,7 @@ import com.hazelcast.map.impl.operation.AbstractMapOperation;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Projection;
 import com.hazelcast.spi.PartitionAwareOperation;
 import com.hazelcast.spi.ReadonlyOperation;
 import com.hazelcast.util.IterationType;
@@ -32,21 +33,27 @@ public class QueryPartitionOperation extends AbstractMapOperation implements Par
     private Predicate predicate;
     private QueryResult result;
     private IterationType iterationType;
+    private Projection projection;
 
     public QueryPartitionOperation() {
     }
 
     public QueryPartitionOperation(String mapName, Predicate predicate, IterationType iterationType) {
+        this(mapName, predicate, iterationType, null);
+    }
+
+    public QueryPartitionOperation(String mapName, Predicate predicate, IterationType iterationType, Projection projection) {
         super(mapName);
         this.predicate = predicate;
         this.iterationType = iterationType;
+        this.projection = projection;
     }
 
     @Override
     public void run() {
         MapServiceContext mapServiceContext = mapService.getMapServiceContext();
         MapQueryEngine queryEngine = mapServiceContext.getMapQueryEngine();
-        result = queryEngine.queryLocalPartition(name, predicate, getPartitionId(), iterationType);
+        result = queryEngine.queryLocalPartition(name, predicate, getPartitionId(), iterationType, projection);
     }
 
     @Override
@@ -59,6 +66,7 @@ public class QueryPartitionOperation extends AbstractMapOperation implements Par
         super.writeInternal(out);
         out.writeObject(predicate);
         out.writeByte(iterationType.getId());
+        out.writeObject(projection);
     }
 
     @Override
@@ -66,5 +74,6 @@ public class QueryPartitionOperation extends AbstractMapOperation implements Par
         super.readInternal(in);
         predicate = in.readObject();
         iterationType = IterationType.getById(in.readByte());
+        projection = in.readObject();
     }
 }
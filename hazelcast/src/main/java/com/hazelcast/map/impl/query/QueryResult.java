@@ -16,12 +16,14 @@
 
 package com.hazelcast.map.impl.query;
 
+import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.map.QueryResultSizeExceededException;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.Projection;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.util.IterationType;
 
@@ -45,6 +47,8 @@ public class QueryResult implements IdentifiedDataSerializable, Iterable<QueryRe
 
     private transient long resultLimit;
     private transient long resultSize;
+    private transient Projection projection;
+    private transient SerializationService serializationService;
     private IterationType iterationType;
 
     public QueryResult() {
@@ -56,6 +60,17 @@ public class QueryResult implements IdentifiedDataSerializable, Iterable<QueryRe
         this.iterationType = iterationType;
     }
 
+    /**
+     * Creates a result whose rows hold the values of the added entries transformed by the projection; the projected
+     * values are serialized by the given serialization service.
+     */
+    public QueryResult(IterationType iterationType, long resultLimit, Projection projection,
+                       SerializationService serializationService) {
+        this(projection == null ? iterationType : IterationType.VALUE, resultLimit);
+        this.projection = projection;
+        this.serializationService = serializationService;
+    }
+
     // for testing
     IterationType getIterationType() {
         return iterationType;
@@ -93,6 +108,11 @@ public class QueryResult implements IdentifiedDataSerializable, Iterable<QueryRe
                 throw new QueryResultSizeExceededException();
             }
 
+            if (projection != null) {
+                rows.add(new QueryResultRow(null, serializationService.toData(projection.transform(entry))));
+                continue;
+            }
+
             Data key = null;
             Data value = null;
             switch (iterationType) {
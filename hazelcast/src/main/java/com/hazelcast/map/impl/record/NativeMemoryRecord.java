@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.serialization.impl.NativeMemoryData;
+
+/**
+ * A {@link Record} keeping its value in native memory, which can be read in place instead of being copied
+ * to the heap by {@link Record#getValue()}.
+ */
+public interface NativeMemoryRecord {
+
+    /**
+     * Acquires the value in native memory. The value stays readable, even if it is replaced or removed in the meantime,
+     * until the caller releases it by {@link NativeMemoryData#release()}. The caller must not keep the value or hand it
+     * out beyond that point.
+     *
+     * @return the value or null if the record has no value
+     */
+    NativeMemoryData acquireValue();
+}
@@ -16,14 +16,16 @@
 
 package com.hazelcast.map.impl.record;
 
+import com.hazelcast.internal.serialization.impl.NativeMemoryData;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.internal.storage.DataRef;
 import com.hazelcast.internal.storage.Storage;
 
-class NativeRecord extends AbstractRecord<Data> {
+class NativeRecord extends AbstractRecord<Data> implements NativeMemoryRecord {
 
     private Storage<DataRef> storage;
-    private DataRef valueRef;
+    // read by query and iteration threads while the partition thread replaces it
+    private volatile DataRef valueRef;
 
     NativeRecord() {
     }
@@ -47,25 +49,51 @@ class NativeRecord extends AbstractRecord<Data> {
 
     @Override
     public Data getValue() {
-        if (valueRef != null) {
-            return storage.get(key.getPartitionHash(), valueRef);
+        for (; ; ) {
+            DataRef ref = valueRef;
+            if (ref == null) {
+                return null;
+            }
+            Data value = storage.get(key.getPartitionHash(), ref);
+            if (value != null || ref == valueRef) {
+                // a freed value, which is still referenced, is being invalidated
+                return value;
+            }
+            // the value has been replaced and freed while it was read, read the new one
+        }
+    }
+
+    @Override
+    public NativeMemoryData acquireValue() {
+        for (; ; ) {
+            DataRef ref = valueRef;
+            if (ref == null) {
+                return null;
+            }
+            NativeMemoryData value = storage.acquire(key.getPartitionHash(), ref);
+            if (value != null || ref == valueRef) {
+                return value;
+            }
+            // the value has been replaced and freed before it was acquired, acquire the new one
         }
-        return null;
     }
 
     @Override
     public void setValue(Data value) {
-        invalidate();
-        if (value != null) {
-            valueRef = storage.put(key.getPartitionHash(), value);
+        // store the new value first, so the old one survives if native memory is exhausted
+        DataRef oldValueRef = valueRef;
+        valueRef = value != null ? storage.put(key.getPartitionHash(), value) : null;
+        if (oldValueRef != null) {
+            storage.remove(key.getPartitionHash(), oldValueRef);
         }
     }
 
     @Override
     public void invalidate() {
-        if (valueRef != null) {
-            storage.remove(key.getPartitionHash(), valueRef);
-        }
+        DataRef ref = valueRef;
         valueRef = null;
+        if (ref != null) {
+            storage.remove(key.getPartitionHash(), ref);
+        }
     }
 }
@@ -34,13 +34,13 @@ import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.DefaultObjectNamespace;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.util.Clock;
+import com.hazelcast.util.ConcurrentReferenceHashMap.ReferenceType;
+import com.hazelcast.util.SampleableConcurrentHashMap;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import static com.hazelcast.map.impl.SizeEstimators.createMapSizeEstimator;
 
@@ -49,8 +49,12 @@ import static com.hazelcast.map.impl.SizeEstimators.createMapSizeEstimator;
  */
 abstract class AbstractRecordStore implements RecordStore {
 
-    // Concurrency level is 1 since at most one thread can write at a time.
-    protected final ConcurrentMap<Data, Record> records = new ConcurrentHashMap<Data, Record>(1000, 0.75f, 1);
+    private static final int INITIAL_RECORD_MAP_CAPACITY = 1000;
+
+    private static final float RECORD_MAP_LOAD_FACTOR = 0.75f;
+
+    // sampleable for eviction and iterable in batches by table index, see fetchEntries
+    protected final SampleableConcurrentHashMap<Data, Record> records;
 
     protected final RecordFactory recordFactory;
 
@@ -74,6 +78,10 @@ abstract class AbstractRecordStore implements RecordStore {
         this.name = mapContainer.getName();
         this.recordFactory = mapContainer.getRecordFactory();
         this.sizeEstimator = createMapSizeEstimator();
+        // Concurrency level is 1 since at most one thread can write at a time. A single segment is also what lets
+        // fetchEntries iterate the records by table index.
+        this.records = new SampleableConcurrentHashMap<Data, Record>(INITIAL_RECORD_MAP_CAPACITY, RECORD_MAP_LOAD_FACTOR, 1,
+                ReferenceType.STRONG, ReferenceType.STRONG, null);
     }
 
     @Override
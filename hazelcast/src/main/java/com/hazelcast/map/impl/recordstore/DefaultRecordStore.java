@@ -27,9 +27,11 @@ import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.MapKeyLoader;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
 import com.hazelcast.map.impl.mapstore.MapDataStore;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.MapStoreManager;
+import com.hazelcast.map.impl.record.NativeMemoryRecord;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.merge.MapMergePolicy;
 import com.hazelcast.nio.serialization.Data;
@@ -352,6 +354,25 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         return tempMap.entrySet();
     }
 
+    @Override
+    public MapEntriesWithCursor fetchEntries(int tableIndex, int size) {
+        checkIfLoaded();
+        final long now = getNow();
+
+        final List<Map.Entry<Data, Record>> fetchedRecords = new ArrayList<Map.Entry<Data, Record>>(size);
+        final int nextTableIndex = records.fetchEntries(tableIndex, size, fetchedRecords);
+        final List<Map.Entry<Data, Data>> entries = new ArrayList<Map.Entry<Data, Data>>(fetchedRecords.size());
+        for (Map.Entry<Data, Record> fetchedRecord : fetchedRecords) {
+            final Record record = getOrNullIfExpired(fetchedRecord.getValue(), now, false);
+            if (record == null) {
+                continue;
+            }
+            final Data value = toData(record.getValue());
+            entries.add(new AbstractMap.SimpleImmutableEntry<Data, Data>(fetchedRecord.getKey(), value));
+        }
+        return new MapEntriesWithCursor(entries, nextTableIndex);
+    }
+
     @Override
     public Map.Entry<Data, Object> getMapEntry(Data key, long now) {
         checkIfLoaded();
@@ -647,6 +668,32 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         return value;
     }
 
+    @Override
+    public Object getInPlace(Data key) {
+        if (mapServiceContext.hasInterceptor(name)) {
+            // interceptors may replace the value, so the value is read like any other
+            return get(key, false);
+        }
+        checkIfLoaded();
+        final long now = getNow();
+
+        Record record = getRecordOrNull(key, now, false);
+        if (record == null) {
+            record = loadRecordOrNull(key, false);
+        } else {
+            accessRecord(record, now);
+        }
+        Object value = null;
+        if (record instanceof NativeMemoryRecord) {
+            value = ((NativeMemoryRecord) record).acquireValue();
+        } else if (record != null) {
+            value = record.getValue();
+        }
+
+        postReadCleanUp(now, false);
+        return value;
+    }
+
     @Override
     public Data readBackupData(Data key) {
         final long now = getNow();
@@ -18,6 +18,7 @@ package com.hazelcast.map.impl.recordstore;
 
 import com.hazelcast.core.EntryView;
 import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
 import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.mapstore.MapDataStore;
 import com.hazelcast.map.impl.record.Record;
@@ -86,6 +87,19 @@ public interface RecordStore {
      */
     Object get(Data dataKey, boolean backup);
 
+    /**
+     * Gets the value like {@link #get(Data, boolean)} for an owner partition, but a value kept in native memory is
+     * acquired in place instead of being copied to the heap, see
+     * {@link com.hazelcast.map.impl.record.NativeMemoryRecord#acquireValue()}.
+     * It is meant for a caller which only serializes the value, like the response of a remote caller.
+     *
+     * @param dataKey key.
+     * @return value of an entry in {@link RecordStore}; a
+     * {@link com.hazelcast.internal.serialization.impl.NativeMemoryData} has to be released by the caller
+     * once it has been serialized
+     */
+    Object getInPlace(Data dataKey);
+
     /**
      * Called when {@link com.hazelcast.config.MapConfig#isReadBackupData} is <code>true</code> from
      * {@link com.hazelcast.map.impl.proxy.MapProxySupport#getInternal}
@@ -228,6 +242,19 @@ public interface RecordStore {
 
     Set<Map.Entry<Data, Data>> entrySetData();
 
+    /**
+     * Fetches a batch of entries starting from given table index of the record map. Expired entries
+     * are skipped, so the batch may contain less than <code>size</code> entries even if there are more
+     * entries to fetch.
+     *
+     * @param tableIndex the table index to start fetching from, the one returned by the previous
+     *                   batch or {@link Integer#MAX_VALUE} to start from the beginning
+     * @param size       the number of entries to fetch
+     * @return the fetched entries and the table index to continue fetching from, a negative one if
+     * all entries have been fetched
+     */
+    MapEntriesWithCursor fetchEntries(int tableIndex, int size);
+
     Map.Entry<Data, Object> getMapEntry(Data dataKey, long now);
 
     void flush();
@@ -29,6 +29,7 @@ import com.hazelcast.nio.tcp.ReadHandler;
 import com.hazelcast.nio.tcp.WriteHandler;
 import com.hazelcast.nio.tcp.TcpIpConnection;
 import com.hazelcast.spi.EventService;
+import com.hazelcast.util.ThreadAffinity;
 
 import java.util.Collection;
 
@@ -96,6 +97,18 @@ public interface IOService {
      */
     int getSocketClientSendBufferSize();
 
+    /**
+     * @return true if the socket buffers are direct buffers
+     */
+    boolean isSocketBufferDirect();
+
+    /**
+     * Minimum payload size of the member packets to be compressed.
+     *
+     * @return size in bytes, a non positive value if packet compression is disabled
+     */
+    int getPacketCompressionThreshold();
+
     int getSocketLingerSeconds();
 
     int getSocketConnectTimeoutSeconds();
@@ -108,6 +121,16 @@ public interface IOService {
 
     int getOutputSelectorThreadCount();
 
+    /**
+     * @return the CPUs the input selector threads are pinned to
+     */
+    ThreadAffinity getInputSelectorThreadAffinity();
+
+    /**
+     * @return the CPUs the output selector threads are pinned to
+     */
+    ThreadAffinity getOutputSelectorThreadAffinity();
+
     long getConnectionMonitorInterval();
 
     int getConnectionMonitorMaxFaults();
@@ -117,6 +140,12 @@ public interface IOService {
      */
     int getBalancerIntervalSeconds();
 
+    /**
+     * @return the period the threads of the spinning IO threading model spin without work before they block, a non
+     * positive value if they keep spinning
+     */
+    long getSpinningIdleTimeoutMillis();
+
     void onDisconnect(Address endpoint);
 
     boolean isClient();
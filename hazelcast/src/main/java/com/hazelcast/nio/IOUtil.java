@@ -34,6 +34,9 @@ import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.DATA_SERIALIZABLE_CLASS_NAME_REFERENCE;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.DATA_SERIALIZABLE_IDENTIFIED;
+
 public final class IOUtil {
 
     public static final byte PRIMITIVE_TYPE_BOOLEAN = 1;
@@ -45,6 +48,10 @@ public final class IOUtil {
     public static final byte PRIMITIVE_TYPE_DOUBLE = 7;
     public static final byte PRIMITIVE_TYPE_UTF = 8;
 
+    private static final int VAR_INT_GROUP_BITS = 7;
+    private static final int VAR_INT_GROUP_MASK = 0x7F;
+    private static final int VAR_INT_CONTINUATION = 0x80;
+
     private IOUtil() {
     }
 
@@ -55,12 +62,15 @@ public final class IOUtil {
      */
     public static long extractOperationCallId(Data data, SerializationService serializationService) throws IOException {
         ObjectDataInput input = serializationService.createObjectDataInput(data);
-        boolean identified = input.readBoolean();
-        if (identified) {
+        byte header = input.readByte();
+        if (header == DATA_SERIALIZABLE_IDENTIFIED) {
             // read factoryId
             input.readInt();
             // read typeId
             input.readInt();
+        } else if (header == DATA_SERIALIZABLE_CLASS_NAME_REFERENCE) {
+            // read position of classname
+            readVarInt(input);
         } else {
             // read classname
             input.readUTF();
@@ -70,6 +80,30 @@ public final class IOUtil {
         return input.readLong();
     }
 
+    /**
+     * Writes a non-negative int in 7-bit groups, least significant group first: values below 128 take a single byte.
+     */
+    public static void writeVarInt(ObjectDataOutput out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VAR_INT_GROUP_MASK) != 0) {
+            out.writeByte((remaining & VAR_INT_GROUP_MASK) | VAR_INT_CONTINUATION);
+            remaining >>>= VAR_INT_GROUP_BITS;
+        }
+        out.writeByte(remaining);
+    }
+
+    public static int readVarInt(ObjectDataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & VAR_INT_GROUP_MASK) << shift;
+            shift += VAR_INT_GROUP_BITS;
+        } while ((b & VAR_INT_CONTINUATION) != 0);
+        return value;
+    }
+
     public static void writeByteArray(ObjectDataOutput out, byte[] value) throws IOException {
         int size = (value == null) ? 0 : value.length;
         out.writeInt(size);
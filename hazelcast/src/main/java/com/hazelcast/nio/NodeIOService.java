@@ -38,6 +38,7 @@ import com.hazelcast.spi.EventService;
 import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.packetdispatcher.PacketDispatcher;
+import com.hazelcast.util.ThreadAffinity;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -201,6 +202,16 @@ public class NodeIOService implements IOService {
         return clientReceiveBuffer != -1 ? clientReceiveBuffer : getSocketReceiveBufferSize();
     }
 
+    @Override
+    public boolean isSocketBufferDirect() {
+        return node.getGroupProperties().getBoolean(GroupProperty.SOCKET_BUFFER_DIRECT);
+    }
+
+    @Override
+    public int getPacketCompressionThreshold() {
+        return node.getGroupProperties().getInteger(GroupProperty.SOCKET_PACKET_COMPRESSION_THRESHOLD);
+    }
+
     @Override
     public int getSocketLingerSeconds() {
         return node.getGroupProperties().getSeconds(GroupProperty.SOCKET_LINGER_SECONDS);
@@ -231,6 +242,16 @@ public class NodeIOService implements IOService {
         return node.groupProperties.getInteger(GroupProperty.IO_OUTPUT_THREAD_COUNT);
     }
 
+    @Override
+    public ThreadAffinity getInputSelectorThreadAffinity() {
+        return ThreadAffinity.parse(node.groupProperties.getString(GroupProperty.IO_INPUT_THREAD_AFFINITY));
+    }
+
+    @Override
+    public ThreadAffinity getOutputSelectorThreadAffinity() {
+        return ThreadAffinity.parse(node.groupProperties.getString(GroupProperty.IO_OUTPUT_THREAD_AFFINITY));
+    }
+
     @Override
     public void onDisconnect(final Address endpoint) {
     }
@@ -255,6 +276,11 @@ public class NodeIOService implements IOService {
         return node.groupProperties.getSeconds(GroupProperty.IO_BALANCER_INTERVAL_SECONDS);
     }
 
+    @Override
+    public long getSpinningIdleTimeoutMillis() {
+        return node.groupProperties.getMillis(GroupProperty.IO_SPINNING_IDLE_TIMEOUT_MILLIS);
+    }
+
     @Override
     public void executeAsync(final Runnable runnable) {
         nodeEngine.getExecutionService().execute(ExecutionService.IO_EXECUTOR, runnable);
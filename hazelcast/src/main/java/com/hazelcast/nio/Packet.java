@@ -41,6 +41,7 @@ public final class Packet extends HeapData implements OutboundFrame {
     public static final int HEADER_WAN_REPLICATION = 3;
     public static final int HEADER_URGENT = 4;
     public static final int HEADER_BIND = 5;
+    public static final int HEADER_COMPRESSED = 6;
 
     // The value of these constants is important. The order needs to match the order in the read/write process
     private static final short PERSIST_VERSION = 1;
@@ -51,6 +52,9 @@ public final class Packet extends HeapData implements OutboundFrame {
 
     private static final short PERSIST_COMPLETED = Short.MAX_VALUE;
 
+    // byte(version) + short(header) + int(partitionId) + int(data size)
+    private static final int HEADER_SIZE = 11;
+
     private short header;
     private int partitionId;
     private transient Connection conn;
@@ -355,8 +359,7 @@ public final class Packet extends HeapData implements OutboundFrame {
      * @return the size of the packet.
      */
     public int packetSize() {
-        // 11 = byte(version) + short(header) + int(partitionId) + int(data size)
-        return (payload != null ? totalSize() : 0) + 11;
+        return (payload != null ? totalSize() : 0) + HEADER_SIZE;
     }
 
     public boolean done() {
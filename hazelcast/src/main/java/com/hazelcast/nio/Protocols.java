@@ -26,6 +26,11 @@ public final class Protocols {
      */
     public static final String CLUSTER = "HZC";
 
+    /**
+     * Protocol that is used among nodes, announcing that the sending node accepts compressed packets
+     */
+    public static final String CLUSTER_COMPRESSION = "HZZ";
+
     /**
      * Protocol that is used for clients(java, c++ , c# client)
      */
@@ -22,11 +22,16 @@ import com.hazelcast.util.QuickMath;
 
 import java.io.DataInput;
 import java.io.DataOutput;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UTFDataFormatException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 
+import static com.hazelcast.nio.Bits.BOOLEAN_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.SHORT_SIZE_IN_BYTES;
+
 /**
  * Class to encode/decode UTF-Strings to and from byte-arrays.
  */
@@ -44,6 +49,21 @@ public final class UTFEncoderDecoder {
     private static final boolean ASCII_AWARE =
             Boolean.parseBoolean(System.getProperty("hazelcast.nio.asciiaware", "false"));
 
+    // header of a string written as a single chunk: the null flag, the length twice and the UTF length of the chunk
+    private static final int SINGLE_CHUNK_HEADER_SIZE =
+            BOOLEAN_SIZE_IN_BYTES + INT_SIZE_IN_BYTES + INT_SIZE_IN_BYTES + SHORT_SIZE_IN_BYTES
+                    + (ASCII_AWARE ? BOOLEAN_SIZE_IN_BYTES : 0);
+
+    // strings up to this length are decoded into a pooled char buffer if the string creator copies the chars anyway
+    private static final int POOLED_CHAR_BUFFER_SIZE = 1024;
+
+    private static final ThreadLocal<char[]> CHAR_BUFFER_THREAD_LOCAL = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[POOLED_CHAR_BUFFER_SIZE];
+        }
+    };
+
     static {
         INSTANCE = buildUTFUtil();
     }
@@ -51,6 +71,7 @@ public final class UTFEncoderDecoder {
     private final StringCreator stringCreator;
     private final UtfWriter utfWriter;
     private final boolean hazelcastEnterpriseActive;
+    private final boolean copiesChars;
 
     UTFEncoderDecoder(StringCreator stringCreator, UtfWriter utfWriter) {
         this(stringCreator, utfWriter, false);
@@ -60,6 +81,7 @@ public final class UTFEncoderDecoder {
         this.stringCreator = stringCreator;
         this.utfWriter = utfWriter;
         this.hazelcastEnterpriseActive = hazelcastEnterpriseActive;
+        this.copiesChars = stringCreator instanceof DefaultStringCreator;
     }
 
     public boolean isHazelcastEnterpriseActive() {
@@ -77,6 +99,71 @@ public final class UTFEncoderDecoder {
         return INSTANCE.readUTF0(in, buffer);
     }
 
+    /**
+     * Skips a string written by {@link #writeUTF(DataOutput, String, byte[])} without decoding it.
+     *
+     * @param in the input positioned at the string
+     */
+    public static void skipUTF(final DataInput in) throws IOException {
+        boolean isNull = in.readBoolean();
+        if (isNull) {
+            return;
+        }
+        int length = in.readInt();
+        int lengthCheck = in.readInt();
+        if (length != lengthCheck) {
+            throw new UTFDataFormatException(
+                    "Length check failed, maybe broken bytestream or wrong stream position");
+        }
+        if (length > 0) {
+            int chunkSize = length / STRING_CHUNK_SIZE + 1;
+            for (int i = 0; i < chunkSize; i++) {
+                int utfLength = in.readShort() & 0xFFFF;
+                if (ASCII_AWARE) {
+                    in.readBoolean();
+                }
+                skipFully(in, utfLength);
+            }
+        }
+    }
+
+    private static void skipFully(DataInput in, int count) throws IOException {
+        int remaining = count;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("Cannot skip " + remaining + " more bytes of a string");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Checks if a string of the given length is written as a single chunk. A single chunk of ASCII chars
+     * is its header of {@link #getSingleChunkHeaderSize()} bytes followed by a byte for every char, so buffered
+     * inputs and outputs can copy it straight from and to their buffers.
+     *
+     * @param length the length of the string
+     * @return true if the string is written as a single chunk
+     */
+    public static boolean isSingleChunk(int length) {
+        return length > 0 && length < STRING_CHUNK_SIZE;
+    }
+
+    /**
+     * @return the size of the header of a string written as a single chunk
+     */
+    public static int getSingleChunkHeaderSize() {
+        return SINGLE_CHUNK_HEADER_SIZE;
+    }
+
+    /**
+     * @return true if the header of a chunk is followed by a flag telling whether all its chars are ASCII
+     */
+    public static boolean isAsciiAware() {
+        return ASCII_AWARE;
+    }
+
     // ********************************************************************* //
 
     public void writeUTF0(final DataOutput out,
@@ -512,7 +599,9 @@ public final class UTFEncoderDecoder {
             throw new UTFDataFormatException(
                     "Length check failed, maybe broken bytestream or wrong stream position");
         }
-        final char[] data = new char[length];
+        // a copying string creator doesn't keep the chars, so short strings are decoded into a pooled buffer
+        final boolean pooled = copiesChars && length <= POOLED_CHAR_BUFFER_SIZE;
+        final char[] data = pooled ? CHAR_BUFFER_THREAD_LOCAL.get() : new char[length];
         if (length > 0) {
             int chunkSize = length / STRING_CHUNK_SIZE + 1;
             for (int i = 0; i < chunkSize; i++) {
@@ -520,7 +609,7 @@ public final class UTFEncoderDecoder {
                 readShortUTF(in, data, beginIndex, buffer);
             }
         }
-        return stringCreator.buildString(data);
+        return pooled ? new String(data, 0, length) : stringCreator.buildString(data);
     }
 
     //CHECKSTYLE:OFF
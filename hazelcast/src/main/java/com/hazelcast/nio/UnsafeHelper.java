@@ -121,6 +121,20 @@ public final class UnsafeHelper {
     private UnsafeHelper() {
     }
 
+    /**
+     * Copies memory like {@link Unsafe#copyMemory(Object, long, Object, long, long)}, in chunks of at most
+     * {@link #MEM_COPY_THRESHOLD} bytes to not delay safepoints for too long.
+     */
+    public static void copyMemory(Object srcBase, long srcOffset, Object destBase, long destOffset, long length) {
+        while (length > 0) {
+            long chunk = Math.min(length, MEM_COPY_THRESHOLD);
+            UNSAFE.copyMemory(srcBase, srcOffset, destBase, destOffset, chunk);
+            length -= chunk;
+            srcOffset += chunk;
+            destOffset += chunk;
+        }
+    }
+
     private static long arrayBaseOffset(Class<?> type, Unsafe unsafe) {
         return unsafe == null ? -1 : unsafe.arrayBaseOffset(type);
     }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.serialization;
+
+/**
+ * A {@link DataSerializableFactory} which also declares the layout of the IdentifiedDataSerializable instances it
+ * creates, so that single fields can be read from their serialized form without deserializing the whole object.
+ * <p/>
+ * The fields of a definition are listed in the order {@link DataSerializable#writeData(com.hazelcast.nio.ObjectDataOutput)}
+ * writes them, using the corresponding methods of {@link com.hazelcast.nio.ObjectDataOutput}; e.g. a class writing
+ * an int and a String is declared as:
+ * <pre>
+ * <code>new ClassDefinitionBuilder(FACTORY_ID, EMPLOYEE_ID)
+ *         .addIntField("age")
+ *         .addUTFField("name")
+ *         .build();
+ * </code>
+ * </pre>
+ * Queries on a declared field read it directly from the serialized {@link Data}, others fall back to deserialization.
+ * Portable fields cannot be declared.
+ *
+ * @see com.hazelcast.nio.serialization.ClassDefinitionBuilder
+ */
+public interface DataSerializableDefinitionFactory extends DataSerializableFactory {
+
+    /**
+     * Returns the declared layout of the instances having given type id.
+     *
+     * @param typeId IdentifiedDataSerializable type id
+     * @return the class definition or null if the type does not declare its layout
+     */
+    ClassDefinition getClassDefinition(int typeId);
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.ssl;
+
+import com.hazelcast.nio.tcp.DefaultSocketChannelWrapper;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.FINISHED;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NEED_TASK;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NEED_UNWRAP;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NEED_WRAP;
+import static javax.net.ssl.SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING;
+import static javax.net.ssl.SSLEngineResult.Status.BUFFER_OVERFLOW;
+import static javax.net.ssl.SSLEngineResult.Status.BUFFER_UNDERFLOW;
+import static javax.net.ssl.SSLEngineResult.Status.CLOSED;
+
+/**
+ * A {@link com.hazelcast.nio.tcp.SocketChannelWrapper} encrypting the traffic of a non-blocking socket channel with an
+ * {@link SSLEngine}.
+ * <p/>
+ * The TLS handshake is done on the IO threads, step by step as the socket becomes readable and writable: the reading
+ * thread unwraps the handshake messages of the peer, both threads wrap and write the own handshake messages. Until the
+ * handshake is finished, reads and writes of application data return 0. While the handshake waits for the peer, the
+ * writer doesn't wait for the socket to become writable but is woken up by the reader, see {@link #isWriteBlocked()}.
+ * The delegated tasks of the SSLEngine, like certificate validation, are run by the IO thread itself, so no threads are
+ * added.
+ * <p/>
+ * Once the handshake is finished, the reading thread unwraps and the writing thread wraps concurrently, which the
+ * SSLEngine supports. Each connection has a fixed set of buffers for the encrypted input, the decrypted input and the
+ * encrypted output, which are reused for all reads and writes.
+ * <p/>
+ * Decrypted bytes which don't fit in the buffer passed to {@link #read(ByteBuffer)} and encrypted bytes which can't be
+ * written to the socket yet stay buffered, see {@link #hasBufferedInput()} and {@link #hasBufferedOutput()}.
+ */
+public class SSLSocketChannelWrapper extends DefaultSocketChannelWrapper {
+
+    private static final ByteBuffer[] EMPTY_BUFFERS = {ByteBuffer.allocate(0)};
+
+    private final SSLEngine sslEngine;
+    // guards the wrapping, the handshake and the encrypted output
+    private final Object writeLock = new Object();
+
+    // the encrypted bytes read from the socket, in write mode; only accessed by the reading thread
+    private ByteBuffer netInBuffer;
+    // the decrypted bytes not yet returned by read, in write mode; only accessed by the reading thread
+    private ByteBuffer appInBuffer;
+    // the encrypted bytes not yet written to the socket, in write mode
+    private ByteBuffer netOutBuffer;
+
+    private volatile boolean handshakeFinished;
+    private boolean inboundClosed;
+    // true if read stopped because the destination was full while encrypted bytes were left to unwrap
+    private boolean unwrapPending;
+
+    public SSLSocketChannelWrapper(SSLEngine sslEngine, SocketChannel socketChannel) throws SSLException {
+        super(socketChannel);
+        this.sslEngine = sslEngine;
+        SSLSession session = sslEngine.getSession();
+        this.netInBuffer = ByteBuffer.allocate(session.getPacketBufferSize());
+        this.appInBuffer = ByteBuffer.allocate(session.getApplicationBufferSize());
+        this.netOutBuffer = ByteBuffer.allocate(session.getPacketBufferSize());
+        sslEngine.beginHandshake();
+    }
+
+    @Override
+    public boolean isHandshakeFinished() {
+        return handshakeFinished;
+    }
+
+    @Override
+    public boolean isWriteBlocked() {
+        if (handshakeFinished) {
+            return false;
+        }
+        synchronized (writeLock) {
+            return netOutBuffer.position() == 0 && sslEngine.getHandshakeStatus() == NEED_UNWRAP;
+        }
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (!handshakeFinished && !handshake(true)) {
+            return inboundClosed ? -1 : 0;
+        }
+
+        int read = drainAppInBuffer(dst);
+        while (dst.hasRemaining() && !inboundClosed && unwrap()) {
+            read += drainAppInBuffer(dst);
+        }
+
+        unwrapPending = !dst.hasRemaining() && netInBuffer.position() > 0;
+        return read == 0 && inboundClosed ? -1 : read;
+    }
+
+    /**
+     * Unwraps the buffered encrypted bytes into the appInBuffer, reading from the socket if they are not a complete record.
+     *
+     * @return true if progress was made, false if the socket has no more bytes for now or the peer closed the connection
+     */
+    private boolean unwrap() throws IOException {
+        netInBuffer.flip();
+        SSLEngineResult result = sslEngine.unwrap(netInBuffer, appInBuffer);
+        netInBuffer.compact();
+        afterUnwrap(result);
+
+        switch (result.getStatus()) {
+            case CLOSED:
+                inboundClosed = true;
+                return false;
+            case BUFFER_OVERFLOW:
+                // the appInBuffer is empty, so it is too small for the session
+                appInBuffer = enlarge(appInBuffer, sslEngine.getSession().getApplicationBufferSize());
+                return true;
+            case BUFFER_UNDERFLOW:
+                return readFromSocket();
+            default:
+                // nothing consumed and produced: the SSLEngine waits for its answer to a post handshake message to be written
+                return result.bytesConsumed() > 0 || result.bytesProduced() > 0;
+        }
+    }
+
+    /**
+     * Reads encrypted bytes from the socket into the netInBuffer.
+     *
+     * @return true if any bytes were read
+     */
+    private boolean readFromSocket() throws IOException {
+        if (!netInBuffer.hasRemaining()) {
+            // the buffered bytes are an incomplete record, so the buffer is too small for the session
+            netInBuffer = enlarge(netInBuffer, sslEngine.getSession().getPacketBufferSize());
+        }
+        int read = socketChannel.read(netInBuffer);
+        if (read == -1) {
+            inboundClosed = true;
+        }
+        return read > 0;
+    }
+
+    private void afterUnwrap(SSLEngineResult result) throws IOException {
+        HandshakeStatus status = result.getHandshakeStatus();
+        if (status == NEED_TASK || status == NEED_WRAP) {
+            // a post handshake message of the peer, like a key update, needs an answer
+            handshake(false);
+        }
+    }
+
+    private int drainAppInBuffer(ByteBuffer dst) {
+        if (appInBuffer.position() == 0) {
+            return 0;
+        }
+        appInBuffer.flip();
+        int length = Math.min(appInBuffer.remaining(), dst.remaining());
+        if (length == appInBuffer.remaining()) {
+            dst.put(appInBuffer);
+        } else {
+            int limit = appInBuffer.limit();
+            appInBuffer.limit(appInBuffer.position() + length);
+            dst.put(appInBuffer);
+            appInBuffer.limit(limit);
+        }
+        appInBuffer.compact();
+        return length;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        synchronized (writeLock) {
+            if (!flushNetOutBuffer()) {
+                return 0;
+            }
+            if (!handshakeFinished && !handshake(false)) {
+                return 0;
+            }
+
+            int written = 0;
+            for (; ; ) {
+                SSLEngineResult result = sslEngine.wrap(src, netOutBuffer);
+                written += result.bytesConsumed();
+                if (result.getStatus() == CLOSED) {
+                    throw new EOFException("The SSLEngine is closed");
+                }
+                if (result.getStatus() == BUFFER_OVERFLOW && netOutBuffer.position() == 0) {
+                    netOutBuffer = enlarge(netOutBuffer, sslEngine.getSession().getPacketBufferSize());
+                    continue;
+                }
+                if (!flushNetOutBuffer() || !src.hasRemaining()) {
+                    return written;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered encrypted bytes to the socket.
+     *
+     * @return true if all of them are written
+     */
+    private boolean flushNetOutBuffer() throws IOException {
+        if (netOutBuffer.position() == 0) {
+            return true;
+        }
+        netOutBuffer.flip();
+        socketChannel.write(netOutBuffer);
+        boolean flushed = !netOutBuffer.hasRemaining();
+        netOutBuffer.compact();
+        return flushed;
+    }
+
+    /**
+     * Advances the handshake as far as possible without blocking.
+     *
+     * @param canRead true if the calling thread is the reading thread, which is the only one unwrapping
+     * @return true if the handshake is finished
+     */
+    private boolean handshake(boolean canRead) throws IOException {
+        synchronized (writeLock) {
+            for (; ; ) {
+                if (!flushNetOutBuffer()) {
+                    return false;
+                }
+
+                HandshakeStatus status = sslEngine.getHandshakeStatus();
+                if (status == NOT_HANDSHAKING || status == FINISHED) {
+                    handshakeFinished = true;
+                    return true;
+                } else if (status == NEED_TASK) {
+                    runDelegatedTasks();
+                } else if (status == NEED_WRAP) {
+                    wrapHandshake();
+                } else if (!canRead || !unwrapHandshake()) {
+                    // NEED_UNWRAP: only the reading thread reads from the socket
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void runDelegatedTasks() {
+        for (Runnable task = sslEngine.getDelegatedTask(); task != null; task = sslEngine.getDelegatedTask()) {
+            task.run();
+        }
+    }
+
+    private void wrapHandshake() throws IOException {
+        SSLEngineResult result = sslEngine.wrap(EMPTY_BUFFERS, netOutBuffer);
+        if (result.getStatus() == CLOSED) {
+            throw new EOFException("The SSLEngine was closed during the TLS handshake");
+        }
+        if (result.getStatus() == BUFFER_OVERFLOW && netOutBuffer.position() == 0) {
+            netOutBuffer = enlarge(netOutBuffer, sslEngine.getSession().getPacketBufferSize());
+        }
+    }
+
+    /**
+     * Unwraps a handshake message of the peer.
+     *
+     * @return true if a message was unwrapped, false if more bytes are needed first
+     */
+    private boolean unwrapHandshake() throws IOException {
+        netInBuffer.flip();
+        SSLEngineResult result = sslEngine.unwrap(netInBuffer, appInBuffer);
+        netInBuffer.compact();
+
+        if (result.getStatus() == CLOSED) {
+            inboundClosed = true;
+            throw new EOFException("The peer closed the connection during the TLS handshake");
+        }
+        if (result.getStatus() == BUFFER_OVERFLOW) {
+            appInBuffer = enlarge(appInBuffer, sslEngine.getSession().getApplicationBufferSize());
+            return true;
+        }
+        if (result.getStatus() == BUFFER_UNDERFLOW) {
+            boolean read = readFromSocket();
+            if (inboundClosed) {
+                throw new EOFException("The peer closed the connection during the TLS handshake");
+            }
+            return read;
+        }
+        return true;
+    }
+
+    private static ByteBuffer enlarge(ByteBuffer buffer, int sessionSize) {
+        int capacity = Math.max(sessionSize, buffer.capacity() * 2);
+        ByteBuffer enlarged = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        enlarged.put(buffer);
+        return enlarged;
+    }
+
+    @Override
+    public boolean hasBufferedInput() {
+        // an incomplete record in the netInBuffer doesn't count, it needs more bytes from the socket first
+        return appInBuffer.position() > 0 || unwrapPending;
+    }
+
+    @Override
+    public boolean hasBufferedOutput() {
+        synchronized (writeLock) {
+            return netOutBuffer.position() > 0;
+        }
+    }
+
+    @Override
+    public void closeInbound() throws IOException {
+        try {
+            sslEngine.closeInbound();
+        } catch (SSLException e) {
+            // the peer didn't send a close_notify, the connection is closed anyway
+            inboundClosed = true;
+        }
+    }
+
+    @Override
+    public void closeOutbound() throws IOException {
+        synchronized (writeLock) {
+            sslEngine.closeOutbound();
+            // writes the close_notify, as far as the socket accepts it
+            while (!sslEngine.isOutboundDone() && flushNetOutBuffer()) {
+                SSLEngineResult result = sslEngine.wrap(EMPTY_BUFFERS, netOutBuffer);
+                if (result.getStatus() == BUFFER_OVERFLOW) {
+                    break;
+                }
+            }
+            flushNetOutBuffer();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SSLSocketChannelWrapper{socketChannel=" + socketChannel + '}';
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.ssl;
+
+import com.hazelcast.config.SSLConfig;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.ClassLoaderUtil;
+import com.hazelcast.nio.tcp.SocketChannelWrapper;
+import com.hazelcast.nio.tcp.SocketChannelWrapperFactory;
+import com.hazelcast.util.ExceptionUtil;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A {@link SocketChannelWrapperFactory} creating {@link SSLSocketChannelWrapper}s, which encrypt the traffic with TLS.
+ * <p/>
+ * The {@link SSLContext} is created by the {@link SSLContextFactory} of the {@link SSLConfig}, by default a
+ * {@link BasicSSLContextFactory}. Besides the properties of the SSLContextFactory, the {@code mutualAuthentication}
+ * property ({@code REQUIRED} or {@code OPTIONAL}) makes the accepting side of a connection ask for the certificate of
+ * the connecting side. The connecting side verifies that the certificate of the accepting side matches the host it
+ * connected to, like HTTPS does.
+ */
+public class SSLSocketChannelWrapperFactory implements SocketChannelWrapperFactory {
+
+    private static final String MUTUAL_AUTHENTICATION = "mutualAuthentication";
+    private static final String ENDPOINT_IDENTIFICATION_ALGORITHM = "HTTPS";
+
+    private final SSLContext sslContext;
+    private final String mutualAuthentication;
+    // SSLParameters#setEndpointIdentificationAlgorithm, null on Java 6
+    private final Method setEndpointIdentificationAlgorithm;
+
+    public SSLSocketChannelWrapperFactory(SSLConfig sslConfig) {
+        SSLContextFactory sslContextFactory = (SSLContextFactory) sslConfig.getFactoryImplementation();
+        try {
+            if (sslContextFactory == null) {
+                String factoryClassName = sslConfig.getFactoryClassName();
+                sslContextFactory = factoryClassName == null
+                        ? new BasicSSLContextFactory()
+                        : ClassLoaderUtil.<SSLContextFactory>newInstance(getClass().getClassLoader(), factoryClassName);
+            }
+            sslContextFactory.init(sslConfig.getProperties());
+        } catch (Exception e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+        this.sslContext = sslContextFactory.getSSLContext();
+        this.mutualAuthentication = sslConfig.getProperty(MUTUAL_AUTHENTICATION);
+        this.setEndpointIdentificationAlgorithm = findSetEndpointIdentificationAlgorithm();
+    }
+
+    private static Method findSetEndpointIdentificationAlgorithm() {
+        try {
+            return SSLParameters.class.getMethod("setEndpointIdentificationAlgorithm", String.class);
+        } catch (NoSuchMethodException e) {
+            Logger.getLogger(SSLSocketChannelWrapperFactory.class)
+                    .warning("The certificates of the peers can't be verified against their hosts before Java 7");
+            return null;
+        }
+    }
+
+    @Override
+    public SocketChannelWrapper wrapSocketChannel(SocketChannel socketChannel, boolean client) throws Exception {
+        SSLEngine sslEngine;
+        if (client) {
+            Socket socket = socketChannel.socket();
+            sslEngine = sslContext.createSSLEngine(peerHost(socket.getInetAddress()), socket.getPort());
+            sslEngine.setUseClientMode(true);
+            identifyEndpoint(sslEngine);
+        } else {
+            sslEngine = sslContext.createSSLEngine();
+            sslEngine.setUseClientMode(false);
+            if ("REQUIRED".equalsIgnoreCase(mutualAuthentication)) {
+                sslEngine.setNeedClientAuth(true);
+            } else if ("OPTIONAL".equalsIgnoreCase(mutualAuthentication)) {
+                sslEngine.setWantClientAuth(true);
+            }
+        }
+        return new SSLSocketChannelWrapper(sslEngine, socketChannel);
+    }
+
+    /**
+     * Returns the host the socket was connected to without a reverse lookup: the host name if it was connected by name,
+     * else the IP address, which the endpoint identification matches against the IP addresses of the certificate.
+     */
+    private static String peerHost(InetAddress address) {
+        // "hostname/address", the hostname is empty if the address wasn't created from a name; Java 6 has no getHostString
+        String text = address.toString();
+        int slash = text.indexOf('/');
+        return slash > 0 ? text.substring(0, slash) : address.getHostAddress();
+    }
+
+    /**
+     * Makes the SSLEngine verify that the certificate of the peer matches the host it was created for. The
+     * endpoint identification was added in Java 7, so it is set by reflection to keep running on Java 6, which can't
+     * verify the host.
+     */
+    private void identifyEndpoint(SSLEngine sslEngine) {
+        if (setEndpointIdentificationAlgorithm == null) {
+            return;
+        }
+        SSLParameters sslParameters = sslEngine.getSSLParameters();
+        try {
+            setEndpointIdentificationAlgorithm.invoke(sslParameters, ENDPOINT_IDENTIFICATION_ALGORITHM);
+        } catch (Exception e) {
+            throw ExceptionUtil.rethrow(e);
+        }
+        sslEngine.setSSLParameters(sslParameters);
+    }
+
+    @Override
+    public boolean isSSlEnabled() {
+        return true;
+    }
+}
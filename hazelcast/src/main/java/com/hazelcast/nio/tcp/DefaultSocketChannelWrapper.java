@@ -64,6 +64,26 @@ public class DefaultSocketChannelWrapper implements SocketChannelWrapper {
         return socketChannel.write(src);
     }
 
+    @Override
+    public boolean hasBufferedInput() {
+        return false;
+    }
+
+    @Override
+    public boolean hasBufferedOutput() {
+        return false;
+    }
+
+    @Override
+    public boolean isHandshakeFinished() {
+        return true;
+    }
+
+    @Override
+    public boolean isWriteBlocked() {
+        return false;
+    }
+
     @Override
     public SelectableChannel configureBlocking(boolean block) throws IOException {
         return socketChannel.configureBlocking(block);
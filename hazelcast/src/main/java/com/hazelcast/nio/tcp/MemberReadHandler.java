@@ -70,8 +70,9 @@ public class MemberReadHandler implements ReadHandler {
             normalPacketsRead.inc();
         }
 
-        packet.setConn(connection);
+        Packet dispatched = packet.isHeaderSet(Packet.HEADER_COMPRESSED) ? PacketCompressor.decompress(packet) : packet;
+        dispatched.setConn(connection);
 
-        packetDispatcher.dispatch(packet);
+        packetDispatcher.dispatch(dispatched);
     }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.tcp;
+
+import com.hazelcast.internal.compression.LZ4Codec;
+import com.hazelcast.nio.Bits;
+import com.hazelcast.nio.Packet;
+
+import java.util.Arrays;
+
+import static com.hazelcast.nio.Packet.HEADER_COMPRESSED;
+
+/**
+ * Compresses the large packets written to a member which accepts compressed packets.
+ * <p/>
+ * The payload of a compressed packet is the size of the original payload followed by the LZ4 compressed original
+ * payload; the {@link Packet#HEADER_COMPRESSED} header bit is set. The other header bits and the partition id are
+ * kept, so an urgent packet stays urgent.
+ * <p/>
+ * A packet is compressed by the thread writing it to the connection instead of the IO thread, so compression is
+ * spread over the threads producing the packets. Since a packet can be written to multiple connections, it is never
+ * modified; a compressed copy is written instead.
+ *
+ * @see Packet#HEADER_COMPRESSED
+ * @see com.hazelcast.nio.Protocols#CLUSTER_COMPRESSION
+ */
+public final class PacketCompressor {
+
+    // the scratch buffers grow up to this size; larger packets are compressed into a temporary buffer
+    private static final int MAX_SCRATCH_SIZE = 1 << 20;
+    // a packet is only sent compressed if it shrinks by at least 1/8th, else it isn't worth the decompression
+    private static final int MIN_SAVING_SHIFT = 3;
+
+    private static final ThreadLocal<CompressionContext> CONTEXT = new ThreadLocal<CompressionContext>() {
+        @Override
+        protected CompressionContext initialValue() {
+            return new CompressionContext();
+        }
+    };
+
+    private final int threshold;
+
+    /**
+     * @param threshold the minimum payload size of the packets to be compressed
+     */
+    public PacketCompressor(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Compresses a packet if it is large enough and compresses well.
+     *
+     * @param packet the packet to be compressed
+     * @return the compressed copy of the packet, or the packet itself if it isn't compressed
+     */
+    public Packet compress(Packet packet) {
+        int length = packet.totalSize();
+        if (length < threshold || packet.isHeaderSet(HEADER_COMPRESSED)) {
+            return packet;
+        }
+
+        byte[] payload = packet.toByteArray();
+        int maxLength = Bits.INT_SIZE_IN_BYTES + LZ4Codec.maxCompressedLength(length);
+        CompressionContext context = CONTEXT.get();
+        byte[] buffer = context.buffer(maxLength);
+        Bits.writeIntB(buffer, 0, length);
+        int compressedLength = Bits.INT_SIZE_IN_BYTES
+                + context.codec.compress(payload, 0, length, buffer, Bits.INT_SIZE_IN_BYTES);
+        if (compressedLength > length - (length >>> MIN_SAVING_SHIFT)) {
+            return packet;
+        }
+
+        Packet compressed = new Packet(Arrays.copyOf(buffer, compressedLength), packet.getPartitionId());
+        copyHeader(packet, compressed);
+        compressed.setHeader(HEADER_COMPRESSED);
+        return compressed;
+    }
+
+    /**
+     * Decompresses a packet which has the {@link Packet#HEADER_COMPRESSED} header bit set.
+     *
+     * @param packet the compressed packet
+     * @return the packet with the original payload and header
+     * @throws IllegalArgumentException if the compressed payload is malformed
+     */
+    public static Packet decompress(Packet packet) {
+        byte[] compressed = packet.toByteArray();
+        int length = Bits.readIntB(compressed, 0);
+        if (length < 0) {
+            throw new IllegalArgumentException("Malformed compressed packet, negative payload size: " + length);
+        }
+        byte[] payload = new byte[length];
+        LZ4Codec.decompress(compressed, Bits.INT_SIZE_IN_BYTES, compressed.length - Bits.INT_SIZE_IN_BYTES,
+                payload, 0, length);
+
+        Packet decompressed = new Packet(payload, packet.getPartitionId());
+        copyHeader(packet, decompressed);
+        return decompressed;
+    }
+
+    private static void copyHeader(Packet from, Packet to) {
+        for (int bit = 0; bit < Short.SIZE; bit++) {
+            if (bit != HEADER_COMPRESSED && from.isHeaderSet(bit)) {
+                to.setHeader(bit);
+            }
+        }
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    private static final class CompressionContext {
+        private final LZ4Codec codec = new LZ4Codec();
+        private byte[] scratch = new byte[0];
+
+        byte[] buffer(int length) {
+            if (length > MAX_SCRATCH_SIZE) {
+                return new byte[length];
+            }
+            if (scratch.length < length) {
+                scratch = new byte[length];
+            }
+            return scratch;
+        }
+    }
+}
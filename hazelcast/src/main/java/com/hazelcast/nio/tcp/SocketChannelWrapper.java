@@ -81,6 +81,41 @@ public interface SocketChannelWrapper extends Closeable {
      */
     int write(ByteBuffer src) throws IOException;
 
+    /**
+     * Checks if this wrapper holds bytes read from the socket which weren't returned by {@link #read(ByteBuffer)} yet,
+     * like the decrypted bytes which didn't fit in the destination buffer. The socket doesn't become readable for
+     * these bytes, so the reader has to read again instead of waiting for the socket.
+     *
+     * @return true if there are buffered input bytes
+     */
+    boolean hasBufferedInput();
+
+    /**
+     * Checks if this wrapper holds written bytes which couldn't be written to the socket yet, like encrypted bytes.
+     * The writer has to keep writing, an empty write flushes them, until there are none left.
+     *
+     * @return true if there are buffered output bytes
+     */
+    boolean hasBufferedOutput();
+
+    /**
+     * Checks if this wrapper finished its handshake with the peer, like the TLS handshake. Until then, the reader wakes up
+     * the writer after reading, since the writer can be waiting for the handshake messages of the peer, see
+     * {@link #isWriteBlocked()}.
+     *
+     * @return true if the handshake is finished or the wrapper doesn't do a handshake
+     */
+    boolean isHandshakeFinished();
+
+    /**
+     * Checks if a write can't make progress until the reader read from the socket, like during a TLS handshake waiting
+     * for the handshake messages of the peer. The writer doesn't register for OP_WRITE meanwhile, the socket becoming
+     * writable doesn't help; the reader wakes it up instead, see {@link #isHandshakeFinished()}.
+     *
+     * @return true if writes wait for the reader
+     */
+    boolean isWriteBlocked();
+
     /**
      * @see java.nio.channels.SocketChannel#configureBlocking(boolean)
      */
@@ -80,6 +80,15 @@ public interface SocketWriter {
      */
     void setProtocol(String protocol);
 
+    /**
+     * Wakes up this SocketWriter after the {@link SocketReader} read during the handshake of the socket channel, since
+     * the SocketWriter can be waiting for the handshake messages of the peer, see
+     * {@link SocketChannelWrapper#isWriteBlocked()}.
+     *
+     * This method can be called from an arbitrary thread.
+     */
+    void wakeup();
+
     /**
      * Starts this SocketWriter.
      *
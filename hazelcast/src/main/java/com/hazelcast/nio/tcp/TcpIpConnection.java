@@ -21,6 +21,7 @@ import com.hazelcast.nio.Address;
 import com.hazelcast.nio.Connection;
 import com.hazelcast.nio.ConnectionType;
 import com.hazelcast.nio.OutboundFrame;
+import com.hazelcast.nio.Packet;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -62,6 +63,9 @@ public final class TcpIpConnection implements Connection {
 
     private volatile ConnectionType type = ConnectionType.NONE;
 
+    // null as long as the remote member hasn't announced it accepts compressed packets
+    private volatile PacketCompressor packetCompressor;
+
     public TcpIpConnection(TcpIpConnectionManager connectionManager,
                            int connectionId,
                            SocketChannelWrapper socketChannel,
@@ -196,10 +200,28 @@ public final class TcpIpConnection implements Connection {
             }
             return false;
         }
+        PacketCompressor compressor = packetCompressor;
+        if (compressor != null && frame instanceof Packet) {
+            frame = compressor.compress((Packet) frame);
+        }
         socketWriter.offer(frame);
         return true;
     }
 
+    /**
+     * Enables the compression of the packets written to this connection. This is done once the remote member
+     * announced it accepts compressed packets, and compression is enabled on this member too.
+     *
+     * @param packetCompressor the PacketCompressor
+     */
+    public void setPacketCompressor(PacketCompressor packetCompressor) {
+        this.packetCompressor = packetCompressor;
+    }
+
+    public PacketCompressor getPacketCompressor() {
+        return packetCompressor;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
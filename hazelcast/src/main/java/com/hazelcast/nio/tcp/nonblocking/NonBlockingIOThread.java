@@ -20,12 +20,14 @@ import com.hazelcast.core.HazelcastException;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.operationexecutor.OperationHostileThread;
+import com.hazelcast.util.ThreadAffinity;
 import com.hazelcast.util.counters.SwCounter;
 
 import java.io.IOException;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -57,6 +59,9 @@ public class NonBlockingIOThread extends Thread implements OperationHostileThrea
 
     private volatile long lastSelectTimeMs;
 
+    // the CPUs this thread is pinned to, null if it isn't pinned
+    private BitSet cpuSet;
+
     public NonBlockingIOThread(ThreadGroup threadGroup,
                                String threadName,
                                ILogger logger,
@@ -93,6 +98,15 @@ public class NonBlockingIOThread extends Thread implements OperationHostileThrea
         }
     }
 
+    /**
+     * Sets the CPUs this thread is pinned to when it starts.
+     *
+     * @param cpuSet the CPUs, null if the thread should not be pinned
+     */
+    public void setCpuSet(BitSet cpuSet) {
+        this.cpuSet = cpuSet;
+    }
+
     /**
      * Gets the Selector
      *
@@ -154,6 +168,7 @@ public class NonBlockingIOThread extends Thread implements OperationHostileThrea
         //
         // The idea about this approach is that the runSelectNowLoop and runSelectLoop are as clean as possible and don't contain
         // any logic that isn't happening on the happy-path.
+        ThreadAffinity.pinCurrentThread(cpuSet, logger);
         try {
             for (; ; ) {
                 try {
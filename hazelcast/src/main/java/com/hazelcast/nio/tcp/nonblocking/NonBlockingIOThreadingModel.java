@@ -26,6 +26,7 @@ import com.hazelcast.nio.tcp.SocketReader;
 import com.hazelcast.nio.tcp.TcpIpConnection;
 import com.hazelcast.nio.tcp.SocketWriter;
 import com.hazelcast.nio.tcp.nonblocking.iobalancer.IOBalancer;
+import com.hazelcast.util.ThreadAffinity;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.concurrent.atomic.AtomicInteger;
@@ -54,6 +55,7 @@ public class NonBlockingIOThreadingModel implements IOThreadingModel {
     private final MetricsRegistry metricsRegistry;
     private final LoggingService loggingService;
     private final HazelcastThreadGroup hazelcastThreadGroup;
+    private final SocketBufferPool bufferPool;
     // experimental settings; will be disabled by default.
     private boolean inputSelectNow = getBoolean("hazelcast.io.input.thread.selectNow");
     private boolean outputSelectNow = getBoolean("hazelcast.io.output.thread.selectNow");
@@ -71,6 +73,7 @@ public class NonBlockingIOThreadingModel implements IOThreadingModel {
         this.logger = loggingService.getLogger(NonBlockingIOThreadingModel.class);
         this.inputThreads = new NonBlockingIOThread[ioService.getInputSelectorThreadCount()];
         this.outputThreads = new NonBlockingIOThread[ioService.getOutputSelectorThreadCount()];
+        this.bufferPool = new SocketBufferPool(ioService.isSocketBufferDirect());
     }
 
     public void setInputSelectNow(boolean enabled) {
@@ -102,6 +105,9 @@ public class NonBlockingIOThreadingModel implements IOThreadingModel {
 
     @Override
     public void start() {
+        ThreadAffinity inputThreadAffinity = ioService.getInputSelectorThreadAffinity();
+        ThreadAffinity outputThreadAffinity = ioService.getOutputSelectorThreadAffinity();
+
         logger.info("TcpIpConnectionManager configured with Non Blocking IO-threading model: "
                 + inputThreads.length + " input threads and "
                 + outputThreads.length + " output threads");
@@ -124,6 +130,7 @@ public class NonBlockingIOThreadingModel implements IOThreadingModel {
                     oomeHandler,
                     inputSelectNow
             );
+            thread.setCpuSet(inputThreadAffinity.getCpuSet(i));
             inputThreads[i] = thread;
             metricsRegistry.scanAndRegister(thread, "tcp." + thread.getName());
             thread.start();
@@ -136,6 +143,7 @@ public class NonBlockingIOThreadingModel implements IOThreadingModel {
                     ioService.getLogger(NonBlockingIOThread.class.getName()),
                     oomeHandler,
                     outputSelectNow);
+            thread.setCpuSet(outputThreadAffinity.getCpuSet(i));
             outputThreads[i] = thread;
             metricsRegistry.scanAndRegister(thread, "tcp." + thread.getName());
             thread.start();
@@ -185,12 +193,12 @@ public class NonBlockingIOThreadingModel implements IOThreadingModel {
     @Override
     public SocketWriter newSocketWriter(TcpIpConnection connection) {
         int index = hashToIndex(nextOutputThreadIndex.getAndIncrement(), outputThreads.length);
-        return new NonBlockingSocketWriter(connection, outputThreads[index], metricsRegistry);
+        return new NonBlockingSocketWriter(connection, outputThreads[index], metricsRegistry, bufferPool);
     }
 
     @Override
     public SocketReader newSocketReader(TcpIpConnection connection) {
         int index = hashToIndex(nextInputThreadIndex.getAndIncrement(), inputThreads.length);
-        return new NonBlockingSocketReader(connection, inputThreads[index], metricsRegistry);
+        return new NonBlockingSocketReader(connection, inputThreads[index], metricsRegistry, bufferPool);
     }
 }
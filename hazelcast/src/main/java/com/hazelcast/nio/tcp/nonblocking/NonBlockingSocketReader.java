@@ -22,6 +22,7 @@ import com.hazelcast.nio.Protocols;
 import com.hazelcast.nio.ascii.TextReadHandler;
 import com.hazelcast.nio.tcp.NewClientReadHandler;
 import com.hazelcast.nio.tcp.OldClientReadHandler;
+import com.hazelcast.nio.tcp.PacketCompressor;
 import com.hazelcast.nio.tcp.SocketReader;
 import com.hazelcast.nio.tcp.ReadHandler;
 import com.hazelcast.nio.tcp.TcpIpConnection;
@@ -41,6 +42,7 @@ import static com.hazelcast.nio.IOService.KILO_BYTE;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY_NEW;
 import static com.hazelcast.nio.Protocols.CLUSTER;
+import static com.hazelcast.nio.Protocols.CLUSTER_COMPRESSION;
 import static com.hazelcast.util.Clock.currentTimeMillis;
 import static com.hazelcast.util.StringUtil.bytesToString;
 import static com.hazelcast.util.counters.SwCounter.newSwCounter;
@@ -63,6 +65,7 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
     @Probe(name = "in.priorityFramesRead")
     private final SwCounter priorityFramesRead = newSwCounter();
     private final MetricsRegistry metricRegistry;
+    private final SocketBufferPool bufferPool;
 
     private ReadHandler readHandler;
     private ByteBuffer inputBuffer;
@@ -71,10 +74,12 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
     public NonBlockingSocketReader(
             TcpIpConnection connection,
             NonBlockingIOThread ioThread,
-            MetricsRegistry metricsRegistry) {
+            MetricsRegistry metricsRegistry,
+            SocketBufferPool bufferPool) {
         super(connection, ioThread, SelectionKey.OP_READ);
         this.ioThread = ioThread;
         this.metricRegistry = metricsRegistry;
+        this.bufferPool = bufferPool;
         metricRegistry.scanAndRegister(this, "tcp.connection[" + connection.getMetricsId() + "]");
     }
 
@@ -156,6 +161,15 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
             return;
         }
 
+        boolean handshakeFinished = socketChannel.isHandshakeFinished();
+        readFromSocket();
+        if (!handshakeFinished) {
+            // the read advanced the handshake of the socketChannel, which the SocketWriter can be waiting for
+            connection.getSocketWriter().wakeup();
+        }
+    }
+
+    private void readFromSocket() throws Exception {
         if (readHandler == null) {
             initReadHandler();
             if (readHandler == null) {
@@ -164,23 +178,26 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
             }
         }
 
-        int readBytes = socketChannel.read(inputBuffer);
-        if (readBytes <= 0) {
-            if (readBytes == -1) {
-                throw new EOFException("Remote socket closed!");
+        do {
+            int readBytes = socketChannel.read(inputBuffer);
+            if (readBytes <= 0) {
+                if (readBytes == -1) {
+                    throw new EOFException("Remote socket closed!");
+                }
+                return;
             }
-            return;
-        }
 
-        bytesRead.inc(readBytes);
+            bytesRead.inc(readBytes);
 
-        inputBuffer.flip();
-        readHandler.onRead(inputBuffer);
-        if (inputBuffer.hasRemaining()) {
-            inputBuffer.compact();
-        } else {
-            inputBuffer.clear();
-        }
+            inputBuffer.flip();
+            readHandler.onRead(inputBuffer);
+            if (inputBuffer.hasRemaining()) {
+                inputBuffer.compact();
+            } else {
+                inputBuffer.clear();
+            }
+            // the socket doesn't become readable for the bytes buffered by the socket channel wrapper
+        } while (socketChannel.hasBufferedInput());
     }
 
     private void initReadHandler() throws IOException {
@@ -202,21 +219,26 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
         if (!protocolBuffer.hasRemaining()) {
             String protocol = bytesToString(protocolBuffer.array());
             SocketWriter socketWriter = connection.getSocketWriter();
-            if (CLUSTER.equals(protocol)) {
-                configureBuffers(ioService.getSocketReceiveBufferSize() * KILO_BYTE);
+            if (CLUSTER.equals(protocol) || CLUSTER_COMPRESSION.equals(protocol)) {
+                configureBuffers(bufferPool.take(ioService.getSocketReceiveBufferSize() * KILO_BYTE));
                 connection.setType(MEMBER);
                 socketWriter.setProtocol(CLUSTER);
+                int compressionThreshold = ioService.getPacketCompressionThreshold();
+                if (CLUSTER_COMPRESSION.equals(protocol) && compressionThreshold > 0) {
+                    connection.setPacketCompressor(new PacketCompressor(compressionThreshold));
+                }
                 readHandler = ioService.createReadHandler(connection);
             } else if (CLIENT_BINARY.equals(protocol)) {
-                configureBuffers(ioService.getSocketClientReceiveBufferSize() * KILO_BYTE);
+                configureBuffers(bufferPool.take(ioService.getSocketClientReceiveBufferSize() * KILO_BYTE));
                 socketWriter.setProtocol(CLIENT_BINARY);
                 readHandler = new OldClientReadHandler(connection, ioService);
             } else if (CLIENT_BINARY_NEW.equals(protocol)) {
-                configureBuffers(ioService.getSocketClientReceiveBufferSize() * KILO_BYTE);
+                configureBuffers(bufferPool.take(ioService.getSocketClientReceiveBufferSize() * KILO_BYTE));
                 socketWriter.setProtocol(CLIENT_BINARY_NEW);
                 readHandler = new NewClientReadHandler(connection, ioService);
             } else {
-                configureBuffers(ioService.getSocketReceiveBufferSize() * KILO_BYTE);
+                // the text commands access the backing array of the buffer, so it is never a direct buffer
+                configureBuffers(ByteBuffer.allocate(ioService.getSocketReceiveBufferSize() * KILO_BYTE));
                 socketWriter.setProtocol(Protocols.TEXT);
                 inputBuffer.put(protocolBuffer.array());
                 readHandler = new TextReadHandler(connection);
@@ -229,8 +251,9 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
         }
     }
 
-    private void configureBuffers(int size) {
-        inputBuffer = ByteBuffer.allocate(size);
+    private void configureBuffers(ByteBuffer buffer) {
+        inputBuffer = buffer;
+        int size = buffer.capacity();
         try {
             connection.setReceiveBufferSize(size);
         } catch (SocketException e) {
@@ -241,19 +264,8 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
 
     @Override
     public void destroy() {
-        //todo:
-        // ioThread race, shutdown can end up on the old selector
         metricRegistry.deregister(this);
-        ioThread.addTaskAndWakeup(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    socketChannel.closeInbound();
-                } catch (IOException e) {
-                    logger.finest("Error while closing inbound", e);
-                }
-            }
-        });
+        ioThread.addTaskAndWakeup(new DestroyTask());
     }
 
     @Override
@@ -261,6 +273,33 @@ public final class NonBlockingSocketReader extends AbstractHandler implements So
         return connection + ".socketReader";
     }
 
+    /**
+     * Closes the inbound side of the socket and releases the input buffer. Only the NonBlockingIOThread owning this
+     * reader reads into the buffer, so if the reader migrated to another NonBlockingIOThread in the meantime, the task
+     * follows it instead of releasing the buffer on the old one.
+     */
+    private class DestroyTask implements Runnable {
+
+        @Override
+        public void run() {
+            NonBlockingIOThread owner = ioThread;
+            if (owner != Thread.currentThread()) {
+                owner.addTaskAndWakeup(this);
+                return;
+            }
+
+            try {
+                socketChannel.closeInbound();
+            } catch (IOException e) {
+                logger.finest("Error while closing inbound", e);
+            } finally {
+                // the connection is not alive anymore, so the buffer isn't read into after this point
+                bufferPool.release(inputBuffer);
+                inputBuffer = null;
+            }
+        }
+    }
+
     private class StartMigrationTask implements Runnable {
         private final NonBlockingIOThread newOwner;
 
@@ -44,6 +44,7 @@ import static com.hazelcast.nio.IOService.KILO_BYTE;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY_NEW;
 import static com.hazelcast.nio.Protocols.CLUSTER;
+import static com.hazelcast.nio.Protocols.CLUSTER_COMPRESSION;
 import static com.hazelcast.util.Clock.currentTimeMillis;
 import static com.hazelcast.util.EmptyStatement.ignore;
 import static com.hazelcast.util.StringUtil.stringToBytes;
@@ -72,6 +73,7 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
     @Probe(name = "out.priorityFramesWritten")
     private final SwCounter priorityFramesWritten = newSwCounter();
     private final MetricsRegistry metricsRegistry;
+    private final SocketBufferPool bufferPool;
 
     private volatile OutboundFrame currentFrame;
     private WriteHandler writeHandler;
@@ -83,8 +85,10 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
     // This prevents running into an NonBlockingIOThread that is migrating.
     private NonBlockingIOThread newOwner;
 
-    NonBlockingSocketWriter(TcpIpConnection connection, NonBlockingIOThread ioThread, MetricsRegistry metricsRegistry) {
+    NonBlockingSocketWriter(TcpIpConnection connection, NonBlockingIOThread ioThread, MetricsRegistry metricsRegistry,
+                            SocketBufferPool bufferPool) {
         super(connection, ioThread, SelectionKey.OP_WRITE);
+        this.bufferPool = bufferPool;
 
         // sensors
         this.metricsRegistry = metricsRegistry;
@@ -174,25 +178,27 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
     private void createWriterHandler(String protocol) throws IOException {
         if (writeHandler == null) {
             if (CLUSTER.equals(protocol)) {
-                configureBuffers(ioService.getSocketSendBufferSize() * KILO_BYTE);
+                configureBuffers(bufferPool.take(ioService.getSocketSendBufferSize() * KILO_BYTE));
                 writeHandler = ioService.createWriteHandler(connection);
-                outputBuffer.put(stringToBytes(CLUSTER));
+                outputBuffer.put(stringToBytes(ioService.getPacketCompressionThreshold() > 0 ? CLUSTER_COMPRESSION : CLUSTER));
                 registerOp(SelectionKey.OP_WRITE);
             } else if (CLIENT_BINARY.equals(protocol)) {
-                configureBuffers(ioService.getSocketClientSendBufferSize() * KILO_BYTE);
+                configureBuffers(bufferPool.take(ioService.getSocketClientSendBufferSize() * KILO_BYTE));
                 writeHandler = new OldClientWriteHandler();
             } else if (CLIENT_BINARY_NEW.equals(protocol)) {
-                configureBuffers(ioService.getSocketClientReceiveBufferSize() * KILO_BYTE);
+                configureBuffers(bufferPool.take(ioService.getSocketClientReceiveBufferSize() * KILO_BYTE));
                 writeHandler = new NewClientWriteHandler();
             } else {
-                configureBuffers(ioService.getSocketClientSendBufferSize() * KILO_BYTE);
+                // the text commands access the backing array of the buffer, so it is never a direct buffer
+                configureBuffers(ByteBuffer.allocate(ioService.getSocketClientSendBufferSize() * KILO_BYTE));
                 writeHandler = new TextWriteHandler(connection);
             }
         }
     }
 
-    private void configureBuffers(int size) {
-        outputBuffer = ByteBuffer.allocate(size);
+    private void configureBuffers(ByteBuffer buffer) {
+        outputBuffer = buffer;
+        int size = buffer.capacity();
         try {
             connection.setSendBufferSize(size);
         } catch (SocketException e) {
@@ -277,11 +283,18 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
      * if there is more space in the socket output buffer.
      * If the outputBuffer is not dirty, then it will unregister itself from an OP_WRITE since it isn't interested
      * in space in the socket outputBuffer.
+     * If the socketChannel waits for the handshake messages of the peer, it is unscheduled as well, since space in the
+     * socket outputBuffer doesn't help; the SocketReader wakes it up.
      * <p/>
      * This call is only made by the IO thread.
      */
     private void unschedule() throws IOException {
-        if (dirtyOutputBuffer() || currentFrame != null) {
+        if (socketChannel.isWriteBlocked()) {
+            unscheduleWhileWriteBlocked();
+            return;
+        }
+
+        if (dirtyOutputBuffer() || currentFrame != null || socketChannel.hasBufferedOutput()) {
             // Because not all data was written to the socket, we need to register for OP_WRITE so we get
             // notified when the socketChannel is ready for more data.
             registerOp(SelectionKey.OP_WRITE);
@@ -314,6 +327,29 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
         ioThread.addTask(this);
     }
 
+    private void unscheduleWhileWriteBlocked() throws IOException {
+        unregisterOp(SelectionKey.OP_WRITE);
+        scheduled.set(false);
+
+        // the SocketReader could have unblocked the socketChannel before we unscheduled, so its wakeup was ignored
+        if (!socketChannel.isWriteBlocked() && scheduled.compareAndSet(false, true)) {
+            ioThread.addTask(this);
+        }
+    }
+
+    @Override
+    public void wakeup() {
+        ioThread.addTaskAndWakeup(new Runnable() {
+            @Override
+            public void run() {
+                // until the protocol is set there is nothing to write, the accepting side doesn't know it yet
+                if (writeHandler != null && scheduled.compareAndSet(false, true)) {
+                    NonBlockingSocketWriter.this.run();
+                }
+            }
+        });
+    }
+
     @Override
     public long getEventCount() {
         return eventCount.get();
@@ -336,7 +372,12 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
 
         fillOutputBuffer();
 
-        if (dirtyOutputBuffer()) {
+        if (shutdown) {
+            // the ShutdownTask was executed while filling the outputBuffer, it flushed and released the outputBuffer
+            return;
+        }
+
+        if (dirtyOutputBuffer() || socketChannel.hasBufferedOutput()) {
             writeOutputBufferToSocket();
         }
 
@@ -392,7 +433,7 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
      */
     private void fillOutputBuffer() throws Exception {
         for (; ; ) {
-            if (!outputBuffer.hasRemaining()) {
+            if (shutdown || !outputBuffer.hasRemaining()) {
                 // The buffer is completely filled, we are done.
                 return;
             }
@@ -429,8 +470,6 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
     @Override
     public void shutdown() {
         metricsRegistry.deregister(this);
-        writeQueue.clear();
-        urgentWriteQueue.clear();
 
         ShutdownTask shutdownTask = new ShutdownTask();
         offer(shutdownTask);
@@ -495,17 +534,33 @@ public final class NonBlockingSocketWriter extends AbstractHandler implements Ru
         }
     }
 
+    /**
+     * Closes the outbound side of the socket. The task is queued behind the frames offered before the shutdown, so these
+     * frames are in the outputBuffer when it runs, and the outputBuffer is flushed as far as the socket takes it before
+     * it is released. Like any TaskFrame, the task runs on the NonBlockingIOThread owning this writer, the only thread
+     * writing to the outputBuffer.
+     */
     private class ShutdownTask extends TaskFrame {
         private final CountDownLatch latch = new CountDownLatch(1);
 
+        @Override
+        public boolean isUrgent() {
+            return false;
+        }
+
         @Override
         void run() {
             shutdown = true;
             try {
+                if (outputBuffer != null && (dirtyOutputBuffer() || socketChannel.hasBufferedOutput())) {
+                    writeOutputBufferToSocket();
+                }
                 socketChannel.closeOutbound();
             } catch (IOException e) {
                 logger.finest("Error while closing outbound", e);
             } finally {
+                bufferPool.release(outputBuffer);
+                outputBuffer = null;
                 latch.countDown();
             }
         }
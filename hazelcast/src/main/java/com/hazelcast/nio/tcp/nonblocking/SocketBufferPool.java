@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.tcp.nonblocking;
+
+import com.hazelcast.util.ConstructorFunction;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.util.ConcurrencyUtil.getOrPutIfAbsent;
+
+/**
+ * Provides the socket buffers of the {@link NonBlockingSocketReader}s and {@link NonBlockingSocketWriter}s.
+ * <p/>
+ * Direct buffers are expensive to allocate and they are only freed by the garbage collector, so the direct buffers of
+ * closed connections are kept, per size, for the next connections. Heap buffers are not pooled.
+ */
+final class SocketBufferPool {
+
+    // per buffer size; bounds the off-heap memory kept after a burst of connections
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    private final ConcurrentMap<Integer, Queue<ByteBuffer>> pooledBuffers
+            = new ConcurrentHashMap<Integer, Queue<ByteBuffer>>();
+
+    private final ConstructorFunction<Integer, Queue<ByteBuffer>> queueConstructor
+            = new ConstructorFunction<Integer, Queue<ByteBuffer>>() {
+        @Override
+        public Queue<ByteBuffer> createNew(Integer size) {
+            return new ArrayBlockingQueue<ByteBuffer>(MAX_POOLED_BUFFERS);
+        }
+    };
+
+    private final boolean direct;
+
+    SocketBufferPool(boolean direct) {
+        this.direct = direct;
+    }
+
+    /**
+     * Takes a cleared buffer of the given capacity, pooled or newly allocated.
+     *
+     * @param capacity the capacity of the buffer in bytes
+     * @return the buffer
+     */
+    ByteBuffer take(int capacity) {
+        if (!direct) {
+            return ByteBuffer.allocate(capacity);
+        }
+        Queue<ByteBuffer> queue = pooledBuffers.get(capacity);
+        ByteBuffer buffer = queue == null ? null : queue.poll();
+        return buffer == null ? ByteBuffer.allocateDirect(capacity) : buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool, the buffer must not be used by the caller anymore.
+     *
+     * @param buffer the buffer, can be null
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        buffer.clear();
+        getOrPutIfAbsent(pooledBuffers, buffer.capacity(), queueConstructor).offer(buffer);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.nio.tcp.spinning;
+
+import com.hazelcast.instance.HazelcastThreadGroup;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.util.counters.SwCounter;
+
+import static com.hazelcast.util.counters.SwCounter.newSwCounter;
+import static java.lang.Math.max;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The base of the threads of the {@link SpinningIOThreadingModel}, switching between spinning and blocking.
+ * <p/>
+ * While there is traffic, the thread spins over its connections, giving the lowest latency. Once it didn't find any
+ * work for the idle timeout, it blocks until there is work again, so an idle member doesn't burn a CPU core per IO
+ * thread. Without an idle timeout the thread keeps spinning.
+ *
+ * @see com.hazelcast.instance.GroupProperty#IO_SPINNING_IDLE_TIMEOUT_MILLIS
+ */
+public abstract class AbstractSpinningThread extends Thread {
+
+    @Probe
+    private final SwCounter blockCount = newSwCounter();
+    private final SwCounter spinTimeNanos = newSwCounter();
+    private final SwCounter blockedTimeNanos = newSwCounter();
+    private final long idleTimeoutNanos;
+    private volatile boolean blocked;
+    private volatile long modeStartNanos = System.nanoTime();
+    private long lastWorkNanos = modeStartNanos;
+
+    protected AbstractSpinningThread(HazelcastThreadGroup threadGroup, String name, long idleTimeoutMillis) {
+        super(threadGroup.getInternalThreadGroup(), name);
+        this.idleTimeoutNanos = MILLISECONDS.toNanos(idleTimeoutMillis);
+    }
+
+    /**
+     * Called after every pass over the connections. Blocks the thread if it didn't find any work for the idle timeout.
+     *
+     * @param workDone true if the pass found any work
+     */
+    protected final void afterPass(boolean workDone) {
+        if (idleTimeoutNanos <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (workDone) {
+            lastWorkNanos = now;
+            return;
+        }
+        if (now - lastWorkNanos < idleTimeoutNanos) {
+            return;
+        }
+
+        blockCount.inc();
+        spinTimeNanos.inc(now - modeStartNanos);
+        modeStartNanos = now;
+        blocked = true;
+        try {
+            block();
+        } finally {
+            now = System.nanoTime();
+            blockedTimeNanos.inc(now - modeStartNanos);
+            modeStartNanos = now;
+            blocked = false;
+            lastWorkNanos = now;
+        }
+    }
+
+    /**
+     * Blocks the thread until there is work, or until {@link #wakeup()} is called.
+     * <p/>
+     * The implementation has to make sure no work is missed which arrived after the last pass over the connections.
+     */
+    protected abstract void block();
+
+    /**
+     * Wakes up the thread if it is blocked.
+     */
+    public abstract void wakeup();
+
+    /**
+     * @return true if the thread is blocked
+     */
+    public boolean isBlocked() {
+        return blocked;
+    }
+
+    public void shutdown() {
+        interrupt();
+        wakeup();
+    }
+
+    @Probe
+    long spinTimeMs() {
+        return NANOSECONDS.toMillis(spinTimeNanos.get() + (blocked ? 0 : currentModeNanos()));
+    }
+
+    @Probe
+    long blockedTimeMs() {
+        return NANOSECONDS.toMillis(blockedTimeNanos.get() + (blocked ? currentModeNanos() : 0));
+    }
+
+    private long currentModeNanos() {
+        return max(System.nanoTime() - modeStartNanos, 0);
+    }
+}
@@ -39,6 +39,10 @@ import com.hazelcast.nio.tcp.SocketWriter;
  * currently doesn't work for us. So I guess our IO threads are doing too much stuff not relevant like writing the Frames
  * to bytebuffers or converting the bytebuffers to Frames.
  *
+ * Spinning burns a CPU core per thread, also when the cluster is idle. With an idle timeout configured, a thread which
+ * didn't find any work for the idle timeout blocks until there is work again; see
+ * {@link com.hazelcast.instance.GroupProperty#IO_SPINNING_IDLE_TIMEOUT_MILLIS}.
+ *
  * This is an experimental feature and disabled by default.
  */
 public class SpinningIOThreadingModel implements IOThreadingModel {
@@ -48,6 +52,7 @@ public class SpinningIOThreadingModel implements IOThreadingModel {
     private final LoggingService loggingService;
     private final SpinningInputThread inputThread;
     private final SpinningOutputThread outThread;
+    private final long idleTimeoutMillis;
 
     public SpinningIOThreadingModel(
             IOService ioService,
@@ -57,8 +62,21 @@ public class SpinningIOThreadingModel implements IOThreadingModel {
         this.logger = loggingService.getLogger(SpinningIOThreadingModel.class);
         this.metricsRegistry = metricsRegistry;
         this.loggingService = loggingService;
-        this.inputThread = new SpinningInputThread(hazelcastThreadGroup, loggingService.getLogger(SpinningInputThread.class));
-        this.outThread = new SpinningOutputThread(hazelcastThreadGroup, loggingService.getLogger(SpinningOutputThread.class));
+        this.idleTimeoutMillis = ioService.getSpinningIdleTimeoutMillis();
+        this.inputThread = new SpinningInputThread(
+                hazelcastThreadGroup, loggingService.getLogger(SpinningInputThread.class), idleTimeoutMillis);
+        this.outThread = new SpinningOutputThread(
+                hazelcastThreadGroup, loggingService.getLogger(SpinningOutputThread.class), idleTimeoutMillis);
+        metricsRegistry.scanAndRegister(inputThread, "tcp." + inputThread.getName());
+        metricsRegistry.scanAndRegister(outThread, "tcp." + outThread.getName());
+    }
+
+    SpinningInputThread getInputThread() {
+        return inputThread;
+    }
+
+    SpinningOutputThread getOutputThread() {
+        return outThread;
     }
 
     @Override
@@ -69,7 +87,7 @@ public class SpinningIOThreadingModel implements IOThreadingModel {
     @Override
     public SocketWriter newSocketWriter(TcpIpConnection connection) {
         ILogger logger = loggingService.getLogger(SpinningSocketWriter.class);
-        return new SpinningSocketWriter(connection, metricsRegistry, logger);
+        return new SpinningSocketWriter(connection, metricsRegistry, logger, outThread);
     }
 
     @Override
@@ -93,7 +111,8 @@ public class SpinningIOThreadingModel implements IOThreadingModel {
     @Override
     public void start() {
         logger.info("TcpIpConnectionManager configured with Spinning IO-threading model: "
-                + "1 input thread and 1 output thread");
+                + "1 input thread and 1 output thread"
+                + (idleTimeoutMillis > 0 ? ", blocking after " + idleTimeoutMillis + " ms idle" : ""));
         inputThread.start();
         outThread.start();
     }
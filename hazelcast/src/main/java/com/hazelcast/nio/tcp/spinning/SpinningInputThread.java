@@ -16,28 +16,47 @@
 
 package com.hazelcast.nio.tcp.spinning;
 
+import com.hazelcast.core.HazelcastException;
 import com.hazelcast.instance.HazelcastThreadGroup;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.tcp.TcpIpConnection;
 
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.Selector;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static java.lang.System.arraycopy;
 import static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater;
 
-public class SpinningInputThread extends Thread {
+/**
+ * Spins over the {@link SpinningSocketReader}s of all connections. Once it is idle for the idle timeout, it blocks on a
+ * selector until any of the connections is readable.
+ */
+public class SpinningInputThread extends AbstractSpinningThread {
 
     private static final SocketReaders SHUTDOWN = new SocketReaders();
     private static final AtomicReferenceFieldUpdater<SpinningInputThread, SocketReaders> CONNECTION_HANDLERS
             = newUpdater(SpinningInputThread.class, SocketReaders.class, "socketReaders");
 
     private final ILogger logger;
+    // null if the thread keeps spinning
+    private final Selector selector;
     private volatile SocketReaders socketReaders;
 
-    public SpinningInputThread(HazelcastThreadGroup threadGroup, ILogger logger) {
-        super(threadGroup.getInternalThreadGroup(), "in-thread");
+    public SpinningInputThread(HazelcastThreadGroup threadGroup, ILogger logger, long idleTimeoutMillis) {
+        super(threadGroup, "in-thread", idleTimeoutMillis);
         this.logger = logger;
         this.socketReaders = new SocketReaders();
+        this.selector = idleTimeoutMillis > 0 ? newSelector() : null;
+    }
+
+    private static Selector newSelector() {
+        try {
+            return Selector.open();
+        } catch (IOException e) {
+            throw new HazelcastException("Failed to open a Selector", e);
+        }
     }
 
     public void addConnection(TcpIpConnection connection) {
@@ -56,6 +75,8 @@ public class SpinningInputThread extends Thread {
 
             SocketReaders update = new SocketReaders(newReaders);
             if (CONNECTION_HANDLERS.compareAndSet(this, current, update)) {
+                // a blocked thread has to start spinning over the new connection
+                wakeup();
                 return;
             }
         }
@@ -93,27 +114,78 @@ public class SpinningInputThread extends Thread {
         }
     }
 
+    @Override
     public void shutdown() {
         socketReaders = SHUTDOWN;
-        interrupt();
+        super.shutdown();
     }
 
     @Override
-    public void run() {
-        for (; ; ) {
-            SocketReaders handlers = socketReaders;
+    public void wakeup() {
+        if (selector != null && isBlocked()) {
+            selector.wakeup();
+        }
+    }
 
-            if (handlers == SHUTDOWN) {
-                return;
+    @Override
+    protected void block() {
+        // blocked is set before the readers are registered, so a connection added after this read of the readers
+        // wakes up the selector
+        SocketReaders handlers = socketReaders;
+        if (handlers == SHUTDOWN) {
+            return;
+        }
+
+        for (SpinningSocketReader reader : handlers.readers) {
+            try {
+                reader.registerForRead(selector);
+            } catch (ClosedChannelException e) {
+                // the connection is closed, the next pass over the readers deals with it
+                logger.finest("Can't register a closed connection", e);
             }
+        }
+
+        try {
+            selector.select();
+            selector.selectedKeys().clear();
+        } catch (IOException e) {
+            logger.warning("Failed to block on the selector, continuing to spin", e);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            for (; ; ) {
+                SocketReaders handlers = socketReaders;
 
-            for (SpinningSocketReader reader : handlers.readers) {
-                try {
-                    reader.read();
-                } catch (Throwable t) {
-                    reader.onFailure(t);
+                if (handlers == SHUTDOWN) {
+                    return;
                 }
+
+                boolean workDone = false;
+                for (SpinningSocketReader reader : handlers.readers) {
+                    try {
+                        workDone |= reader.read();
+                    } catch (Throwable t) {
+                        reader.onFailure(t);
+                    }
+                }
+                afterPass(workDone);
             }
+        } finally {
+            closeSelector();
+        }
+    }
+
+    private void closeSelector() {
+        if (selector == null) {
+            return;
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.finest("Failed to close the selector", e);
         }
     }
 
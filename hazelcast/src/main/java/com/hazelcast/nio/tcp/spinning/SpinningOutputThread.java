@@ -21,11 +21,16 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.tcp.TcpIpConnection;
 
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 import static java.lang.System.arraycopy;
 import static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater;
 
-public class SpinningOutputThread extends Thread {
+/**
+ * Spins over the {@link SpinningSocketWriter}s of all connections. Once it is idle for the idle timeout, it parks until
+ * a frame is offered to any of the connections.
+ */
+public class SpinningOutputThread extends AbstractSpinningThread {
 
     private static final SocketWriters SHUTDOWN = new SocketWriters();
     private static final AtomicReferenceFieldUpdater<SpinningOutputThread, SocketWriters> CONNECTION_HANDLERS
@@ -34,8 +39,8 @@ public class SpinningOutputThread extends Thread {
     private final ILogger logger;
     private volatile SocketWriters socketWriters;
 
-    public SpinningOutputThread(HazelcastThreadGroup threadGroup, ILogger logger) {
-        super(threadGroup.getInternalThreadGroup(), "out-thread");
+    public SpinningOutputThread(HazelcastThreadGroup threadGroup, ILogger logger, long idleTimeoutMillis) {
+        super(threadGroup, "out-thread", idleTimeoutMillis);
         this.logger = logger;
         this.socketWriters = new SocketWriters();
     }
@@ -57,6 +62,7 @@ public class SpinningOutputThread extends Thread {
 
             SocketWriters update = new SocketWriters(newWriters);
             if (CONNECTION_HANDLERS.compareAndSet(this, current, update)) {
+                wakeup();
                 return;
             }
         }
@@ -94,9 +100,32 @@ public class SpinningOutputThread extends Thread {
         }
     }
 
+    @Override
     public void shutdown() {
         socketWriters = SHUTDOWN;
-        interrupt();
+        super.shutdown();
+    }
+
+    @Override
+    public void wakeup() {
+        if (isBlocked()) {
+            LockSupport.unpark(this);
+        }
+    }
+
+    @Override
+    protected void block() {
+        // blocked is set before the writers are checked, so a frame offered after the check unparks the thread
+        SocketWriters handlers = socketWriters;
+        if (handlers == SHUTDOWN) {
+            return;
+        }
+        for (SpinningSocketWriter writer : handlers.writers) {
+            if (writer.hasPendingWork()) {
+                return;
+            }
+        }
+        LockSupport.park();
     }
 
     @Override
@@ -108,13 +137,16 @@ public class SpinningOutputThread extends Thread {
                 return;
             }
 
+            boolean workDone = false;
             for (SpinningSocketWriter writer : handlers.writers) {
                 try {
+                    workDone |= writer.hasPendingWork();
                     writer.write();
                 } catch (Throwable t) {
                     writer.onFailure(t);
                 }
             }
+            afterPass(workDone);
         }
     }
 
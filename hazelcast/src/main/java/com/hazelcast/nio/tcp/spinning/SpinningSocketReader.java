@@ -23,6 +23,7 @@ import com.hazelcast.nio.Protocols;
 import com.hazelcast.nio.ascii.TextReadHandler;
 import com.hazelcast.nio.tcp.NewClientReadHandler;
 import com.hazelcast.nio.tcp.OldClientReadHandler;
+import com.hazelcast.nio.tcp.PacketCompressor;
 import com.hazelcast.nio.tcp.SocketReader;
 import com.hazelcast.nio.tcp.SocketChannelWrapper;
 import com.hazelcast.nio.tcp.ReadHandler;
@@ -35,16 +36,20 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.Selector;
 
 import static com.hazelcast.nio.ConnectionType.MEMBER;
 import static com.hazelcast.nio.IOService.KILO_BYTE;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY_NEW;
 import static com.hazelcast.nio.Protocols.CLUSTER;
+import static com.hazelcast.nio.Protocols.CLUSTER_COMPRESSION;
 import static com.hazelcast.util.StringUtil.bytesToString;
 import static com.hazelcast.util.counters.SwCounter.newSwCounter;
 import static java.lang.Math.max;
 import static java.lang.System.currentTimeMillis;
+import static java.nio.channels.SelectionKey.OP_READ;
 
 public class SpinningSocketReader extends AbstractHandler implements SocketReader {
 
@@ -98,17 +103,36 @@ public class SpinningSocketReader extends AbstractHandler implements SocketReade
         metricRegistry.deregister(this);
     }
 
-    public void read() throws Exception {
+    /**
+     * Registers the socket channel of this reader for reads, so the {@link SpinningInputThread} can block on the
+     * selector until there is something to read.
+     *
+     * @param selector the selector
+     * @throws ClosedChannelException if the socket channel is closed
+     */
+    void registerForRead(Selector selector) throws ClosedChannelException {
+        if (socketChannel.keyFor(selector) == null) {
+            socketChannel.register(selector, OP_READ, this);
+        }
+    }
+
+    /**
+     * Reads from the socket channel, if there is anything to read.
+     *
+     * @return true if any bytes were read
+     * @throws Exception if reading failed
+     */
+    public boolean read() throws Exception {
         if (!connection.isAlive()) {
             socketChannel.closeInbound();
-            return;
+            return false;
         }
 
         if (readHandler == null) {
             initializeSocketReader();
             if (readHandler == null) {
                 // when using SSL, we can read 0 bytes since data read from socket can be handshake frames.
-                return;
+                return false;
             }
         }
 
@@ -117,7 +141,7 @@ public class SpinningSocketReader extends AbstractHandler implements SocketReade
             if (readBytes == -1) {
                 throw new EOFException("Remote socket closed!");
             }
-            return;
+            return false;
         }
 
         lastReadTime = currentTimeMillis();
@@ -129,6 +153,7 @@ public class SpinningSocketReader extends AbstractHandler implements SocketReade
         } else {
             inputBuffer.clear();
         }
+        return true;
     }
 
     private void initializeSocketReader() throws IOException {
@@ -153,10 +178,14 @@ public class SpinningSocketReader extends AbstractHandler implements SocketReade
 
         String protocol = bytesToString(protocolBuffer.array());
         SocketWriter socketWriter = connection.getSocketWriter();
-        if (CLUSTER.equals(protocol)) {
+        if (CLUSTER.equals(protocol) || CLUSTER_COMPRESSION.equals(protocol)) {
             configureBuffers(ioService.getSocketReceiveBufferSize() * KILO_BYTE);
             connection.setType(MEMBER);
             socketWriter.setProtocol(CLUSTER);
+            int compressionThreshold = ioService.getPacketCompressionThreshold();
+            if (CLUSTER_COMPRESSION.equals(protocol) && compressionThreshold > 0) {
+                connection.setPacketCompressor(new PacketCompressor(compressionThreshold));
+            }
             readHandler = ioService.createReadHandler(connection);
         } else if (CLIENT_BINARY.equals(protocol)) {
             configureBuffers(ioService.getSocketClientReceiveBufferSize() * KILO_BYTE);
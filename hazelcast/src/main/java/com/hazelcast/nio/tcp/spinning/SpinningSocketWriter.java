@@ -44,6 +44,7 @@ import static com.hazelcast.nio.IOService.KILO_BYTE;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY;
 import static com.hazelcast.nio.Protocols.CLIENT_BINARY_NEW;
 import static com.hazelcast.nio.Protocols.CLUSTER;
+import static com.hazelcast.nio.Protocols.CLUSTER_COMPRESSION;
 import static com.hazelcast.util.StringUtil.stringToBytes;
 import static com.hazelcast.util.counters.SwCounter.newSwCounter;
 import static java.lang.System.currentTimeMillis;
@@ -66,13 +67,16 @@ public class SpinningSocketWriter extends AbstractHandler implements SocketWrite
     @Probe(name = "out.priorityFramesWritten")
     private final SwCounter priorityFramesWritten = newSwCounter();
     private final MetricsRegistry metricsRegistry;
+    private final SpinningOutputThread outputThread;
     private volatile long lastWriteTime;
     private WriteHandler writeHandler;
     private volatile OutboundFrame currentFrame;
 
-    public SpinningSocketWriter(TcpIpConnection connection, MetricsRegistry metricsRegistry, ILogger logger) {
+    public SpinningSocketWriter(TcpIpConnection connection, MetricsRegistry metricsRegistry, ILogger logger,
+                                SpinningOutputThread outputThread) {
         super(connection, logger);
         this.metricsRegistry = metricsRegistry;
+        this.outputThread = outputThread;
         this.logger = logger;
         this.socketChannel = connection.getSocketChannelWrapper();
         this.writeQueue = new ConcurrentLinkedQueue<OutboundFrame>();
@@ -88,6 +92,18 @@ public class SpinningSocketWriter extends AbstractHandler implements SocketWrite
         } else {
             writeQueue.add(frame);
         }
+        outputThread.wakeup();
+    }
+
+    /**
+     * Checks if there is anything to write: frames in the write queues or bytes in the output buffer. Should only be
+     * called by the output thread.
+     *
+     * @return true if there is anything to write
+     */
+    boolean hasPendingWork() {
+        return currentFrame != null || dirtyOutputBuffer() || socketChannel.hasBufferedOutput()
+                || !urgentWriteQueue.isEmpty() || !writeQueue.isEmpty();
     }
 
     @Probe(name = "out.writeQueuePendingBytes")
@@ -134,7 +150,7 @@ public class SpinningSocketWriter extends AbstractHandler implements SocketWrite
     @Override
     public void setProtocol(final String protocol) {
         final CountDownLatch latch = new CountDownLatch(1);
-        urgentWriteQueue.add(new TaskFrame() {
+        offer(new TaskFrame() {
             @Override
             public void run() {
                 logger.info("Setting protocol: " + protocol);
@@ -158,7 +174,7 @@ public class SpinningSocketWriter extends AbstractHandler implements SocketWrite
         if (CLUSTER.equals(protocol)) {
             configureBuffers(ioService.getSocketSendBufferSize() * KILO_BYTE);
             writeHandler = ioService.createWriteHandler(connection);
-            outputBuffer.put(stringToBytes(CLUSTER));
+            outputBuffer.put(stringToBytes(ioService.getPacketCompressionThreshold() > 0 ? CLUSTER_COMPRESSION : CLUSTER));
         } else if (CLIENT_BINARY.equals(protocol)) {
             configureBuffers(ioService.getSocketClientSendBufferSize() * KILO_BYTE);
             writeHandler = new OldClientWriteHandler();
@@ -209,6 +225,11 @@ public class SpinningSocketWriter extends AbstractHandler implements SocketWrite
         }
     }
 
+    @Override
+    public void wakeup() {
+        // the writer keeps trying to write anyway
+    }
+
     @Override
     public void start() {
         //no-op
@@ -238,7 +259,7 @@ public class SpinningSocketWriter extends AbstractHandler implements SocketWrite
 
         fillOutputBuffer();
 
-        if (dirtyOutputBuffer()) {
+        if (dirtyOutputBuffer() || socketChannel.hasBufferedOutput()) {
             writeOutputBufferToSocket();
         }
     }
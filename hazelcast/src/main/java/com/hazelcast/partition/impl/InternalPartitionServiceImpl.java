@@ -102,6 +102,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 
 import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
+import static com.hazelcast.memory.MemoryUnit.KILOBYTES;
 import static com.hazelcast.partition.impl.InternalPartitionServiceState.MIGRATION_LOCAL;
 import static com.hazelcast.partition.impl.InternalPartitionServiceState.MIGRATION_ON_MASTER;
 import static com.hazelcast.partition.impl.InternalPartitionServiceState.REPLICA_NOT_SYNC;
@@ -137,6 +138,7 @@ public class InternalPartitionServiceImpl implements InternalPartitionService, M
     private final MigrationThread migrationThread;
     private final long partitionMigrationInterval;
     private final long partitionMigrationTimeout;
+    private final long partitionMigrationChunkSize;
     private final long backupSyncCheckInterval;
     private final int maxParallelReplications;
     private final PartitionStateGenerator partitionStateGenerator;
@@ -198,6 +200,8 @@ public class InternalPartitionServiceImpl implements InternalPartitionService, M
         partitionMigrationInterval = (intervalMillis > 0 ? intervalMillis : 0);
 
         partitionMigrationTimeout = node.groupProperties.getMillis(GroupProperty.PARTITION_MIGRATION_TIMEOUT);
+        int chunkSizeKb = node.groupProperties.getInteger(GroupProperty.PARTITION_MIGRATION_CHUNK_SIZE);
+        partitionMigrationChunkSize = KILOBYTES.toBytes(chunkSizeKb);
 
         migrationThread = new MigrationThread(node);
         proxy = new PartitionServiceProxy(this);
@@ -1363,6 +1367,13 @@ public class InternalPartitionServiceImpl implements InternalPartitionService, M
         return partitionMigrationTimeout;
     }
 
+    /**
+     * @return the maximum size in bytes of a chunk of migration data, 0 or lower if the data is not split
+     */
+    long getPartitionMigrationChunkSize() {
+        return partitionMigrationChunkSize;
+    }
+
     // called in operation threads
     // Caution: Returning version array without copying for performance reasons. Callers must not modify this array!
     @Override
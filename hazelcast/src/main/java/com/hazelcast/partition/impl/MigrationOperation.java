@@ -39,6 +39,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.logging.Level;
 
+/**
+ * Runs the replication operations of a migrating partition on the destination.
+ * <p/>
+ * The data of a partition can be sent in several chunks, each by its own MigrationOperation: the first chunk
+ * registers the migration as active, the last one sets the replica versions. See
+ * {@link com.hazelcast.spi.impl.ChunkedMigrationAwareService}.
+ */
 @SuppressFBWarnings("EI_EXPOSE_REP")
 public final class MigrationOperation extends BaseMigrationOperation {
 
@@ -56,6 +63,8 @@ public final class MigrationOperation extends BaseMigrationOperation {
 
     private long[] replicaVersions;
     private Collection<Operation> tasks;
+    private boolean firstChunk = true;
+    private boolean lastChunk = true;
 
     private Throwable failureReason;
 
@@ -63,9 +72,16 @@ public final class MigrationOperation extends BaseMigrationOperation {
     }
 
     public MigrationOperation(MigrationInfo migrationInfo, long[] replicaVersions, Collection<Operation> tasks) {
+        this(migrationInfo, replicaVersions, tasks, true, true);
+    }
+
+    public MigrationOperation(MigrationInfo migrationInfo, long[] replicaVersions, Collection<Operation> tasks,
+                              boolean firstChunk, boolean lastChunk) {
         super(migrationInfo);
         this.replicaVersions = replicaVersions;
         this.tasks = tasks;
+        this.firstChunk = firstChunk;
+        this.lastChunk = lastChunk;
     }
 
     @Override
@@ -122,7 +138,11 @@ public final class MigrationOperation extends BaseMigrationOperation {
     }
 
     private void afterMigrate() {
-        if (success) {
+        if (success && !lastChunk) {
+            if (getLogger().isFinestEnabled()) {
+                getLogger().finest("Migration chunk is applied. partitionId=" + migrationInfo.getPartitionId());
+            }
+        } else if (success) {
             InternalPartitionService partitionService = getService();
             partitionService.setPartitionReplicaVersions(migrationInfo.getPartitionId(), replicaVersions, 1);
             if (getLogger().isFinestEnabled()) {
@@ -149,7 +169,11 @@ public final class MigrationOperation extends BaseMigrationOperation {
     }
 
     private void migrate() throws Exception {
-        addActiveMigration();
+        if (firstChunk) {
+            addActiveMigration();
+        } else {
+            verifyActiveMigration();
+        }
 
         for (Operation op : tasks) {
             prepareOperation(op);
@@ -170,6 +194,14 @@ public final class MigrationOperation extends BaseMigrationOperation {
         partitionService.addActiveMigration(migrationInfo);
     }
 
+    private void verifyActiveMigration() {
+        InternalPartitionServiceImpl partitionService = getService();
+        MigrationInfo activeMigration = partitionService.getActiveMigration(migrationInfo.getPartitionId());
+        if (!migrationInfo.equals(activeMigration)) {
+            throw new IllegalStateException("Migration is not active anymore, dropping its chunk -> " + migrationInfo);
+        }
+    }
+
     private void runMigrationTask(Operation op) throws Exception {
         MigrationAwareService service = op.getService();
         PartitionMigrationEvent event =
@@ -210,6 +242,8 @@ public final class MigrationOperation extends BaseMigrationOperation {
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         super.writeInternal(out);
         out.writeLongArray(replicaVersions);
+        out.writeBoolean(firstChunk);
+        out.writeBoolean(lastChunk);
         int size = tasks != null ? tasks.size() : 0;
         out.writeInt(size);
         if (size > 0) {
@@ -223,6 +257,8 @@ public final class MigrationOperation extends BaseMigrationOperation {
     protected void readInternal(ObjectDataInput in) throws IOException {
         super.readInternal(in);
         replicaVersions = in.readLongArray();
+        firstChunk = in.readBoolean();
+        lastChunk = in.readBoolean();
         int size = in.readInt();
         if (size > 0) {
             tasks = new ArrayList<Operation>(size);
@@ -239,6 +275,7 @@ public final class MigrationOperation extends BaseMigrationOperation {
     public String toString() {
         final int numberOfTasks = tasks != null ? tasks.size() : 0;
         return getClass().getSimpleName() + "{partitionId=" + getPartitionId() + ", migration=" + migrationInfo
-                + ", replicaVersions=" + Arrays.toString(replicaVersions) + ", numberOfTasks=" + numberOfTasks + '}';
+                + ", replicaVersions=" + Arrays.toString(replicaVersions) + ", numberOfTasks=" + numberOfTasks
+                + ", firstChunk=" + firstChunk + ", lastChunk=" + lastChunk + '}';
     }
 }
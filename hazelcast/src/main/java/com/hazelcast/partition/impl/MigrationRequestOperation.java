@@ -30,18 +30,30 @@ import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionMigrationEvent;
 import com.hazelcast.spi.PartitionReplicationEvent;
+import com.hazelcast.spi.impl.ChunkedMigrationAwareService;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.SimpleExecutionCallback;
 import com.hazelcast.spi.impl.servicemanager.ServiceInfo;
 import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.spi.exception.TargetNotMemberException;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationservice.InternalOperationService;
 
-import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 
+/**
+ * Sent by the master to the source of a migration, which sends the data of the partition to the destination.
+ * <p/>
+ * The data is split into chunks of at most {@link com.hazelcast.instance.GroupProperty#PARTITION_MIGRATION_CHUNK_SIZE},
+ * as far as the services support it, see {@link ChunkedMigrationAwareService}. The chunks are built and sent one at
+ * a time on the partition thread: the next chunk is built once the destination applied the previous one, so there is
+ * at most one chunk in memory and in flight per migration.
+ */
 public final class MigrationRequestOperation extends BaseMigrationOperation {
 
     private static final int TRY_PAUSE_MILLIS = 1000;
@@ -86,9 +98,9 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
         try {
             verifyOwner(source, partition, owner);
             partitionService.addActiveMigration(migrationInfo);
-            Collection<Operation> tasks = prepareMigrationTasks();
+            MigrationChunks chunks = prepareMigrationChunks(partitionService.getPartitionMigrationChunkSize());
             long[] replicaVersions = partitionService.getPartitionReplicaVersions(migrationInfo.getPartitionId());
-            invokeMigrationOperation(destination, replicaVersions, tasks);
+            invokeMigrationOperation(destination, replicaVersions, chunks, true);
             returnResponse = false;
         } catch (Throwable e) {
             logThrowable(e);
@@ -132,17 +144,22 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
         }
     }
 
-    private void invokeMigrationOperation(Address destination, long[] replicaVersions, Collection<Operation> tasks)
-            throws IOException {
+    private void invokeMigrationOperation(Address destination, long[] replicaVersions, MigrationChunks chunks,
+                                          boolean firstChunk) {
 
-        MigrationOperation operation = new MigrationOperation(migrationInfo, replicaVersions, tasks);
+        Collection<Operation> tasks = chunks.next();
+        boolean lastChunk = !chunks.hasNext();
+        MigrationOperation operation = new MigrationOperation(migrationInfo, replicaVersions, tasks, firstChunk, lastChunk);
 
         NodeEngine nodeEngine = getNodeEngine();
         InternalPartitionServiceImpl partitionService = getService();
 
+        MigrationCallback callback = lastChunk
+                ? new MigrationCallback(migrationInfo, this)
+                : new MigrationChunkCallback(migrationInfo, this, destination, replicaVersions, chunks);
         nodeEngine.getOperationService()
                 .createInvocationBuilder(InternalPartitionService.SERVICE_NAME, operation, destination)
-                .setExecutionCallback(new MigrationCallback(migrationInfo, this))
+                .setExecutionCallback(callback)
                 .setResultDeserialized(true)
                 .setCallTimeout(partitionService.getPartitionMigrationTimeout())
                 .setTryPauseMillis(TRY_PAUSE_MILLIS)
@@ -185,31 +202,78 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
         return returnResponse;
     }
 
-    private Collection<Operation> prepareMigrationTasks() {
+    private MigrationChunks prepareMigrationChunks(long maxChunkSize) {
         NodeEngineImpl nodeEngine = (NodeEngineImpl) getNodeEngine();
         PartitionReplicationEvent replicationEvent = new PartitionReplicationEvent(migrationInfo.getPartitionId(), 0);
         PartitionMigrationEvent migrationEvent
                 = new PartitionMigrationEvent(MigrationEndpoint.SOURCE, migrationInfo.getPartitionId());
 
-        Collection<Operation> tasks = new LinkedList<Operation>();
+        MigrationChunks chunks = new MigrationChunks();
         for (ServiceInfo serviceInfo : nodeEngine.getServiceInfos(MigrationAwareService.class)) {
             MigrationAwareService service = (MigrationAwareService) serviceInfo.getService();
             service.beforeMigration(migrationEvent);
+            if (maxChunkSize > 0 && service instanceof ChunkedMigrationAwareService) {
+                ChunkedMigrationAwareService chunkedService = (ChunkedMigrationAwareService) service;
+                chunks.add(serviceInfo.getName(), chunkedService.prepareReplicationChunks(replicationEvent, maxChunkSize));
+                continue;
+            }
             Operation op = service.prepareReplicationOperation(replicationEvent);
             if (op != null) {
-                op.setServiceName(serviceInfo.getName());
-                tasks.add(op);
+                chunks.add(serviceInfo.getName(), Collections.singleton(op).iterator());
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * The replication operations of the services, built into chunks as the migration proceeds. A chunk contains the
+     * next task of each service, but only a single chunk of a chunked service: its next chunk starts the next
+     * migration chunk. Only used on the partition thread.
+     */
+    static final class MigrationChunks {
+
+        private final LinkedList<String> serviceNames = new LinkedList<String>();
+        private final LinkedList<Iterator<Operation>> tasks = new LinkedList<Iterator<Operation>>();
+
+        void add(String serviceName, Iterator<Operation> serviceTasks) {
+            serviceNames.add(serviceName);
+            tasks.add(serviceTasks);
+        }
+
+        boolean hasNext() {
+            while (!tasks.isEmpty() && !tasks.getFirst().hasNext()) {
+                serviceNames.removeFirst();
+                tasks.removeFirst();
+            }
+            return !tasks.isEmpty();
+        }
+
+        /**
+         * Builds the next chunk; the first one is built even if there are no tasks, it starts the migration.
+         */
+        Collection<Operation> next() {
+            Collection<Operation> chunk = new LinkedList<Operation>();
+            Iterator<Operation> taken = null;
+            while (hasNext()) {
+                Iterator<Operation> serviceTasks = tasks.getFirst();
+                if (serviceTasks == taken) {
+                    break;
+                }
+                Operation task = serviceTasks.next();
+                task.setServiceName(serviceNames.getFirst());
+                chunk.add(task);
+                taken = serviceTasks;
             }
+            return chunk;
         }
-        return tasks;
     }
 
-    private static final class MigrationCallback extends SimpleExecutionCallback<Object> {
+    private static class MigrationCallback extends SimpleExecutionCallback<Object> {
 
         final MigrationInfo migrationInfo;
         final MigrationRequestOperation op;
 
-        private MigrationCallback(MigrationInfo migrationInfo, MigrationRequestOperation op) {
+        MigrationCallback(MigrationInfo migrationInfo, MigrationRequestOperation op) {
             this.migrationInfo = migrationInfo;
             this.op = op;
         }
@@ -220,4 +284,51 @@ public final class MigrationRequestOperation extends BaseMigrationOperation {
             op.sendResponse(result);
         }
     }
+
+    /**
+     * Builds and sends the next chunk on the partition thread once the destination applied the previous one.
+     */
+    private static final class MigrationChunkCallback extends MigrationCallback {
+
+        final Address destination;
+        final long[] replicaVersions;
+        final MigrationChunks chunks;
+
+        private MigrationChunkCallback(MigrationInfo migrationInfo, MigrationRequestOperation op, Address destination,
+                                       long[] replicaVersions, MigrationChunks chunks) {
+            super(migrationInfo, op);
+            this.destination = destination;
+            this.replicaVersions = replicaVersions;
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void notify(Object result) {
+            if (!Boolean.TRUE.equals(result) || !migrationInfo.isValid()) {
+                super.notify(result instanceof Throwable ? result : Boolean.FALSE);
+                return;
+            }
+            InternalOperationService operationService = (InternalOperationService) op.getNodeEngine().getOperationService();
+            operationService.execute(new PartitionSpecificRunnable() {
+                @Override
+                public void run() {
+                    sendNextChunk();
+                }
+
+                @Override
+                public int getPartitionId() {
+                    return migrationInfo.getPartitionId();
+                }
+            });
+        }
+
+        private void sendNextChunk() {
+            try {
+                op.invokeMigrationOperation(destination, replicaVersions, chunks, false);
+            } catch (Throwable t) {
+                op.logThrowable(t);
+                super.notify(Boolean.FALSE);
+            }
+        }
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query;
+
+import java.io.Serializable;
+
+/**
+ * Accumulates the entries matched by a query into a single result.
+ * <p/>
+ * The entries of every partition are accumulated by a separate copy of the aggregator on the partition thread,
+ * then the copies are {@link #combine(Aggregator) combined} on the members and by the caller, which finally calls
+ * {@link #aggregate()}. An aggregator instance is thus used by a single thread at a time, its state is carried
+ * between the members by serializing it.
+ *
+ * @param <I> type of the input, the queried map entries
+ * @param <R> type of the aggregation result
+ * @see Aggregators
+ * @see com.hazelcast.core.IMap#aggregate(Aggregator, Predicate)
+ */
+public interface Aggregator<I, R> extends Serializable {
+
+    /**
+     * Accumulates the given entry. The entry instance may be reused for other entries after the call, so it must
+     * not be kept.
+     *
+     * @param input the queried entry
+     */
+    void accumulate(I input);
+
+    /**
+     * Merges the state of another aggregator of the same type, which accumulated other entries, into this one.
+     *
+     * @param aggregator the aggregator to be combined
+     */
+    void combine(Aggregator aggregator);
+
+    /**
+     * Returns the result of the aggregation once all the entries are accumulated and combined.
+     *
+     * @return the aggregation result
+     */
+    R aggregate();
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query;
+
+import com.hazelcast.query.impl.aggregators.CountAggregator;
+import com.hazelcast.query.impl.aggregators.DoubleAverageAggregator;
+import com.hazelcast.query.impl.aggregators.DoubleSumAggregator;
+import com.hazelcast.query.impl.aggregators.LongSumAggregator;
+import com.hazelcast.query.impl.aggregators.MaxAggregator;
+import com.hazelcast.query.impl.aggregators.MinAggregator;
+
+import java.util.Map;
+
+/**
+ * A utility class to create {@link com.hazelcast.query.Aggregator} instances.
+ * <p/>
+ * The attributes are extracted the same way as the attributes of predicates; entries having a null attribute value
+ * are not accumulated.
+ */
+public final class Aggregators {
+
+    //we don't want instances. private constructor.
+    private Aggregators() {
+    }
+
+    /**
+     * @return an aggregator counting the entries
+     */
+    public static <I extends Map.Entry> Aggregator<I, Long> count() {
+        return new CountAggregator<I>();
+    }
+
+    /**
+     * @param attribute the numeric attribute to be summed
+     * @return an aggregator summing the long values of the attribute
+     */
+    public static <I extends Map.Entry> Aggregator<I, Long> longSum(String attribute) {
+        return new LongSumAggregator<I>(attribute);
+    }
+
+    /**
+     * @param attribute the numeric attribute to be summed
+     * @return an aggregator summing the double values of the attribute
+     */
+    public static <I extends Map.Entry> Aggregator<I, Double> doubleSum(String attribute) {
+        return new DoubleSumAggregator<I>(attribute);
+    }
+
+    /**
+     * @param attribute the numeric attribute to be averaged
+     * @return an aggregator averaging the double values of the attribute, null if no entry is accumulated
+     */
+    public static <I extends Map.Entry> Aggregator<I, Double> doubleAvg(String attribute) {
+        return new DoubleAverageAggregator<I>(attribute);
+    }
+
+    /**
+     * @param attribute the attribute whose maximum is searched
+     * @return an aggregator finding the maximum value of the attribute, null if no entry is accumulated
+     */
+    public static <I extends Map.Entry, R extends Comparable> Aggregator<I, R> max(String attribute) {
+        return new MaxAggregator<I, R>(attribute);
+    }
+
+    /**
+     * @param attribute the attribute whose minimum is searched
+     * @return an aggregator finding the minimum value of the attribute, null if no entry is accumulated
+     */
+    public static <I extends Map.Entry, R extends Comparable> Aggregator<I, R> min(String attribute) {
+        return new MinAggregator<I, R>(attribute);
+    }
+}
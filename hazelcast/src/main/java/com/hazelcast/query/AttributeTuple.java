@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query;
+
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The values of the attributes projected by {@link Projections#multiAttribute(String...)}, in the order of the
+ * attributes.
+ */
+public final class AttributeTuple implements IdentifiedDataSerializable {
+
+    private Object[] values;
+
+    public AttributeTuple() {
+    }
+
+    public AttributeTuple(Object... values) {
+        this.values = values.clone();
+    }
+
+    /**
+     * Returns the value of the attribute at the given position.
+     *
+     * @param index the position of the attribute
+     * @param <T>   type of the value
+     * @return the value of the attribute
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the {@link #size()}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * @return the number of values in this tuple
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return a copy of the values of this tuple
+     */
+    public Object[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return MapDataSerializerHook.ATTRIBUTE_TUPLE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(values.length);
+        for (Object value : values) {
+            out.writeObject(value);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        values = new Object[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readObject();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(values, ((AttributeTuple) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeTuple" + Arrays.toString(values);
+    }
+}
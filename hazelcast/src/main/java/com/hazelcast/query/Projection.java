@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query;
+
+import java.io.Serializable;
+
+/**
+ * Transforms the entries matched by a query into the values shipped back to the caller.
+ * <p/>
+ * The projection runs on the members owning the entries, so only its results travel across the network.
+ * Projection instance must be thread-safe, {@link #transform(Object)} is called by multiple threads concurrently.
+ *
+ * @param <I> type of the input, the queried map entries
+ * @param <O> type of the projected output
+ * @see Projections
+ * @see com.hazelcast.core.IMap#project(Projection, Predicate)
+ */
+public interface Projection<I, O> extends Serializable {
+
+    /**
+     * Transforms the input entry into the projected value.
+     *
+     * @param input the queried entry
+     * @return the projected value
+     */
+    O transform(I input);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query;
+
+import com.hazelcast.query.impl.projections.MultiAttributeProjection;
+import com.hazelcast.query.impl.projections.SingleAttributeProjection;
+
+import java.util.Map;
+
+/**
+ * A utility class to create {@link com.hazelcast.query.Projection} instances.
+ * <p/>
+ * The attributes are extracted the same way as the attributes of predicates, so nested attributes like
+ * {@code address.city}, the {@code __key} attribute and the fields of Portable values are supported. Portable and
+ * declared IdentifiedDataSerializable values are not deserialized to project their fields.
+ */
+public final class Projections {
+
+    //we don't want instances. private constructor.
+    private Projections() {
+    }
+
+    /**
+     * Projects the entries to the value of a single attribute.
+     *
+     * @param attribute the attribute to be projected
+     * @param <I>       type of the input map entries
+     * @param <O>       type of the attribute
+     * @return the projection
+     */
+    public static <I extends Map.Entry, O> Projection<I, O> singleAttribute(String attribute) {
+        return new SingleAttributeProjection<I, O>(attribute);
+    }
+
+    /**
+     * Projects the entries to tuples holding the values of the given attributes, in the given order.
+     *
+     * @param attributes the attributes to be projected
+     * @param <I>        type of the input map entries
+     * @return the projection
+     */
+    public static <I extends Map.Entry> Projection<I, AttributeTuple> multiAttribute(String... attributes) {
+        return new MultiAttributeProjection<I>(attributes);
+    }
+}
@@ -16,32 +16,46 @@
 
 package com.hazelcast.query.impl;
 
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import static com.hazelcast.util.HashUtil.MurmurHash3_fmix;
 
 /**
  * Base class for concrete index store implementations
+ * <p/>
+ * Index reads are not locked, they see the index through the concurrent maps of the store just like queries see
+ * the record store. Updates only have to be atomic per index value, since the entry map of a value is created by
+ * its first entry and removed with its last one. So updates are serialized on a mutex striped by the index value
+ * instead of a store-wide lock, and updates of different values run in parallel.
  */
 public abstract class BaseIndexStore implements IndexStore {
 
     protected static final float LOAD_FACTOR = 0.75F;
 
-    protected ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    protected ReentrantReadWriteLock.ReadLock readLock = lock.readLock();
-    protected ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
+    // must be a power of two
+    private static final int MUTEX_COUNT = 64;
 
-    protected void takeWriteLock() {
-        writeLock.lock();
-    }
+    private final Object[] mutexes = new Object[MUTEX_COUNT];
 
-    protected void releaseWriteLock() {
-        writeLock.unlock();
+    protected BaseIndexStore() {
+        for (int i = 0; i < MUTEX_COUNT; i++) {
+            mutexes[i] = new Object();
+        }
     }
 
-    protected void takeReadLock() {
-        readLock.lock();
+    @Override
+    public void updateIndex(Comparable oldValue, Comparable newValue, QueryableEntry entry) {
+        if (oldValue.equals(newValue)) {
+            // entry stays in the same entry map, just replace it
+            newIndex(newValue, entry);
+        } else {
+            removeIndex(oldValue, entry.getIndexKey());
+            newIndex(newValue, entry);
+        }
     }
 
-    protected void releaseReadLock() {
-        readLock.unlock();
+    /**
+     * Returns the mutex guarding the updates of given index value.
+     */
+    protected Object getMutex(Comparable value) {
+        return mutexes[MurmurHash3_fmix(value.hashCode()) & (MUTEX_COUNT - 1)];
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Growable set of entry ordinals, one bit per ordinal.
+ * <p/>
+ * Bits are set and cleared without locking by CAS on the words, which live in fixed-size chunks. Growing adds
+ * chunks to a new chunk array sharing the existing chunks, so a concurrent update to an existing chunk is never
+ * lost. Queries work on {@link #snapshot() snapshots}, which are combined by the static word-level operations of
+ * this class.
+ */
+final class Bitmap {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int ADDRESS_WORDS_PER_CHUNK = 4;
+    private static final int WORDS_PER_CHUNK = 1 << ADDRESS_WORDS_PER_CHUNK;
+    private static final int WORD_INDEX_MASK = WORDS_PER_CHUNK - 1;
+
+    private static final AtomicLongArray[] NO_CHUNKS = new AtomicLongArray[0];
+
+    private volatile AtomicLongArray[] chunks = NO_CHUNKS;
+
+    void set(int bit) {
+        int wordIndex = bit >>> ADDRESS_BITS_PER_WORD;
+        AtomicLongArray chunk = getOrCreateChunk(wordIndex >>> ADDRESS_WORDS_PER_CHUNK);
+        int index = wordIndex & WORD_INDEX_MASK;
+        long mask = 1L << bit;
+        for (;;) {
+            long word = chunk.get(index);
+            if ((word & mask) != 0 || chunk.compareAndSet(index, word, word | mask)) {
+                return;
+            }
+        }
+    }
+
+    void clear(int bit) {
+        int wordIndex = bit >>> ADDRESS_BITS_PER_WORD;
+        AtomicLongArray[] chunks = this.chunks;
+        int chunkIndex = wordIndex >>> ADDRESS_WORDS_PER_CHUNK;
+        if (chunkIndex >= chunks.length) {
+            return;
+        }
+        AtomicLongArray chunk = chunks[chunkIndex];
+        int index = wordIndex & WORD_INDEX_MASK;
+        long mask = 1L << bit;
+        for (;;) {
+            long word = chunk.get(index);
+            if ((word & mask) == 0 || chunk.compareAndSet(index, word, word & ~mask)) {
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        // the chunks are kept, so bits set concurrently are either cleared or kept, never half-applied
+        for (AtomicLongArray chunk : chunks) {
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                chunk.set(i, 0L);
+            }
+        }
+    }
+
+    /**
+     * Copies the words, each word is read atomically.
+     */
+    long[] snapshot() {
+        AtomicLongArray[] chunks = this.chunks;
+        long[] words = new long[chunks.length << ADDRESS_WORDS_PER_CHUNK];
+        for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+            AtomicLongArray chunk = chunks[chunkIndex];
+            int offset = chunkIndex << ADDRESS_WORDS_PER_CHUNK;
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                words[offset + i] = chunk.get(i);
+            }
+        }
+        return words;
+    }
+
+    private AtomicLongArray getOrCreateChunk(int chunkIndex) {
+        AtomicLongArray[] chunks = this.chunks;
+        if (chunkIndex < chunks.length) {
+            return chunks[chunkIndex];
+        }
+        synchronized (this) {
+            chunks = this.chunks;
+            if (chunkIndex >= chunks.length) {
+                AtomicLongArray[] newChunks = new AtomicLongArray[Math.max(chunks.length << 1, chunkIndex + 1)];
+                System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+                for (int i = chunks.length; i < newChunks.length; i++) {
+                    newChunks[i] = new AtomicLongArray(WORDS_PER_CHUNK);
+                }
+                this.chunks = newChunks;
+                chunks = newChunks;
+            }
+            return chunks[chunkIndex];
+        }
+    }
+
+    static boolean get(long[] words, int bit) {
+        int wordIndex = bit >>> ADDRESS_BITS_PER_WORD;
+        return wordIndex < words.length && (words[wordIndex] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Returns the index of the first set bit starting from given index, -1 if there is none.
+     */
+    static int nextSetBit(long[] words, int fromIndex) {
+        int wordIndex = fromIndex >>> ADDRESS_BITS_PER_WORD;
+        if (wordIndex >= words.length) {
+            return -1;
+        }
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    static long[] and(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = left[i] & right[i];
+        }
+        return result;
+    }
+
+    static long[] or(long[] left, long[] right) {
+        long[] longer = left.length >= right.length ? left : right;
+        long[] shorter = longer == left ? right : left;
+        long[] result = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] |= shorter[i];
+        }
+        return result;
+    }
+
+    static long[] andNot(long[] left, long[] right) {
+        long[] result = left.clone();
+        int length = Math.min(left.length, right.length);
+        for (int i = 0; i < length; i++) {
+            result[i] &= ~right[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.nio.serialization.Data;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Store indexes as bitmaps of entry ordinals.
+ * <p/>
+ * Meant for attributes having a few distinct values, like booleans and enums: an entry costs a bit per distinct
+ * value instead of a map entry, and the results of bitmap indexes are intersected, united and negated by
+ * word-level bit operations.
+ */
+public class BitmapIndexStore extends BaseIndexStore {
+
+    private final EntryOrdinals ordinals;
+
+    // includes the bitmap of IndexImpl.NULL
+    private final ConcurrentMap<Comparable, Bitmap> bitmaps = new ConcurrentHashMap<Comparable, Bitmap>();
+
+    // all entries held by this index
+    private final Bitmap allEntries = new Bitmap();
+
+    BitmapIndexStore(EntryOrdinals ordinals) {
+        this.ordinals = ordinals;
+    }
+
+    @Override
+    public void newIndex(Comparable newValue, QueryableEntry entry) {
+        int ordinal = ordinals.acquire(entry);
+        getOrCreateBitmap(newValue).set(ordinal);
+        allEntries.set(ordinal);
+    }
+
+    @Override
+    public void updateIndex(Comparable oldValue, Comparable newValue, QueryableEntry entry) {
+        // the entry keeps its ordinal, it just moves to the bitmap of the new value
+        int ordinal = ordinals.acquire(entry);
+        if (!oldValue.equals(newValue)) {
+            Bitmap oldBitmap = bitmaps.get(oldValue);
+            if (oldBitmap != null) {
+                oldBitmap.clear(ordinal);
+            }
+            getOrCreateBitmap(newValue).set(ordinal);
+        }
+        ordinals.release(entry.getIndexKey());
+    }
+
+    @Override
+    public void removeIndex(Comparable oldValue, Data indexKey) {
+        int ordinal = ordinals.getOrdinal(indexKey);
+        if (ordinal == EntryOrdinals.NO_ORDINAL) {
+            return;
+        }
+        Bitmap bitmap = bitmaps.get(oldValue);
+        if (bitmap != null) {
+            bitmap.clear(ordinal);
+        }
+        allEntries.clear(ordinal);
+        ordinals.release(indexKey);
+    }
+
+    @Override
+    public void clear() {
+        long[] words = allEntries.snapshot();
+        bitmaps.clear();
+        allEntries.clear();
+        for (int ordinal = Bitmap.nextSetBit(words, 0); ordinal != -1; ordinal = Bitmap.nextSetBit(words, ordinal + 1)) {
+            QueryableEntry entry = ordinals.getEntry(ordinal);
+            if (entry != null) {
+                ordinals.release(entry.getIndexKey());
+            }
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getSubRecordsBetween(Comparable from, Comparable to) {
+        Comparable lower = from;
+        Comparable upper = to;
+        if (lower.compareTo(upper) > 0) {
+            lower = to;
+            upper = from;
+        }
+        long generation = ordinals.generation();
+        long[] words = new long[0];
+        for (Map.Entry<Comparable, Bitmap> entry : bitmaps.entrySet()) {
+            Comparable value = entry.getKey();
+            if (!(value instanceof IndexImpl.NullObject) && value.compareTo(lower) >= 0 && value.compareTo(upper) <= 0) {
+                words = Bitmap.or(words, entry.getValue().snapshot());
+            }
+        }
+        return new BitmapResultSet(ordinals, generation, words);
+    }
+
+    @Override
+    public Set<QueryableEntry> getSubRecords(ComparisonType comparisonType, Comparable searchedValue) {
+        if (comparisonType == ComparisonType.NOT_EQUAL) {
+            // unlike the other comparisons, not-equal matches the entries having null value too
+            long generation = ordinals.generation();
+            Bitmap bitmap = bitmaps.get(searchedValue);
+            long[] words = allEntries.snapshot();
+            return new BitmapResultSet(ordinals, generation,
+                    bitmap == null ? words : Bitmap.andNot(words, bitmap.snapshot()));
+        }
+        long generation = ordinals.generation();
+        long[] words = new long[0];
+        for (Map.Entry<Comparable, Bitmap> entry : bitmaps.entrySet()) {
+            Comparable value = entry.getKey();
+            if (!(value instanceof IndexImpl.NullObject) && matches(comparisonType, searchedValue.compareTo(value))) {
+                words = Bitmap.or(words, entry.getValue().snapshot());
+            }
+        }
+        return new BitmapResultSet(ordinals, generation, words);
+    }
+
+    private static boolean matches(ComparisonType comparisonType, int result) {
+        switch (comparisonType) {
+            case LESSER:
+                return result > 0;
+            case LESSER_EQUAL:
+                return result >= 0;
+            case GREATER:
+                return result < 0;
+            case GREATER_EQUAL:
+                return result <= 0;
+            default:
+                throw new IllegalArgumentException("Unrecognized comparisonType: " + comparisonType);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        long generation = ordinals.generation();
+        Bitmap bitmap = bitmaps.get(value);
+        return new BitmapResultSet(ordinals, generation, bitmap == null ? new long[0] : bitmap.snapshot());
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        long generation = ordinals.generation();
+        long[] words = new long[0];
+        for (Comparable value : values) {
+            Bitmap bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                words = Bitmap.or(words, bitmap.snapshot());
+            }
+        }
+        return new BitmapResultSet(ordinals, generation, words);
+    }
+
+    /**
+     * The entries of a bitmap index are not kept in maps, so the returned map is built from the bitmap of the value.
+     */
+    @Override
+    public ConcurrentMap<Data, QueryableEntry> getRecordMap(Comparable indexValue) {
+        Bitmap bitmap = bitmaps.get(indexValue);
+        if (bitmap == null) {
+            return null;
+        }
+        ConcurrentMap<Data, QueryableEntry> records = new ConcurrentHashMap<Data, QueryableEntry>();
+        for (QueryableEntry entry : new BitmapResultSet(ordinals, ordinals.generation(), bitmap.snapshot())) {
+            records.put(entry.getIndexKey(), entry);
+        }
+        return records;
+    }
+
+    private Bitmap getOrCreateBitmap(Comparable value) {
+        Bitmap bitmap = bitmaps.get(value);
+        if (bitmap == null) {
+            bitmap = new Bitmap();
+            Bitmap existing = bitmaps.putIfAbsent(value, bitmap);
+            if (existing != null) {
+                bitmap = existing;
+            }
+        }
+        return bitmap;
+    }
+
+    @Override
+    public String toString() {
+        return "BitmapIndexStore{"
+                + "bitmaps=" + bitmaps.size()
+                + '}';
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Result set of a {@link BitmapIndexStore}: the entries whose ordinals are set in a bitmap.
+ * <p/>
+ * Bitmap result sets of the indexes of the same data-structure share the entry ordinals, so they are
+ * intersected and united by word-level bit operations, see {@link #intersect(List)} and {@link #unite(List)}.
+ * <p/>
+ * A result set only yields the entries whose slots were stamped up to the {@link EntryOrdinals#generation()} read
+ * before its bitmaps were snapshotted: an ordinal assigned later may have been freed and reused by an entry which
+ * was never matched, and an entry updated later may not match the snapshotted bitmaps anymore. Such entries are
+ * skipped, like the entries removed after the snapshot.
+ */
+public final class BitmapResultSet extends AbstractSet<QueryableEntry> {
+
+    private final EntryOrdinals ordinals;
+    private final long generation;
+    private final long[] words;
+    private int size = -1;
+
+    BitmapResultSet(EntryOrdinals ordinals, long generation, long[] words) {
+        this.ordinals = ordinals;
+        this.generation = generation;
+        this.words = words;
+    }
+
+    /**
+     * Replaces the bitmap result sets of the given results with their intersection.
+     *
+     * @param results the results to be intersected, modified in place
+     */
+    public static void intersect(List<Set<QueryableEntry>> results) {
+        combine(results, true);
+    }
+
+    /**
+     * Replaces the bitmap result sets of the given results with their union.
+     *
+     * @param results the results to be united, modified in place
+     */
+    public static void unite(List<Set<QueryableEntry>> results) {
+        combine(results, false);
+    }
+
+    private static void combine(List<Set<QueryableEntry>> results, boolean intersect) {
+        BitmapResultSet combined = null;
+        int combinedIndex = -1;
+        ListIterator<Set<QueryableEntry>> iterator = results.listIterator();
+        while (iterator.hasNext()) {
+            Set<QueryableEntry> result = iterator.next();
+            if (!(result instanceof BitmapResultSet)) {
+                continue;
+            }
+            BitmapResultSet bitmapResult = (BitmapResultSet) result;
+            if (combined == null) {
+                combined = bitmapResult;
+                combinedIndex = iterator.previousIndex();
+            } else if (combined.ordinals == bitmapResult.ordinals) {
+                long[] words = intersect
+                        ? Bitmap.and(combined.words, bitmapResult.words)
+                        : Bitmap.or(combined.words, bitmapResult.words);
+                // an ordinal assigned between the snapshots of the two sets may have changed its entry
+                long generation = Math.min(combined.generation, bitmapResult.generation);
+                combined = new BitmapResultSet(combined.ordinals, generation, words);
+                iterator.remove();
+            }
+        }
+        if (combined != null) {
+            results.set(combinedIndex, combined);
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof QueryableEntry)) {
+            return false;
+        }
+        int ordinal = ordinals.getOrdinal(((QueryableEntry) o).getIndexKey(), generation);
+        return ordinal != EntryOrdinals.NO_ORDINAL && Bitmap.get(words, ordinal)
+                && ordinals.getEntry(ordinal, generation) != null;
+    }
+
+    @Override
+    public Iterator<QueryableEntry> iterator() {
+        return new BitmapIterator();
+    }
+
+    @Override
+    public int size() {
+        if (size == -1) {
+            // counts like the iterator does, the bits of freed, reassigned and updated ordinals are not entries of the set
+            int count = 0;
+            for (int ordinal = Bitmap.nextSetBit(words, 0); ordinal != -1; ordinal = Bitmap.nextSetBit(words, ordinal + 1)) {
+                if (ordinals.getEntry(ordinal, generation) != null) {
+                    count++;
+                }
+            }
+            size = count;
+        }
+        return size;
+    }
+
+    /**
+     * Iterates the entries of the set bits, skipping the ordinals which were freed, reassigned or updated in the meantime.
+     */
+    private final class BitmapIterator implements Iterator<QueryableEntry> {
+
+        private int nextOrdinal = -1;
+        private QueryableEntry next;
+
+        private BitmapIterator() {
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (next == null) {
+                nextOrdinal = Bitmap.nextSetBit(words, nextOrdinal + 1);
+                if (nextOrdinal == -1) {
+                    return;
+                }
+                next = ordinals.getEntry(nextOrdinal, generation);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public QueryableEntry next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            QueryableEntry entry = next;
+            advance();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+
+/**
+ * Converts the components of a {@link CompositeValue} with the converters of the indexed attributes.
+ */
+final class CompositeConverter implements TypeConverter {
+
+    private final TypeConverter[] converters;
+
+    CompositeConverter(TypeConverter[] converters) {
+        this.converters = converters;
+    }
+
+    @Override
+    public Comparable convert(Comparable value) {
+        if (!(value instanceof CompositeValue)) {
+            throw new IllegalArgumentException("Cannot convert [" + value + "] to composite value");
+        }
+        Comparable[] components = ((CompositeValue) value).getComponents();
+        if (components.length != converters.length) {
+            throw new IllegalArgumentException("Composite value " + value + " does not have "
+                    + converters.length + " components");
+        }
+        Comparable[] converted = new Comparable[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Comparable component = components[i];
+            if (component == CompositeValue.NEGATIVE_INFINITY || component == CompositeValue.POSITIVE_INFINITY
+                    || component instanceof IndexImpl.NullObject) {
+                converted[i] = component;
+            } else {
+                converted[i] = converters[i].convert(component);
+            }
+        }
+        return new CompositeValue(converted);
+    }
+}
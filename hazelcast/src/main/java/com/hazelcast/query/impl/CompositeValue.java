@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.Arrays;
+
+/**
+ * Value of a composite index: the tuple of the values of the indexed attributes.
+ * <p/>
+ * Composite values are ordered lexicographically by their components. A {@link IndexImpl#NULL null} component is
+ * lesser than any other value. {@link #NEGATIVE_INFINITY} and {@link #POSITIVE_INFINITY} components are lesser and
+ * greater than any other value; they are used to express a range covering all values sharing a given prefix.
+ */
+@SuppressWarnings("unchecked")
+public final class CompositeValue implements Comparable<CompositeValue> {
+
+    /**
+     * Component which is lesser than any other value.
+     */
+    public static final Comparable NEGATIVE_INFINITY = new Infinity(-1);
+
+    /**
+     * Component which is greater than any other value.
+     */
+    public static final Comparable POSITIVE_INFINITY = new Infinity(1);
+
+    private final Comparable[] components;
+
+    public CompositeValue(Comparable[] components) {
+        this.components = components;
+    }
+
+    /**
+     * Creates the composite value having given prefix, where the remaining components are set to the filler.
+     *
+     * @param prefix the leading component values
+     * @param width  the number of components of the composite value
+     * @param filler the value of the components following the prefix
+     * @return the composite value
+     */
+    public static CompositeValue withPrefix(Comparable[] prefix, int width, Comparable filler) {
+        Comparable[] components = new Comparable[width];
+        System.arraycopy(prefix, 0, components, 0, prefix.length);
+        Arrays.fill(components, prefix.length, width, filler);
+        return new CompositeValue(components);
+    }
+
+    public Comparable[] getComponents() {
+        return components;
+    }
+
+    @Override
+    public int compareTo(CompositeValue other) {
+        int length = Math.min(components.length, other.components.length);
+        for (int i = 0; i < length; i++) {
+            int result = compareComponents(components[i], other.components[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return components.length - other.components.length;
+    }
+
+    private static int compareComponents(Comparable left, Comparable right) {
+        if (left == right) {
+            return 0;
+        }
+        if (left instanceof Infinity) {
+            return ((Infinity) left).sign;
+        }
+        if (right instanceof Infinity) {
+            return -((Infinity) right).sign;
+        }
+        if (left instanceof IndexImpl.NullObject) {
+            return right instanceof IndexImpl.NullObject ? 0 : -1;
+        }
+        if (right instanceof IndexImpl.NullObject) {
+            return 1;
+        }
+        return left.compareTo(right);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(components, ((CompositeValue) o).components);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(components);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(components);
+    }
+
+    /**
+     * Component bounding all values from below or above.
+     */
+    private static final class Infinity implements Comparable {
+
+        private final int sign;
+
+        private Infinity(int sign) {
+            this.sign = sign;
+        }
+
+        @Override
+        public int compareTo(Object o) {
+            return o == this ? 0 : sign;
+        }
+
+        @Override
+        public String toString() {
+            return sign < 0 ? "-INF" : "+INF";
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.UTFEncoderDecoder;
+import com.hazelcast.nio.serialization.ClassDefinition;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.FieldDefinition;
+import com.hazelcast.nio.serialization.FieldType;
+
+import java.io.IOException;
+
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.CONSTANT_TYPE_DATA_SERIALIZABLE;
+import static com.hazelcast.internal.serialization.impl.SerializationConstants.DATA_SERIALIZABLE_IDENTIFIED;
+import static com.hazelcast.nio.Bits.BOOLEAN_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.BYTE_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.CHAR_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.DOUBLE_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.FLOAT_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.LONG_SIZE_IN_BYTES;
+import static com.hazelcast.nio.Bits.SHORT_SIZE_IN_BYTES;
+
+/**
+ * Utility class to extract a single field from an {@link com.hazelcast.nio.serialization.IdentifiedDataSerializable}
+ * binary, whose layout is declared by a {@link com.hazelcast.nio.serialization.DataSerializableDefinitionFactory}.
+ * <p/>
+ * The fields preceding the extracted one are skipped, so no domain object is created.
+ */
+final class DataSerializableExtractor {
+
+    // identified flag, factory id and type id written by the DataSerializer
+    private static final int HEADER_SIZE = BYTE_SIZE_IN_BYTES + INT_SIZE_IN_BYTES + INT_SIZE_IN_BYTES;
+
+    private DataSerializableExtractor() {
+    }
+
+    /**
+     * Returns the declared layout of the given data.
+     *
+     * @return the class definition or null if the data is not an IdentifiedDataSerializable declaring its layout
+     */
+    static ClassDefinition lookupClassDefinition(SerializationService serializationService, Data data) throws IOException {
+        if (data.getType() != CONSTANT_TYPE_DATA_SERIALIZABLE) {
+            return null;
+        }
+        ObjectDataInput in = serializationService.createObjectDataInput(data);
+        if (in.readByte() != DATA_SERIALIZABLE_IDENTIFIED) {
+            return null;
+        }
+        int factoryId = in.readInt();
+        int typeId = in.readInt();
+        return serializationService.getDataSerializableClassDefinition(factoryId, typeId);
+    }
+
+    /**
+     * Returns the definition of the field if it can be extracted: it is declared, it has a queryable type and
+     * all of the fields preceding it can be skipped.
+     *
+     * @return the field definition or null if the field cannot be extracted
+     */
+    static FieldDefinition getExtractableField(ClassDefinition classDefinition, String fieldName) {
+        FieldDefinition fieldDefinition = classDefinition.getField(fieldName);
+        if (fieldDefinition == null || toAttributeType(fieldDefinition.getType()) == null) {
+            return null;
+        }
+        for (int i = 0; i < fieldDefinition.getIndex(); i++) {
+            if (getElementSize(classDefinition.getField(i).getType()) == 0) {
+                return null;
+            }
+        }
+        return fieldDefinition;
+    }
+
+    static Comparable extractValue(SerializationService serializationService, Data data, ClassDefinition classDefinition,
+                                   FieldDefinition fieldDefinition) throws IOException {
+        ObjectDataInput in = serializationService.createObjectDataInput(data);
+        in.skipBytes(HEADER_SIZE);
+        for (int i = 0; i < fieldDefinition.getIndex(); i++) {
+            skipField(in, classDefinition.getField(i).getType());
+        }
+        return readField(in, fieldDefinition.getType());
+    }
+
+    static AttributeType getAttributeType(FieldDefinition fieldDefinition) {
+        return toAttributeType(fieldDefinition.getType());
+    }
+
+    private static void skipField(ObjectDataInput in, FieldType type) throws IOException {
+        if (type == FieldType.UTF) {
+            // an encoded string is skipped chunk by chunk, using the lengths in the chunk headers
+            UTFEncoderDecoder.skipUTF(in);
+            return;
+        }
+        int size = getElementSize(type);
+        if (isArray(type)) {
+            size *= Math.max(in.readInt(), 0);
+        }
+        in.skipBytes(size);
+    }
+
+    private static Comparable readField(ObjectDataInput in, FieldType type) throws IOException {
+        switch (type) {
+            case BYTE:
+                return in.readByte();
+            case BOOLEAN:
+                return in.readBoolean();
+            case CHAR:
+                return in.readChar();
+            case SHORT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case UTF:
+                return in.readUTF();
+            default:
+                throw new IllegalArgumentException("Unsupported field type: " + type);
+        }
+    }
+
+    private static AttributeType toAttributeType(FieldType type) {
+        switch (type) {
+            case BYTE:
+                return AttributeType.BYTE;
+            case BOOLEAN:
+                return AttributeType.BOOLEAN;
+            case CHAR:
+                return AttributeType.CHAR;
+            case SHORT:
+                return AttributeType.SHORT;
+            case INT:
+                return AttributeType.INTEGER;
+            case LONG:
+                return AttributeType.LONG;
+            case FLOAT:
+                return AttributeType.FLOAT;
+            case DOUBLE:
+                return AttributeType.DOUBLE;
+            case UTF:
+                return AttributeType.STRING;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the size of a value or an array element of given type, 0 if the type cannot be skipped.
+     * Strings are skipped using the lengths in their headers, their size is reported as 1.
+     */
+    private static int getElementSize(FieldType type) {
+        switch (type) {
+            case BYTE:
+            case BYTE_ARRAY:
+            case UTF:
+                return BYTE_SIZE_IN_BYTES;
+            case BOOLEAN:
+                return BOOLEAN_SIZE_IN_BYTES;
+            case CHAR:
+            case CHAR_ARRAY:
+                return CHAR_SIZE_IN_BYTES;
+            case SHORT:
+            case SHORT_ARRAY:
+                return SHORT_SIZE_IN_BYTES;
+            case INT:
+            case INT_ARRAY:
+                return INT_SIZE_IN_BYTES;
+            case LONG:
+            case LONG_ARRAY:
+                return LONG_SIZE_IN_BYTES;
+            case FLOAT:
+            case FLOAT_ARRAY:
+                return FLOAT_SIZE_IN_BYTES;
+            case DOUBLE:
+            case DOUBLE_ARRAY:
+                return DOUBLE_SIZE_IN_BYTES;
+            default:
+                return 0;
+        }
+    }
+
+    private static boolean isArray(FieldType type) {
+        return type.getId() >= FieldType.BYTE_ARRAY.getId();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.nio.serialization.Data;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Assigns dense integer ordinals to the indexed entries, the bit positions of the entries in {@link Bitmap}s.
+ * <p/>
+ * All bitmap indexes of a data-structure share the ordinals, so their bitmaps can be combined with each other.
+ * An ordinal is referenced by every bitmap index holding its entry and it is reused when the last reference
+ * is released, which keeps the bitmaps as short as the number of indexed entries.
+ * <p/>
+ * The ordinals are split into stripes selected by the partition hash of the key, so the entries of a partition
+ * always get their ordinals from the same stripe and partition threads rarely contend on a stripe lock. The
+ * ordinal of a stripe is {@code localOrdinal * STRIPE_COUNT + stripeIndex}.
+ * <p/>
+ * Every assignment of an ordinal, and every replacement of the entry holding it, is stamped with a new generation.
+ * A {@link BitmapResultSet} reads the current {@link #generation()} before taking its bitmap snapshots and ignores
+ * the slots stamped after it, so an ordinal released and reused by another entry, or an entry updated while the
+ * result set is in use, never yields an entry the snapshotted bitmaps were not built for.
+ * <p/>
+ * An update moves the bits of an entry in several bitmap indexes, so it is bracketed by {@link #beginUpdate(Data)}
+ * and {@link #endUpdate(Data)}: the slot is hidden from all result sets until the bits of every index are moved and
+ * only then stamped with the generation of the updated entry.
+ */
+final class EntryOrdinals {
+
+    static final int NO_ORDINAL = -1;
+
+    // generation of a slot whose entry is being updated, newer than the generation of any result set
+    private static final long UPDATING = Long.MAX_VALUE;
+
+    private static final int STRIPE_SHIFT = 4;
+    private static final int STRIPE_COUNT = 1 << STRIPE_SHIFT;
+    private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final AtomicLong generation = new AtomicLong();
+
+    EntryOrdinals() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(i);
+        }
+    }
+
+    /**
+     * References the ordinal of the entry, the ordinal is assigned if the entry does not have one yet.
+     *
+     * @param entry the entry
+     * @return the ordinal of the entry
+     */
+    int acquire(QueryableEntry entry) {
+        Data key = entry.getIndexKey();
+        return stripeFor(key).acquire(key, entry);
+    }
+
+    /**
+     * Hides the entry with given key from the result sets until {@link #endUpdate(Data)}, called before the bitmap
+     * indexes are updated. Does nothing if the key doesn't have an ordinal yet.
+     *
+     * @param key the key of the entry
+     */
+    void beginUpdate(Data key) {
+        stripeFor(key).beginUpdate(key);
+    }
+
+    /**
+     * Stamps the entry with given key with a new generation, called after all bitmap indexes are updated.
+     *
+     * @param key the key of the entry
+     */
+    void endUpdate(Data key) {
+        stripeFor(key).endUpdate(key);
+    }
+
+    /**
+     * Releases a reference of the ordinal of given key, the ordinal is freed when it is not referenced anymore.
+     *
+     * @param key the key of the entry
+     */
+    void release(Data key) {
+        stripeFor(key).release(key);
+    }
+
+    /**
+     * @return the ordinal of the entry with given key or {@link #NO_ORDINAL} if the key doesn't have one
+     * or its ordinal was assigned after given generation
+     */
+    int getOrdinal(Data key, long maxGeneration) {
+        Ordinal ordinal = stripeFor(key).ordinals.get(key);
+        return ordinal == null || ordinal.generation > maxGeneration ? NO_ORDINAL : ordinal.value;
+    }
+
+    int getOrdinal(Data key) {
+        return getOrdinal(key, Long.MAX_VALUE);
+    }
+
+    /**
+     * @return the entry having given ordinal or null if the ordinal is free, is being updated or was assigned to
+     * its entry after given generation
+     */
+    QueryableEntry getEntry(int ordinal, long maxGeneration) {
+        Slot slot = stripes[ordinal & STRIPE_MASK].getSlot(ordinal >>> STRIPE_SHIFT);
+        return slot == null || slot.generation > maxGeneration ? null : slot.entry;
+    }
+
+    QueryableEntry getEntry(int ordinal) {
+        return getEntry(ordinal, Long.MAX_VALUE);
+    }
+
+    /**
+     * @return the generation of the latest ordinal assignment or entry replacement
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Frees all ordinals, called when there are no bitmap indexes left referencing them.
+     */
+    void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    private Stripe stripeFor(Data key) {
+        return stripes[key.getPartitionHash() & STRIPE_MASK];
+    }
+
+    /**
+     * The ordinals of the keys whose partition hash selects this stripe. Ordinals are assigned and freed
+     * under the monitor of the stripe, slots are read without locking.
+     */
+    private final class Stripe {
+
+        private final int index;
+        private final ConcurrentMap<Data, Ordinal> ordinals = new ConcurrentHashMap<Data, Ordinal>();
+
+        private volatile AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<Slot>(INITIAL_STRIPE_CAPACITY);
+        private int[] freeLocalOrdinals = new int[INITIAL_STRIPE_CAPACITY];
+        private int freeLocalOrdinalCount;
+        private int nextLocalOrdinal;
+
+        Stripe(int index) {
+            this.index = index;
+        }
+
+        synchronized int acquire(Data key, QueryableEntry entry) {
+            Ordinal ordinal = ordinals.get(key);
+            if (ordinal == null) {
+                ordinal = new Ordinal(newLocalOrdinal(), generation.incrementAndGet());
+                ordinals.put(key, ordinal);
+            }
+            ordinal.references++;
+            int localOrdinal = ordinal.value >>> STRIPE_SHIFT;
+            Slot slot = slots.get(localOrdinal);
+            if (slot == null) {
+                slots.set(localOrdinal, new Slot(entry, ordinal.generation));
+            } else if (slot.entry != entry) {
+                // the bitmaps of an earlier snapshot were built for the replaced entry, whose values may differ
+                long slotGeneration = slot.generation == UPDATING ? UPDATING : generation.incrementAndGet();
+                slots.set(localOrdinal, new Slot(entry, slotGeneration));
+            }
+            return ordinal.value;
+        }
+
+        synchronized void beginUpdate(Data key) {
+            Ordinal ordinal = ordinals.get(key);
+            if (ordinal != null) {
+                int localOrdinal = ordinal.value >>> STRIPE_SHIFT;
+                slots.set(localOrdinal, new Slot(slots.get(localOrdinal).entry, UPDATING));
+            }
+        }
+
+        synchronized void endUpdate(Data key) {
+            Ordinal ordinal = ordinals.get(key);
+            if (ordinal == null) {
+                return;
+            }
+            int localOrdinal = ordinal.value >>> STRIPE_SHIFT;
+            Slot slot = slots.get(localOrdinal);
+            if (slot.generation == UPDATING) {
+                // stamped after the bits are moved, so a result set accepting the slot has snapshotted the moved bits
+                slots.set(localOrdinal, new Slot(slot.entry, generation.incrementAndGet()));
+            }
+        }
+
+        synchronized void release(Data key) {
+            Ordinal ordinal = ordinals.get(key);
+            if (ordinal == null || --ordinal.references > 0) {
+                return;
+            }
+            ordinals.remove(key);
+            int localOrdinal = ordinal.value >>> STRIPE_SHIFT;
+            slots.set(localOrdinal, null);
+            if (freeLocalOrdinalCount == freeLocalOrdinals.length) {
+                int[] newFreeLocalOrdinals = new int[freeLocalOrdinals.length << 1];
+                System.arraycopy(freeLocalOrdinals, 0, newFreeLocalOrdinals, 0, freeLocalOrdinalCount);
+                freeLocalOrdinals = newFreeLocalOrdinals;
+            }
+            freeLocalOrdinals[freeLocalOrdinalCount++] = localOrdinal;
+        }
+
+        synchronized void clear() {
+            ordinals.clear();
+            slots = new AtomicReferenceArray<Slot>(INITIAL_STRIPE_CAPACITY);
+            freeLocalOrdinals = new int[INITIAL_STRIPE_CAPACITY];
+            freeLocalOrdinalCount = 0;
+            nextLocalOrdinal = 0;
+        }
+
+        Slot getSlot(int localOrdinal) {
+            AtomicReferenceArray<Slot> slots = this.slots;
+            return localOrdinal < slots.length() ? slots.get(localOrdinal) : null;
+        }
+
+        private int newLocalOrdinal() {
+            int localOrdinal;
+            if (freeLocalOrdinalCount > 0) {
+                localOrdinal = freeLocalOrdinals[--freeLocalOrdinalCount];
+            } else {
+                if (nextLocalOrdinal == slots.length()) {
+                    // slots are only written under the stripe monitor, so no write is lost by copying them
+                    AtomicReferenceArray<Slot> newSlots = new AtomicReferenceArray<Slot>(nextLocalOrdinal << 1);
+                    for (int i = 0; i < nextLocalOrdinal; i++) {
+                        newSlots.set(i, slots.get(i));
+                    }
+                    slots = newSlots;
+                }
+                localOrdinal = nextLocalOrdinal++;
+            }
+            return (localOrdinal << STRIPE_SHIFT) | index;
+        }
+    }
+
+    /**
+     * Ordinal of an entry with the count of bitmap indexes referencing it.
+     */
+    private static final class Ordinal {
+        final int value;
+        final long generation;
+        int references;
+
+        Ordinal(int value, long generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The entry holding an ordinal and the generation in which the ordinal was assigned to it or in which it replaced
+     * the previous entry.
+     */
+    private static final class Slot {
+        final QueryableEntry entry;
+        final long generation;
+
+        Slot(QueryableEntry entry, long generation) {
+            this.entry = entry;
+            this.generation = generation;
+        }
+    }
+}
@@ -50,5 +50,23 @@ public interface Index {
 
     String getAttributeName();
 
+    /**
+     * Returns the attributes this index is built on. It is the attribute of the index itself, unless the index
+     * is a composite index, whose values are the tuples of the values of its attributes.
+     *
+     * @return the indexed attributes
+     */
+    String[] getComponents();
+
     boolean isOrdered();
+
+    /**
+     * Returns true if the entries of this index are kept in bitmaps. The result sets of bitmap indexes are
+     * combined by bit operations, and they also answer not-equal comparisons.
+     * <p/>
+     * An unordered index on a boolean or enum attribute becomes a bitmap index when its first entry is saved.
+     *
+     * @return true if this is a bitmap index
+     */
+    boolean isBitmap();
 }
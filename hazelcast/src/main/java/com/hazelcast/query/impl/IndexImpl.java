@@ -41,16 +41,31 @@ public class IndexImpl implements Index {
 
     // indexKey -- indexValue
     private final ConcurrentMap<Data, Comparable> recordValues = new ConcurrentHashMap<Data, Comparable>(1000);
-    private final IndexStore indexStore;
     private final String attribute;
+    // attributes of a composite index, null for a single attribute index
+    private final String[] components;
     private final boolean ordered;
+    // ordinals of the bitmap indexes, null if bitmap indexes are disabled
+    private final EntryOrdinals ordinals;
 
+    // the store of an unordered index is chosen by the attribute type of the first entry
+    private volatile IndexStore indexStore;
     private volatile TypeConverter converter;
 
     public IndexImpl(String attribute, boolean ordered) {
+        this(attribute, ordered, null);
+    }
+
+    IndexImpl(String attribute, boolean ordered, EntryOrdinals ordinals) {
         this.attribute = attribute;
+        this.components = Indexes.getComponents(attribute);
         this.ordered = ordered;
-        indexStore = (ordered) ? new SortedIndexStore() : new UnsortedIndexStore();
+        this.ordinals = ordinals;
+        if (ordered) {
+            indexStore = new SortedIndexStore();
+        } else if (ordinals == null || components != null) {
+            indexStore = new UnsortedIndexStore();
+        }
     }
 
     @Override
@@ -69,13 +84,17 @@ public class IndexImpl implements Index {
     @Override
     public void clear() {
         recordValues.clear();
-        indexStore.clear();
+        IndexStore store = indexStore;
+        if (store != null) {
+            store.clear();
+        }
         // Clear converter
         converter = null;
     }
 
     ConcurrentMap<Data, QueryableEntry> getRecordMap(Comparable indexValue) {
-        return indexStore.getRecordMap(indexValue);
+        IndexStore store = indexStore;
+        return store == null ? null : store.getRecordMap(indexValue);
     }
 
     @Override
@@ -88,14 +107,11 @@ public class IndexImpl implements Index {
          * this causes to class cast exceptions.
          */
         if (converter == null) {
-            // Initialize attribute type by using entry index
-            AttributeType attributeType = e.getAttributeType(attribute);
-            converter = attributeType == null ? TypeConverters.IDENTITY_CONVERTER : attributeType.getConverter();
+            initConverter(e);
         }
 
         Data key = e.getIndexKey();
-        Comparable newValue = e.getAttribute(attribute);
-        newValue = sanitizeValue(newValue);
+        Comparable newValue = components == null ? sanitizeValue(e.getAttribute(attribute)) : getCompositeValue(e);
         Comparable oldValue = recordValues.put(key, newValue);
         if (oldValue == null) {
             // new
@@ -106,6 +122,44 @@ public class IndexImpl implements Index {
         }
     }
 
+    private synchronized void initConverter(QueryableEntry e) {
+        if (converter != null) {
+            return;
+        }
+        if (components != null) {
+            converter = getCompositeConverter(e);
+            return;
+        }
+        // Initialize attribute type by using entry index
+        AttributeType attributeType = e.getAttributeType(attribute);
+        if (indexStore == null) {
+            // low cardinality attributes are indexed by bitmaps
+            boolean bitmap = attributeType == AttributeType.BOOLEAN || attributeType == AttributeType.ENUM;
+            indexStore = bitmap ? new BitmapIndexStore(ordinals) : new UnsortedIndexStore();
+        }
+        converter = getConverter(attributeType);
+    }
+
+    private static TypeConverter getConverter(AttributeType attributeType) {
+        return attributeType == null ? TypeConverters.IDENTITY_CONVERTER : attributeType.getConverter();
+    }
+
+    private TypeConverter getCompositeConverter(QueryableEntry e) {
+        TypeConverter[] converters = new TypeConverter[components.length];
+        for (int i = 0; i < components.length; i++) {
+            converters[i] = getConverter(e.getAttributeType(components[i]));
+        }
+        return new CompositeConverter(converters);
+    }
+
+    private Comparable getCompositeValue(QueryableEntry e) {
+        Comparable[] values = new Comparable[components.length];
+        for (int i = 0; i < components.length; i++) {
+            values[i] = sanitizeValue(e.getAttribute(components[i]));
+        }
+        return new CompositeValue(values);
+    }
+
     private Comparable sanitizeValue(Comparable value) {
         if (value == null) {
             return NULL;
@@ -125,15 +179,14 @@ public class IndexImpl implements Index {
                 return new SingleResultSet(null);
             }
         } else {
-            MultiResultSet results = new MultiResultSet();
             if (converter != null) {
                 Set<Comparable> convertedValues = new HashSet<Comparable>(values.length);
                 for (Comparable value : values) {
                     convertedValues.add(convert(value));
                 }
-                indexStore.getRecords(results, convertedValues);
+                return indexStore.getRecords(convertedValues);
             }
-            return results;
+            return new MultiResultSet();
         }
     }
 
@@ -148,20 +201,18 @@ public class IndexImpl implements Index {
 
     @Override
     public Set<QueryableEntry> getSubRecordsBetween(Comparable from, Comparable to) {
-        MultiResultSet results = new MultiResultSet();
         if (converter != null) {
-            indexStore.getSubRecordsBetween(results, convert(from), convert(to));
+            return indexStore.getSubRecordsBetween(convert(from), convert(to));
         }
-        return results;
+        return new MultiResultSet();
     }
 
     @Override
     public Set<QueryableEntry> getSubRecords(ComparisonType comparisonType, Comparable searchedValue) {
-        MultiResultSet results = new MultiResultSet();
         if (converter != null) {
-            indexStore.getSubRecords(results, comparisonType, convert(searchedValue));
+            return indexStore.getSubRecords(comparisonType, convert(searchedValue));
         }
-        return results;
+        return new MultiResultSet();
     }
 
     private Comparable convert(Comparable value) {
@@ -177,11 +228,21 @@ public class IndexImpl implements Index {
         return attribute;
     }
 
+    @Override
+    public String[] getComponents() {
+        return components == null ? new String[]{attribute} : components.clone();
+    }
+
     @Override
     public boolean isOrdered() {
         return ordered;
     }
 
+    @Override
+    public boolean isBitmap() {
+        return indexStore instanceof BitmapIndexStore;
+    }
+
     /**
      * Provides comparable null object.
      */
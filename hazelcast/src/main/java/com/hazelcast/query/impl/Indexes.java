@@ -21,6 +21,8 @@ import com.hazelcast.query.IndexAwarePredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.QueryException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -28,42 +30,97 @@ import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Contains all indexes for a data-structure, e.g. an IMap.
+ * <p/>
+ * An index is either built on a single attribute, or it is a composite index built on a comma separated list of
+ * attributes, e.g. {@code "customerId, status"}. The values of a composite index are {@link CompositeValue}s.
  */
 public class Indexes {
     private static final Index[] EMPTY_INDEX = {};
+    private static final String COMPONENT_SEPARATOR = ",";
     private final ConcurrentMap<String, Index> mapIndexes = new ConcurrentHashMap<String, Index>(3);
     private final AtomicReference<Index[]> indexes = new AtomicReference<Index[]>(EMPTY_INDEX);
+    private final AtomicReference<Index[]> compositeIndexes = new AtomicReference<Index[]>(EMPTY_INDEX);
+    // shared by all bitmap indexes, null if bitmap indexes are disabled
+    private final EntryOrdinals entryOrdinals;
     private volatile boolean hasIndex;
 
+    public Indexes() {
+        this(true);
+    }
+
+    /**
+     * @param bitmapIndexesEnabled if unordered indexes on boolean and enum attributes are kept in bitmaps
+     */
+    public Indexes(boolean bitmapIndexesEnabled) {
+        this.entryOrdinals = bitmapIndexesEnabled ? new EntryOrdinals() : null;
+    }
+
     public synchronized Index destroyIndex(String attribute) {
-        return mapIndexes.remove(attribute);
+        Index index = mapIndexes.remove(canonicalize(attribute));
+        if (index != null) {
+            updateIndexArrays();
+            // releases the entry ordinals held by a bitmap index
+            index.clear();
+        }
+        return index;
     }
 
     public synchronized Index addOrGetIndex(String attribute, boolean ordered) {
-        Index index = mapIndexes.get(attribute);
+        String name = canonicalize(attribute);
+        Index index = mapIndexes.get(name);
         if (index != null) {
             return index;
         }
-        index = new IndexImpl(attribute, ordered);
-        mapIndexes.put(attribute, index);
+        index = new IndexImpl(name, ordered, entryOrdinals);
+        mapIndexes.put(name, index);
+        updateIndexArrays();
+        return index;
+    }
+
+    private void updateIndexArrays() {
         Object[] indexObjects = mapIndexes.values().toArray();
         Index[] newIndexes = new Index[indexObjects.length];
+        List<Index> newCompositeIndexes = new ArrayList<Index>();
         for (int i = 0; i < indexObjects.length; i++) {
             newIndexes[i] = (Index) indexObjects[i];
+            if (newIndexes[i].getComponents().length > 1) {
+                newCompositeIndexes.add(newIndexes[i]);
+            }
         }
         indexes.set(newIndexes);
-        hasIndex = true;
-        return index;
+        compositeIndexes.set(newCompositeIndexes.toArray(new Index[newCompositeIndexes.size()]));
+        hasIndex = newIndexes.length > 0;
+    }
+
+    // for testing
+    EntryOrdinals getEntryOrdinals() {
+        return entryOrdinals;
     }
 
     public Index[] getIndexes() {
         return indexes.get();
     }
 
-    public void clearIndexes() {
+    /**
+     * Returns the indexes built on more than one attribute.
+     */
+    public Index[] getCompositeIndexes() {
+        return compositeIndexes.get();
+    }
+
+    public synchronized void clearIndexes() {
+        Index[] clearedIndexes = indexes.get();
         indexes.set(EMPTY_INDEX);
+        compositeIndexes.set(EMPTY_INDEX);
         mapIndexes.clear();
         hasIndex = false;
+        for (Index index : clearedIndexes) {
+            index.clear();
+        }
+        if (entryOrdinals != null) {
+            // no bitmap index references the ordinals anymore
+            entryOrdinals.clear();
+        }
     }
 
     public void removeEntryIndex(Data indexKey) throws QueryException {
@@ -79,8 +136,21 @@ public class Indexes {
 
     public void saveEntryIndex(QueryableEntry queryableEntry) throws QueryException {
         Index[] indexes = getIndexes();
-        for (Index index : indexes) {
-            index.saveEntryIndex(queryableEntry);
+        if (entryOrdinals == null) {
+            for (Index index : indexes) {
+                index.saveEntryIndex(queryableEntry);
+            }
+            return;
+        }
+        // the bitmap indexes sharing the ordinal of the entry are updated one by one
+        Data key = queryableEntry.getIndexKey();
+        entryOrdinals.beginUpdate(key);
+        try {
+            for (Index index : indexes) {
+                index.saveEntryIndex(queryableEntry);
+            }
+        } finally {
+            entryOrdinals.endUpdate(key);
         }
     }
 
@@ -91,7 +161,7 @@ public class Indexes {
      * @return Index for attribute or null if the index does not exist.
      */
     public Index getIndex(String attribute) {
-        return mapIndexes.get(attribute);
+        return mapIndexes.get(canonicalize(attribute));
     }
 
     public Set<QueryableEntry> query(Predicate predicate) {
@@ -106,4 +176,39 @@ public class Indexes {
         }
         return null;
     }
+
+    /**
+     * Returns the attributes of a composite index name, or null if the name is a single attribute.
+     *
+     * @param attribute the index name
+     * @return the trimmed attributes of the composite index or null
+     */
+    static String[] getComponents(String attribute) {
+        if (attribute == null || !attribute.contains(COMPONENT_SEPARATOR)) {
+            return null;
+        }
+        String[] components = attribute.split(COMPONENT_SEPARATOR);
+        for (int i = 0; i < components.length; i++) {
+            components[i] = components[i].trim();
+            if (components[i].length() == 0) {
+                throw new IllegalArgumentException("Empty attribute name in composite index: " + attribute);
+            }
+        }
+        return components;
+    }
+
+    private static String canonicalize(String attribute) {
+        String[] components = getComponents(attribute);
+        if (components == null) {
+            return attribute;
+        }
+        StringBuilder sb = new StringBuilder(attribute.length());
+        for (String component : components) {
+            if (sb.length() > 0) {
+                sb.append(COMPONENT_SEPARATOR);
+            }
+            sb.append(component);
+        }
+        return sb.toString();
+    }
 }
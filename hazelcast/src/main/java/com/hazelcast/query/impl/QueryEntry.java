@@ -16,7 +16,9 @@
 
 package com.hazelcast.query.impl;
 
+import com.hazelcast.nio.serialization.ClassDefinition;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.FieldDefinition;
 import com.hazelcast.nio.serialization.Portable;
 import com.hazelcast.internal.serialization.PortableContext;
 import com.hazelcast.internal.serialization.SerializationService;
@@ -128,9 +130,37 @@ public class QueryEntry implements QueryableEntry {
             return extractViaPortable(attributeName, targetData);
         }
 
+        // the same goes for the fields declared by IdentifiedDataSerializable classes
+        ClassDefinition classDefinition = lookupDataSerializableDefinition(targetData);
+        if (classDefinition != null) {
+            FieldDefinition field = DataSerializableExtractor.getExtractableField(classDefinition, attributeName);
+            if (field != null) {
+                return extractViaDataSerializable(targetData, classDefinition, field);
+            }
+        }
+
         return extractViaReflection(attributeName, isKey);
     }
 
+    private ClassDefinition lookupDataSerializableDefinition(Data data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return DataSerializableExtractor.lookupClassDefinition(serializationService, data);
+        } catch (Exception e) {
+            throw new QueryException(e);
+        }
+    }
+
+    private Comparable extractViaDataSerializable(Data data, ClassDefinition classDefinition, FieldDefinition field) {
+        try {
+            return DataSerializableExtractor.extractValue(serializationService, data, classDefinition, field);
+        } catch (Exception e) {
+            throw new QueryException(e);
+        }
+    }
+
     private Comparable extractViaPortable(String attributeName, Data data) {
         try {
             return PortableExtractor.extractValue(serializationService, data, attributeName);
@@ -171,6 +201,13 @@ public class QueryEntry implements QueryableEntry {
             PortableContext portableContext = serializationService.getPortableContext();
             return PortableExtractor.getAttributeType(portableContext, data, attributeName);
         }
+        ClassDefinition classDefinition = lookupDataSerializableDefinition(data);
+        if (classDefinition != null) {
+            FieldDefinition field = DataSerializableExtractor.getExtractableField(classDefinition, attributeName);
+            if (field != null) {
+                return DataSerializableExtractor.getAttributeType(field);
+            }
+        }
         return ReflectionHelper.getAttributeType(isKey ? getKey() : getValue(), attributeName);
     }
 
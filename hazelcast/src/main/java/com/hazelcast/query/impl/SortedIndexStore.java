@@ -38,164 +38,123 @@ public class SortedIndexStore extends BaseIndexStore {
 
     @Override
     public void newIndex(Comparable newValue, QueryableEntry record) {
-        takeWriteLock();
-        try {
-            if (newValue instanceof IndexImpl.NullObject) {
-                recordsWithNullValue.put(record.getIndexKey(), record);
-            } else {
-                ConcurrentMap<Data, QueryableEntry> records = recordMap.get(newValue);
-                if (records == null) {
-                    records = new ConcurrentHashMap<Data, QueryableEntry>(1, LOAD_FACTOR, 1);
-                    recordMap.put(newValue, records);
-                }
-                records.put(record.getIndexKey(), record);
-            }
-        } finally {
-            releaseWriteLock();
+        if (newValue instanceof IndexImpl.NullObject) {
+            recordsWithNullValue.put(record.getIndexKey(), record);
+            return;
         }
-    }
-
-    @Override
-    public void updateIndex(Comparable oldValue, Comparable newValue, QueryableEntry entry) {
-        takeWriteLock();
-        try {
-            removeIndex(oldValue, entry.getIndexKey());
-            newIndex(newValue, entry);
-        } finally {
-            releaseWriteLock();
+        synchronized (getMutex(newValue)) {
+            ConcurrentMap<Data, QueryableEntry> records = recordMap.get(newValue);
+            if (records == null) {
+                records = new ConcurrentHashMap<Data, QueryableEntry>(1, LOAD_FACTOR, 1);
+                recordMap.put(newValue, records);
+            }
+            records.put(record.getIndexKey(), record);
         }
     }
 
     @Override
     public void removeIndex(Comparable oldValue, Data indexKey) {
-        takeWriteLock();
-        try {
-            if (oldValue instanceof IndexImpl.NullObject) {
-                recordsWithNullValue.remove(indexKey);
-            } else {
-                ConcurrentMap<Data, QueryableEntry> records = recordMap.get(oldValue);
-                if (records != null) {
-                    records.remove(indexKey);
-                    if (records.size() == 0) {
-                        recordMap.remove(oldValue);
-                    }
+        if (oldValue instanceof IndexImpl.NullObject) {
+            recordsWithNullValue.remove(indexKey);
+            return;
+        }
+        synchronized (getMutex(oldValue)) {
+            ConcurrentMap<Data, QueryableEntry> records = recordMap.get(oldValue);
+            if (records != null) {
+                records.remove(indexKey);
+                if (records.isEmpty()) {
+                    recordMap.remove(oldValue);
                 }
             }
-        } finally {
-            releaseWriteLock();
         }
     }
 
     @Override
     public void clear() {
-        takeWriteLock();
-        try {
-            recordsWithNullValue.clear();
-            recordMap.clear();
-        } finally {
-            releaseWriteLock();
-        }
+        recordsWithNullValue.clear();
+        recordMap.clear();
     }
 
     @Override
-    public void getSubRecordsBetween(MultiResultSet results, Comparable from, Comparable to) {
-        takeReadLock();
-        try {
-            SortedMap<Comparable, ConcurrentMap<Data, QueryableEntry>> subMap =
-                    recordMap.subMap(from, true, to, true);
-            for (ConcurrentMap<Data, QueryableEntry> value : subMap.values()) {
-                results.addResultSet(value);
-            }
-        } finally {
-            releaseReadLock();
+    public Set<QueryableEntry> getSubRecordsBetween(Comparable from, Comparable to) {
+        MultiResultSet results = new MultiResultSet();
+        SortedMap<Comparable, ConcurrentMap<Data, QueryableEntry>> subMap =
+                recordMap.subMap(from, true, to, true);
+        for (ConcurrentMap<Data, QueryableEntry> value : subMap.values()) {
+            results.addResultSet(value);
         }
+        return results;
     }
 
     @Override
-    public void getSubRecords(MultiResultSet results, ComparisonType comparisonType, Comparable searchedValue) {
-        takeReadLock();
-        try {
-            SortedMap<Comparable, ConcurrentMap<Data, QueryableEntry>> subMap;
-            switch (comparisonType) {
-                case LESSER:
-                    subMap = recordMap.headMap(searchedValue, false);
-                    break;
-                case LESSER_EQUAL:
-                    subMap = recordMap.headMap(searchedValue, true);
-                    break;
-                case GREATER:
-                    subMap = recordMap.tailMap(searchedValue, false);
-                    break;
-                case GREATER_EQUAL:
-                    subMap = recordMap.tailMap(searchedValue, true);
-                    break;
-                case NOT_EQUAL:
-                    // TODO There maybe more efficient way such as
-                    // Make a copy of current record map and just remove searched value.
-                    // So remaining records are not equal to searched value
-                    for (Map.Entry<Comparable, ConcurrentMap<Data, QueryableEntry>> entry : recordMap.entrySet()) {
-                        if (!searchedValue.equals(entry.getKey())) {
-                            results.addResultSet(entry.getValue());
-                        }
+    public Set<QueryableEntry> getSubRecords(ComparisonType comparisonType, Comparable searchedValue) {
+        MultiResultSet results = new MultiResultSet();
+        SortedMap<Comparable, ConcurrentMap<Data, QueryableEntry>> subMap;
+        switch (comparisonType) {
+            case LESSER:
+                subMap = recordMap.headMap(searchedValue, false);
+                break;
+            case LESSER_EQUAL:
+                subMap = recordMap.headMap(searchedValue, true);
+                break;
+            case GREATER:
+                subMap = recordMap.tailMap(searchedValue, false);
+                break;
+            case GREATER_EQUAL:
+                subMap = recordMap.tailMap(searchedValue, true);
+                break;
+            case NOT_EQUAL:
+                // TODO There maybe more efficient way such as
+                // Make a copy of current record map and just remove searched value.
+                // So remaining records are not equal to searched value
+                for (Map.Entry<Comparable, ConcurrentMap<Data, QueryableEntry>> entry : recordMap.entrySet()) {
+                    if (!searchedValue.equals(entry.getKey())) {
+                        results.addResultSet(entry.getValue());
                     }
-                    return;
-                default:
-                    throw new IllegalArgumentException("Unrecognized comparisonType: " + comparisonType);
-            }
-            for (ConcurrentMap<Data, QueryableEntry> value : subMap.values()) {
-                results.addResultSet(value);
-            }
-        } finally {
-            releaseReadLock();
+                }
+                return results;
+            default:
+                throw new IllegalArgumentException("Unrecognized comparisonType: " + comparisonType);
+        }
+        for (ConcurrentMap<Data, QueryableEntry> value : subMap.values()) {
+            results.addResultSet(value);
         }
+        return results;
     }
 
     @Override
     public ConcurrentMap<Data, QueryableEntry> getRecordMap(Comparable value) {
-        takeReadLock();
-        try {
-            if (value instanceof IndexImpl.NullObject) {
-                return recordsWithNullValue;
-            } else {
-                return recordMap.get(value);
-            }
-        } finally {
-            releaseReadLock();
+        if (value instanceof IndexImpl.NullObject) {
+            return recordsWithNullValue;
+        } else {
+            return recordMap.get(value);
         }
     }
 
     @Override
     public Set<QueryableEntry> getRecords(Comparable value) {
-        takeReadLock();
-        try {
-            if (value instanceof IndexImpl.NullObject) {
-                return new SingleResultSet(recordsWithNullValue);
-            } else {
-                return new SingleResultSet(recordMap.get(value));
-            }
-        } finally {
-            releaseReadLock();
+        if (value instanceof IndexImpl.NullObject) {
+            return new SingleResultSet(recordsWithNullValue);
+        } else {
+            return new SingleResultSet(recordMap.get(value));
         }
     }
 
     @Override
-    public void getRecords(MultiResultSet results, Set<Comparable> values) {
-        takeReadLock();
-        try {
-            for (Comparable value : values) {
-                ConcurrentMap<Data, QueryableEntry> records;
-                if (value instanceof IndexImpl.NullObject) {
-                    records = recordsWithNullValue;
-                } else {
-                    records = recordMap.get(value);
-                }
-                if (records != null) {
-                    results.addResultSet(records);
-                }
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        MultiResultSet results = new MultiResultSet();
+        for (Comparable value : values) {
+            ConcurrentMap<Data, QueryableEntry> records;
+            if (value instanceof IndexImpl.NullObject) {
+                records = recordsWithNullValue;
+            } else {
+                records = recordMap.get(value);
+            }
+            if (records != null) {
+                results.addResultSet(records);
             }
-        } finally {
-            releaseReadLock();
         }
+        return results;
     }
 
     @Override
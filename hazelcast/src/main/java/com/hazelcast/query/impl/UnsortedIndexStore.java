@@ -35,183 +35,142 @@ public class UnsortedIndexStore extends BaseIndexStore {
 
     @Override
     public void newIndex(Comparable newValue, QueryableEntry record) {
-        takeWriteLock();
-        try {
-            if (newValue instanceof IndexImpl.NullObject) {
-                recordsWithNullValue.put(record.getIndexKey(), record);
-            } else {
-                ConcurrentMap<Data, QueryableEntry> records = recordMap.get(newValue);
-                if (records == null) {
-                    records = new ConcurrentHashMap<Data, QueryableEntry>(1, LOAD_FACTOR, 1);
-                    recordMap.put(newValue, records);
-                }
-                records.put(record.getIndexKey(), record);
-            }
-        } finally {
-            releaseWriteLock();
+        if (newValue instanceof IndexImpl.NullObject) {
+            recordsWithNullValue.put(record.getIndexKey(), record);
+            return;
         }
-    }
-
-    @Override
-    public void updateIndex(Comparable oldValue, Comparable newValue, QueryableEntry entry) {
-        takeWriteLock();
-        try {
-            removeIndex(oldValue, entry.getIndexKey());
-            newIndex(newValue, entry);
-        } finally {
-            releaseWriteLock();
+        synchronized (getMutex(newValue)) {
+            ConcurrentMap<Data, QueryableEntry> records = recordMap.get(newValue);
+            if (records == null) {
+                records = new ConcurrentHashMap<Data, QueryableEntry>(1, LOAD_FACTOR, 1);
+                recordMap.put(newValue, records);
+            }
+            records.put(record.getIndexKey(), record);
         }
     }
 
     @Override
     public void removeIndex(Comparable oldValue, Data indexKey) {
-        takeWriteLock();
-        try {
-            if (oldValue instanceof IndexImpl.NullObject) {
-                recordsWithNullValue.remove(indexKey);
-            } else {
-                ConcurrentMap<Data, QueryableEntry> records = recordMap.get(oldValue);
-                if (records != null) {
-                    records.remove(indexKey);
-                    if (records.size() == 0) {
-                        recordMap.remove(oldValue);
-                    }
+        if (oldValue instanceof IndexImpl.NullObject) {
+            recordsWithNullValue.remove(indexKey);
+            return;
+        }
+        synchronized (getMutex(oldValue)) {
+            ConcurrentMap<Data, QueryableEntry> records = recordMap.get(oldValue);
+            if (records != null) {
+                records.remove(indexKey);
+                if (records.isEmpty()) {
+                    recordMap.remove(oldValue);
                 }
             }
-        } finally {
-            releaseWriteLock();
         }
     }
 
     @Override
     public void clear() {
-        takeWriteLock();
-        try {
-            recordsWithNullValue.clear();
-            recordMap.clear();
-        } finally {
-            releaseWriteLock();
-        }
+        recordsWithNullValue.clear();
+        recordMap.clear();
     }
 
     @Override
-    public void getSubRecordsBetween(MultiResultSet results, Comparable from, Comparable to) {
-        takeReadLock();
-        try {
-            Comparable paramFrom = from;
-            Comparable paramTo = to;
-            int trend = paramFrom.compareTo(paramTo);
-            if (trend == 0) {
-                ConcurrentMap<Data, QueryableEntry> records = recordMap.get(paramFrom);
+    public Set<QueryableEntry> getSubRecordsBetween(Comparable from, Comparable to) {
+        MultiResultSet results = new MultiResultSet();
+        Comparable paramFrom = from;
+        Comparable paramTo = to;
+        int trend = paramFrom.compareTo(paramTo);
+        if (trend == 0) {
+            ConcurrentMap<Data, QueryableEntry> records = recordMap.get(paramFrom);
+            if (records != null) {
+                results.addResultSet(records);
+            }
+            return results;
+        }
+        if (trend < 0) {
+            Comparable oldFrom = paramFrom;
+            paramFrom = to;
+            paramTo = oldFrom;
+        }
+        Set<Comparable> values = recordMap.keySet();
+        for (Comparable value : values) {
+            if (value.compareTo(paramFrom) <= 0 && value.compareTo(paramTo) >= 0) {
+                ConcurrentMap<Data, QueryableEntry> records = recordMap.get(value);
                 if (records != null) {
                     results.addResultSet(records);
                 }
-                return;
-            }
-            if (trend < 0) {
-                Comparable oldFrom = paramFrom;
-                paramFrom = to;
-                paramTo = oldFrom;
-            }
-            Set<Comparable> values = recordMap.keySet();
-            for (Comparable value : values) {
-                if (value.compareTo(paramFrom) <= 0 && value.compareTo(paramTo) >= 0) {
-                    ConcurrentMap<Data, QueryableEntry> records = recordMap.get(value);
-                    if (records != null) {
-                        results.addResultSet(records);
-                    }
-                }
             }
-        } finally {
-            releaseReadLock();
         }
+        return results;
     }
 
     @Override
-    public void getSubRecords(MultiResultSet results, ComparisonType comparisonType, Comparable searchedValue) {
-        takeReadLock();
-        try {
-            Set<Comparable> values = recordMap.keySet();
-            for (Comparable value : values) {
-                boolean valid;
-                int result = searchedValue.compareTo(value);
-                switch (comparisonType) {
-                    case LESSER:
-                        valid = result > 0;
-                        break;
-                    case LESSER_EQUAL:
-                        valid = result >= 0;
-                        break;
-                    case GREATER:
-                        valid = result < 0;
-                        break;
-                    case GREATER_EQUAL:
-                        valid = result <= 0;
-                        break;
-                    case NOT_EQUAL:
-                        valid = result != 0;
-                        break;
-                    default:
-                        throw new IllegalStateException("Unrecognized comparisonType: " + comparisonType);
-                }
-                if (valid) {
-                    ConcurrentMap<Data, QueryableEntry> records = recordMap.get(value);
-                    if (records != null) {
-                        results.addResultSet(records);
-                    }
+    public Set<QueryableEntry> getSubRecords(ComparisonType comparisonType, Comparable searchedValue) {
+        MultiResultSet results = new MultiResultSet();
+        Set<Comparable> values = recordMap.keySet();
+        for (Comparable value : values) {
+            boolean valid;
+            int result = searchedValue.compareTo(value);
+            switch (comparisonType) {
+                case LESSER:
+                    valid = result > 0;
+                    break;
+                case LESSER_EQUAL:
+                    valid = result >= 0;
+                    break;
+                case GREATER:
+                    valid = result < 0;
+                    break;
+                case GREATER_EQUAL:
+                    valid = result <= 0;
+                    break;
+                case NOT_EQUAL:
+                    valid = result != 0;
+                    break;
+                default:
+                    throw new IllegalStateException("Unrecognized comparisonType: " + comparisonType);
+            }
+            if (valid) {
+                ConcurrentMap<Data, QueryableEntry> records = recordMap.get(value);
+                if (records != null) {
+                    results.addResultSet(records);
                 }
             }
-        } finally {
-            releaseReadLock();
         }
+        return results;
     }
 
     @Override
     public ConcurrentMap<Data, QueryableEntry> getRecordMap(Comparable value) {
-        takeReadLock();
-        try {
-            if (value instanceof IndexImpl.NullObject) {
-                return recordsWithNullValue;
-            } else {
-                return recordMap.get(value);
-            }
-        } finally {
-            releaseReadLock();
+        if (value instanceof IndexImpl.NullObject) {
+            return recordsWithNullValue;
+        } else {
+            return recordMap.get(value);
         }
     }
 
     @Override
     public Set<QueryableEntry> getRecords(Comparable value) {
-        takeReadLock();
-        try {
-            if (value instanceof IndexImpl.NullObject) {
-                return new SingleResultSet(recordsWithNullValue);
-            } else {
-                return new SingleResultSet(recordMap.get(value));
-            }
-        } finally {
-            releaseReadLock();
+        if (value instanceof IndexImpl.NullObject) {
+            return new SingleResultSet(recordsWithNullValue);
+        } else {
+            return new SingleResultSet(recordMap.get(value));
         }
     }
 
     @Override
-    public void getRecords(MultiResultSet results, Set<Comparable> values) {
-        takeReadLock();
-        try {
-            for (Comparable value : values) {
-                ConcurrentMap<Data, QueryableEntry> records;
-                if (value instanceof IndexImpl.NullObject) {
-                    records = recordsWithNullValue;
-                } else {
-                    records = recordMap.get(value);
-                }
-                if (records != null) {
-                    results.addResultSet(records);
-                }
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        MultiResultSet results = new MultiResultSet();
+        for (Comparable value : values) {
+            ConcurrentMap<Data, QueryableEntry> records;
+            if (value instanceof IndexImpl.NullObject) {
+                records = recordsWithNullValue;
+            } else {
+                records = recordMap.get(value);
+            }
+            if (records != null) {
+                results.addResultSet(records);
             }
-        } finally {
-            releaseReadLock();
         }
+        return results;
     }
 
     @Override
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.aggregators;
+
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.query.Aggregator;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static com.hazelcast.util.Preconditions.checkHasText;
+
+/**
+ * Base class of the aggregators accumulating the values of an attribute, null values are skipped.
+ * <p/>
+ * Subclasses serialize their accumulated state in {@link #writeState(ObjectDataOutput)}.
+ *
+ * @param <I> type of the input map entries
+ * @param <R> type of the aggregation result
+ */
+abstract class AbstractAttributeAggregator<I extends Map.Entry, R> implements Aggregator<I, R>,
+        IdentifiedDataSerializable {
+
+    private String attribute;
+
+    AbstractAttributeAggregator() {
+    }
+
+    AbstractAttributeAggregator(String attribute) {
+        this.attribute = checkHasText(attribute, "attribute must have text");
+    }
+
+    @Override
+    public final void accumulate(I input) {
+        if (!(input instanceof QueryableEntry)) {
+            throw new IllegalArgumentException("Attributes can be aggregated only from queried entries, found: " + input);
+        }
+        Object value = ((QueryableEntry) input).getAttribute(attribute);
+        if (value != null) {
+            accumulateValue(value);
+        }
+    }
+
+    abstract void accumulateValue(Object value);
+
+    abstract void writeState(ObjectDataOutput out) throws IOException;
+
+    abstract void readState(ObjectDataInput in) throws IOException;
+
+    @Override
+    public final int getFactoryId() {
+        return MapDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public final void writeData(ObjectDataOutput out) throws IOException {
+        out.writeUTF(attribute);
+        writeState(out);
+    }
+
+    @Override
+    public final void readData(ObjectDataInput in) throws IOException {
+        attribute = in.readUTF();
+        readState(in);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{attribute='" + attribute + "'}";
+    }
+}
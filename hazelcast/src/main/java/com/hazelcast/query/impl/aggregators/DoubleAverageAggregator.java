@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.aggregators;
+
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.query.Aggregator;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Aggregator averaging the double values of an attribute.
+ *
+ * @param <I> type of the input map entries
+ */
+public final class DoubleAverageAggregator<I extends Map.Entry> extends AbstractAttributeAggregator<I, Double> {
+
+    private double sum;
+    private long count;
+
+    public DoubleAverageAggregator() {
+    }
+
+    public DoubleAverageAggregator(String attribute) {
+        super(attribute);
+    }
+
+    @Override
+    void accumulateValue(Object value) {
+        sum += ((Number) value).doubleValue();
+        count++;
+    }
+
+    @Override
+    public void combine(Aggregator aggregator) {
+        DoubleAverageAggregator other = (DoubleAverageAggregator) aggregator;
+        sum += other.sum;
+        count += other.count;
+    }
+
+    @Override
+    public Double aggregate() {
+        return count == 0 ? null : sum / count;
+    }
+
+    @Override
+    public int getId() {
+        return MapDataSerializerHook.DOUBLE_AVERAGE_AGGREGATOR;
+    }
+
+    @Override
+    void writeState(ObjectDataOutput out) throws IOException {
+        out.writeDouble(sum);
+        out.writeLong(count);
+    }
+
+    @Override
+    void readState(ObjectDataInput in) throws IOException {
+        sum = in.readDouble();
+        count = in.readLong();
+    }
+}
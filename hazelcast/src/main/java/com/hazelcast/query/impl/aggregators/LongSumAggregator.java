@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.aggregators;
+
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.query.Aggregator;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Aggregator summing the long values of an attribute.
+ *
+ * @param <I> type of the input map entries
+ */
+public final class LongSumAggregator<I extends Map.Entry> extends AbstractAttributeAggregator<I, Long> {
+
+    private long sum;
+
+    public LongSumAggregator() {
+    }
+
+    public LongSumAggregator(String attribute) {
+        super(attribute);
+    }
+
+    @Override
+    void accumulateValue(Object value) {
+        sum += ((Number) value).longValue();
+    }
+
+    @Override
+    public void combine(Aggregator aggregator) {
+        sum += ((LongSumAggregator) aggregator).sum;
+    }
+
+    @Override
+    public Long aggregate() {
+        return sum;
+    }
+
+    @Override
+    public int getId() {
+        return MapDataSerializerHook.LONG_SUM_AGGREGATOR;
+    }
+
+    @Override
+    void writeState(ObjectDataOutput out) throws IOException {
+        out.writeLong(sum);
+    }
+
+    @Override
+    void readState(ObjectDataInput in) throws IOException {
+        sum = in.readLong();
+    }
+}
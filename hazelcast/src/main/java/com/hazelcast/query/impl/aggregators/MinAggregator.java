@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.aggregators;
+
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.query.Aggregator;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Aggregator finding the minimum value of an attribute.
+ *
+ * @param <I> type of the input map entries
+ * @param <R> type of the attribute
+ */
+public final class MinAggregator<I extends Map.Entry, R extends Comparable> extends AbstractAttributeAggregator<I, R> {
+
+    private R minimum;
+
+    public MinAggregator() {
+    }
+
+    public MinAggregator(String attribute) {
+        super(attribute);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void accumulateValue(Object value) {
+        R comparable = (R) value;
+        if (minimum == null || comparable.compareTo(minimum) < 0) {
+            minimum = comparable;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void combine(Aggregator aggregator) {
+        R other = ((MinAggregator<I, R>) aggregator).minimum;
+        if (other != null) {
+            accumulateValue(other);
+        }
+    }
+
+    @Override
+    public R aggregate() {
+        return minimum;
+    }
+
+    @Override
+    public int getId() {
+        return MapDataSerializerHook.MIN_AGGREGATOR;
+    }
+
+    @Override
+    void writeState(ObjectDataOutput out) throws IOException {
+        out.writeObject(minimum);
+    }
+
+    @Override
+    void readState(ObjectDataInput in) throws IOException {
+        minimum = in.readObject();
+    }
+}
@@ -23,6 +23,7 @@ import com.hazelcast.query.IndexAwarePredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.VisitablePredicate;
 import com.hazelcast.query.impl.AndResultSet;
+import com.hazelcast.query.impl.BitmapResultSet;
 import com.hazelcast.query.impl.Indexes;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
@@ -60,8 +61,7 @@ public final class AndPredicate implements IndexAwarePredicate, DataSerializable
 
     @Override
     public Set<QueryableEntry> filter(QueryContext queryContext) {
-        Set<QueryableEntry> smallestIndexedResult = null;
-        List<Set<QueryableEntry>> otherIndexedResults = new LinkedList<Set<QueryableEntry>>();
+        List<Set<QueryableEntry>> indexedResults = new LinkedList<Set<QueryableEntry>>();
         List<Predicate> lsNoIndexPredicates = null;
         for (Predicate predicate : predicates) {
             boolean indexed = false;
@@ -69,15 +69,7 @@ public final class AndPredicate implements IndexAwarePredicate, DataSerializable
                 IndexAwarePredicate iap = (IndexAwarePredicate) predicate;
                 if (iap.isIndexed(queryContext)) {
                     indexed = true;
-                    Set<QueryableEntry> s = iap.filter(queryContext);
-                    if (smallestIndexedResult == null) {
-                        smallestIndexedResult = s;
-                    } else if (s.size() < smallestIndexedResult.size()) {
-                        otherIndexedResults.add(smallestIndexedResult);
-                        smallestIndexedResult = s;
-                    } else {
-                        otherIndexedResults.add(s);
-                    }
+                    indexedResults.add(iap.filter(queryContext));
                 }
             }
             if (!indexed) {
@@ -87,9 +79,24 @@ public final class AndPredicate implements IndexAwarePredicate, DataSerializable
                 lsNoIndexPredicates.add(predicate);
             }
         }
-        if (smallestIndexedResult == null) {
+        if (indexedResults.isEmpty()) {
             return null;
         }
+        // results of bitmap indexes are intersected bitwise
+        BitmapResultSet.intersect(indexedResults);
+
+        Set<QueryableEntry> smallestIndexedResult = null;
+        List<Set<QueryableEntry>> otherIndexedResults = new LinkedList<Set<QueryableEntry>>();
+        for (Set<QueryableEntry> s : indexedResults) {
+            if (smallestIndexedResult == null) {
+                smallestIndexedResult = s;
+            } else if (s.size() < smallestIndexedResult.size()) {
+                otherIndexedResults.add(smallestIndexedResult);
+                smallestIndexedResult = s;
+            } else {
+                otherIndexedResults.add(s);
+            }
+        }
         return new AndResultSet(smallestIndexedResult, otherIndexedResults, lsNoIndexPredicates);
     }
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.query.IndexAwarePredicate;
+import com.hazelcast.query.impl.CompositeValue;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.QueryContext;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conjunction of {@link EqualPredicate}s which is answered by a single lookup in a composite index.
+ * <p/>
+ * When the equal predicates cover all attributes of the index, the matching entries are looked up by their
+ * composite value. When they cover only a prefix of the attributes of an ordered index, the entries are
+ * found by a range scan over all composite values starting with that prefix.
+ * <p/>
+ * It is created by the {@link CompositeIndexVisitor} on the member running the query, so it is not serializable.
+ */
+public final class CompositeEqualPredicate implements IndexAwarePredicate {
+
+    final String indexName;
+    final EqualPredicate[] predicates;
+    private final CompositeValue from;
+    private final CompositeValue to;
+
+    CompositeEqualPredicate(String indexName, int width, EqualPredicate[] predicates) {
+        this.indexName = indexName;
+        this.predicates = predicates;
+        Comparable[] prefix = new Comparable[predicates.length];
+        for (int i = 0; i < predicates.length; i++) {
+            prefix[i] = predicates[i].value;
+        }
+        if (prefix.length == width) {
+            this.from = new CompositeValue(prefix);
+            this.to = from;
+        } else {
+            this.from = CompositeValue.withPrefix(prefix, width, CompositeValue.NEGATIVE_INFINITY);
+            this.to = CompositeValue.withPrefix(prefix, width, CompositeValue.POSITIVE_INFINITY);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> filter(QueryContext queryContext) {
+        Index index = queryContext.getIndex(indexName);
+        if (from == to) {
+            return index.getRecords(from);
+        }
+        return index.getSubRecordsBetween(from, to);
+    }
+
+    @Override
+    public boolean isIndexed(QueryContext queryContext) {
+        return queryContext.getIndex(indexName) != null;
+    }
+
+    @Override
+    public boolean apply(Map.Entry mapEntry) {
+        for (EqualPredicate predicate : predicates) {
+            if (!predicate.apply(mapEntry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("(");
+        for (int i = 0; i < predicates.length; i++) {
+            if (i > 0) {
+                sb.append(" AND ");
+            }
+            sb.append(predicates[i]);
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.Indexes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replaces equal predicates matching a composite index by a single {@link CompositeEqualPredicate}.
+ *
+ * Imagine a composite index on (customerId, status). Then (customerId = 1 and status = 'OPEN' and amount > 10)
+ * is rewritten as (composite(customerId = 1 and status = 'OPEN') and amount > 10), so the entries are found by
+ * one index lookup instead of intersecting the results of two indexes.
+ *
+ * An unordered composite index is only used when all its attributes are matched. An ordered composite index
+ * is used when at least two of its leading attributes are matched, the remaining ones are scanned as a range.
+ * When more composite indexes match, the one matching the most predicates is used.
+ */
+public class CompositeIndexVisitor extends AbstractVisitor {
+
+    private static final int MIN_MATCHED_ATTRIBUTES = 2;
+
+    @Override
+    public Predicate visit(AndPredicate andPredicate, Indexes indexes) {
+        Index[] compositeIndexes = indexes.getCompositeIndexes();
+        if (compositeIndexes.length == 0) {
+            return andPredicate;
+        }
+        Predicate[] originalPredicates = andPredicate.predicates;
+        Map<String, EqualPredicate> candidates = findCandidates(originalPredicates);
+        if (candidates == null) {
+            return andPredicate;
+        }
+
+        Index bestIndex = null;
+        int bestMatchCount = MIN_MATCHED_ATTRIBUTES - 1;
+        for (Index index : compositeIndexes) {
+            int matchCount = matchCount(index, candidates);
+            if (matchCount > bestMatchCount) {
+                bestIndex = index;
+                bestMatchCount = matchCount;
+            }
+        }
+        if (bestIndex == null) {
+            return andPredicate;
+        }
+        return rewrite(originalPredicates, bestIndex, bestMatchCount, candidates);
+    }
+
+    private static Predicate rewrite(Predicate[] originalPredicates, Index index, int matchCount,
+                                     Map<String, EqualPredicate> candidates) {
+        String[] components = index.getComponents();
+        EqualPredicate[] matched = new EqualPredicate[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            matched[i] = candidates.get(components[i]);
+        }
+        CompositeEqualPredicate composite = new CompositeEqualPredicate(index.getAttributeName(), components.length, matched);
+
+        int newSize = originalPredicates.length - matchCount + 1;
+        if (newSize == 1) {
+            return composite;
+        }
+        Predicate[] newPredicates = new Predicate[newSize];
+        newPredicates[0] = composite;
+        int i = 1;
+        for (Predicate predicate : originalPredicates) {
+            if (!isMatched(predicate, matched)) {
+                newPredicates[i++] = predicate;
+            }
+        }
+        return new AndPredicate(newPredicates);
+    }
+
+    private static boolean isMatched(Predicate predicate, EqualPredicate[] matched) {
+        for (EqualPredicate equalPredicate : matched) {
+            if (predicate == equalPredicate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int matchCount(Index index, Map<String, EqualPredicate> candidates) {
+        String[] components = index.getComponents();
+        int matchCount = 0;
+        while (matchCount < components.length && candidates.containsKey(components[matchCount])) {
+            matchCount++;
+        }
+        if (matchCount < components.length && !index.isOrdered()) {
+            return 0;
+        }
+        return matchCount;
+    }
+
+    /**
+     * Find EqualPredicates having a non-null value and group them by attribute name.
+     * Only the first predicate of an attribute is a candidate, the others stay in the AndPredicate.
+     */
+    private static Map<String, EqualPredicate> findCandidates(Predicate[] predicates) {
+        Map<String, EqualPredicate> candidates = null;
+        for (Predicate predicate : predicates) {
+            // NotEqualPredicate is a subclass of EqualPredicate
+            if (predicate == null || predicate.getClass() != EqualPredicate.class) {
+                continue;
+            }
+            EqualPredicate equalPredicate = (EqualPredicate) predicate;
+            if (equalPredicate.value == null) {
+                continue;
+            }
+            if (candidates == null) {
+                candidates = new HashMap<String, EqualPredicate>();
+            }
+            if (!candidates.containsKey(equalPredicate.attribute)) {
+                candidates.put(equalPredicate.attribute, equalPredicate);
+            }
+        }
+        return candidates == null || candidates.size() < MIN_MATCHED_ATTRIBUTES ? null : candidates;
+    }
+}
@@ -17,6 +17,8 @@
 package com.hazelcast.query.impl.predicates;
 
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.ComparisonType;
+import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.QueryContext;
 import com.hazelcast.query.impl.QueryableEntry;
 
@@ -39,14 +41,23 @@ public final class NotEqualPredicate extends EqualPredicate {
         return !super.apply(entry);
     }
 
+    /**
+     * Only bitmap indexes answer not-equal comparisons; the entries not having the value are
+     * found by negating its bitmap.
+     */
     @Override
     public boolean isIndexed(QueryContext queryContext) {
-        return false;
+        Index index = getIndex(queryContext);
+        return index != null && index.isBitmap();
     }
 
     @Override
     public Set<QueryableEntry> filter(QueryContext queryContext) {
-        return null;
+        Index index = getIndex(queryContext);
+        if (index == null || !index.isBitmap()) {
+            return null;
+        }
+        return index.getSubRecords(ComparisonType.NOT_EQUAL, value);
     }
 
     @Override
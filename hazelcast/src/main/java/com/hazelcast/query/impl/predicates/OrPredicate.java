@@ -22,6 +22,7 @@ import com.hazelcast.nio.serialization.DataSerializable;
 import com.hazelcast.query.IndexAwarePredicate;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.VisitablePredicate;
+import com.hazelcast.query.impl.BitmapResultSet;
 import com.hazelcast.query.impl.Indexes;
 import com.hazelcast.query.impl.OrResultSet;
 import com.hazelcast.query.impl.QueryContext;
@@ -63,7 +64,12 @@ public final class OrPredicate implements IndexAwarePredicate, DataSerializable,
                 }
             }
         }
-        return indexedResults.isEmpty() ? null : new OrResultSet(indexedResults);
+        if (indexedResults.isEmpty()) {
+            return null;
+        }
+        // results of bitmap indexes are united bitwise
+        BitmapResultSet.unite(indexedResults);
+        return indexedResults.size() == 1 ? indexedResults.get(0) : new OrResultSet(indexedResults);
     }
 
     @Override
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.projections;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.query.AttributeTuple;
+import com.hazelcast.query.Projection;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static com.hazelcast.query.impl.projections.SingleAttributeProjection.toQueryableEntry;
+import static com.hazelcast.util.Preconditions.checkHasText;
+import static com.hazelcast.util.Preconditions.checkNotNull;
+import static com.hazelcast.util.Preconditions.checkPositive;
+
+/**
+ * Projects the entries to tuples holding the values of the attributes, in the order of the attributes.
+ *
+ * @param <I> type of the input map entries
+ */
+public final class MultiAttributeProjection<I extends Map.Entry> implements Projection<I, AttributeTuple>, DataSerializable {
+
+    private String[] attributes;
+
+    public MultiAttributeProjection() {
+    }
+
+    public MultiAttributeProjection(String... attributes) {
+        checkNotNull(attributes, "attributes cannot be null");
+        checkPositive(attributes.length, "at least one attribute must be given");
+        for (String attribute : attributes) {
+            checkHasText(attribute, "attribute must have text");
+        }
+        this.attributes = attributes.clone();
+    }
+
+    @Override
+    public AttributeTuple transform(I input) {
+        QueryableEntry entry = toQueryableEntry(input);
+        Object[] values = new Object[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            values[i] = entry.getAttribute(attributes[i]);
+        }
+        return new AttributeTuple(values);
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(attributes.length);
+        for (String attribute : attributes) {
+            out.writeUTF(attribute);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        attributes = new String[in.readInt()];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = in.readUTF();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MultiAttributeProjection{attributes=" + Arrays.toString(attributes) + '}';
+    }
+}
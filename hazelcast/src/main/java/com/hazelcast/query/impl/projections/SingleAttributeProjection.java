@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.projections;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.query.Projection;
+import com.hazelcast.query.impl.QueryableEntry;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static com.hazelcast.util.Preconditions.checkHasText;
+
+/**
+ * Projects the entries to the value of a single attribute.
+ *
+ * @param <I> type of the input map entries
+ * @param <O> type of the attribute
+ */
+public final class SingleAttributeProjection<I extends Map.Entry, O> implements Projection<I, O>, DataSerializable {
+
+    private String attribute;
+
+    public SingleAttributeProjection() {
+    }
+
+    public SingleAttributeProjection(String attribute) {
+        this.attribute = checkHasText(attribute, "attribute must have text");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public O transform(I input) {
+        return (O) toQueryableEntry(input).getAttribute(attribute);
+    }
+
+    static QueryableEntry toQueryableEntry(Map.Entry input) {
+        if (input instanceof QueryableEntry) {
+            return (QueryableEntry) input;
+        }
+        throw new IllegalArgumentException("Attributes can be projected only from queried entries, found: " + input);
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeUTF(attribute);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        attribute = in.readUTF();
+    }
+
+    @Override
+    public String toString() {
+        return "SingleAttributeProjection{attribute='" + attribute + "'}";
+    }
+}
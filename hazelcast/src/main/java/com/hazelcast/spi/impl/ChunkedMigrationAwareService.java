@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl;
+
+import com.hazelcast.spi.MigrationAwareService;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.PartitionReplicationEvent;
+
+import java.util.Iterator;
+
+/**
+ * A {@link MigrationAwareService} which prepares the replication of a migrating partition in chunks, so a partition is
+ * migrated in bounded parts and its data is never copied at once.
+ * <p/>
+ * The chunks are built one at a time on the partition thread of the source, the next one once the destination applied
+ * the previous one. They run in order on the partition thread of the destination, each one after
+ * {@link MigrationAwareService#beforeMigration} is called for it. Applying all chunks must have the same effect as
+ * running the operation of {@link MigrationAwareService#prepareReplicationOperation}.
+ */
+public interface ChunkedMigrationAwareService extends MigrationAwareService {
+
+    /**
+     * Prepares the replication of a partition in chunks.
+     *
+     * @param event        the replication event
+     * @param maxChunkSize the maximum estimated size of a chunk in bytes; a single entry bigger than it is not split
+     * @return the chunks in the order they are run, each one built by {@link Iterator#next()}; only used on the
+     * partition thread
+     */
+    Iterator<Operation> prepareReplicationChunks(PartitionReplicationEvent event, long maxChunkSize);
+}
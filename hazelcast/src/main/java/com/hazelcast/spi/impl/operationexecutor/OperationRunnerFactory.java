@@ -52,4 +52,11 @@ public interface OperationRunnerFactory {
      * @see com.hazelcast.spi.OperationService#runOperationOnCallingThread(com.hazelcast.spi.Operation)
      */
     OperationRunner createAdHocRunner();
+
+    /**
+     * Creates the ResponseBatch of a partition operation thread.
+     *
+     * @return the created ResponseBatch or null if responses are not batched.
+     */
+    ResponseBatch createResponseBatch();
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor;
+
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
+
+/**
+ * Batches the responses a partition operation thread sends to remote callers.
+ * <p/>
+ * The responses for the same caller are packed into a single packet. The operation thread flushes its ResponseBatch
+ * when it has run all the tasks in its queue, so the responses of a burst of operations, like pipelined async calls,
+ * share packets without delaying a response once the thread runs out of work. Under a steady load the queue may never
+ * run empty, so the thread also flushes after a bounded number of tasks, and the responses older than a bounded delay
+ * are sent before the next task runs or, while a slow task runs, by another thread.
+ * <p/>
+ * A response which cannot be sent fails its operation the same way as an unbatched response does, even if the
+ * failure only shows up when the batch is flushed.
+ * <p/>
+ * Responses are only added by the thread owning the batch, but the batch is flushed by other threads too, so it has
+ * to be thread-safe.
+ */
+public interface ResponseBatch {
+
+    /**
+     * Adds a response to this batch.
+     *
+     * @param operation the operation the response is for; the response is sent to its caller
+     * @param response  the response
+     */
+    void add(Operation operation, Response response);
+
+    /**
+     * Checks if this batch has responses which are not sent yet.
+     *
+     * @return true if there are no batched responses, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Sends all batched responses.
+     */
+    void flush();
+
+    /**
+     * Sends all batched responses if the oldest of them was added at least given delay ago.
+     *
+     * @param delayNanos the delay in nanoseconds
+     */
+    void flushIfOlderThan(long delayNanos);
+}
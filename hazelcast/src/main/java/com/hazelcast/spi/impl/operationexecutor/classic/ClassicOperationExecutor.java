@@ -31,6 +31,11 @@ import com.hazelcast.spi.impl.operationexecutor.OperationExecutor;
 import com.hazelcast.spi.impl.operationexecutor.OperationHostileThread;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunnerFactory;
+import com.hazelcast.spi.impl.operationexecutor.ResponseBatch;
+import com.hazelcast.util.ThreadAffinity;
+import com.hazelcast.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.util.concurrent.BusySpinIdleStrategy;
+import com.hazelcast.util.concurrent.IdleStrategy;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.concurrent.TimeUnit;
@@ -62,11 +67,18 @@ public final class ClassicOperationExecutor implements OperationExecutor {
 
     public static final int TERMINATION_TIMEOUT_SECONDS = 3;
 
+    private static final int IDLE_MAX_SPINS = 20;
+    private static final int IDLE_MAX_YIELDS = 50;
+    private static final long IDLE_MIN_PARK_NS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long IDLE_MAX_PARK_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
     private final ILogger logger;
 
     // all operations for specific partitions will be executed on these threads, e.g. map.put(key, value)
     private final PartitionOperationThread[] partitionOperationThreads;
     private final OperationRunner[] partitionOperationRunners;
+    // sends the batched responses of busy partition operation threads, null if responses are not batched
+    private ResponseFlushThread responseFlushThread;
 
     private final ScheduleQueue genericScheduleQueue;
 
@@ -92,12 +104,13 @@ public final class ClassicOperationExecutor implements OperationExecutor {
         this.threadGroup = hazelcastThreadGroup;
         this.metricsRegistry = metricsRegistry;
         this.logger = loggerService.getLogger(ClassicOperationExecutor.class);
+        // shared by all generic operation threads, so it can't be a single consumer queue
         this.genericScheduleQueue = new DefaultScheduleQueue();
 
         this.adHocOperationRunner = operationRunnerFactory.createAdHocRunner();
 
         this.partitionOperationRunners = initPartitionOperationRunners(properties, operationRunnerFactory);
-        this.partitionOperationThreads = initPartitionThreads(properties);
+        this.partitionOperationThreads = initPartitionThreads(properties, operationRunnerFactory);
 
         this.genericOperationRunners = initGenericOperationRunners(properties, operationRunnerFactory);
         this.genericOperationThreads = initGenericThreads();
@@ -129,7 +142,8 @@ public final class ClassicOperationExecutor implements OperationExecutor {
         return operationRunners;
     }
 
-    private PartitionOperationThread[] initPartitionThreads(GroupProperties properties) {
+    private PartitionOperationThread[] initPartitionThreads(GroupProperties properties,
+                                                            OperationRunnerFactory operationRunnerFactory) {
         int threadCount = properties.getInteger(GroupProperty.PARTITION_OPERATION_THREAD_COUNT);
         if (threadCount <= 0) {
             // default partition operation thread count
@@ -138,19 +152,36 @@ public final class ClassicOperationExecutor implements OperationExecutor {
         }
 
         PartitionOperationThread[] threads = new PartitionOperationThread[threadCount];
+        ResponseFlushThread flushThread = new ResponseFlushThread(threads, logger, threadGroup);
+        boolean responsesBatched = false;
+        ThreadAffinity threadAffinity = ThreadAffinity.parse(
+                properties.getString(GroupProperty.PARTITION_OPERATION_THREAD_AFFINITY));
         for (int threadId = 0; threadId < threads.length; threadId++) {
             String threadName = threadGroup.getThreadPoolNamePrefix("partition-operation") + threadId;
-            ScheduleQueue scheduleQueue = new DefaultScheduleQueue();
+            ScheduleQueue scheduleQueue = newPartitionScheduleQueue(properties);
 
             PartitionOperationThread operationThread = new PartitionOperationThread(threadName, threadId, scheduleQueue, logger,
                     threadGroup, nodeExtension, partitionOperationRunners);
 
+            operationThread.setCpuSet(threadAffinity.getCpuSet(threadId));
+            ResponseBatch responseBatch = operationRunnerFactory.createResponseBatch();
+            if (responseBatch != null) {
+                operationThread.setResponseBatch(responseBatch);
+                operationThread.setResponseFlushThread(flushThread);
+                responsesBatched = true;
+            }
             threads[threadId] = operationThread;
             operationThread.start();
 
             metricsRegistry.scanAndRegister(operationThread, "operation." + operationThread.getName());
         }
 
+        if (responsesBatched) {
+            // started once all threads are in the array
+            responseFlushThread = flushThread;
+            flushThread.start();
+        }
+
         // we need to assign the PartitionOperationThreads to all OperationRunners they own
         for (int partitionId = 0; partitionId < partitionOperationRunners.length; partitionId++) {
             int threadId = partitionId % threadCount;
@@ -162,6 +193,22 @@ public final class ClassicOperationExecutor implements OperationExecutor {
         return threads;
     }
 
+    private static ScheduleQueue newPartitionScheduleQueue(GroupProperties properties) {
+        if (!properties.getBoolean(GroupProperty.PARTITION_OPERATION_QUEUE_MPSC_ENABLED)) {
+            return new DefaultScheduleQueue();
+        }
+
+        IdleStrategy idleStrategy;
+        switch (properties.getEnum(GroupProperty.PARTITION_OPERATION_THREAD_IDLE_STRATEGY, IdleStrategyType.class)) {
+            case BUSYSPIN:
+                idleStrategy = new BusySpinIdleStrategy();
+                break;
+            default:
+                idleStrategy = new BackoffIdleStrategy(IDLE_MAX_SPINS, IDLE_MAX_YIELDS, IDLE_MIN_PARK_NS, IDLE_MAX_PARK_NS);
+        }
+        return new MPSCScheduleQueue(idleStrategy);
+    }
+
     private GenericOperationThread[] initGenericThreads() {
         // we created as many generic operation handlers, as there are generic threads
         int threadCount = genericOperationRunners.length;
@@ -420,6 +467,15 @@ public final class ClassicOperationExecutor implements OperationExecutor {
         shutdownAll(genericOperationThreads);
         awaitTermination(partitionOperationThreads);
         awaitTermination(genericOperationThreads);
+        if (responseFlushThread != null) {
+            // stopped after the partition threads, which flush their own batches when they stop
+            responseFlushThread.shutdown();
+            try {
+                responseFlushThread.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     private static void shutdownAll(OperationThread[] operationThreads) {
@@ -444,4 +500,12 @@ public final class ClassicOperationExecutor implements OperationExecutor {
                 + "node=" + thisAddress
                 + '}';
     }
+
+    /**
+     * The idle strategies of {@link GroupProperty#PARTITION_OPERATION_THREAD_IDLE_STRATEGY}.
+     */
+    enum IdleStrategyType {
+        BACKOFF,
+        BUSYSPIN
+    }
 }
@@ -89,4 +89,21 @@ public final class DefaultScheduleQueue implements ScheduleQueue {
             return normalItem;
         }
     }
+
+    @Override
+    public Object poll() {
+        for (; ; ) {
+            Object priorityItem = priorityQueue.poll();
+            if (priorityItem != null) {
+                return priorityItem;
+            }
+
+            Object normalItem = normalQueue.poll();
+            if (normalItem == TRIGGER_TASK) {
+                continue;
+            }
+
+            return normalItem;
+        }
+    }
 }
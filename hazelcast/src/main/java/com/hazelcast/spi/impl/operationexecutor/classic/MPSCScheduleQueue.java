@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.classic;
+
+import com.hazelcast.util.concurrent.IdleStrategy;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.util.Preconditions.checkNotNull;
+
+/**
+ * A lock-free {@link ScheduleQueue} for a single consuming thread, like a {@link PartitionOperationThread}.
+ * <p/>
+ * The normal tasks are stored in a chain of array chunks: a producer claims a slot by incrementing the tail index,
+ * so an add neither takes a lock nor allocates a node; a new chunk is only allocated for every {@link #CHUNK_SIZE}
+ * tasks. The urgent tasks are stored in a separate queue which is always checked first, so no trigger task is needed.
+ * <p/>
+ * When there is no task, the consumer idles according to its {@link IdleStrategy}. A consumer which parks is woken
+ * up by the producers.
+ */
+public final class MPSCScheduleQueue implements ScheduleQueue {
+
+    static final int CHUNK_SIZE = 1024;
+
+    // the index of the next slot to be claimed by a producer
+    private final AtomicLong tail = new AtomicLong();
+    // the index of the next slot to be taken, only written by the consumer
+    private final AtomicLong head = new AtomicLong();
+    private final ConcurrentLinkedQueue<Object> priorityQueue = new ConcurrentLinkedQueue<Object>();
+    private final IdleStrategy idleStrategy;
+
+    // the chunk of the head; a producer which got behind the producerChunk continues from here
+    private volatile Chunk consumerChunk;
+    // the most recently created chunk, where producers start looking for the chunk of their slot
+    private volatile Chunk producerChunk;
+
+    private volatile Thread consumerThread;
+    private volatile boolean consumerIdle;
+
+    public MPSCScheduleQueue(IdleStrategy idleStrategy) {
+        this.idleStrategy = checkNotNull(idleStrategy, "idleStrategy");
+        Chunk chunk = new Chunk(0);
+        this.consumerChunk = chunk;
+        this.producerChunk = chunk;
+    }
+
+    @Override
+    public void add(Object task) {
+        checkNotNull(task, "task can't be null");
+
+        long index = tail.getAndIncrement();
+        Chunk chunk = producerChunk;
+        if (chunk.base > index) {
+            // other producers created chunks after this one claimed its slot; the consumer can't have passed the slot
+            chunk = consumerChunk;
+        }
+        while (index >= chunk.base + CHUNK_SIZE) {
+            chunk = nextChunk(chunk);
+        }
+        chunk.slots.lazySet((int) (index - chunk.base), task);
+
+        wakeupConsumer();
+    }
+
+    @Override
+    public void addUrgent(Object task) {
+        checkNotNull(task, "task can't be null");
+
+        priorityQueue.add(task);
+
+        wakeupConsumer();
+    }
+
+    private Chunk nextChunk(Chunk chunk) {
+        Chunk next = chunk.next.get();
+        if (next != null) {
+            return next;
+        }
+
+        Chunk newChunk = new Chunk(chunk.base + CHUNK_SIZE);
+        if (chunk.next.compareAndSet(null, newChunk)) {
+            producerChunk = newChunk;
+            return newChunk;
+        }
+        return chunk.next.get();
+    }
+
+    private void wakeupConsumer() {
+        if (consumerIdle) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    @Override
+    public int normalSize() {
+        long size = tail.get() - head.get();
+        return size < 0 ? 0 : (int) size;
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityQueue.size();
+    }
+
+    @Override
+    public int size() {
+        return normalSize() + prioritySize();
+    }
+
+    @Override
+    public Object take() throws InterruptedException {
+        Object task = poll();
+        if (task != null) {
+            return task;
+        }
+
+        consumerThread = Thread.currentThread();
+        consumerIdle = true;
+        try {
+            for (long n = 0; ; n++) {
+                // polled after announcing the idleness, so an add made before the producer could see it isn't missed
+                task = poll();
+                if (task != null) {
+                    return task;
+                }
+
+                idleStrategy.idle(n);
+
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            consumerIdle = false;
+        }
+    }
+
+    @Override
+    public Object poll() {
+        Object task = priorityQueue.poll();
+        if (task != null) {
+            return task;
+        }
+
+        long index = head.get();
+        if (index == tail.get()) {
+            return null;
+        }
+
+        Chunk chunk = consumerChunk;
+        if (index == chunk.base + CHUNK_SIZE) {
+            chunk = awaitNext(chunk);
+            consumerChunk = chunk;
+        }
+
+        int slot = (int) (index - chunk.base);
+        for (; ; ) {
+            task = chunk.slots.get(slot);
+            if (task != null) {
+                break;
+            }
+            // the slot has been claimed, but the producer didn't write it yet
+            Thread.yield();
+        }
+        chunk.slots.lazySet(slot, null);
+        head.lazySet(index + 1);
+        return task;
+    }
+
+    private static Chunk awaitNext(Chunk chunk) {
+        for (; ; ) {
+            Chunk next = chunk.next.get();
+            if (next != null) {
+                return next;
+            }
+            // a slot of the next chunk has been claimed, but the producer didn't create it yet
+            Thread.yield();
+        }
+    }
+
+    private static final class Chunk {
+        // the index of the first slot of this chunk
+        private final long base;
+        private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<Object>(CHUNK_SIZE);
+        private final AtomicReference<Chunk> next = new AtomicReference<Chunk>();
+
+        private Chunk(long base) {
+            this.base = base;
+        }
+    }
+}
@@ -24,9 +24,12 @@ import com.hazelcast.nio.Packet;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import com.hazelcast.spi.impl.operationexecutor.ResponseBatch;
+import com.hazelcast.util.ThreadAffinity;
 import com.hazelcast.util.counters.SwCounter;
 import com.hazelcast.util.executor.HazelcastManagedThread;
 
+import java.util.BitSet;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.instance.OutOfMemoryErrorDispatcher.inspectOutputMemoryError;
@@ -43,6 +46,11 @@ import static com.hazelcast.util.counters.SwCounter.newSwCounter;
  */
 public abstract class OperationThread extends HazelcastManagedThread {
 
+    // the batched responses are sent at the latest after this many tasks, even if the queue doesn't run empty
+    static final int MAX_TASKS_BETWEEN_FLUSHES = 64;
+    // the batched responses are sent at the latest after this delay, even if the queue doesn't run empty or a task is slow
+    static final long MAX_FLUSH_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
     final int threadId;
     final ScheduleQueue scheduleQueue;
 
@@ -60,6 +68,15 @@ public abstract class OperationThread extends HazelcastManagedThread {
     private final ILogger logger;
     private volatile boolean shutdown;
 
+    // the CPUs this thread is pinned to, null if it isn't pinned
+    private BitSet cpuSet;
+
+    // batches the responses of this thread, null if responses are not batched
+    private ResponseBatch responseBatch;
+    // sends the batched responses while this thread runs a slow task, null if responses are not batched
+    private ResponseFlushThread responseFlushThread;
+    private int tasksSinceFlush;
+
     // This field wil only be accessed by the thread itself when doing 'self' calls. So no need
     // for any form of synchronization.
     private OperationRunner currentOperationRunner;
@@ -84,6 +101,43 @@ public abstract class OperationThread extends HazelcastManagedThread {
         return scheduleQueue.normalSize();
     }
 
+    /**
+     * Sets the CPUs this thread is pinned to when it starts.
+     *
+     * @param cpuSet the CPUs, null if the thread should not be pinned
+     */
+    public void setCpuSet(BitSet cpuSet) {
+        this.cpuSet = cpuSet;
+    }
+
+    /**
+     * Sets the ResponseBatch of this thread, it is flushed when this thread has run all the tasks in its queue
+     * and when this thread is shut down.
+     *
+     * @param responseBatch the ResponseBatch, null if responses are not batched
+     */
+    public void setResponseBatch(ResponseBatch responseBatch) {
+        this.responseBatch = responseBatch;
+    }
+
+    /**
+     * Sets the thread which sends the batched responses of this thread while it runs a slow task.
+     *
+     * @param responseFlushThread the ResponseFlushThread, null if responses are not batched
+     */
+    void setResponseFlushThread(ResponseFlushThread responseFlushThread) {
+        this.responseFlushThread = responseFlushThread;
+    }
+
+    /**
+     * Gets the ResponseBatch of this thread. Can only be used by this thread itself.
+     *
+     * @return the ResponseBatch or null if responses are not batched
+     */
+    public ResponseBatch getResponseBatch() {
+        return responseBatch;
+    }
+
     public OperationRunner getCurrentOperationRunner() {
         return currentOperationRunner;
     }
@@ -93,6 +147,7 @@ public abstract class OperationThread extends HazelcastManagedThread {
     @Override
     public final void run() {
         nodeExtension.onThreadStart(this);
+        ThreadAffinity.pinCurrentThread(cpuSet, logger);
         try {
             doRun();
         } catch (Throwable t) {
@@ -107,20 +162,84 @@ public abstract class OperationThread extends HazelcastManagedThread {
         for (; ; ) {
             Object task;
             try {
-                task = scheduleQueue.take();
+                task = nextTask();
             } catch (InterruptedException e) {
                 if (shutdown) {
-                    return;
+                    break;
                 }
                 continue;
             }
 
             if (shutdown) {
-                return;
+                break;
             }
 
             process(task);
         }
+
+        if (responseBatch != null) {
+            // the responses of the operations which have run before the shutdown are not dropped
+            flushResponseBatch();
+        }
+    }
+
+    private Object nextTask() throws InterruptedException {
+        if (responseBatch == null) {
+            return scheduleQueue.take();
+        }
+
+        Object task = scheduleQueue.poll();
+        if (task == null) {
+            // the queue has run empty, the batched responses are sent before waiting for new tasks
+            flushResponseBatch();
+            task = scheduleQueue.take();
+        } else if (!responseBatch.isEmpty()) {
+            // under a steady load the queue may never run empty, so the callers are not kept waiting for too long
+            if (++tasksSinceFlush >= MAX_TASKS_BETWEEN_FLUSHES) {
+                flushResponseBatch();
+            } else if (!flushOverdueResponses()) {
+                tasksSinceFlush = 0;
+            } else if (responseFlushThread != null) {
+                // the run time of the task is unknown, the responses are sent by the flush thread if it is slow
+                responseFlushThread.wakeUp();
+            }
+        }
+        return task;
+    }
+
+    private void flushResponseBatch() {
+        try {
+            responseBatch.flush();
+        } catch (Throwable e) {
+            inspectOutputMemoryError(e);
+            logger.severe("Failed to flush the batched responses on " + getName(), e);
+        }
+        tasksSinceFlush = 0;
+    }
+
+    /**
+     * Sends the batched responses older than {@link #MAX_FLUSH_DELAY_NANOS}. Called by this thread between tasks
+     * and by the {@link ResponseFlushThread} while this thread runs a task.
+     *
+     * @return true if this thread still holds batched responses
+     */
+    boolean flushOverdueResponses() {
+        ResponseBatch batch = responseBatch;
+        if (batch == null) {
+            return false;
+        }
+        try {
+            batch.flushIfOlderThan(MAX_FLUSH_DELAY_NANOS);
+        } catch (Throwable e) {
+            inspectOutputMemoryError(e);
+            logger.severe("Failed to flush the batched responses of " + getName(), e);
+        }
+        return !batch.isEmpty();
+    }
+
+    boolean hasPendingResponses() {
+        ResponseBatch batch = responseBatch;
+        return batch != null && !batch.isEmpty();
     }
 
     private void process(Object task) {
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.classic;
+
+import com.hazelcast.instance.HazelcastThreadGroup;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.util.executor.HazelcastManagedThread;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.instance.OutOfMemoryErrorDispatcher.inspectOutputMemoryError;
+import static com.hazelcast.spi.impl.operationexecutor.classic.OperationThread.MAX_FLUSH_DELAY_NANOS;
+
+/**
+ * Flushes the response batches of the operation threads which are busy running a task.
+ * <p/>
+ * An operation thread only checks the age of its batched responses between tasks, so a slow task would keep the
+ * responses of the tasks before it waiting. While any batch holds responses this thread checks the batches every
+ * {@link OperationThread#MAX_FLUSH_DELAY_NANOS} and sends the responses older than that, otherwise it sleeps until an
+ * operation thread starts a task while holding batched responses.
+ */
+final class ResponseFlushThread extends HazelcastManagedThread {
+
+    private final OperationThread[] operationThreads;
+    private final ILogger logger;
+    private volatile boolean sleeping;
+    private volatile boolean shutdown;
+
+    @SuppressFBWarnings({"EI_EXPOSE_REP2" })
+    ResponseFlushThread(OperationThread[] operationThreads, ILogger logger, HazelcastThreadGroup threadGroup) {
+        super(threadGroup.getInternalThreadGroup(), threadGroup.getThreadNamePrefix("response-flush"));
+        this.operationThreads = operationThreads;
+        this.logger = logger;
+    }
+
+    /**
+     * Wakes this thread up if it is sleeping, called by an operation thread starting a task while it holds batched
+     * responses.
+     */
+    void wakeUp() {
+        if (sleeping) {
+            LockSupport.unpark(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!shutdown) {
+                if (flushOverdueResponses()) {
+                    LockSupport.parkNanos(MAX_FLUSH_DELAY_NANOS);
+                    continue;
+                }
+                sleeping = true;
+                // a batch filled before sleeping was set is seen by this check, a later one wakes this thread up
+                if (!hasPendingResponses()) {
+                    LockSupport.park();
+                }
+                sleeping = false;
+            }
+        } catch (Throwable t) {
+            inspectOutputMemoryError(t);
+            logger.severe(t);
+        }
+    }
+
+    /**
+     * @return true if any operation thread still holds batched responses
+     */
+    private boolean flushOverdueResponses() {
+        boolean pending = false;
+        for (OperationThread operationThread : operationThreads) {
+            pending |= operationThread.flushOverdueResponses();
+        }
+        return pending;
+    }
+
+    private boolean hasPendingResponses() {
+        for (OperationThread operationThread : operationThreads) {
+            if (operationThread.hasPendingResponses()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(this);
+    }
+
+    void awaitTermination(int timeout, TimeUnit unit) throws InterruptedException {
+        join(unit.toMillis(timeout));
+    }
+}
@@ -60,6 +60,15 @@ public interface ScheduleQueue {
      */
     Object take() throws InterruptedException;
 
+    /**
+     * Takes an item from this queue if one is available.
+     * <p/>
+     * This method should always be called by the same thread.
+     *
+     * @return the taken item or null if this queue is empty.
+     */
+    Object poll();
+
     /**
      * returns the number of normal operations pending.
      * <p/>
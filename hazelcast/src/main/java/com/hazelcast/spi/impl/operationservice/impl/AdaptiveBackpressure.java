@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.core.HazelcastOverloadException;
+import com.hazelcast.nio.Address;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.WaitSupport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.spi.impl.operationservice.impl.CallIdSequence.CallIdSequenceWithBackpressure.nextDelay;
+import static com.hazelcast.spi.impl.operationservice.impl.CallIdSequence.CallIdSequenceWithBackpressure.sleep;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Limits the number of concurrent remote invocations per member, adapting the limit to the response times of the member.
+ * <p/>
+ * The response time of a member is compared to the lowest response time seen, in the style of TCP Vegas: when the
+ * response times of a window of invocations are well above it, operations are queueing up on the member and the
+ * limit is decreased multiplicatively. Operations differ a lot in their response times, think of queries or executor
+ * tasks next to gets, so every response time is compared to the lowest one seen for its operation class.
+ * Otherwise the limit is increased additively, or doubled while the limit hasn't been decreased yet like TCP slow
+ * start. So the number of invocations in flight stays close to what the member can handle without its queues blowing
+ * up, instead of running into a static limit.
+ * <p/>
+ * Only the successful responses are sampled, invocations failing fast tell nothing about the load of a member.
+ * <p/>
+ * An invocation exceeding the limit of its member backs off, like the
+ * {@link CallIdSequence.CallIdSequenceWithBackpressure}, until there is space or the backoff timeout expires and a
+ * {@link HazelcastOverloadException} is thrown. Urgent, blocking and local invocations are not limited.
+ */
+final class AdaptiveBackpressure {
+
+    static final int INITIAL_LIMIT = 32;
+    static final int MIN_LIMIT = 4;
+
+    // the response times are considered inflated when they are on average more than this factor above the lowest
+    // response times of their operations
+    private static final int LATENCY_TOLERANCE = 2;
+    private static final double DECREASE_FACTOR = 0.75;
+    // the lowest response time is forgotten once in so many windows, so the baseline can follow a changing network
+    private static final int BASELINE_RESET_WINDOWS = 100;
+
+    private final ConcurrentMap<Address, MemberWindow> windows = new ConcurrentHashMap<Address, MemberWindow>();
+    private final int maxLimit;
+    private final long backoffTimeoutMs;
+
+    AdaptiveBackpressure(int maxLimit, long backoffTimeoutMs) {
+        this.maxLimit = maxLimit;
+        this.backoffTimeoutMs = backoffTimeoutMs;
+    }
+
+    /**
+     * Acquires a slot for the invocation at its target member, backing off while the member is at its limit.
+     *
+     * @param invocation the invocation
+     * @throws HazelcastOverloadException if no slot became available before the backoff timeout
+     */
+    void acquire(Invocation invocation) {
+        // blocking operations can take arbitrarily long, their response times tell nothing about the load of a member
+        Operation op = invocation.op;
+        if (!invocation.remote || op.isUrgent() || op instanceof WaitSupport) {
+            return;
+        }
+
+        MemberWindow window = getOrCreateWindow(invocation.invTarget);
+        if (!window.tryAcquire()) {
+            waitForSpace(window, invocation);
+        }
+        invocation.backpressureWindow = window;
+        invocation.backpressureStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the response time of the invocation, if it has a slot. Called when a normal response is received.
+     *
+     * @param invocation the invocation
+     */
+    void onNormalResponse(Invocation invocation) {
+        MemberWindow window = invocation.backpressureWindow;
+        if (window == null) {
+            return;
+        }
+        window.onSample(invocation.op.getClass(), System.nanoTime() - invocation.backpressureStartNanos);
+    }
+
+    /**
+     * Releases the slot of the invocation, if it has one.
+     *
+     * @param invocation the invocation
+     */
+    void release(Invocation invocation) {
+        MemberWindow window = invocation.backpressureWindow;
+        if (window == null) {
+            return;
+        }
+        invocation.backpressureWindow = null;
+        window.release();
+    }
+
+    void onMemberLeft(Address address) {
+        windows.remove(address);
+    }
+
+    // just for testing
+    MemberWindow getWindow(Address address) {
+        return windows.get(address);
+    }
+
+    private MemberWindow getOrCreateWindow(Address address) {
+        MemberWindow window = windows.get(address);
+        if (window == null) {
+            window = new MemberWindow(maxLimit);
+            MemberWindow found = windows.putIfAbsent(address, window);
+            if (found != null) {
+                window = found;
+            }
+        }
+        return window;
+    }
+
+    private void waitForSpace(MemberWindow window, Invocation invocation) {
+        long remainingTimeoutMs = backoffTimeoutMs;
+        boolean restoreInterrupt = false;
+        try {
+            long delayMs = 1;
+            for (; ; ) {
+                long startMs = System.currentTimeMillis();
+                restoreInterrupt |= sleep(delayMs);
+                remainingTimeoutMs -= System.currentTimeMillis() - startMs;
+
+                if (window.tryAcquire()) {
+                    return;
+                }
+
+                if (remainingTimeoutMs <= 0) {
+                    throw new HazelcastOverloadException("Too many concurrent invocations to " + invocation.invTarget
+                            + ", limit: " + window.limit + ", invocation: " + invocation);
+                }
+
+                delayMs = nextDelay(remainingTimeoutMs, delayMs);
+            }
+        } finally {
+            if (restoreInterrupt) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The limit and the invocations in flight for a single member.
+     */
+    static final class MemberWindow {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        volatile int limit;
+
+        private final int maxLimit;
+        // guarded by this
+        private final Map<Class<?>, Baseline> baselines = new HashMap<Class<?>, Baseline>();
+        private boolean slowStart = true;
+        private double windowSumRatios;
+        private int windowSamples;
+        private int windowCount;
+
+        MemberWindow(int maxLimit) {
+            this.maxLimit = max(maxLimit, MIN_LIMIT);
+            this.limit = min(INITIAL_LIMIT, this.maxLimit);
+        }
+
+        boolean tryAcquire() {
+            for (; ; ) {
+                int current = inFlight.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            inFlight.decrementAndGet();
+        }
+
+        synchronized void onSample(Class<?> operationClass, long latencyNanos) {
+            latencyNanos = max(latencyNanos, 1);
+            Baseline baseline = baselines.get(operationClass);
+            if (baseline == null) {
+                baseline = new Baseline();
+                baselines.put(operationClass, baseline);
+            }
+            baseline.onSample(latencyNanos);
+            windowSumRatios += (double) latencyNanos / baseline.nanos;
+            windowSamples++;
+
+            // a window is a limit's worth of responses, so roughly one round trip of the invocations in flight
+            if (windowSamples < limit) {
+                return;
+            }
+
+            double averageRatio = windowSumRatios / windowSamples;
+            if (averageRatio > LATENCY_TOLERANCE) {
+                slowStart = false;
+                limit = max(MIN_LIMIT, (int) (limit * DECREASE_FACTOR));
+            } else if (slowStart) {
+                limit = min(maxLimit, limit * 2);
+            } else {
+                limit = min(maxLimit, limit + 1);
+            }
+
+            boolean resetBaselines = ++windowCount % BASELINE_RESET_WINDOWS == 0;
+            for (Baseline operationBaseline : baselines.values()) {
+                operationBaseline.endWindow(resetBaselines);
+            }
+            windowSumRatios = 0;
+            windowSamples = 0;
+        }
+    }
+
+    /**
+     * The lowest response time seen for an operation class.
+     */
+    private static final class Baseline {
+
+        private long nanos = Long.MAX_VALUE;
+        private long windowMinNanos = Long.MAX_VALUE;
+
+        void onSample(long latencyNanos) {
+            nanos = min(nanos, latencyNanos);
+            windowMinNanos = min(windowMinNanos, latencyNanos);
+        }
+
+        void endWindow(boolean reset) {
+            if (reset && windowMinNanos != Long.MAX_VALUE) {
+                nanos = windowMinNanos;
+            }
+            windowMinNanos = Long.MAX_VALUE;
+        }
+    }
+}
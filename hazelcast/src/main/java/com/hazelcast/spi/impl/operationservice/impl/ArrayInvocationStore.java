@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.util.Preconditions.checkTrue;
+import static com.hazelcast.util.QuickMath.isPowerOfTwo;
+import static com.hazelcast.util.QuickMath.modPowerOfTwo;
+
+/**
+ * An {@link InvocationStore} backed by a fixed size array of slots, the slot of an invocation is its call-id modulo
+ * the capacity.
+ * <p/>
+ * Storing, removing and looking up an invocation doesn't box the call-id or allocate a node. A slot records the
+ * call-id of its invocation, which is the generation check: a lookup of a call-id which isn't in its slot anymore,
+ * because its invocation was removed and the slot was reused, finds nothing. Since call-ids are handed out in
+ * sequence and the back pressure bounds the number of pending invocations, a slot is normally free again by the
+ * time the call-id sequence wraps around to it. When it isn't, like for a long running blocking operation, the new
+ * invocation is stored in an overflow map instead.
+ */
+final class ArrayInvocationStore implements InvocationStore {
+
+    // the call-id of a free slot
+    private static final long FREE = 0;
+    // the call-id of a slot which is being claimed or released
+    private static final long BUSY = Long.MIN_VALUE;
+
+    private final AtomicLongArray callIds;
+    private final AtomicReferenceArray<Invocation> invocations;
+    private final ConcurrentMap<Long, Invocation> overflow = new ConcurrentHashMap<Long, Invocation>();
+    private final int capacity;
+
+    ArrayInvocationStore(int capacity) {
+        checkTrue(isPowerOfTwo(capacity), "capacity must be a power of two, but was " + capacity);
+        this.capacity = capacity;
+        this.callIds = new AtomicLongArray(capacity);
+        this.invocations = new AtomicReferenceArray<Invocation>(capacity);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void put(long callId, Invocation invocation) {
+        int slot = slot(callId);
+        if (callIds.compareAndSet(slot, FREE, BUSY)) {
+            invocations.set(slot, invocation);
+            // publishing the call-id makes the invocation visible for lookups
+            callIds.set(slot, callId);
+        } else {
+            overflow.put(callId, invocation);
+        }
+    }
+
+    @Override
+    public boolean remove(long callId) {
+        int slot = slot(callId);
+        if (callIds.compareAndSet(slot, callId, BUSY)) {
+            invocations.set(slot, null);
+            callIds.set(slot, FREE);
+            return true;
+        }
+        return !overflow.isEmpty() && overflow.remove(callId) != null;
+    }
+
+    @Override
+    public Invocation get(long callId) {
+        Invocation invocation = getFromSlot(slot(callId), callId);
+        if (invocation != null || overflow.isEmpty()) {
+            return invocation;
+        }
+        return overflow.get(callId);
+    }
+
+    private Invocation getFromSlot(int slot, long callId) {
+        if (callIds.get(slot) != callId) {
+            return null;
+        }
+        Invocation invocation = invocations.get(slot);
+        // a call-id is never reused, so if the slot still has the call-id, the invocation belongs to it
+        return callIds.get(slot) == callId ? invocation : null;
+    }
+
+    private int slot(long callId) {
+        return (int) modPowerOfTwo(callId, capacity);
+    }
+
+    /**
+     * Counts the occupied slots, so the number of invocations isn't tracked on every put and remove.
+     */
+    @Override
+    public int size() {
+        int size = overflow.size();
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isOccupied(callIds.get(slot))) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!overflow.isEmpty()) {
+            return false;
+        }
+        for (int slot = 0; slot < capacity; slot++) {
+            if (isOccupied(callIds.get(slot))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOccupied(long callId) {
+        return callId != FREE && callId != BUSY;
+    }
+
+    @Override
+    public Iterator<Invocation> iterator() {
+        return new InvocationIterator();
+    }
+
+    /**
+     * Iterates over the invocations in the slots and then over the invocations in the overflow map.
+     */
+    private final class InvocationIterator implements Iterator<Invocation> {
+
+        private final Iterator<Invocation> overflowIterator = overflow.values().iterator();
+        private int slot = -1;
+        private Invocation next;
+
+        private InvocationIterator() {
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (++slot < capacity) {
+                long callId = callIds.get(slot);
+                if (isOccupied(callId)) {
+                    next = getFromSlot(slot, callId);
+                    if (next != null) {
+                        return;
+                    }
+                }
+            }
+            if (overflowIterator.hasNext()) {
+                next = overflowIterator.next();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Invocation next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Invocation invocation = next;
+            advance();
+            return invocation;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
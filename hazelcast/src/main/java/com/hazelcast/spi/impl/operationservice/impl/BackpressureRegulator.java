@@ -83,6 +83,7 @@ public class BackpressureRegulator {
 
     private final boolean enabled;
     private final boolean disabled;
+    private final boolean adaptive;
     private final int syncWindow;
     private final int partitionCount;
     private final int maxConcurrentInvocations;
@@ -91,6 +92,7 @@ public class BackpressureRegulator {
     public BackpressureRegulator(GroupProperties properties, ILogger logger) {
         this.enabled = properties.getBoolean(GroupProperty.BACKPRESSURE_ENABLED);
         this.disabled = !enabled;
+        this.adaptive = enabled && properties.getBoolean(GroupProperty.BACKPRESSURE_ADAPTIVE_ENABLED);
         this.partitionCount = properties.getInteger(GroupProperty.PARTITION_COUNT);
         this.syncWindow = getSyncWindow(properties);
         this.maxConcurrentInvocations = getMaxConcurrentInvocations(properties);
@@ -104,7 +106,8 @@ public class BackpressureRegulator {
         if (enabled) {
             logger.info("Backpressure is enabled"
                     + ", maxConcurrentInvocations:" + maxConcurrentInvocations
-                    + ", syncWindow: " + syncWindow);
+                    + ", syncWindow: " + syncWindow
+                    + ", adaptive: " + adaptive);
         } else {
             logger.info("Backpressure is disabled");
         }
@@ -159,6 +162,19 @@ public class BackpressureRegulator {
         }
     }
 
+    /**
+     * Creates the AdaptiveBackpressure limiting the concurrent invocations per member.
+     *
+     * @return the created AdaptiveBackpressure or null if adaptive backpressure is disabled.
+     */
+    AdaptiveBackpressure newAdaptiveBackpressure() {
+        if (adaptive) {
+            return new AdaptiveBackpressure(maxConcurrentInvocations, backoffTimeoutMs);
+        } else {
+            return null;
+        }
+    }
+
     public CallIdSequence newCallIdSequence() {
         if (enabled) {
             return new CallIdSequence.CallIdSequenceWithBackpressure(maxConcurrentInvocations, backoffTimeoutMs);
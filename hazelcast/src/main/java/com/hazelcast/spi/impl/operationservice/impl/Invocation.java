@@ -112,6 +112,9 @@ abstract class Invocation implements OperationResponseHandler, Runnable {
     boolean remote;
     Address invTarget;
     MemberImpl targetMember;
+    // the slot of this invocation at its target member, only used with adaptive backpressure
+    AdaptiveBackpressure.MemberWindow backpressureWindow;
+    long backpressureStartNanos;
     final InvocationFuture invocationFuture;
     final OperationServiceImpl operationService;
 
@@ -38,14 +38,13 @@ import com.hazelcast.util.EmptyStatement;
 import com.hazelcast.util.counters.MwCounter;
 import com.hazelcast.util.counters.SwCounter;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.instance.OutOfMemoryErrorDispatcher.inspectOutputMemoryError;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
 import static com.hazelcast.spi.Operation.CALL_ID_LOCAL_SKIPPED;
 import static com.hazelcast.spi.OperationAccessor.setCallId;
+import static com.hazelcast.util.QuickMath.nextPowerOfTwo;
 import static com.hazelcast.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.util.counters.SwCounter.newSwCounter;
 
@@ -56,29 +55,29 @@ import static com.hazelcast.util.counters.SwCounter.newSwCounter;
  * {@link com.hazelcast.spi.impl.operationservice.impl.responses.Response} comes in, the
  * appropriate invocation can be looked up.
  * <p/>
+ * The invocations are stored in a CHM or, if {@link GroupProperty#INVOCATION_REGISTRY_ARRAY_ENABLED} is set, in an
+ * {@link ArrayInvocationStore} which doesn't box call-ids or allocate on registration.
+ * <p/>
  * Some idea's:
- * - use an ringbuffer to store all invocations instead of a CHM. The call-id can be used as sequence-id for this
- * ringbuffer. It can be that you run in slots that have not been released; if that happens, just keep increasing
- * the sequence (although you now get sequence-gaps).
- * - pre-allocate all invocations. Because the ringbuffer has a fixed capacity, pre-allocation should be easy. Also
+ * - pre-allocate all invocations. Because the array has a fixed capacity, pre-allocation should be easy. Also
  * the PartitionInvocation and TargetInvocation can be folded into Invocation.
  */
 public class InvocationRegistry {
 
     private static final long SCHEDULE_DELAY = 1111;
-    private static final int INITIAL_CAPACITY = 1000;
-    private static final float LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_ARRAY_CAPACITY = 1 << 15;
+    private static final int MAX_ARRAY_CAPACITY = 1 << 22;
     private static final int DELAY_MILLIS = 1000;
     private static final double HUNDRED_PERCENT = 100d;
 
     private final long backupTimeoutMillis;
 
-    @Probe(name = "invocations.pending", level = MANDATORY)
-    private final ConcurrentMap<Long, Invocation> invocations;
+    private final InvocationStore invocations;
     private final NodeEngineImpl nodeEngine;
     private final ILogger logger;
     private final InspectionThread inspectionThread;
     private final CallIdSequence callIdSequence;
+    private final AdaptiveBackpressure adaptiveBackpressure;
     private final long slowInvocationThresholdMs;
 
     @Probe(name = "response.normal.count", level = MANDATORY)
@@ -99,10 +98,11 @@ public class InvocationRegistry {
         this.nodeEngine = nodeEngine;
         this.logger = logger;
         this.callIdSequence = backpressureRegulator.newCallIdSequence();
+        this.adaptiveBackpressure = backpressureRegulator.newAdaptiveBackpressure();
         GroupProperties props = nodeEngine.getGroupProperties();
         this.slowInvocationThresholdMs = initSlowInvocationThresholdMs(props);
         this.backupTimeoutMillis = props.getMillis(GroupProperty.OPERATION_BACKUP_TIMEOUT_MILLIS);
-        this.invocations = new ConcurrentHashMap<Long, Invocation>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
+        this.invocations = newInvocationStore(props, concurrencyLevel);
 
         nodeEngine.getMetricsRegistry().scanAndRegister(this, "operation");
 
@@ -110,6 +110,31 @@ public class InvocationRegistry {
         inspectionThread.start();
     }
 
+    private InvocationStore newInvocationStore(GroupProperties props, int concurrencyLevel) {
+        if (!props.getBoolean(GroupProperty.INVOCATION_REGISTRY_ARRAY_ENABLED)) {
+            return new MapInvocationStore(concurrencyLevel);
+        }
+
+        // twice the max number of concurrent invocations, so a slot is free again long before the call-ids wrap around
+        int maxConcurrentInvocations = callIdSequence.getMaxConcurrentInvocations();
+        int capacity;
+        if (maxConcurrentInvocations == Integer.MAX_VALUE) {
+            // backpressure is disabled
+            capacity = DEFAULT_ARRAY_CAPACITY;
+        } else if (maxConcurrentInvocations > MAX_ARRAY_CAPACITY / 2) {
+            capacity = MAX_ARRAY_CAPACITY;
+        } else {
+            capacity = nextPowerOfTwo(2 * maxConcurrentInvocations);
+        }
+        logger.info("Using an array based invocation registry with capacity " + capacity);
+        return new ArrayInvocationStore(capacity);
+    }
+
+    @Probe(name = "invocations.pending", level = MANDATORY)
+    private int pendingInvocations() {
+        return invocations.size();
+    }
+
     @Probe(name = "invocations.usedPercentage")
     private double invocationsUsedPercentage() {
         int maxConcurrentInvocations = callIdSequence.getMaxConcurrentInvocations();
@@ -128,6 +153,11 @@ public class InvocationRegistry {
         return thresholdMs;
     }
 
+    // just for testing
+    AdaptiveBackpressure getAdaptiveBackpressure() {
+        return adaptiveBackpressure;
+    }
+
     @Probe(name = "invocations.lastCallId")
     public long getLastCallId() {
         return callIdSequence.getLastCallId();
@@ -148,6 +178,15 @@ public class InvocationRegistry {
             return;
         }
 
+        if (adaptiveBackpressure != null) {
+            try {
+                adaptiveBackpressure.acquire(invocation);
+            } catch (RuntimeException e) {
+                deregister(invocation);
+                throw e;
+            }
+        }
+
         invocations.put(callId, invocation);
     }
 
@@ -162,6 +201,9 @@ public class InvocationRegistry {
         long callId = invocation.op.getCallId();
 
         callIdSequence.complete(invocation);
+        if (adaptiveBackpressure != null) {
+            adaptiveBackpressure.release(invocation);
+        }
 
         setCallId(invocation.op, 0);
 
@@ -169,7 +211,7 @@ public class InvocationRegistry {
             return;
         }
 
-        boolean deleted = invocations.remove(callId) != null;
+        boolean deleted = invocations.remove(callId);
         if (!deleted && logger.isFinestEnabled()) {
             logger.finest("failed to deregister callId: " + callId + " " + invocation);
         }
@@ -260,6 +302,9 @@ public class InvocationRegistry {
             }
             return;
         }
+        if (adaptiveBackpressure != null) {
+            adaptiveBackpressure.onNormalResponse(invocation);
+        }
         invocation.notifyNormalResponse(response.getValue(), response.getBackupCount());
     }
 
@@ -277,6 +322,10 @@ public class InvocationRegistry {
     }
 
     public void onMemberLeft(MemberImpl member) {
+        if (adaptiveBackpressure != null) {
+            adaptiveBackpressure.onMemberLeft(member.getAddress());
+        }
+
         // postpone notifying calls since real response may arrive in the mean time.
         InternalExecutionService executionService = nodeEngine.getExecutionService();
         Runnable task = new OnMemberLeftTask(member);
@@ -284,7 +333,7 @@ public class InvocationRegistry {
     }
 
     public void reset() {
-        for (Invocation invocation : invocations.values()) {
+        for (Invocation invocation : invocations) {
             try {
                 invocation.notifyError(new MemberLeftException());
             } catch (Throwable e) {
@@ -296,7 +345,7 @@ public class InvocationRegistry {
     public void shutdown() {
         inspectionThread.shutdown();
 
-        for (Invocation invocation : invocations.values()) {
+        for (Invocation invocation : invocations) {
             try {
                 invocation.notifyError(new HazelcastInstanceNotActiveException());
             } catch (Throwable e) {
@@ -364,7 +413,7 @@ public class InvocationRegistry {
             long now = Clock.currentTimeMillis();
             int backupTimeouts = 0;
             int invocationTimeouts = 0;
-            for (Invocation invocation : invocations.values()) {
+            for (Invocation invocation : invocations) {
                 if (shutdown) {
                     return;
                 }
@@ -431,7 +480,7 @@ public class InvocationRegistry {
 
         @Override
         public void run() {
-            for (Invocation invocation : invocations.values()) {
+            for (Invocation invocation : invocations) {
                 if (hasMemberLeft(invocation)) {
                     invocation.notifyError(new MemberLeftException(leftMember));
                 }
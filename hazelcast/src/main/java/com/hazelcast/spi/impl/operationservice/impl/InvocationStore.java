@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+/**
+ * Stores the pending invocations of the {@link InvocationRegistry} by their call-id.
+ * <p/>
+ * Call-ids are unique, a call-id is never used for more than one invocation.
+ */
+interface InvocationStore extends Iterable<Invocation> {
+
+    /**
+     * Stores an invocation.
+     *
+     * @param callId     the call-id of the invocation
+     * @param invocation the invocation
+     */
+    void put(long callId, Invocation invocation);
+
+    /**
+     * Removes the invocation with the given call-id.
+     *
+     * @param callId the call-id
+     * @return true if an invocation was removed, false otherwise
+     */
+    boolean remove(long callId);
+
+    /**
+     * Gets the invocation with the given call-id.
+     *
+     * @param callId the call-id
+     * @return the invocation or null if there is no invocation with the given call-id
+     */
+    Invocation get(long callId);
+
+    /**
+     * @return the number of stored invocations
+     */
+    int size();
+
+    boolean isEmpty();
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An {@link InvocationStore} backed by a ConcurrentHashMap.
+ */
+final class MapInvocationStore implements InvocationStore {
+
+    private static final int INITIAL_CAPACITY = 1000;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final ConcurrentMap<Long, Invocation> invocations;
+
+    MapInvocationStore(int concurrencyLevel) {
+        this.invocations = new ConcurrentHashMap<Long, Invocation>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
+    }
+
+    @Override
+    public void put(long callId, Invocation invocation) {
+        invocations.put(callId, invocation);
+    }
+
+    @Override
+    public boolean remove(long callId) {
+        return invocations.remove(callId) != null;
+    }
+
+    @Override
+    public Invocation get(long callId) {
+        return invocations.get(callId);
+    }
+
+    @Override
+    public int size() {
+        return invocations.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return invocations.isEmpty();
+    }
+
+    @Override
+    public Iterator<Invocation> iterator() {
+        return invocations.values().iterator();
+    }
+}
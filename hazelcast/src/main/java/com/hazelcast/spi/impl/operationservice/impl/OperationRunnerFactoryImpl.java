@@ -16,9 +16,11 @@
 
 package com.hazelcast.spi.impl.operationservice.impl;
 
+import com.hazelcast.instance.GroupProperty;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunnerFactory;
+import com.hazelcast.spi.impl.operationexecutor.ResponseBatch;
 
 class OperationRunnerFactoryImpl implements OperationRunnerFactory {
     private OperationServiceImpl operationService;
@@ -41,4 +43,12 @@ class OperationRunnerFactoryImpl implements OperationRunnerFactory {
     public OperationRunner createGenericRunner() {
         return new OperationRunnerImpl(operationService, Operation.GENERIC_PARTITION_ID);
     }
+
+    @Override
+    public ResponseBatch createResponseBatch() {
+        if (!operationService.node.getGroupProperties().getBoolean(GroupProperty.OPERATION_RESPONSE_BATCHING_ENABLED)) {
+            return null;
+        }
+        return new ResponseBatchImpl(operationService, operationService.nodeEngine.getSerializationService());
+    }
 }
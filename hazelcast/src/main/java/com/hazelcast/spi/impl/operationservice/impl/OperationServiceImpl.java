@@ -31,6 +31,7 @@ import com.hazelcast.nio.Address;
 import com.hazelcast.nio.Connection;
 import com.hazelcast.nio.ConnectionManager;
 import com.hazelcast.nio.Packet;
+import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.partition.InternalPartitionService;
 import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.InternalCompletableFuture;
@@ -46,6 +47,7 @@ import com.hazelcast.spi.impl.operationexecutor.OperationExecutor;
 import com.hazelcast.spi.impl.operationexecutor.classic.ClassicOperationExecutor;
 import com.hazelcast.spi.impl.operationexecutor.slowoperationdetector.SlowOperationDetector;
 import com.hazelcast.spi.impl.operationservice.InternalOperationService;
+import com.hazelcast.spi.impl.operationservice.impl.responses.MultiResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
 import com.hazelcast.util.EmptyStatement;
 import com.hazelcast.util.counters.MwCounter;
@@ -406,12 +408,37 @@ public final class OperationServiceImpl implements InternalOperationService, Pac
             throw new IllegalArgumentException("Target is this node! -> " + target + ", response: " + response);
         }
 
-        byte[] bytes = serializationService.toBytes(response);
+        return sendResponsePacket(serializationService.toBytes(response), response.isUrgent(), target);
+    }
+
+    /**
+     * Sends a non-urgent response which has already been serialized.
+     *
+     * @param response the serialized response
+     * @param target   the member the response is for
+     * @return true if the packet was sent, false otherwise
+     */
+    boolean send(Data response, Address target) {
+        return sendResponsePacket(response.toByteArray(), false, target);
+    }
+
+    /**
+     * Sends multiple responses in a single packet.
+     *
+     * @param responses the responses
+     * @param target    the member the responses are for
+     * @return true if the packet was sent, false otherwise
+     */
+    boolean send(MultiResponse responses, Address target) {
+        return sendResponsePacket(serializationService.toBytes(responses), false, target);
+    }
+
+    private boolean sendResponsePacket(byte[] bytes, boolean urgent, Address target) {
         Packet packet = new Packet(bytes, -1);
         packet.setHeader(Packet.HEADER_OP);
         packet.setHeader(Packet.HEADER_RESPONSE);
 
-        if (response.isUrgent()) {
+        if (urgent) {
             packet.setHeader(Packet.HEADER_URGENT);
         }
 
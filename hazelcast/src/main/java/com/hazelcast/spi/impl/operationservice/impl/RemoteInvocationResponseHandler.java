@@ -20,6 +20,8 @@ import com.hazelcast.core.HazelcastException;
 import com.hazelcast.nio.Connection;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.OperationResponseHandler;
+import com.hazelcast.spi.impl.operationexecutor.ResponseBatch;
+import com.hazelcast.spi.impl.operationexecutor.classic.OperationThread;
 import com.hazelcast.spi.impl.operationservice.InternalOperationService;
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
@@ -50,11 +52,27 @@ public final class RemoteInvocationResponseHandler implements OperationResponseH
             response = (Response) obj;
         }
 
+        if (!response.isUrgent()) {
+            ResponseBatch responseBatch = getResponseBatch();
+            if (responseBatch != null) {
+                responseBatch.add(operation, response);
+                return;
+            }
+        }
+
         if (!operationService.send(response, operation.getCallerAddress())) {
             throw new HazelcastException("Cannot send response: " + obj + " to " + conn.getEndPoint());
         }
     }
 
+    private static ResponseBatch getResponseBatch() {
+        Thread thread = Thread.currentThread();
+        if (thread instanceof OperationThread) {
+            return ((OperationThread) thread).getResponseBatch();
+        }
+        return null;
+    }
+
     @Override
     public boolean isLocal() {
         return false;
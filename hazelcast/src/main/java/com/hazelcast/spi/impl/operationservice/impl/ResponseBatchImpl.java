@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.impl.operationexecutor.ResponseBatch;
+import com.hazelcast.spi.impl.operationservice.impl.responses.MultiResponse;
+import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ResponseBatch} which sends the responses for the same member as a {@link MultiResponse}.
+ * <p/>
+ * A response is serialized when it is added, so the response value cannot be changed by the operations which run
+ * before the batch is flushed, and a response which fails to serialize fails its operation like an unbatched one.
+ * <p/>
+ * The operation of each response is kept until the response is sent. If the response cannot be sent, its operation
+ * fails with the same exception as in {@link RemoteInvocationResponseHandler}; see {@link #fail(Operation, Throwable)}.
+ * <p/>
+ * The batches are kept and reused between flushes, since an operation thread typically serves the same few
+ * callers over and over. The methods are synchronized: the lock is only contended when the batch is flushed by
+ * another thread while its operation thread runs a slow task.
+ */
+final class ResponseBatchImpl implements ResponseBatch {
+
+    // bounds the size of a MultiResponse packet
+    static final int MAX_BATCH_SIZE = 128;
+
+    private final OperationServiceImpl operationService;
+    private final SerializationService serializationService;
+    private final ILogger logger;
+    private final Map<Address, Batch> batches = new HashMap<Address, Batch>();
+    private int size;
+    // the time the oldest of the batched responses was added
+    private long oldestResponseNanos;
+
+    ResponseBatchImpl(OperationServiceImpl operationService, SerializationService serializationService) {
+        this.operationService = operationService;
+        this.serializationService = serializationService;
+        this.logger = operationService.logger;
+    }
+
+    @Override
+    public void add(Operation operation, Response response) {
+        // serialized before locking, so a flushing thread isn't kept waiting
+        Data data = serializationService.toData(response);
+        add(operation, data);
+    }
+
+    private synchronized void add(Operation operation, Data data) {
+        Address target = operation.getCallerAddress();
+        Batch batch = batches.get(target);
+        if (batch == null) {
+            batch = new Batch();
+            batches.put(target, batch);
+        }
+        batch.operations.add(operation);
+        batch.responses.add(data);
+        if (size++ == 0) {
+            oldestResponseNanos = System.nanoTime();
+        }
+
+        if (batch.responses.size() == MAX_BATCH_SIZE) {
+            send(batch, target);
+        }
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (size == 0) {
+            return;
+        }
+
+        for (Map.Entry<Address, Batch> entry : batches.entrySet()) {
+            Batch batch = entry.getValue();
+            if (!batch.responses.isEmpty()) {
+                send(batch, entry.getKey());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void flushIfOlderThan(long delayNanos) {
+        if (size > 0 && System.nanoTime() - oldestResponseNanos >= delayNanos) {
+            flush();
+        }
+    }
+
+    private void send(Batch batch, Address target) {
+        try {
+            if (batch.responses.size() == 1 || !sendMultiResponse(batch.responses, target)) {
+                sendOneByOne(batch, target);
+            }
+        } finally {
+            size -= batch.responses.size();
+            batch.operations.clear();
+            batch.responses.clear();
+        }
+    }
+
+    private boolean sendMultiResponse(List<Data> responses, Address target) {
+        try {
+            if (operationService.send(new MultiResponse(responses), target)) {
+                return true;
+            }
+            logger.warning("Cannot send " + responses.size() + " responses to " + target + " in a single packet");
+        } catch (RuntimeException e) {
+            logger.warning("Failed to send " + responses.size() + " responses to " + target + " in a single packet", e);
+        }
+        return false;
+    }
+
+    private void sendOneByOne(Batch batch, Address target) {
+        for (int i = 0; i < batch.responses.size(); i++) {
+            Operation operation = batch.operations.get(i);
+            try {
+                if (!operationService.send(batch.responses.get(i), target)) {
+                    fail(operation, new HazelcastException("Cannot send response of " + operation + " to " + target));
+                }
+            } catch (RuntimeException e) {
+                fail(operation, e);
+            }
+        }
+    }
+
+    /**
+     * Fails an operation whose response cannot be sent, the way {@link OperationRunnerImpl} fails an operation when
+     * its unbatched response cannot be sent. No error response is sent, since the caller cannot be reached.
+     * Called on the thread flushing the batch, which isn't the operation thread if it was busy with a slow task.
+     */
+    private void fail(Operation operation, Throwable e) {
+        try {
+            operation.onExecutionFailure(e);
+        } catch (Throwable t) {
+            logger.warning("While calling 'operation.onFailure(e)'... op: " + operation + ", error: " + e, t);
+        }
+        operation.logError(e);
+    }
+
+    private static final class Batch {
+        private final List<Operation> operations = new ArrayList<Operation>();
+        private final List<Data> responses = new ArrayList<Data>();
+    }
+}
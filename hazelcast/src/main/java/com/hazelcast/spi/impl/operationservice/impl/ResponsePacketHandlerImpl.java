@@ -17,9 +17,12 @@
 package com.hazelcast.spi.impl.operationservice.impl;
 
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.nio.Address;
 import com.hazelcast.nio.Packet;
+import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.spi.impl.PacketHandler;
+import com.hazelcast.spi.impl.operationservice.impl.responses.MultiResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
 
 /**
@@ -41,9 +44,24 @@ final class ResponsePacketHandlerImpl implements PacketHandler {
 
     @Override
     public void handle(Packet packet) throws Exception {
-        Response response = serializationService.toObject(packet);
+        Object response = serializationService.toObject(packet);
+        Address sender = packet.getConn().getEndPoint();
+        if (response instanceof MultiResponse) {
+            for (Data data : ((MultiResponse) response).getResponses()) {
+                notify(data, sender);
+            }
+        } else {
+            notify(response, sender);
+        }
+    }
+
+    /**
+     * @param response the response or, if it comes from a MultiResponse, the serialized response
+     */
+    private void notify(Object response, Address sender) {
         try {
-            invocationRegistry.notify(response, packet.getConn().getEndPoint());
+            Response r = response instanceof Data ? serializationService.<Response>toObject(response) : (Response) response;
+            invocationRegistry.notify(r, sender);
         } catch (Throwable e) {
             logger.severe("While processing response...", e);
         }
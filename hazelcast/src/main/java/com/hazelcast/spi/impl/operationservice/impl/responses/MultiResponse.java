@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationservice.impl.responses;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.SpiDataSerializerHook;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Carries multiple serialized {@link Response}s for the same member in a single packet.
+ *
+ * @see com.hazelcast.spi.impl.operationexecutor.ResponseBatch
+ */
+public final class MultiResponse implements IdentifiedDataSerializable {
+
+    private List<Data> responses;
+    private Data[] readResponses;
+
+    public MultiResponse() {
+    }
+
+    public MultiResponse(List<Data> responses) {
+        this.responses = responses;
+    }
+
+    /**
+     * Returns the serialized responses read by {@link #readData(ObjectDataInput)}.
+     *
+     * @return the responses.
+     */
+    public Data[] getResponses() {
+        return readResponses;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SpiDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return SpiDataSerializerHook.MULTI_RESPONSE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(responses.size());
+        for (Data response : responses) {
+            out.writeData(response);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        readResponses = new Data[size];
+        for (int i = 0; i < size; i++) {
+            readResponses[i] = in.readData();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MultiResponse{responses=" + (readResponses != null ? readResponses.length : responses.size()) + '}';
+    }
+}
@@ -33,8 +33,15 @@ public final class MapUtil {
      * to minimize rehash operations
      */
     public static <K, V> Map<K, V> createHashMap(int expectedMapSize) {
-        int initialCapacity = (int) (expectedMapSize / HASHMAP_DEFAULT_LOAD_FACTOR) + 1;
-        return new HashMap<K, V>(initialCapacity);
+        return new HashMap<K, V>(calculateInitialCapacity(expectedMapSize));
+    }
+
+    /**
+     * Calculates the initial capacity of a hash based map or set, like {@link java.util.HashMap} or
+     * {@link java.util.HashSet}, to hold the expected number of entries without rehashing.
+     */
+    public static int calculateInitialCapacity(int expectedMapSize) {
+        return (int) (expectedMapSize / HASHMAP_DEFAULT_LOAD_FACTOR) + 1;
     }
 
 }
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
 
@@ -67,8 +68,52 @@ public class SampleableConcurrentHashMap<K, V> extends ConcurrentReferenceHashMa
      *
      * @return the next index (checkpoint) for later fetches
      */
-    public int fetch(int tableIndex, int size, List<Data> keys) {
+    public int fetch(int tableIndex, int size, final List<Data> keys) {
         final long now = Clock.currentTimeMillis();
+        return fetch(tableIndex, size, new EntryCollector<K, V>() {
+            @Override
+            public boolean collect(K key, V value) {
+                if (key == null || (value instanceof Expirable && ((Expirable) value).isExpiredAt(now))) {
+                    return false;
+                }
+                keys.add((Data) key);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Fetches entries from given <code>tableIndex</code> as <code>size</code>
+     * and puts them into <code>entries</code> list.
+     * <p/>
+     * Unlike {@link #fetch(int, int, List)}, expired entries are not filtered out.
+     *
+     * @param tableIndex    Index (checkpoint) for starting point of fetch operation
+     * @param size          Count of how many entries will be fetched
+     * @param entries       List that fetched entries will be put into
+     *
+     * @return the next index (checkpoint) for later fetches
+     */
+    public int fetchEntries(int tableIndex, int size, final List<Map.Entry<K, V>> entries) {
+        return fetch(tableIndex, size, new EntryCollector<K, V>() {
+            @Override
+            public boolean collect(K key, V value) {
+                if (key == null || value == null) {
+                    return false;
+                }
+                entries.add(new SimpleEntry<K, V>(key, value));
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Walks the table backwards from given <code>tableIndex</code> until <code>size</code> entries are collected,
+     * the buckets are always walked completely.
+     *
+     * @return the next index (checkpoint) for later fetches
+     */
+    private int fetch(int tableIndex, int size, EntryCollector<K, V> collector) {
         final Segment<K, V> segment = segments[0];
         final HashEntry<K, V>[] currentTable = segment.table;
         int nextTableIndex;
@@ -81,14 +126,8 @@ public class SampleableConcurrentHashMap<K, V> extends ConcurrentReferenceHashMa
         while (nextTableIndex >= 0 && counter < size) {
             HashEntry<K, V> nextEntry = currentTable[nextTableIndex--];
             while (nextEntry != null) {
-                if (nextEntry.key() != null) {
-                    final V value = nextEntry.value();
-                    final boolean isExpired = (value instanceof Expirable)
-                            && ((Expirable) value).isExpiredAt(now);
-                    if (!isExpired) {
-                        keys.add((Data) nextEntry.key());
-                        counter++;
-                    }
+                if (collector.collect(nextEntry.key(), nextEntry.value())) {
+                    counter++;
                 }
                 nextEntry = nextEntry.next;
             }
@@ -96,6 +135,17 @@ public class SampleableConcurrentHashMap<K, V> extends ConcurrentReferenceHashMa
         return nextTableIndex;
     }
 
+    /**
+     * Collects the entries fetched from the table.
+     */
+    private interface EntryCollector<K, V> {
+
+        /**
+         * @return true if the entry is collected and counts to the fetched entries, false if it is skipped
+         */
+        boolean collect(K key, V value);
+    }
+
     /**
      * Entry to define keys and values for sampling.
      */
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.util;
+
+import com.hazelcast.logging.ILogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static com.hazelcast.nio.IOUtil.closeResource;
+
+/**
+ * The CPU sets a group of threads, like the partition operation threads, is pinned to.
+ * <p/>
+ * The affinity is configured as a comma separated list of CPUs, where:
+ * <ul>
+ * <li>a CPU like {@code 3} or a range of CPUs like {@code 0-3} gives a CPU set of a single CPU for every CPU</li>
+ * <li>a list of CPUs in brackets like {@code [4-5,7]} gives one CPU set of all CPUs in it</li>
+ * </ul>
+ * For example {@code 0-1,[2-3]} gives the CPU sets {0}, {1} and {2,3}. The n-th thread of the group is pinned to
+ * the CPU set n modulo the number of CPU sets.
+ * <p/>
+ * Threads are pinned without native code: on Linux a thread looks up its own thread id in {@code /proc/thread-self}
+ * and sets its affinity with {@code taskset}. Where that isn't available, pinning fails and the thread isn't pinned.
+ */
+public final class ThreadAffinity {
+
+    /**
+     * A ThreadAffinity which doesn't pin threads.
+     */
+    public static final ThreadAffinity NONE = new ThreadAffinity(Collections.<BitSet>emptyList());
+
+    private static final File THREAD_SELF = new File("/proc/thread-self");
+
+    private final List<BitSet> cpuSets;
+
+    private ThreadAffinity(List<BitSet> cpuSets) {
+        this.cpuSets = cpuSets;
+    }
+
+    /**
+     * Parses a thread affinity.
+     *
+     * @param affinity the affinity, null or empty if threads are not pinned
+     * @return the parsed ThreadAffinity
+     * @throws IllegalArgumentException if the affinity is not valid
+     */
+    public static ThreadAffinity parse(String affinity) {
+        if (affinity == null || affinity.trim().isEmpty()) {
+            return NONE;
+        }
+
+        List<BitSet> cpuSets = new ArrayList<BitSet>();
+        String remaining = affinity.replaceAll("\\s", "");
+        while (!remaining.isEmpty()) {
+            String item;
+            if (remaining.startsWith("[")) {
+                int end = remaining.indexOf(']');
+                if (end == -1) {
+                    throw new IllegalArgumentException("Missing ']' in thread affinity '" + affinity + "'");
+                }
+                item = remaining.substring(0, end + 1);
+                cpuSets.add(parseCpus(remaining.substring(1, end), affinity));
+            } else {
+                int end = remaining.indexOf(',');
+                item = end == -1 ? remaining : remaining.substring(0, end);
+                BitSet cpus = parseCpus(item, affinity);
+                for (int cpu = cpus.nextSetBit(0); cpu >= 0; cpu = cpus.nextSetBit(cpu + 1)) {
+                    BitSet cpuSet = new BitSet();
+                    cpuSet.set(cpu);
+                    cpuSets.add(cpuSet);
+                }
+            }
+
+            remaining = remaining.substring(item.length());
+            if (remaining.startsWith(",")) {
+                remaining = remaining.substring(1);
+                if (remaining.isEmpty()) {
+                    throw new IllegalArgumentException("Trailing ',' in thread affinity '" + affinity + "'");
+                }
+            } else if (!remaining.isEmpty()) {
+                throw new IllegalArgumentException("Missing ',' in thread affinity '" + affinity + "'");
+            }
+        }
+        return new ThreadAffinity(cpuSets);
+    }
+
+    private static BitSet parseCpus(String cpuList, String affinity) {
+        BitSet cpus = new BitSet();
+        for (String range : cpuList.split(",")) {
+            try {
+                int dash = range.indexOf('-');
+                int from = Integer.parseInt(dash == -1 ? range : range.substring(0, dash));
+                int to = dash == -1 ? from : Integer.parseInt(range.substring(dash + 1));
+                if (from < 0 || to < from) {
+                    throw new IllegalArgumentException("Invalid CPU range '" + range + "' in thread affinity '"
+                            + affinity + "'");
+                }
+                cpus.set(from, to + 1);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid CPU '" + range + "' in thread affinity '" + affinity + "'", e);
+            }
+        }
+        return cpus;
+    }
+
+    /**
+     * @return true if threads are pinned
+     */
+    public boolean isEnabled() {
+        return !cpuSets.isEmpty();
+    }
+
+    /**
+     * @return the number of CPU sets
+     */
+    public int getCpuSetCount() {
+        return cpuSets.size();
+    }
+
+    /**
+     * Gets the CPU set of a thread of the group.
+     *
+     * @param threadIndex the index of the thread in its group
+     * @return the CPU set or null if threads are not pinned
+     */
+    public BitSet getCpuSet(int threadIndex) {
+        if (cpuSets.isEmpty()) {
+            return null;
+        }
+        return (BitSet) cpuSets.get(threadIndex % cpuSets.size()).clone();
+    }
+
+    /**
+     * Pins the calling thread to the given CPU set; a failure is logged and leaves the thread unpinned.
+     *
+     * @param cpuSet the CPU set, null if the thread should not be pinned
+     * @param logger the logger
+     */
+    public static void pinCurrentThread(BitSet cpuSet, ILogger logger) {
+        if (cpuSet == null) {
+            return;
+        }
+
+        String cpuList = toCpuList(cpuSet);
+        try {
+            pinCurrentThread(cpuList);
+            logger.info(Thread.currentThread().getName() + " is pinned to CPUs " + cpuList);
+        } catch (IOException e) {
+            logger.warning("Failed to pin " + Thread.currentThread().getName() + " to CPUs " + cpuList
+                    + ": " + e.getMessage());
+        }
+    }
+
+    private static void pinCurrentThread(String cpuList) throws IOException {
+        if (!THREAD_SELF.exists()) {
+            throw new IOException("Thread affinity is not supported, " + THREAD_SELF + " doesn't exist");
+        }
+        // /proc/thread-self links to /proc/<pid>/task/<tid>
+        String threadPath = THREAD_SELF.getCanonicalPath();
+        String threadId = threadPath.substring(threadPath.lastIndexOf('/') + 1);
+
+        Process process = new ProcessBuilder("taskset", "-p", "-c", cpuList, threadId)
+                .redirectErrorStream(true)
+                .start();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+        StringBuilder output = new StringBuilder();
+        try {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                output.append(line).append(' ');
+            }
+            if (process.waitFor() != 0) {
+                throw new IOException("taskset failed: " + output.toString().trim());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running taskset");
+        } finally {
+            closeResource(reader);
+        }
+    }
+
+    static String toCpuList(BitSet cpuSet) {
+        StringBuilder sb = new StringBuilder();
+        for (int cpu = cpuSet.nextSetBit(0); cpu >= 0; cpu = cpuSet.nextSetBit(cpu + 1)) {
+            int last = cpuSet.nextClearBit(cpu) - 1;
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(cpu);
+            if (last > cpu) {
+                sb.append('-').append(last);
+            }
+            cpu = last;
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ThreadAffinity{cpuSets=[");
+        for (int i = 0; i < cpuSets.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('[').append(toCpuList(cpuSets.get(i))).append(']');
+        }
+        return sb.append("]}").toString();
+    }
+}
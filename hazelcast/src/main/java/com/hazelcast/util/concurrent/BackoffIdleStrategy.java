@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.util.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.util.Preconditions.checkNotNegative;
+import static com.hazelcast.util.Preconditions.checkPositive;
+import static com.hazelcast.util.Preconditions.checkTrue;
+
+/**
+ * An {@link IdleStrategy} which backs off in steps: it spins first, then it yields and finally it parks for a period
+ * doubled on every call, from the minimum up to the maximum park period.
+ */
+public final class BackoffIdleStrategy implements IdleStrategy {
+
+    private final long maxSpins;
+    private final long maxYields;
+    private final long minParkPeriodNs;
+    private final long maxParkPeriodNs;
+
+    // the number of doublings from the minimum to the maximum park period
+    private final int maxShift;
+
+    /**
+     * Creates a new BackoffIdleStrategy.
+     *
+     * @param maxSpins        the number of times to spin before yielding
+     * @param maxYields       the number of times to yield before parking
+     * @param minParkPeriodNs the first park period in nanoseconds
+     * @param maxParkPeriodNs the maximum park period in nanoseconds
+     */
+    public BackoffIdleStrategy(long maxSpins, long maxYields, long minParkPeriodNs, long maxParkPeriodNs) {
+        checkNotNegative(maxSpins, "maxSpins can't be negative");
+        checkNotNegative(maxYields, "maxYields can't be negative");
+        checkPositive(minParkPeriodNs, "minParkPeriodNs must be positive");
+        checkTrue(maxParkPeriodNs >= minParkPeriodNs, "maxParkPeriodNs can't be smaller than minParkPeriodNs");
+        this.maxSpins = maxSpins;
+        this.maxYields = maxYields;
+        this.minParkPeriodNs = minParkPeriodNs;
+        this.maxParkPeriodNs = maxParkPeriodNs;
+        this.maxShift = Long.numberOfLeadingZeros(minParkPeriodNs) - Long.numberOfLeadingZeros(maxParkPeriodNs);
+    }
+
+    @Override
+    public boolean idle(long n) {
+        if (n < maxSpins) {
+            return false;
+        }
+
+        if (n < maxSpins + maxYields) {
+            Thread.yield();
+            return false;
+        }
+
+        long parkPeriodNs = parkPeriod(n);
+        LockSupport.parkNanos(parkPeriodNs);
+        return parkPeriodNs == maxParkPeriodNs;
+    }
+
+    long parkPeriod(long n) {
+        long shift = n - maxSpins - maxYields;
+        if (shift >= maxShift) {
+            return maxParkPeriodNs;
+        }
+        return Math.min(minParkPeriodNs << shift, maxParkPeriodNs);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.util.concurrent;
+
+/**
+ * Determines what a thread does while it has no work, for example while it waits for an item of a queue it polls.
+ * <p/>
+ * A thread which parks can be woken up early by {@link java.util.concurrent.locks.LockSupport#unpark(Thread)}.
+ */
+public interface IdleStrategy {
+
+    /**
+     * Idles the calling thread for the n-th consecutive time.
+     *
+     * @param n the number of times the thread idled in a row, starting at 0; reset when the thread finds work
+     * @return true if the thread parked for the maximum park period of this strategy
+     */
+    boolean idle(long n);
+}
@@ -0,0 +1,138 @@
+package com.hazelcast.internal.compression;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class LZ4CodecTest {
+
+    private final LZ4Codec codec = new LZ4Codec();
+    private final Random random = new Random(42);
+
+    @Test
+    public void roundTrip_empty() {
+        assertRoundTrip(new byte[0]);
+    }
+
+    @Test
+    public void roundTrip_smallerThanMinimumMatchBlock() {
+        assertRoundTrip("hazelcast".getBytes());
+    }
+
+    @Test
+    public void roundTrip_random() {
+        byte[] bytes = new byte[100000];
+        random.nextBytes(bytes);
+
+        int compressedLength = assertRoundTrip(bytes);
+
+        assertTrue(compressedLength <= LZ4Codec.maxCompressedLength(bytes.length));
+    }
+
+    @Test
+    public void roundTrip_sameByte() {
+        byte[] bytes = new byte[100000];
+        Arrays.fill(bytes, (byte) 7);
+
+        int compressedLength = assertRoundTrip(bytes);
+
+        assertTrue("compressed length " + compressedLength, compressedLength < bytes.length / 100);
+    }
+
+    @Test
+    public void roundTrip_text() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"employee-").append(i % 37).append("\"}");
+        }
+        byte[] bytes = sb.toString().getBytes();
+
+        int compressedLength = assertRoundTrip(bytes);
+
+        assertTrue("compressed length " + compressedLength, compressedLength < bytes.length / 2);
+    }
+
+    @Test
+    public void roundTrip_mixedLiteralsAndMatches() {
+        byte[] bytes = new byte[200000];
+        for (int i = 0; i < bytes.length; ) {
+            int runLength = 1 + random.nextInt(600);
+            if (random.nextBoolean() && i > 70000) {
+                // a match at a distance close to the maximum
+                int from = i - 65535 + random.nextInt(100);
+                for (int k = 0; k < runLength && i < bytes.length; k++) {
+                    bytes[i++] = bytes[from + k];
+                }
+            } else {
+                for (int k = 0; k < runLength && i < bytes.length; k++) {
+                    bytes[i++] = (byte) random.nextInt();
+                }
+            }
+        }
+
+        assertRoundTrip(bytes);
+    }
+
+    @Test
+    public void compress_withOffsets() {
+        byte[] bytes = "abcabcabcabcabcabcabcabcabcabcabcabc-xyz".getBytes();
+        byte[] compressed = new byte[3 + LZ4Codec.maxCompressedLength(bytes.length - 2)];
+        int compressedLength = codec.compress(bytes, 2, bytes.length - 2, compressed, 3);
+
+        byte[] decompressed = new byte[bytes.length + 1];
+        LZ4Codec.decompress(compressed, 3, compressedLength, decompressed, 1, bytes.length - 2);
+
+        assertArrayEquals(Arrays.copyOfRange(bytes, 2, bytes.length), Arrays.copyOfRange(decompressed, 1, bytes.length - 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decompress_whenWrongLength() {
+        byte[] bytes = new byte[1000];
+        byte[] compressed = compress(bytes);
+
+        LZ4Codec.decompress(compressed, 0, compressed.length, new byte[1001], 0, 1001);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decompress_whenTruncated() {
+        byte[] bytes = new byte[1000];
+        byte[] compressed = compress(bytes);
+
+        LZ4Codec.decompress(compressed, 0, compressed.length - 3, new byte[1000], 0, 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decompress_whenOffsetBeforeStartOfBlock() {
+        // a token of no literals and a match at offset 1 without any preceding byte
+        byte[] compressed = {0x00, 0x01, 0x00, 0x00};
+
+        LZ4Codec.decompress(compressed, 0, compressed.length, new byte[10], 0, 10);
+    }
+
+    private byte[] compress(byte[] bytes) {
+        byte[] compressed = new byte[LZ4Codec.maxCompressedLength(bytes.length)];
+        int compressedLength = codec.compress(bytes, 0, bytes.length, compressed, 0);
+        return Arrays.copyOf(compressed, compressedLength);
+    }
+
+    private int assertRoundTrip(byte[] bytes) {
+        byte[] compressed = compress(bytes);
+
+        byte[] decompressed = new byte[bytes.length];
+        LZ4Codec.decompress(compressed, 0, compressed.length, decompressed, 0, bytes.length);
+
+        assertArrayEquals(bytes, decompressed);
+        return compressed.length;
+    }
+}
@@ -0,0 +1,161 @@
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.nio.BufferObjectDataInput;
+import com.hazelcast.nio.BufferObjectDataOutput;
+import com.hazelcast.nio.IOUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class DataSerializerTest {
+
+    private SerializationService serializationService;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().setEnableClassNameReferences(true).build();
+    }
+
+    @Test
+    public void testClassNameIsWrittenForEveryObject_byDefault() {
+        SerializationService defaultService = new DefaultSerializationServiceBuilder().build();
+        Node list = new Node(1, new Node(2, new Node(3, null)));
+
+        Data data = defaultService.toData(list);
+
+        assertEquals(3, countClassNames(data, Node.class));
+        assertEquals(3, ((Node) defaultService.toObject(data)).next.next.value);
+        // references written by an enabled service are still read
+        assertEquals(3, ((Node) defaultService.toObject(serializationService.toData(list))).next.next.value);
+    }
+
+    @Test
+    public void testClassNameIsWrittenOncePerBuffer() {
+        Node list = new Node(1, new Node(2, new Node(3, null)));
+
+        Data data = serializationService.toData(list);
+
+        assertEquals(1, countClassNames(data, Node.class));
+        Node deserialized = serializationService.toObject(data);
+        assertEquals(1, deserialized.value);
+        assertEquals(2, deserialized.next.value);
+        assertEquals(3, deserialized.next.next.value);
+        assertNull(deserialized.next.next.next);
+    }
+
+    @Test
+    public void testClassNameIsWrittenInEveryBuffer() {
+        Node node = new Node(1, new Node(2, null));
+
+        Data first = serializationService.toData(node);
+        Data second = serializationService.toData(node);
+
+        assertEquals(1, countClassNames(second, Node.class));
+        assertEquals(2, ((Node) serializationService.toObject(first)).next.value);
+        assertEquals(2, ((Node) serializationService.toObject(second)).next.value);
+    }
+
+    @Test
+    public void testClassNameReference_whenReadOutOfOrder() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(64);
+        out.writeObject(new Node(1, null));
+        int secondPosition = out.position();
+        out.writeObject(new Node(2, null));
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        in.position(secondPosition);
+        Node second = in.readObject();
+
+        assertEquals(2, second.value);
+    }
+
+    @Test
+    public void testClassNameReference_isWrittenAsVarInt() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(64);
+        out.writeObject(new Node(1, null));
+        int referencePosition = out.position();
+        out.writeObject(new Node(2, null));
+
+        // null flag, type id, header, one byte position, value and the null flag of next
+        assertEquals(1 + 4 + 1 + 1 + 4 + 1, out.position() - referencePosition);
+    }
+
+    @Test
+    public void testClassNameReference_whenPositionTakesSeveralBytes() throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(64);
+        out.write(new byte[1000]);
+        out.writeObject(new Node(1, null));
+        out.writeObject(new Node(2, null));
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        in.position(1000);
+        assertEquals(1, ((Node) in.readObject()).value);
+        assertEquals(2, ((Node) in.readObject()).value);
+    }
+
+    @Test
+    public void testExtractOperationCallId_whenNotIdentified() throws IOException {
+        Data data = serializationService.toData(new Node(42, new Node(43, null)) {
+            @Override
+            public void writeData(ObjectDataOutput out) throws IOException {
+                out.writeLong(value);
+                out.writeObject(next);
+            }
+        });
+
+        assertEquals(42, IOUtil.extractOperationCallId(data, serializationService));
+    }
+
+    private static int countClassNames(Data data, Class type) {
+        String bytes = new String(data.toByteArray(), Charset.forName("ISO-8859-1"));
+        String className = type.getName();
+        int count = 0;
+        for (int i = bytes.indexOf(className); i != -1; i = bytes.indexOf(className, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    static class Node implements DataSerializable {
+
+        int value;
+        Node next;
+
+        Node() {
+        }
+
+        Node(int value, Node next) {
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(value);
+            out.writeObject(next);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            value = in.readInt();
+            next = in.readObject();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.annotation.GenerateSerializer;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.nio.BufferObjectDataInput;
+import com.hazelcast.nio.BufferObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the serializers generated for classes annotated with {@link GenerateSerializer} while compiling the tests.
+ */
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class GeneratedSerializerTest {
+
+    private SerializationService serializationService;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+    }
+
+    @Test
+    public void testRoundTrip_registeredByHook() {
+        Employee employee = new Employee();
+        employee.id = 42;
+        employee.active = true;
+        employee.salary = 1000.5;
+        employee.initial = 'J';
+        employee.setName("John");
+        employee.scores = new int[]{1, 2, 3};
+        employee.tags = new ArrayList<String>(Arrays.asList("a", "b"));
+        employee.manager = new Employee();
+        employee.manager.setName("Jane");
+
+        Data data = serializationService.toData(employee);
+        assertEquals(GeneratedSerializerTestEmployeeSerializer.TYPE_ID, data.getType());
+
+        Employee deserialized = serializationService.toObject(data);
+        assertEquals(42, deserialized.id);
+        assertEquals(true, deserialized.active);
+        assertEquals(1000.5, deserialized.salary, 0);
+        assertEquals('J', deserialized.initial);
+        assertEquals("John", deserialized.getName());
+        assertArrayEquals(new int[]{1, 2, 3}, deserialized.scores);
+        assertEquals(employee.tags, deserialized.tags);
+        assertEquals("Jane", deserialized.manager.getName());
+        assertNull(deserialized.manager.manager);
+    }
+
+    @Test
+    public void testTransientFieldIsNotSerialized() {
+        Employee employee = new Employee();
+        employee.cachedHash = 5;
+
+        Employee deserialized = serializationService.toObject(serializationService.toData(employee));
+        assertEquals(0, deserialized.cachedHash);
+    }
+
+    @Test
+    public void testNewerVersion_isReadByOlderVersion() throws IOException {
+        PersonV2 person = new PersonV2();
+        person.name = "John";
+        person.age = 30;
+        person.email = "john@example.com";
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(64);
+        new GeneratedSerializerTestPersonV2Serializer().write(out, person);
+        out.writeInt(7);
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        PersonV1 deserialized = new GeneratedSerializerTestPersonV1Serializer().read(in);
+        assertEquals("John", deserialized.name);
+        assertEquals(30, deserialized.age);
+        // the added field is skipped
+        assertEquals(7, in.readInt());
+    }
+
+    @Test
+    public void testOlderVersion_isReadByNewerVersion() throws IOException {
+        PersonV1 person = new PersonV1();
+        person.name = "John";
+        person.age = 30;
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(64);
+        new GeneratedSerializerTestPersonV1Serializer().write(out, person);
+        out.writeInt(7);
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        PersonV2 deserialized = new GeneratedSerializerTestPersonV2Serializer().read(in);
+        assertEquals("John", deserialized.name);
+        assertEquals(30, deserialized.age);
+        assertEquals("unknown", deserialized.email);
+        assertEquals(7, in.readInt());
+    }
+
+    @Test
+    public void testSuperclassFieldsAreSerialized() {
+        Manager manager = new Manager();
+        manager.id = 42;
+        manager.setName("John");
+        manager.reports = 3;
+
+        Manager deserialized = serializationService.toObject(serializationService.toData(manager));
+        assertEquals(42, deserialized.id);
+        assertEquals("John", deserialized.getName());
+        assertEquals(3, deserialized.reports);
+    }
+
+    @GenerateSerializer(typeId = 1001)
+    static class Employee {
+
+        int id;
+        boolean active;
+        double salary;
+        char initial;
+        int[] scores;
+        List<String> tags;
+        Employee manager;
+        transient int cachedHash;
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @GenerateSerializer(typeId = 1002)
+    static class PersonV1 {
+
+        String name;
+        int age;
+    }
+
+    @GenerateSerializer(typeId = 1003)
+    static class PersonV2 {
+
+        String name;
+        int age;
+        String email = "unknown";
+    }
+
+    @GenerateSerializer(typeId = 1004)
+    static class Manager extends Employee {
+
+        int reports;
+    }
+}
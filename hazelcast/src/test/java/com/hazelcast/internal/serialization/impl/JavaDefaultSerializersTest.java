@@ -0,0 +1,235 @@
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class JavaDefaultSerializersTest {
+
+    private SerializationService serializationService;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().setEnableJdkTypeSerializers(true).build();
+    }
+
+    @Test
+    public void testDefault_keepsJavaSerialization() {
+        SerializationService defaultService = new DefaultSerializationServiceBuilder().build();
+        Object[] objects = {new HashMap<String, String>(), new LinkedHashMap<String, String>(),
+                new TreeMap<String, String>(), new ConcurrentHashMap<String, String>(), new HashSet<String>(),
+                new LinkedHashSet<String>(), new TreeSet<String>(), UUID.randomUUID()};
+
+        for (Object object : objects) {
+            Data data = defaultService.toData(object);
+            assertEquals(object.getClass().getName(), SerializationConstants.DEFAULT_TYPE_OBJECT, data.getType());
+            assertEquals(object, defaultService.toObject(data));
+        }
+    }
+
+    @Test
+    public void testDefault_readsCompactForm() {
+        SerializationService defaultService = new DefaultSerializationServiceBuilder().build();
+        HashMap<String, Integer> map = new HashMap<String, Integer>();
+        map.put("key", 1);
+
+        Data data = serializationService.toData(map);
+        assertEquals(map, defaultService.toObject(data));
+    }
+
+    @Test
+    public void testConfig_enablesSerializers() {
+        SerializationConfig config = new SerializationConfig().setEnableJdkTypeSerializers(true);
+        serializationService = new DefaultSerializationServiceBuilder().setConfig(config).build();
+
+        assertRoundTrip(UUID.randomUUID(), SerializationConstants.JAVA_DEFAULT_TYPE_UUID);
+    }
+
+    @Test
+    public void testHashMap() {
+        HashMap<String, Object> map = new HashMap<String, Object>();
+        map.put("string", "value");
+        map.put("integer", 1);
+        map.put("null", null);
+        map.put("nested", new HashMap<Integer, Long>(Collections.singletonMap(1, 2L)));
+
+        assertRoundTrip(map, SerializationConstants.JAVA_DEFAULT_TYPE_HASH_MAP);
+    }
+
+    @Test
+    public void testLinkedHashMap_keepsOrder() {
+        LinkedHashMap<Integer, String> map = new LinkedHashMap<Integer, String>();
+        for (int i = 10; i > 0; i--) {
+            map.put(i, "value" + i);
+        }
+
+        LinkedHashMap<Integer, String> deserialized = assertRoundTrip(map,
+                SerializationConstants.JAVA_DEFAULT_TYPE_LINKED_HASH_MAP);
+        assertEquals(new ArrayList<Integer>(map.keySet()), new ArrayList<Integer>(deserialized.keySet()));
+    }
+
+    @Test
+    public void testTreeMap_withComparator() {
+        TreeMap<String, Integer> map = new TreeMap<String, Integer>(new ReverseComparator());
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        TreeMap<String, Integer> deserialized = assertRoundTrip(map, SerializationConstants.JAVA_DEFAULT_TYPE_TREE_MAP);
+        assertEquals("c", deserialized.firstKey());
+    }
+
+    @Test
+    public void testConcurrentHashMap() {
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<Integer, Integer>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i * i);
+        }
+
+        assertRoundTrip(map, SerializationConstants.JAVA_DEFAULT_TYPE_CONCURRENT_HASH_MAP);
+    }
+
+    @Test
+    public void testHashSet() {
+        HashSet<Object> set = new HashSet<Object>();
+        set.add("string");
+        set.add(1L);
+        set.add(null);
+
+        assertRoundTrip(set, SerializationConstants.JAVA_DEFAULT_TYPE_HASH_SET);
+    }
+
+    @Test
+    public void testLinkedHashSet_keepsOrder() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<Integer>();
+        for (int i = 10; i > 0; i--) {
+            set.add(i);
+        }
+
+        LinkedHashSet<Integer> deserialized = assertRoundTrip(set,
+                SerializationConstants.JAVA_DEFAULT_TYPE_LINKED_HASH_SET);
+        assertEquals(new ArrayList<Integer>(set), new ArrayList<Integer>(deserialized));
+    }
+
+    @Test
+    public void testTreeSet_naturalOrdering() {
+        TreeSet<Integer> set = new TreeSet<Integer>();
+        set.add(3);
+        set.add(1);
+        set.add(2);
+
+        TreeSet<Integer> deserialized = assertRoundTrip(set, SerializationConstants.JAVA_DEFAULT_TYPE_TREE_SET);
+        assertEquals(Integer.valueOf(1), deserialized.first());
+    }
+
+    @Test
+    public void testUuid() {
+        assertRoundTrip(UUID.randomUUID(), SerializationConstants.JAVA_DEFAULT_TYPE_UUID);
+    }
+
+    @Test
+    public void testEmptyMap() {
+        assertRoundTrip(new HashMap<Object, Object>(), SerializationConstants.JAVA_DEFAULT_TYPE_HASH_MAP);
+    }
+
+    @Test
+    public void testSubclass_isSerializedByJavaSerialization() {
+        HashMapSubclass map = new HashMapSubclass();
+        map.put("key", "value");
+
+        assertRoundTrip(map, SerializationConstants.DEFAULT_TYPE_OBJECT);
+    }
+
+    @Test
+    public void testCustomSerializerOfInterface_isNotReplaced() {
+        SerializerConfig serializerConfig = new SerializerConfig()
+                .setTypeClass(Map.class)
+                .setImplementation(new MapSerializer());
+        SerializationConfig config = new SerializationConfig().addSerializerConfig(serializerConfig)
+                .setEnableJdkTypeSerializers(true);
+        serializationService = new DefaultSerializationServiceBuilder().setConfig(config).build();
+
+        HashMap<String, String> map = new HashMap<String, String>();
+        map.put("key", "value");
+
+        Data data = serializationService.toData(map);
+        assertEquals(MapSerializer.TYPE_ID, data.getType());
+    }
+
+    private <T> T assertRoundTrip(T object, int expectedTypeId) {
+        Data data = serializationService.toData(object);
+        assertEquals(expectedTypeId, data.getType());
+
+        T deserialized = serializationService.toObject(data);
+        assertEquals(object, deserialized);
+        assertSame(object.getClass(), deserialized.getClass());
+        return deserialized;
+    }
+
+    private static class ReverseComparator implements Comparator<String>, Serializable {
+
+        @Override
+        public int compare(String o1, String o2) {
+            return o2.compareTo(o1);
+        }
+    }
+
+    private static class HashMapSubclass extends HashMap<String, String> {
+    }
+
+    private static class MapSerializer implements StreamSerializer<Map> {
+
+        static final int TYPE_ID = 1000;
+
+        @Override
+        public void write(ObjectDataOutput out, Map map) throws IOException {
+            out.writeInt(map.size());
+        }
+
+        @Override
+        public Map read(ObjectDataInput in) throws IOException {
+            in.readInt();
+            return new HashMap();
+        }
+
+        @Override
+        public int getTypeId() {
+            return TYPE_ID;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.hazelcast.internal.serialization.impl;
+
+import com.hazelcast.core.PartitionAware;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.nio.BufferObjectDataInput;
+import com.hazelcast.nio.BufferObjectDataOutput;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.nio.UnsafeHelper.BYTE_ARRAY_BASE_OFFSET;
+import static com.hazelcast.nio.UnsafeHelper.UNSAFE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class NativeMemoryDataTest {
+
+    private SerializationService serializationService;
+    private final List<Long> addresses = new ArrayList<Long>();
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+    }
+
+    @After
+    public void tearDown() {
+        for (long address : addresses) {
+            UNSAFE.freeMemory(address);
+        }
+        serializationService.destroy();
+    }
+
+    @Test
+    public void testEqualsAndHashes_sameAsHeapData() {
+        Data heapData = serializationService.toData("value");
+        NativeMemoryData nativeData = toNative(heapData);
+
+        assertEquals(heapData, nativeData);
+        assertEquals(nativeData, heapData);
+        assertEquals(heapData.hashCode(), nativeData.hashCode());
+        assertEquals(heapData.hash64(), nativeData.hash64());
+        assertEquals(heapData.getType(), nativeData.getType());
+        assertEquals(heapData.getPartitionHash(), nativeData.getPartitionHash());
+        assertEquals(heapData.totalSize(), nativeData.totalSize());
+        assertEquals(heapData.dataSize(), nativeData.dataSize());
+        assertArrayEquals(heapData.toByteArray(), nativeData.toByteArray());
+    }
+
+    @Test
+    public void testEquals_differentContent() {
+        NativeMemoryData nativeData = toNative(serializationService.toData("value1"));
+
+        assertFalse(nativeData.equals(serializationService.toData("value2")));
+        assertFalse(serializationService.toData("value2").equals(nativeData));
+        assertFalse(nativeData.equals(toNative(serializationService.toData("value2"))));
+    }
+
+    @Test
+    public void testPartitionHash() {
+        Data heapData = serializationService.toData(new PartitionAwareKey());
+        NativeMemoryData nativeData = toNative(heapData);
+
+        assertEquals(heapData.hasPartitionHash(), nativeData.hasPartitionHash());
+        assertEquals(heapData.getPartitionHash(), nativeData.getPartitionHash());
+    }
+
+    @Test
+    public void testEmpty() {
+        NativeMemoryData nativeData = new NativeMemoryData();
+
+        assertEquals(new HeapData(), nativeData);
+        assertEquals(SerializationConstants.CONSTANT_TYPE_NULL, nativeData.getType());
+        assertNull(nativeData.toByteArray());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeSmallerThanHeader() {
+        new NativeMemoryData(1, 3);
+    }
+
+    @Test
+    public void testToObject() {
+        NativeMemoryData nativeData = toNative(serializationService.toData("value"));
+
+        assertEquals("value", serializationService.toObject(nativeData));
+    }
+
+    @Test
+    public void testToObject_readsInPlace_bigEndian() {
+        testToObject_readsInPlace(serializationService);
+    }
+
+    @Test
+    public void testToObject_readsInPlace_nativeByteOrder() {
+        SerializationService nativeOrderService = new DefaultSerializationServiceBuilder()
+                .setUseNativeByteOrder(true).build();
+        try {
+            testToObject_readsInPlace(nativeOrderService);
+        } finally {
+            nativeOrderService.destroy();
+        }
+    }
+
+    private void testToObject_readsInPlace(SerializationService service) {
+        AllTypes expected = new AllTypes(42, 1L << 40, 0.5, "ascii", "\u00e7\u00f6k", new int[]{1, 2, 3}, new byte[]{4, 5});
+        NativeMemoryData nativeData = toNative(service.toData(expected));
+
+        AllTypes actual = service.toObject(nativeData);
+
+        assertEquals(expected.i, actual.i);
+        assertEquals(expected.l, actual.l);
+        assertEquals(expected.d, actual.d, 0);
+        assertEquals(expected.ascii, actual.ascii);
+        assertEquals(expected.utf, actual.utf);
+        assertArrayEquals(expected.ints, actual.ints);
+        assertArrayEquals(expected.bytes, actual.bytes);
+    }
+
+    @Test
+    public void testWriteData_isReadAsHeapData() throws IOException {
+        Data heapData = serializationService.toData("value");
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(16);
+        out.writeData(toNative(heapData));
+        out.writeInt(42);
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        Data data = in.readData();
+        assertEquals(heapData, data);
+        assertArrayEquals(heapData.toByteArray(), data.toByteArray());
+        assertEquals(42, in.readInt());
+    }
+
+    private NativeMemoryData toNative(Data data) {
+        byte[] bytes = data.toByteArray();
+        long address = UNSAFE.allocateMemory(bytes.length);
+        addresses.add(address);
+        UNSAFE.copyMemory(bytes, BYTE_ARRAY_BASE_OFFSET, null, address, bytes.length);
+        return new NativeMemoryData(address, bytes.length);
+    }
+
+    private static class PartitionAwareKey implements PartitionAware<String>, Serializable {
+
+        @Override
+        public String getPartitionKey() {
+            return "partitionKey";
+        }
+    }
+
+    private static class AllTypes implements DataSerializable {
+
+        private int i;
+        private long l;
+        private double d;
+        private String ascii;
+        private String utf;
+        private int[] ints;
+        private byte[] bytes;
+
+        AllTypes() {
+        }
+
+        AllTypes(int i, long l, double d, String ascii, String utf, int[] ints, byte[] bytes) {
+            this.i = i;
+            this.l = l;
+            this.d = d;
+            this.ascii = ascii;
+            this.utf = utf;
+            this.ints = ints;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(i);
+            out.writeLong(l);
+            out.writeDouble(d);
+            out.writeUTF(ascii);
+            out.writeUTF(utf);
+            out.writeIntArray(ints);
+            out.writeByteArray(bytes);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            i = in.readInt();
+            l = in.readLong();
+            d = in.readDouble();
+            ascii = in.readUTF();
+            utf = in.readUTF();
+            ints = in.readIntArray();
+            bytes = in.readByteArray();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.storage.impl;
+
+import com.hazelcast.config.NativeMemoryConfig;
+import com.hazelcast.config.NativeMemoryConfig.MemoryAllocatorType;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.NativeMemoryData;
+import com.hazelcast.internal.storage.DataRef;
+import com.hazelcast.memory.MemorySize;
+import com.hazelcast.memory.MemoryUnit;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class NativeMemoryStorageTest {
+
+    private static final int PAGE_SIZE = 1 << 16;
+
+    private SerializationService serializationService;
+    private NativeMemoryStorage storage;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+    }
+
+    @After
+    public void tearDown() {
+        if (storage != null) {
+            storage.destroy();
+        }
+        serializationService.destroy();
+    }
+
+    private NativeMemoryStorage newStorage(MemoryAllocatorType allocatorType, int sizeInKiloBytes) {
+        NativeMemoryConfig config = new NativeMemoryConfig()
+                .setEnabled(true)
+                .setAllocatorType(allocatorType)
+                .setPageSize(PAGE_SIZE)
+                .setSize(new MemorySize(sizeInKiloBytes, MemoryUnit.KILOBYTES));
+        return new NativeMemoryStorage(config, 4);
+    }
+
+    @Test
+    public void testPutGet_pooled() {
+        testPutGet(MemoryAllocatorType.POOLED);
+    }
+
+    @Test
+    public void testPutGet_standard() {
+        testPutGet(MemoryAllocatorType.STANDARD);
+    }
+
+    private void testPutGet(MemoryAllocatorType allocatorType) {
+        storage = newStorage(allocatorType, 1024);
+        List<DataRef> refs = new ArrayList<DataRef>();
+        List<Data> values = new ArrayList<Data>();
+        for (int i = 0; i < 1000; i++) {
+            Data data = serializationService.toData("value-" + i);
+            values.add(data);
+            refs.add(storage.put(i, data));
+        }
+        for (int i = 0; i < 1000; i++) {
+            Data data = storage.get(i, refs.get(i));
+            assertEquals(values.get(i), data);
+            assertEquals("value-" + i, serializationService.toObject(data));
+        }
+    }
+
+    @Test
+    public void testPutGet_nativeMemoryData() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        Data data = serializationService.toData("value");
+        NativeDataRef ref = (NativeDataRef) storage.put(1, data);
+
+        DataRef copyRef = storage.put(2, new NativeMemoryData(ref.address, ref.size()));
+        storage.remove(1, ref);
+
+        assertEquals(data, storage.get(2, copyRef));
+        assertEquals(data.totalSize(), storage.getUsedMemory());
+    }
+
+    @Test
+    public void testAcquire_readsInPlace() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        DataRef ref = storage.put(1, serializationService.toData("value"));
+
+        NativeMemoryData data = storage.acquire(1, ref);
+
+        assertEquals(((NativeDataRef) ref).address, data.address());
+        assertEquals("value", serializationService.toObject(data));
+        data.release();
+    }
+
+    @Test
+    public void testAcquire_valueIsFreedWhenRemovedAndReleased() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        Data value = serializationService.toData("value");
+        DataRef ref = storage.put(1, value);
+        NativeMemoryData data = storage.acquire(1, ref);
+
+        storage.remove(1, ref);
+        assertNull(storage.get(1, ref));
+        assertNull(storage.acquire(1, ref));
+        assertEquals("value", serializationService.toObject(data));
+        assertEquals(value.totalSize(), storage.getUsedMemory());
+
+        data.release();
+        data.release();
+        assertEquals(0, storage.getUsedMemory());
+    }
+
+    @Test
+    public void testAcquire_releasedBeforeRemove() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        Data value = serializationService.toData("value");
+        DataRef ref = storage.put(1, value);
+
+        storage.acquire(1, ref).release();
+        assertEquals(value, storage.get(1, ref));
+        assertEquals(value.totalSize(), storage.getUsedMemory());
+
+        storage.remove(1, ref);
+        assertEquals(0, storage.getUsedMemory());
+    }
+
+    @Test
+    public void testPutGet_valueLargerThanPage() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        Data data = serializationService.toData(new byte[PAGE_SIZE * 2]);
+        DataRef ref = storage.put(1, data);
+
+        assertEquals(data, storage.get(1, ref));
+        assertEquals(data.totalSize(), storage.getUsedMemory());
+
+        storage.remove(1, ref);
+        assertEquals(0, storage.getUsedMemory());
+        assertEquals(0, storage.getCommittedMemory());
+    }
+
+    @Test
+    public void testRemove_releasesUsedMemory() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        List<DataRef> refs = new ArrayList<DataRef>();
+        for (int i = 0; i < 1000; i++) {
+            refs.add(storage.put(i, serializationService.toData(i)));
+        }
+        for (int i = 0; i < 1000; i++) {
+            storage.remove(i, refs.get(i));
+        }
+        assertEquals(0, storage.getUsedMemory());
+
+        storage.compact();
+        assertEquals(0, storage.getCommittedMemory());
+    }
+
+    @Test
+    public void testRemove_twice() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        DataRef ref = storage.put(1, serializationService.toData(1));
+
+        storage.remove(1, ref);
+        storage.remove(1, ref);
+
+        assertEquals(0, storage.getUsedMemory());
+    }
+
+    @Test
+    public void testGet_afterRemove() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        DataRef ref = storage.put(1, serializationService.toData(1));
+
+        storage.remove(1, ref);
+
+        assertNull(storage.get(1, ref));
+    }
+
+    @Test
+    public void testFreePagesAreReusedBySizeClasses() {
+        // room for a single page per segment
+        storage = newStorage(MemoryAllocatorType.POOLED, PAGE_SIZE * 4 / 1024);
+        List<DataRef> refs = new ArrayList<DataRef>();
+        Data small = serializationService.toData(new byte[16]);
+        for (int i = 0; i < 100; i++) {
+            refs.add(storage.put(0, small));
+        }
+        for (DataRef ref : refs) {
+            storage.remove(0, ref);
+        }
+
+        Data large = serializationService.toData(new byte[PAGE_SIZE / 4]);
+        DataRef ref = storage.put(0, large);
+        assertEquals(large, storage.get(0, ref));
+    }
+
+    @Test(expected = NativeOutOfMemoryError.class)
+    public void testPut_whenMemoryLimitExceeded() {
+        storage = newStorage(MemoryAllocatorType.POOLED, PAGE_SIZE / 1024);
+        Data data = serializationService.toData(new byte[PAGE_SIZE / 4]);
+        for (int i = 0; i < 10; i++) {
+            storage.put(i, data);
+        }
+    }
+
+    @Test
+    public void testPut_emptyData() {
+        storage = newStorage(MemoryAllocatorType.POOLED, 1024);
+        Data data = new HeapData();
+        DataRef ref = storage.put(1, data);
+
+        assertEquals(0, storage.get(1, ref).totalSize());
+        storage.remove(1, ref);
+    }
+}
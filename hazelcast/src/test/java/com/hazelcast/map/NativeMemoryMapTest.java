@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NativeMemoryConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.memory.MemorySize;
+import com.hazelcast.memory.MemoryStats;
+import com.hazelcast.memory.MemoryUnit;
+import com.hazelcast.query.Aggregators;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class NativeMemoryMapTest extends HazelcastTestSupport {
+
+    private HazelcastInstance newInstance(String mapName) {
+        return createHazelcastInstance(newConfig(mapName));
+    }
+
+    private Config newConfig(String mapName) {
+        Config config = new Config();
+        config.getNativeMemoryConfig()
+                .setEnabled(true)
+                .setAllocatorType(NativeMemoryConfig.MemoryAllocatorType.POOLED)
+                .setSize(new MemorySize(64, MemoryUnit.MEGABYTES));
+        config.addMapConfig(new MapConfig(mapName).setInMemoryFormat(InMemoryFormat.NATIVE));
+        return config;
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        String mapName = randomMapName();
+        HazelcastInstance instance = newInstance(mapName);
+        IMap<Integer, String> map = instance.getMap(mapName);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value-" + i);
+        }
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+
+        map.put(1, "updated");
+        assertEquals("updated", map.get(1));
+
+        assertEquals("value-2", map.remove(2));
+        assertNull(map.get(2));
+    }
+
+    @Test
+    public void testMemoryStats() {
+        String mapName = randomMapName();
+        HazelcastInstance instance = newInstance(mapName);
+        IMap<Integer, String> map = instance.getMap(mapName);
+        MemoryStats memoryStats = getNode(instance).getNodeExtension().getMemoryStats();
+
+        assertEquals(MemoryUnit.MEGABYTES.toBytes(64), memoryStats.getMaxNativeMemory());
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value-" + i);
+        }
+        assertTrue(memoryStats.getUsedNativeMemory() > 0);
+        assertTrue(memoryStats.getCommittedNativeMemory() >= memoryStats.getUsedNativeMemory());
+
+        map.clear();
+        assertEquals(0, memoryStats.getUsedNativeMemory());
+    }
+
+    @Test
+    public void testGet_fromRemoteMember_releasesValues() {
+        String mapName = randomMapName();
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(newConfig(mapName));
+        warmUpPartitions(instances);
+        IMap<Integer, String> map = instances[0].getMap(mapName);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value-" + i);
+        }
+        // half of the values are read in place from native memory and written into the responses
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+
+        map.clear();
+        for (HazelcastInstance instance : instances) {
+            assertEquals(0, getNode(instance).getNodeExtension().getMemoryStats().getUsedNativeMemory());
+        }
+    }
+
+    @Test
+    public void testQueryAndAggregate_readValuesInPlace() {
+        String mapName = randomMapName();
+        HazelcastInstance instance = newInstance(mapName);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        Predicate predicate = Predicates.greaterEqual("this", 50);
+
+        Collection<Integer> values = map.values(predicate);
+        assertEquals(50, values.size());
+        for (int value : values) {
+            assertTrue(value >= 50);
+        }
+        assertEquals(50L, (long) map.aggregate(Aggregators.<Map.Entry<Integer, Integer>>count(), predicate));
+
+        map.clear();
+        assertEquals(0, getNode(instance).getNodeExtension().getMemoryStats().getUsedNativeMemory());
+    }
+}
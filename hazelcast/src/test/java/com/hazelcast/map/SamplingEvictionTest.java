@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizeConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class SamplingEvictionTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 11;
+
+    @Test
+    public void testPerNodePolicy_LRU() {
+        testPerNodePolicy(EvictionPolicy.LRU);
+    }
+
+    @Test
+    public void testPerNodePolicy_LFU() {
+        testPerNodePolicy(EvictionPolicy.LFU);
+    }
+
+    private void testPerNodePolicy(EvictionPolicy evictionPolicy) {
+        int maxSize = 1000;
+        String mapName = randomMapName();
+        Config config = createConfig(mapName, evictionPolicy, MaxSizeConfig.MaxSizePolicy.PER_NODE, maxSize);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, i);
+        }
+
+        assertTrue("Map size should not exceed max size: " + map.size(), map.size() <= maxSize);
+        assertTrue("Map should not be emptied by eviction", map.size() > 0);
+    }
+
+    @Test
+    public void testPerPartitionPolicy() {
+        int maxSizePerPartition = 10;
+        String mapName = randomMapName();
+        Config config = createConfig(mapName, EvictionPolicy.LRU, MaxSizeConfig.MaxSizePolicy.PER_PARTITION,
+                maxSizePerPartition);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, i);
+        }
+
+        assertTrue("Map size should not exceed max size: " + map.size(), map.size() <= PARTITION_COUNT * maxSizePerPartition);
+    }
+
+    @Test
+    public void testLockedEntriesAreNotEvicted() {
+        int maxSizePerPartition = 10;
+        String mapName = randomMapName();
+        Config config = createConfig(mapName, EvictionPolicy.LRU, MaxSizeConfig.MaxSizePolicy.PER_PARTITION,
+                maxSizePerPartition);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        for (int i = 0; i < 5; i++) {
+            map.put(i, i);
+            map.lock(i);
+        }
+        for (int i = 5; i < 10000; i++) {
+            map.put(i, i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+
+    private Config createConfig(String mapName, EvictionPolicy evictionPolicy, MaxSizeConfig.MaxSizePolicy maxSizePolicy,
+                                int maxSize) {
+        Config config = new Config();
+        config.setProperty(GroupProperty.PARTITION_COUNT, String.valueOf(PARTITION_COUNT));
+        config.setProperty(GroupProperty.MAP_EVICTION_SAMPLING_ENABLED, "true");
+
+        MapConfig mapConfig = config.getMapConfig(mapName);
+        mapConfig.setEvictionPolicy(evictionPolicy);
+        mapConfig.setEvictionPercentage(25);
+        mapConfig.setMinEvictionCheckMillis(0L);
+        mapConfig.setMaxSizeConfig(new MaxSizeConfig(maxSize, maxSizePolicy));
+        return config;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.iterator;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MapIteratorTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private IMap<Integer, String> map;
+
+    @Before
+    public void setup() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance[] instances = factory.newInstances();
+        map = instances[0].getMap(randomName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenFetchSizeNotPositive() {
+        map.iterator(0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testEmptyMap() {
+        Iterator<Map.Entry<Integer, String>> iterator = map.iterator();
+
+        assertFalse(iterator.hasNext());
+        iterator.next();
+    }
+
+    @Test
+    public void testIterator_returnsAllEntries() {
+        Map<Integer, String> expected = fill();
+
+        assertEquals(expected, drain(map.iterator()));
+    }
+
+    @Test
+    public void testIterator_withSmallFetchSize() {
+        Map<Integer, String> expected = fill();
+
+        assertEquals(expected, drain(map.iterator(7)));
+        assertEquals(expected, drain(map.iterator(1)));
+    }
+
+    @Test
+    public void testIterator_withFetchSizeLargerThanMap() {
+        Map<Integer, String> expected = fill();
+
+        assertEquals(expected, drain(map.iterator(ENTRY_COUNT * 2)));
+    }
+
+    @Test
+    public void testRemove() {
+        fill();
+
+        Iterator<Map.Entry<Integer, String>> iterator = map.iterator(10);
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, String> entry = iterator.next();
+            if (entry.getKey() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(ENTRY_COUNT / 2, map.size());
+        for (Integer key : map.keySet()) {
+            assertEquals(1, key % 2);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRemove_beforeNext() {
+        fill();
+
+        map.iterator().remove();
+    }
+
+    private Map<Integer, String> fill() {
+        Map<Integer, String> entries = new HashMap<Integer, String>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.put(i, "value" + i);
+        }
+        map.putAll(entries);
+        return entries;
+    }
+
+    private static Map<Integer, String> drain(Iterator<Map.Entry<Integer, String>> iterator) {
+        Map<Integer, String> entries = new HashMap<Integer, String>();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, String> entry = iterator.next();
+            assertNull(entries.put(entry.getKey(), entry.getValue()));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.query.Aggregator;
+import com.hazelcast.query.Aggregators;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import static com.hazelcast.query.SampleObjects.Employee;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MapAggregateTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private HazelcastInstance instance;
+    private IMap<Integer, Employee> map;
+
+    @Before
+    public void setup() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance[] instances = factory.newInstances();
+        instance = instances[0];
+        map = instance.getMap(randomName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Employee(i, "name" + i, i % 10, i % 2 == 0, i));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void whenAggregatorNull() {
+        map.aggregate(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void whenPredicateNull() {
+        map.aggregate(Aggregators.<Map.Entry<Integer, Employee>>count(), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenPagingPredicate() {
+        map.aggregate(Aggregators.<Map.Entry<Integer, Employee>>count(), new PagingPredicate(10));
+    }
+
+    @Test
+    public void testCount() {
+        Aggregator<Map.Entry<Integer, Employee>, Long> aggregator = Aggregators.count();
+
+        assertEquals(ENTRY_COUNT, (long) map.aggregate(aggregator));
+        assertEquals(ENTRY_COUNT / 2, (long) map.aggregate(aggregator, new SqlPredicate("active = true")));
+        // the given aggregator is not modified
+        assertEquals(0, (long) aggregator.aggregate());
+    }
+
+    @Test
+    public void testSumAndAverage() {
+        long expectedSum = (long) ENTRY_COUNT * (ENTRY_COUNT - 1) / 2;
+
+        Aggregator<Map.Entry<Integer, Employee>, Long> longSum = Aggregators.longSum("id");
+        Aggregator<Map.Entry<Integer, Employee>, Double> doubleSum = Aggregators.doubleSum("salary");
+        Aggregator<Map.Entry<Integer, Employee>, Double> doubleAvg = Aggregators.doubleAvg("age");
+
+        assertEquals(expectedSum, (long) map.aggregate(longSum));
+        assertEquals(expectedSum, map.aggregate(doubleSum), 0d);
+        assertEquals(4.5d, map.aggregate(doubleAvg), 0d);
+        assertNull(map.aggregate(doubleAvg, new SqlPredicate("age > 100")));
+    }
+
+    @Test
+    public void testMinAndMax() {
+        Aggregator<Map.Entry<Integer, Employee>, String> max = Aggregators.max("name");
+        Aggregator<Map.Entry<Integer, Employee>, Integer> min = Aggregators.min("age");
+
+        assertEquals("name999", map.aggregate(max));
+        assertEquals(5, (int) map.aggregate(min, new SqlPredicate("age >= 5")));
+    }
+
+    @Test
+    public void testAggregate_usingIndex() {
+        map.addIndex("age", true);
+        Aggregator<Map.Entry<Integer, Employee>, Long> aggregator = Aggregators.longSum("id");
+
+        long sum = map.aggregate(aggregator, new SqlPredicate("age = 3"));
+
+        long expectedSum = 0;
+        for (int i = 3; i < ENTRY_COUNT; i += 10) {
+            expectedSum += i;
+        }
+        assertEquals(expectedSum, sum);
+    }
+}
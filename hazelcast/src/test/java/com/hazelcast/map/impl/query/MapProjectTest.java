@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.query;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.query.AttributeTuple;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Projection;
+import com.hazelcast.query.Projections;
+import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.query.SampleObjects.Employee;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MapProjectTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private IMap<Integer, Employee> map;
+    private SerializationService serializationService;
+
+    @Before
+    public void setup() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance[] instances = factory.newInstances();
+        map = instances[0].getMap(randomName());
+        serializationService = getSerializationService(instances[0]);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, new Employee(i, "name" + i, i % 10, i % 2 == 0, i));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void whenProjectionNull() {
+        map.project(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void whenPredicateNull() {
+        map.project(Projections.<Map.Entry<Integer, Employee>, String>singleAttribute("name"), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenPagingPredicate() {
+        map.project(Projections.<Map.Entry<Integer, Employee>, String>singleAttribute("name"), new PagingPredicate(10));
+    }
+
+    @Test
+    public void whenProjectingSingleAttribute() {
+        Projection<Map.Entry<Integer, Employee>, String> projection = Projections.singleAttribute("name");
+
+        Collection<String> result = map.project(projection);
+
+        Set<String> expected = new HashSet<String>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            expected.add("name" + i);
+        }
+        assertEquals(ENTRY_COUNT, result.size());
+        assertEquals(expected, new HashSet<String>(result));
+    }
+
+    @Test
+    public void whenProjectingSingleAttribute_thenEqualValuesAreKept() {
+        Projection<Map.Entry<Integer, Employee>, Integer> projection = Projections.singleAttribute("age");
+
+        Collection<Integer> result = map.project(projection, new SqlPredicate("active = true"));
+
+        assertEquals(ENTRY_COUNT / 2, result.size());
+        assertEquals(new HashSet<Integer>(asList(0, 2, 4, 6, 8)), new HashSet<Integer>(result));
+    }
+
+    @Test
+    public void whenProjectingMultipleAttributes() {
+        Projection<Map.Entry<Integer, Employee>, AttributeTuple> projection
+                = Projections.multiAttribute("__key", "name", "active");
+
+        Collection<AttributeTuple> result = map.project(projection, new SqlPredicate("age = 3"));
+
+        List<List<Object>> actual = new ArrayList<List<Object>>();
+        for (AttributeTuple tuple : result) {
+            assertEquals(3, tuple.size());
+            actual.add(asList(tuple.toArray()));
+        }
+        assertEquals(ENTRY_COUNT / 10, actual.size());
+        for (int i = 3; i < ENTRY_COUNT; i += 10) {
+            assertTrue(actual.contains(asList((Object) i, "name" + i, false)));
+        }
+    }
+
+    @Test
+    public void testResultType() {
+        Projection<Map.Entry<Integer, Employee>, String> projection = Projections.singleAttribute("name");
+
+        Collection<String> result = map.project(projection, new SqlPredicate("id = 1"));
+
+        QueryResultCollection collection = assertInstanceOf(QueryResultCollection.class, result);
+        QueryResultRow row = (QueryResultRow) collection.getRows().iterator().next();
+        // only the projected value is shipped
+        assertNull(row.getKey());
+        assertEquals(serializationService.toData("name1"), row.getValue());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NativeMemoryConfig;
+import com.hazelcast.config.NativeMemoryConfig.MemoryAllocatorType;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.storage.impl.NativeMemoryStorage;
+import com.hazelcast.memory.MemorySize;
+import com.hazelcast.memory.MemoryUnit;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class NativeRecordTest extends HazelcastTestSupport {
+
+    private SerializationService serializationService;
+    private NativeMemoryStorage storage;
+    private NativeRecordFactory recordFactory;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        NativeMemoryConfig config = new NativeMemoryConfig()
+                .setEnabled(true)
+                .setAllocatorType(MemoryAllocatorType.POOLED)
+                .setSize(new MemorySize(16, MemoryUnit.MEGABYTES));
+        storage = new NativeMemoryStorage(config, 4);
+        recordFactory = new NativeRecordFactory(new MapConfig(), storage, serializationService, null);
+    }
+
+    @After
+    public void tearDown() {
+        storage.destroy();
+        serializationService.destroy();
+    }
+
+    @Test
+    public void testInvalidate() {
+        Record<Data> record = recordFactory.newRecord(serializationService.toData(1), "value");
+
+        record.invalidate();
+
+        assertNull(record.getValue());
+        assertEquals(0, storage.getUsedMemory());
+    }
+
+    @Test
+    public void testGetValue_whileUpdatedAndInvalidated() throws Exception {
+        final Record<Data> record = recordFactory.newRecord(serializationService.toData(1), "value-0");
+        final AtomicBoolean stop = new AtomicBoolean();
+
+        Future reader = spawn(new Runnable() {
+            @Override
+            public void run() {
+                while (!stop.get()) {
+                    Data value = record.getValue();
+                    if (value != null) {
+                        String string = serializationService.toObject(value);
+                        assertTrue(string, string.startsWith("value-"));
+                    }
+                }
+            }
+        });
+
+        // the partition thread replaces and removes the value, freeing the old one
+        for (int i = 1; i < 100000; i++) {
+            if (i % 10 == 0) {
+                record.invalidate();
+            }
+            recordFactory.setValue(record, "value-" + i);
+        }
+        stop.set(true);
+
+        reader.get();
+        assertEquals("value-99999", serializationService.toObject(record.getValue()));
+    }
+}
@@ -514,7 +514,7 @@ public class NearCacheTest extends HazelcastTestSupport {
                 NearCacheStats stats = map.getLocalMapStats().getNearCacheStats();
                 long ownedEntryCount = stats.getOwnedEntryCount();
                 triggerNearCacheEviction(map);
-                assertTrue("owned entry count " + ownedEntryCount, maxSize > ownedEntryCount);
+                assertTrue("owned entry count " + ownedEntryCount, maxSize >= ownedEntryCount);
             }
         });
     }
@@ -534,7 +534,7 @@ public class NearCacheTest extends HazelcastTestSupport {
                 NearCacheStats stats = map.getLocalMapStats().getNearCacheStats();
                 long ownedEntryCount = stats.getOwnedEntryCount();
                 triggerNearCacheEviction(map);
-                assertTrue("owned entry count " + ownedEntryCount, maxSize > ownedEntryCount);
+                assertTrue("owned entry count " + ownedEntryCount, maxSize >= ownedEntryCount);
             }
         });
     }
@@ -554,7 +554,7 @@ public class NearCacheTest extends HazelcastTestSupport {
                 NearCacheStats stats = map.getLocalMapStats().getNearCacheStats();
                 long ownedEntryCount = stats.getOwnedEntryCount();
                 triggerNearCacheEviction(map);
-                assertTrue("owned entry count " + ownedEntryCount, maxSize > ownedEntryCount);
+                assertTrue("owned entry count " + ownedEntryCount, maxSize >= ownedEntryCount);
             }
         });
     }
@@ -578,12 +578,43 @@ public class NearCacheTest extends HazelcastTestSupport {
         });
     }
 
+    @Test
+    public void testNearCacheSizeNeverExceedsMaxSize_whenEvictionPolicyIsLRU() {
+        assertNearCacheSizeNeverExceedsMaxSize("LRU");
+    }
+
+    @Test
+    public void testNearCacheSizeNeverExceedsMaxSize_whenEvictionPolicyIsLFU() {
+        assertNearCacheSizeNeverExceedsMaxSize("LFU");
+    }
+
+    @Test
+    public void testNearCacheSizeNeverExceedsMaxSize_whenEvictionPolicyIsRandom() {
+        assertNearCacheSizeNeverExceedsMaxSize("RANDOM");
+    }
+
+    private void assertNearCacheSizeNeverExceedsMaxSize(String evictionPolicy) {
+        int mapSize = 2000;
+        int maxSize = 1000;
+        String mapName = randomMapName();
+        Config config = new Config();
+        NearCacheConfig nearCacheConfig = new NearCacheConfig();
+        nearCacheConfig.setEvictionPolicy(evictionPolicy);
+        nearCacheConfig.setMaxSize(maxSize);
+        config.getMapConfig(mapName).setNearCacheConfig(nearCacheConfig);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        NearCache nearCache = getNearCache(mapName, instance);
+
+        populateMap(map, mapSize);
+        for (int i = 0; i < mapSize; i++) {
+            map.get(i);
+            assertTrue("near cache size " + nearCache.size(), nearCache.size() <= maxSize);
+        }
+    }
+
     /**
-     * There is a time-window that an "is-near-cache-evictable" check may return false but
-     * in reality near-cache size is bigger than the configured near-cache max-size, this can happen because eviction
-     * process is offloaded to a different thread and there is no synchronization exist between the thread
-     * that puts the entry to near-cache and the thread which sweeps the entries from near-cache.
-     * This method continuously triggers the eviction to bring the near-cache size under the configured max-size.
+     * Near-cache eviction runs on put, this method puts one more entry to the near-cache to trigger it.
      * Only needed for testing purposes.
      */
     private void triggerNearCacheEviction(IMap map) {
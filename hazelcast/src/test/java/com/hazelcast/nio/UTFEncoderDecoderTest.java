@@ -44,6 +44,7 @@ import java.util.Set;
 
 import static com.hazelcast.nio.UTFEncoderDecoder.ReflectionBasedCharArrayUtfWriter;
 import static com.hazelcast.nio.UTFEncoderDecoder.UnsafeBasedCharArrayUtfWriter;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
@@ -71,6 +72,29 @@ public class UTFEncoderDecoderTest  {
         UTFEncoderDecoder.writeUTF(dataOutput, "foo", buffer);
     }
 
+    @Test
+    public void testSkipUTF() throws IOException {
+        byte[] buffer = new byte[1024];
+        StringBuilder multiChunk = new StringBuilder();
+        for (int i = 0; i < 40000; i++) {
+            multiChunk.append(i % 7 == 0 ? '\u00e9' : (char) ('a' + i % 26));
+        }
+        String[] texts = {null, "", "foo", "\u3042\u3044", multiChunk.toString()};
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(baos);
+        for (String text : texts) {
+            UTFEncoderDecoder.writeUTF(dos, text, buffer);
+        }
+        dos.writeInt(42);
+
+        DataInputStream dis = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        for (int i = 0; i < texts.length; i++) {
+            UTFEncoderDecoder.skipUTF(dis);
+        }
+        assertEquals(42, dis.readInt());
+    }
+
     @Test
     public void testEmptyText_Default() throws Exception {
         testEmptyText(false, UtfWriterType.DEFAULT);
@@ -477,6 +501,62 @@ public class UTFEncoderDecoderTest  {
         throw new AssertionError(className + " does not contains " + classType);
     }
 
+    @Test
+    public void testBufferedOutput_writesSameBytesAsStream() throws IOException {
+        SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        String[] strings = {"hazelcast", "h\u00e9zelcast", "a\u0000b", ""};
+        for (String str : strings) {
+            BufferObjectDataOutput out = serializationService.createObjectDataOutput(16);
+            out.writeUTF(str);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            UTFEncoderDecoder.writeUTF(new DataOutputStream(bos), str, new byte[1024]);
+
+            assertArrayEquals(str, bos.toByteArray(), out.toByteArray());
+        }
+    }
+
+    @Test
+    public void testBufferedInput_readsAsciiAndNonAsciiStrings() throws IOException {
+        SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        String[] strings = {"hazelcast", null, "h\u00e9zelcast", "a\u0000b", "", randomAlphaNumeric(16383),
+                randomAlphaNumeric(16384), "\u20ac"};
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(16);
+        for (String str : strings) {
+            out.writeUTF(str);
+        }
+        out.writeInt(42);
+
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        for (String str : strings) {
+            assertEquals(str, in.readUTF());
+        }
+        assertEquals(42, in.readInt());
+    }
+
+    @Test
+    public void testPooledCharBuffer_doesNotLeakIntoStrings() throws IOException {
+        UTFEncoderDecoder utfEncoderDecoder = newUTFEncoderDecoder(false, UtfWriterType.DEFAULT);
+        byte[] buffer = new byte[1024];
+        String[] strings = {randomAlphaNumeric(100), random(10), randomAlphaNumeric(2000), random(1024)};
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(bos);
+        for (String str : strings) {
+            utfEncoderDecoder.writeUTF0(dos, str, buffer);
+        }
+
+        DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        List<String> read = new ArrayList<String>();
+        for (int i = 0; i < strings.length; i++) {
+            read.add(utfEncoderDecoder.readUTF0(dis, buffer));
+        }
+        for (int i = 0; i < strings.length; i++) {
+            assertEquals(strings[i], read.get(i));
+        }
+    }
+
     private static String random(int count) {
         return random(count, 0, 0, false, false, null, RANDOM);
     }
@@ -0,0 +1,37 @@
+package com.hazelcast.nio.ssl;
+
+import com.hazelcast.config.SSLConfig;
+import com.hazelcast.nio.tcp.MockIOService;
+import com.hazelcast.nio.tcp.TcpIpConnection_BasicTest;
+import com.hazelcast.nio.tcp.spinning.Spinning_IOThreadingModelFactory;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the basic connection tests over TLS.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class Spinning_SSL_TcpIpConnection_BasicTest extends TcpIpConnection_BasicTest {
+
+    @Before
+    public void setup() throws Exception {
+        threadingModelFactory = new Spinning_IOThreadingModelFactory();
+        super.setup();
+    }
+
+    @Override
+    protected void configureIOService(MockIOService ioService) {
+        try {
+            SSLConfig sslConfig = new SSLConfig()
+                    .setEnabled(true)
+                    .setProperties(TestKeyStoreUtil.createSslProperties());
+            ioService.socketChannelWrapperFactory = new SSLSocketChannelWrapperFactory(sslConfig);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
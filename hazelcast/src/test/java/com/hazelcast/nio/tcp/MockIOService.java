@@ -22,6 +22,7 @@ import com.hazelcast.spi.EventRegistration;
 import com.hazelcast.spi.EventService;
 import com.hazelcast.spi.impl.PacketHandler;
 import com.hazelcast.spi.impl.packetdispatcher.PacketDispatcher;
+import com.hazelcast.util.ThreadAffinity;
 
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
@@ -39,6 +40,10 @@ public class MockIOService implements IOService {
     public final HazelcastThreadGroup hazelcastThreadGroup;
     public final ConcurrentHashMap<Long, DummyPayload> payloads = new ConcurrentHashMap<Long, DummyPayload>();
     public volatile PacketHandler packetHandler;
+    public volatile boolean socketBufferDirect;
+    public volatile int packetCompressionThreshold = -1;
+    public volatile long spinningIdleTimeoutMillis = -1;
+    public volatile SocketChannelWrapperFactory socketChannelWrapperFactory = new DefaultSocketChannelWrapperFactory();
 
     public MockIOService(int port) throws Exception {
         loggingService = new LoggingServiceImpl("somegroup", "log4j", BuildInfoProvider.getBuildInfo());
@@ -185,6 +190,26 @@ public class MockIOService implements IOService {
         return 32;
     }
 
+    @Override
+    public boolean isSocketBufferDirect() {
+        return socketBufferDirect;
+    }
+
+    @Override
+    public int getPacketCompressionThreshold() {
+        return packetCompressionThreshold;
+    }
+
+    @Override
+    public ThreadAffinity getInputSelectorThreadAffinity() {
+        return ThreadAffinity.NONE;
+    }
+
+    @Override
+    public ThreadAffinity getOutputSelectorThreadAffinity() {
+        return ThreadAffinity.NONE;
+    }
+
     @Override
     public int getSocketLingerSeconds() {
         return 0;
@@ -230,6 +255,11 @@ public class MockIOService implements IOService {
         return 0;
     }
 
+    @Override
+    public long getSpinningIdleTimeoutMillis() {
+        return spinningIdleTimeoutMillis;
+    }
+
     @Override
     public void onDisconnect(Address endpoint) {
 
@@ -365,7 +395,7 @@ public class MockIOService implements IOService {
 
     @Override
     public SocketChannelWrapperFactory getSocketChannelWrapperFactory() {
-        return new DefaultSocketChannelWrapperFactory();
+        return socketChannelWrapperFactory;
     }
 
     @Override
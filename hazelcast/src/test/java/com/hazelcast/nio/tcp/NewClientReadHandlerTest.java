@@ -50,4 +50,21 @@ public class NewClientReadHandlerTest {
 
         verify(ioService).handleClientMessage(any(ClientMessage.class), eq(connection));
     }
+
+    @Test
+    public void testDirectBuffer() throws Exception {
+        ClientMessage message = ClientMessage.createForEncode(1000)
+                .setPartitionId(10)
+                .setMessageType(1)
+                .setCorrelationId(1)
+                .addFlag(ClientMessage.BEGIN_AND_END_FLAGS);
+
+        ByteBuffer bb = ByteBuffer.allocateDirect(1000);
+        message.writeTo(bb);
+        bb.flip();
+
+        readHandler.onRead(bb);
+
+        verify(ioService).handleClientMessage(any(ClientMessage.class), eq(connection));
+    }
 }
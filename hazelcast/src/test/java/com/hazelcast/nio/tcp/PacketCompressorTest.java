@@ -0,0 +1,79 @@
+package com.hazelcast.nio.tcp;
+
+import com.hazelcast.nio.Packet;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class PacketCompressorTest {
+
+    private final PacketCompressor compressor = new PacketCompressor(1024);
+
+    @Test
+    public void compress_whenBelowThreshold() {
+        Packet packet = new Packet(new byte[1000], 1);
+
+        assertSame(packet, compressor.compress(packet));
+    }
+
+    @Test
+    public void compress_whenIncompressible() {
+        byte[] payload = new byte[10000];
+        new Random().nextBytes(payload);
+        Packet packet = new Packet(payload, 1);
+
+        assertSame(packet, compressor.compress(packet));
+    }
+
+    @Test
+    public void compress_keepsHeaderAndPartition() {
+        Packet packet = new Packet(new byte[10000], 5);
+        packet.setHeader(Packet.HEADER_OP);
+        packet.setHeader(Packet.HEADER_URGENT);
+
+        Packet compressed = compressor.compress(packet);
+
+        assertTrue(compressed.isHeaderSet(Packet.HEADER_COMPRESSED));
+        assertTrue(compressed.isHeaderSet(Packet.HEADER_OP));
+        assertTrue(compressed.isUrgent());
+        assertEquals(5, compressed.getPartitionId());
+        assertTrue(compressed.totalSize() < packet.totalSize());
+        assertFalse("the original packet should not be modified", packet.isHeaderSet(Packet.HEADER_COMPRESSED));
+    }
+
+    @Test
+    public void decompress() {
+        byte[] payload = new byte[10000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) (i % 100);
+        }
+        Packet packet = new Packet(payload, 5);
+        packet.setHeader(Packet.HEADER_RESPONSE);
+
+        Packet decompressed = PacketCompressor.decompress(compressor.compress(packet));
+
+        assertEquals(packet, decompressed);
+        assertFalse(decompressed.isHeaderSet(Packet.HEADER_COMPRESSED));
+    }
+
+    @Test
+    public void compress_whenLargerThanScratchBuffer() {
+        Packet packet = new Packet(new byte[3 << 20], 5);
+
+        Packet decompressed = PacketCompressor.decompress(compressor.compress(packet));
+
+        assertEquals(packet, decompressed);
+    }
+}
@@ -81,6 +81,7 @@ public abstract class TcpIpConnection_AbstractTest extends HazelcastTestSupport
     protected TcpIpConnectionManager newConnectionManager(int port) throws Exception {
         MetricsRegistryImpl metricsRegistry = new MetricsRegistryImpl(loggingService.getLogger(MetricsRegistryImpl.class), INFO);
         MockIOService ioService = new MockIOService(port);
+        configureIOService(ioService);
 
         return new TcpIpConnectionManager(
                 ioService,
@@ -90,6 +91,12 @@ public abstract class TcpIpConnection_AbstractTest extends HazelcastTestSupport
                 threadingModelFactory.create(ioService, metricsRegistry));
     }
 
+    /**
+     * Hook to configure the IOService of a connection manager before it is created.
+     */
+    protected void configureIOService(MockIOService ioService) {
+    }
+
     // ====================== support ========================================
 
     protected TcpIpConnection connect(Address address) {
@@ -11,6 +11,7 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static java.lang.System.currentTimeMillis;
 import static org.junit.Assert.assertEquals;
@@ -55,6 +56,29 @@ public abstract class TcpIpConnection_BasicTest extends TcpIpConnection_Abstract
         assertEquals(packet, found);
     }
 
+    @Test
+    public void write_whenLargePacket() {
+        TcpIpConnection c = connect(connManagerA, addressB);
+
+        // larger than the socket buffers, so it is written and read in many parts
+        byte[] payload = new byte[1024 * 1024];
+        new Random().nextBytes(payload);
+        Packet packet = new Packet(serializationService.toBytes(payload));
+
+        boolean result = c.write(packet);
+
+        assertTrue(result);
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(1, packetsB.size());
+            }
+        });
+
+        Packet found = packetsB.get(0);
+        assertEquals(packet, found);
+    }
+
     @Test
     public void write_whenUrgent() {
         TcpIpConnection c = connect(connManagerA, addressB);
@@ -0,0 +1,104 @@
+package com.hazelcast.nio.tcp;
+
+import com.hazelcast.nio.Packet;
+import com.hazelcast.spi.impl.PacketHandler;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class TcpIpConnection_PacketCompressionTest extends TcpIpConnection_AbstractTest {
+
+    private List<Packet> packetsB = Collections.synchronizedList(new ArrayList<Packet>());
+
+    @Before
+    public void setup() throws Exception {
+        super.setup();
+        ioServiceB.packetHandler = new PacketHandler() {
+            @Override
+            public void handle(Packet packet) throws Exception {
+                packetsB.add(packet);
+            }
+        };
+    }
+
+    @Test
+    public void whenBothMembersEnabled_thenCompressed() {
+        ioServiceA.packetCompressionThreshold = 1024;
+        ioServiceB.packetCompressionThreshold = 1024;
+        startAllConnectionManagers();
+
+        final TcpIpConnection connection = connect(connManagerA, addressB);
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertNotNull(connection.getPacketCompressor());
+            }
+        });
+
+        Packet packet = newCompressiblePacket();
+        connection.write(packet);
+
+        assertPacketReceived(packet);
+        assertFalse(packet.isHeaderSet(Packet.HEADER_COMPRESSED));
+    }
+
+    @Test
+    public void whenOnlyLocalMemberEnabled_thenNotCompressed() {
+        ioServiceA.packetCompressionThreshold = 1024;
+        startAllConnectionManagers();
+
+        TcpIpConnection connection = connect(connManagerA, addressB);
+        Packet packet = newCompressiblePacket();
+        connection.write(packet);
+
+        assertPacketReceived(packet);
+        assertNull(connection.getPacketCompressor());
+    }
+
+    @Test
+    public void whenOnlyRemoteMemberEnabled_thenNotCompressed() {
+        ioServiceB.packetCompressionThreshold = 1024;
+        startAllConnectionManagers();
+
+        TcpIpConnection connection = connect(connManagerA, addressB);
+        Packet packet = newCompressiblePacket();
+        connection.write(packet);
+
+        assertPacketReceived(packet);
+        assertNull(connection.getPacketCompressor());
+    }
+
+    private Packet newCompressiblePacket() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("value-").append(i % 10);
+        }
+        Packet packet = new Packet(serializationService.toBytes(sb.toString()), 1);
+        packet.setHeader(Packet.HEADER_OP);
+        return packet;
+    }
+
+    private void assertPacketReceived(final Packet packet) {
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(packetsB.contains(packet));
+            }
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.hazelcast.nio.tcp.nonblocking;
+
+import com.hazelcast.nio.Packet;
+import com.hazelcast.nio.tcp.MockIOService;
+import com.hazelcast.nio.tcp.TcpIpConnection;
+import com.hazelcast.nio.tcp.TcpIpConnection_AbstractTest;
+import com.hazelcast.spi.impl.PacketHandler;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Transmits packets of all sizes over connections using direct socket buffers.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class Select_TcpIpConnection_DirectBufferTransmitTest extends TcpIpConnection_AbstractTest {
+
+    private static final int PACKET_COUNT = 500;
+
+    private final List<Packet> packetsB = Collections.synchronizedList(new ArrayList<Packet>());
+
+    @Before
+    public void setup() throws Exception {
+        threadingModelFactory = new Select_NonBlockingIOThreadingModelFactory();
+        super.setup();
+        startAllConnectionManagers();
+
+        ioServiceB.packetHandler = new PacketHandler() {
+            @Override
+            public void handle(Packet packet) throws Exception {
+                packetsB.add(packet);
+            }
+        };
+    }
+
+    @Override
+    protected void configureIOService(MockIOService ioService) {
+        ioService.socketBufferDirect = true;
+    }
+
+    @Test
+    public void testTransmit() {
+        TcpIpConnection connection = connect(connManagerA, addressB);
+
+        Random random = new Random();
+        final List<Packet> packets = new ArrayList<Packet>(PACKET_COUNT);
+        for (int i = 0; i < PACKET_COUNT; i++) {
+            // mixes packets fitting in the socket buffer with ones spanning many writes
+            int size = i % 2 == 0 ? random.nextInt(1024) : random.nextInt(200 * 1024);
+            byte[] bytes = new byte[size];
+            random.nextBytes(bytes);
+            Packet packet = new Packet(serializationService.toBytes(bytes), i);
+            packets.add(packet);
+            assertTrue(connection.write(packet));
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(PACKET_COUNT, packetsB.size());
+            }
+        });
+        assertEquals(packets, packetsB);
+    }
+
+    @Test
+    public void testTransmit_afterReconnect() {
+        TcpIpConnection connection = connect(connManagerA, addressB);
+        connection.close();
+
+        // the buffers of the closed connection are reused
+        connection = connect(connManagerA, addressB);
+        Packet packet = new Packet(serializationService.toBytes(new byte[100 * 1024]));
+        assertTrue(connection.write(packet));
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(1, packetsB.size());
+            }
+        });
+        assertEquals(packet, packetsB.get(0));
+    }
+}
@@ -0,0 +1,28 @@
+package com.hazelcast.nio.tcp.spinning;
+
+import com.hazelcast.nio.tcp.MockIOService;
+import com.hazelcast.nio.tcp.TcpIpConnection_BasicTest;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the basic connection tests with IO threads which block as soon as they are idle for a millisecond.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SpinningHybrid_TcpIpConnection_BasicTest extends TcpIpConnection_BasicTest {
+
+    @Before
+    public void setup() throws Exception {
+        threadingModelFactory = new Spinning_IOThreadingModelFactory();
+        super.setup();
+    }
+
+    @Override
+    protected void configureIOService(MockIOService ioService) {
+        ioService.spinningIdleTimeoutMillis = 1;
+    }
+}
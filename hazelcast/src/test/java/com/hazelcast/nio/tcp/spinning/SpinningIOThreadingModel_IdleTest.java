@@ -0,0 +1,113 @@
+package com.hazelcast.nio.tcp.spinning;
+
+import com.hazelcast.nio.Packet;
+import com.hazelcast.nio.tcp.MockIOService;
+import com.hazelcast.nio.tcp.TcpIpConnection;
+import com.hazelcast.nio.tcp.TcpIpConnectionManager;
+import com.hazelcast.nio.tcp.TcpIpConnection_AbstractTest;
+import com.hazelcast.spi.impl.PacketHandler;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SpinningIOThreadingModel_IdleTest extends TcpIpConnection_AbstractTest {
+
+    private static final int IDLE_TIMEOUT_MILLIS = 100;
+
+    private final List<Packet> packetsB = Collections.synchronizedList(new ArrayList<Packet>());
+
+    @Before
+    public void setup() throws Exception {
+        threadingModelFactory = new Spinning_IOThreadingModelFactory();
+        super.setup();
+        ioServiceB.packetHandler = new PacketHandler() {
+            @Override
+            public void handle(Packet packet) throws Exception {
+                packetsB.add(packet);
+            }
+        };
+        startAllConnectionManagers();
+    }
+
+    @Override
+    protected void configureIOService(MockIOService ioService) {
+        ioService.spinningIdleTimeoutMillis = IDLE_TIMEOUT_MILLIS;
+    }
+
+    @Test
+    public void whenIdle_thenThreadsBlock() {
+        connect(connManagerA, addressB);
+
+        assertThreadsBlockEventually(connManagerA);
+        assertThreadsBlockEventually(connManagerB);
+    }
+
+    @Test
+    public void whenBlocked_thenPacketsAreStillTransmitted() {
+        TcpIpConnection connection = connect(connManagerA, addressB);
+        assertThreadsBlockEventually(connManagerA);
+        assertThreadsBlockEventually(connManagerB);
+
+        for (int k = 0; k < 10; k++) {
+            final Packet packet = new Packet(serializationService.toBytes("foo" + k));
+            connection.write(packet);
+
+            assertTrueEventually(new AssertTask() {
+                @Override
+                public void run() throws Exception {
+                    assertTrue(packetsB.contains(packet));
+                }
+            });
+            // lets the threads block again
+            sleepMillis(2 * IDLE_TIMEOUT_MILLIS);
+        }
+
+        assertEquals(10, packetsB.size());
+        assertTrue(getModel(connManagerA).getOutputThread().blockedTimeMs() > 0);
+        assertTrue(getModel(connManagerB).getInputThread().blockedTimeMs() > 0);
+    }
+
+    @Test
+    public void whenBlocked_thenNewConnectionIsServed() {
+        assertThreadsBlockEventually(connManagerA);
+        assertThreadsBlockEventually(connManagerB);
+
+        final Packet packet = new Packet(serializationService.toBytes("foo"));
+        connManagerA.transmit(packet, addressB);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(packetsB.contains(packet));
+            }
+        });
+    }
+
+    private static SpinningIOThreadingModel getModel(TcpIpConnectionManager connectionManager) {
+        return (SpinningIOThreadingModel) connectionManager.getIoThreadingModel();
+    }
+
+    private static void assertThreadsBlockEventually(TcpIpConnectionManager connectionManager) {
+        final SpinningIOThreadingModel model = getModel(connectionManager);
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(model.getInputThread().isBlocked());
+                assertTrue(model.getOutputThread().isBlocked());
+            }
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.hazelcast.partition.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperty;
+import com.hazelcast.partition.impl.MigrationRequestOperation.MigrationChunks;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MigrationChunkTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void migrationChunks_whenNoTasks() {
+        MigrationChunks chunks = new MigrationChunks();
+
+        assertEquals(0, chunks.next().size());
+        assertFalse(chunks.hasNext());
+    }
+
+    @Test
+    public void migrationChunks_whenNotChunked() {
+        Operation first = new DummyOperation();
+        Operation second = new DummyOperation();
+        MigrationChunks chunks = new MigrationChunks();
+        chunks.add("firstService", Collections.singleton(first).iterator());
+        chunks.add("secondService", Collections.singleton(second).iterator());
+
+        assertEquals(Arrays.asList(first, second), new ArrayList<Operation>(chunks.next()));
+        assertFalse(chunks.hasNext());
+        assertEquals("firstService", first.getServiceName());
+        assertEquals("secondService", second.getServiceName());
+    }
+
+    @Test
+    public void migrationChunks_whenChunked() {
+        Operation before = new DummyOperation();
+        List<Operation> serviceChunks = Arrays.<Operation>asList(new DummyOperation(), new DummyOperation(),
+                new DummyOperation());
+        Operation after = new DummyOperation();
+        MigrationChunks chunks = new MigrationChunks();
+        chunks.add("beforeService", Collections.singleton(before).iterator());
+        chunks.add("chunkedService", serviceChunks.iterator());
+        chunks.add("afterService", Collections.singleton(after).iterator());
+
+        assertEquals(Arrays.asList(before, serviceChunks.get(0)), new ArrayList<Operation>(chunks.next()));
+        assertTrue(chunks.hasNext());
+        assertEquals(Arrays.asList(serviceChunks.get(1)), new ArrayList<Operation>(chunks.next()));
+        assertTrue(chunks.hasNext());
+        assertEquals(Arrays.asList(serviceChunks.get(2), after), new ArrayList<Operation>(chunks.next()));
+        assertFalse(chunks.hasNext());
+        for (Operation chunk : serviceChunks) {
+            assertEquals("chunkedService", chunk.getServiceName());
+        }
+    }
+
+    @Test
+    public void testMapMigration_whenChunked() {
+        Config config = new Config()
+                .setProperty(GroupProperty.PARTITION_COUNT.getName(), "3")
+                .setProperty(GroupProperty.PARTITION_MIGRATION_CHUNK_SIZE.getName(), "1");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        IMap<Integer, String> map1 = hz1.getMap("map1");
+        IMap<Integer, String> map2 = hz1.getMap("map2");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map1.put(i, "map1-value-" + i);
+            map2.put(i, "map2-value-" + i);
+        }
+
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        HazelcastInstance hz3 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2, hz3);
+
+        long ownedEntryCount = 0;
+        for (HazelcastInstance hz : Arrays.asList(hz1, hz2, hz3)) {
+            ownedEntryCount += hz.getMap("map1").getLocalMapStats().getOwnedEntryCount();
+        }
+        assertEquals(ENTRY_COUNT, ownedEntryCount);
+
+        IMap<Integer, String> map = hz3.getMap("map2");
+        assertEquals(ENTRY_COUNT, map.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("map1-value-" + i, hz3.getMap("map1").get(i));
+            assertEquals("map2-value-" + i, map.get(i));
+        }
+    }
+
+    private static class DummyOperation extends AbstractOperation {
+
+        @Override
+        public void run() {
+        }
+    }
+}
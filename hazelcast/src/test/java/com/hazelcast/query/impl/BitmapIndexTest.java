@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.query.impl.predicates.RuleBasedQueryOptimizer;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.instance.TestUtil.toData;
+import static com.hazelcast.query.SampleObjects.Employee;
+import static com.hazelcast.query.SampleObjects.State;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class BitmapIndexTest {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private Indexes indexes;
+    private Index activeIndex;
+    private Index stateIndex;
+    private Index nameIndex;
+
+    @Before
+    public void setUp() {
+        indexes = new Indexes(true);
+        activeIndex = indexes.addOrGetIndex("active", false);
+        stateIndex = indexes.addOrGetIndex("state", false);
+        nameIndex = indexes.addOrGetIndex("name", false);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            save(i, i % 2 == 0, i % 4 == 0 ? State.STATE1 : State.STATE2);
+        }
+    }
+
+    private void save(int key, boolean active, State state) {
+        Employee employee = new Employee(key, key + "Name", 0, active, 0, state);
+        indexes.saveEntryIndex(new QueryEntry(null, toData(key), key, employee));
+    }
+
+    @Test
+    public void testBitmapIsChosenForBooleanAndEnumAttributes() {
+        assertTrue(activeIndex.isBitmap());
+        assertTrue(stateIndex.isBitmap());
+        assertFalse(nameIndex.isBitmap());
+    }
+
+    @Test
+    public void testBitmapIndexIsNotUsedWhenDisabled() {
+        Indexes indexes = new Indexes(false);
+        Index index = indexes.addOrGetIndex("active", false);
+        indexes.saveEntryIndex(new QueryEntry(null, toData(1), 1, new Employee("name", 0, true, 0)));
+
+        assertFalse(index.isBitmap());
+    }
+
+    @Test
+    public void testEqual() {
+        Set<QueryableEntry> result = activeIndex.getRecords(true);
+
+        assertTrue(result instanceof BitmapResultSet);
+        assertEquals(ENTRY_COUNT / 2, result.size());
+        assertKeys(result, 0, 2);
+    }
+
+    @Test
+    public void testAnd_isEvaluatedBitwise() {
+        Set<QueryableEntry> result = query("active = true and state = STATE1");
+
+        assertEquals(ENTRY_COUNT / 4, result.size());
+        assertKeys(result, 0, 4);
+    }
+
+    @Test
+    public void testOr_isEvaluatedBitwise() {
+        Set<QueryableEntry> result = query("active = false or state = STATE1");
+
+        assertTrue(result instanceof BitmapResultSet);
+        assertEquals(ENTRY_COUNT / 2 + ENTRY_COUNT / 4, result.size());
+    }
+
+    @Test
+    public void testNot_isEvaluatedBitwise() {
+        Set<QueryableEntry> result = query("not(state = STATE2)");
+
+        assertTrue(result instanceof BitmapResultSet);
+        assertKeys(result, 0, 4);
+    }
+
+    @Test
+    public void testUpdateAndRemove() {
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            save(i, false, State.STATE2);
+        }
+        indexes.removeEntryIndex(toData(1));
+
+        assertEquals(0, activeIndex.getRecords(true).size());
+        assertEquals(ENTRY_COUNT - 1, activeIndex.getRecords(false).size());
+        assertEquals(ENTRY_COUNT - 1, stateIndex.getRecords(State.STATE2).size());
+        assertFalse(activeIndex.getRecords(false).contains(new QueryEntry(null, toData(1), 1, null)));
+    }
+
+    @Test
+    public void testOrdinalsAreReused() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            indexes.removeEntryIndex(toData(i));
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            save(ENTRY_COUNT + i, true, State.STATE1);
+        }
+
+        Set<QueryableEntry> result = activeIndex.getRecords(true);
+        assertEquals(ENTRY_COUNT, result.size());
+        assertKeys(result, ENTRY_COUNT, 1);
+    }
+
+    @Test
+    public void testReusedOrdinal_isNotReturnedByEarlierResult() {
+        Set<QueryableEntry> result = activeIndex.getRecords(true);
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            indexes.removeEntryIndex(toData(i));
+        }
+        // the new entries reuse the freed ordinals, which are still set in the bitmap of the result
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            save(ENTRY_COUNT + i, false, State.STATE2);
+        }
+
+        for (QueryableEntry entry : result) {
+            assertTrue((Integer) entry.getKey() < ENTRY_COUNT);
+        }
+        assertFalse(result.contains(new QueryEntry(null, toData(ENTRY_COUNT), ENTRY_COUNT, null)));
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    public void testUpdatedEntry_isNotReturnedByEarlierResult() {
+        Set<QueryableEntry> result = activeIndex.getRecords(true);
+        // the entry keeps its ordinal, which is still set in the bitmap of the result
+        save(0, false, State.STATE2);
+
+        for (QueryableEntry entry : result) {
+            assertTrue(((Employee) entry.getValue()).isActive());
+        }
+        assertFalse(result.contains(new QueryEntry(null, toData(0), 0, null)));
+        assertEquals(ENTRY_COUNT / 2 - 1, result.size());
+        assertKeys(result, 2, 2);
+        assertEquals(ENTRY_COUNT / 2 - 1, activeIndex.getRecords(true).size());
+    }
+
+    @Test
+    public void testEntryBeingUpdated_isNotReturned() {
+        EntryOrdinals ordinals = indexes.getEntryOrdinals();
+        int ordinal = ordinals.getOrdinal(toData(0));
+
+        ordinals.beginUpdate(toData(0));
+        assertEquals(null, ordinals.getEntry(ordinal, ordinals.generation()));
+        assertEquals(ENTRY_COUNT / 2 - 1, activeIndex.getRecords(true).size());
+
+        ordinals.endUpdate(toData(0));
+        assertEquals(0, ordinals.getEntry(ordinal, ordinals.generation()).getKey());
+        assertEquals(ENTRY_COUNT / 2, activeIndex.getRecords(true).size());
+    }
+
+    @Test
+    public void testSize_skipsRemovedEntries() {
+        Set<QueryableEntry> result = activeIndex.getRecords(true);
+        for (int i = 0; i < ENTRY_COUNT; i += 4) {
+            indexes.removeEntryIndex(toData(i));
+        }
+
+        int iterated = 0;
+        for (QueryableEntry ignored : result) {
+            iterated++;
+        }
+        assertEquals(ENTRY_COUNT / 4, iterated);
+        assertEquals(iterated, result.size());
+    }
+
+    @Test
+    public void testGetRecordMap() {
+        Map<Data, QueryableEntry> records = ((IndexImpl) activeIndex).getRecordMap(true);
+
+        assertEquals(ENTRY_COUNT / 2, records.size());
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            assertEquals(i, records.get(toData(i)).getKey());
+        }
+        assertEquals(null, ((IndexImpl) stateIndex).getRecordMap("unknown"));
+    }
+
+    @Test
+    public void testDestroyIndex_releasesOrdinals() {
+        EntryOrdinals ordinals = indexes.getEntryOrdinals();
+
+        indexes.destroyIndex("active");
+        assertTrue(ordinals.getOrdinal(toData(0)) != EntryOrdinals.NO_ORDINAL);
+
+        indexes.destroyIndex("state");
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(EntryOrdinals.NO_ORDINAL, ordinals.getOrdinal(toData(i)));
+        }
+        assertEquals(1, indexes.getIndexes().length);
+    }
+
+    @Test
+    public void testClearIndexes_releasesOrdinals() {
+        EntryOrdinals ordinals = indexes.getEntryOrdinals();
+
+        indexes.clearIndexes();
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(EntryOrdinals.NO_ORDINAL, ordinals.getOrdinal(toData(i)));
+            assertEquals(null, ordinals.getEntry(i));
+        }
+    }
+
+    private Set<QueryableEntry> query(String sql) {
+        Predicate predicate = new RuleBasedQueryOptimizer().optimize(new SqlPredicate(sql), indexes);
+        return indexes.query(predicate);
+    }
+
+    private static void assertKeys(Set<QueryableEntry> result, int firstKey, int step) {
+        Set<Object> expected = new HashSet<Object>();
+        for (int i = firstKey; expected.size() < result.size(); i += step) {
+            expected.add(i);
+        }
+        Set<Object> actual = new HashSet<Object>();
+        for (QueryableEntry entry : result) {
+            actual.add(entry.getKey());
+        }
+        assertEquals(expected, actual);
+    }
+}
@@ -59,6 +59,54 @@ public class IndexTest {
         testIt(false);
     }
 
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        testConcurrentUpdates(true);
+        testConcurrentUpdates(false);
+    }
+
+    private void testConcurrentUpdates(boolean ordered) throws Exception {
+        final IndexImpl index = new IndexImpl(null, ordered);
+        final int threadCount = 4;
+        final int keysPerThread = 100;
+        final int valueCount = 5;
+        final int rounds = 200;
+
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int firstKey = t * keysPerThread;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    // each thread owns its keys, like partition threads do, but they all share the same few values
+                    for (int round = 0; round < rounds; round++) {
+                        for (int key = firstKey; key < firstKey + keysPerThread; key++) {
+                            index.saveEntryIndex(newRecord((long) key, (long) ((key + round) % valueCount)));
+                        }
+                        if (round % 2 == 0) {
+                            for (int key = firstKey; key < firstKey + keysPerThread; key += 2) {
+                                index.removeEntryIndex(toData((long) key));
+                            }
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int totalKeys = threadCount * keysPerThread;
+        assertEquals(totalKeys, index.getRecordValues().size());
+        assertEquals(totalKeys, index.getSubRecordsBetween(0L, (long) valueCount).size());
+        for (int key = 0; key < totalKeys; key++) {
+            long value = (long) ((key + rounds - 1) % valueCount);
+            assertEquals(value, index.getRecordValues().get(toData((long) key)));
+            assertNotNull(index.getRecordMap(value).get(toData((long) key)));
+        }
+    }
+
     private QueryRecord newRecord(Object key, final Comparable attributeValue) {
         return new QueryRecord(toData(key), attributeValue);
     }
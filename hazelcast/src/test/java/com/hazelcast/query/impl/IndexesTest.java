@@ -17,8 +17,11 @@
 package com.hazelcast.query.impl;
 
 import com.hazelcast.query.EntryObject;
+import com.hazelcast.query.Predicate;
 import com.hazelcast.query.PredicateBuilder;
 import com.hazelcast.query.SqlPredicate;
+import com.hazelcast.query.impl.predicates.CompositeEqualPredicate;
+import com.hazelcast.query.impl.predicates.RuleBasedQueryOptimizer;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.annotation.QuickTest;
 import com.hazelcast.util.Clock;
@@ -34,6 +37,7 @@ import static com.hazelcast.query.SampleObjects.Employee;
 import static com.hazelcast.query.SampleObjects.Value;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category(QuickTest.class)
@@ -145,4 +149,33 @@ public class IndexesTest {
 
         assertEquals(89, query.size());
     }
+
+    @Test
+    public void testCompositeIndex() throws Exception {
+        testCompositeIndex(false);
+        testCompositeIndex(true);
+    }
+
+    private void testCompositeIndex(boolean ordered) {
+        Indexes indexes = new Indexes();
+        indexes.addOrGetIndex("name, age, active", ordered);
+        for (int i = 0; i < 2000; i++) {
+            Employee employee = new Employee(i % 10 + "Name", i % 80, (i % 2 == 0), 100 + (i % 100));
+            indexes.saveEntryIndex(new QueryEntry(null, toData(i), i, employee));
+        }
+        RuleBasedQueryOptimizer optimizer = new RuleBasedQueryOptimizer();
+
+        Predicate predicate = optimizer.optimize(new SqlPredicate("age = 42 and name = '2Name' and active = true"), indexes);
+        assertTrue(predicate instanceof CompositeEqualPredicate);
+        assertEquals(25, indexes.query(predicate).size());
+
+        predicate = optimizer.optimize(new SqlPredicate("name = '2Name' and age = 42 and salary > 150"), indexes);
+        if (ordered) {
+            // the leading attributes of the ordered index are scanned as a range
+            assertEquals(10, new HashSet<QueryableEntry>(indexes.query(predicate)).size());
+        } else {
+            // no index for a partial match
+            assertNull(indexes.query(predicate));
+        }
+    }
 }
@@ -2,8 +2,12 @@ package com.hazelcast.query.impl;
 
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.ClassDefinition;
+import com.hazelcast.nio.serialization.ClassDefinitionBuilder;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.DataSerializableDefinitionFactory;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.nio.serialization.Portable;
@@ -124,6 +128,34 @@ public class QueryEntryTest extends HazelcastTestSupport {
     }
 
 
+    @Test
+    public void getAttribute_whenValueIsDeclaredIdentifiedDataSerializable_thenReadFromData() {
+        DefinedEmployeeFactory factory = new DefinedEmployeeFactory();
+        SerializationService serializationService = new DefaultSerializationServiceBuilder()
+                .addDataSerializableFactory(DefinedEmployeeFactory.FACTORY_ID, factory).build();
+        Data value = serializationService.toData(new DefinedEmployee(30, "peter", new long[]{1, 2, 3}, true, 10.5, "pete"));
+        QueryEntry queryEntry = new QueryEntry(serializationService, value, value, value);
+
+        assertEquals(30, queryEntry.getAttribute("age"));
+        assertEquals("peter", queryEntry.getAttribute("name"));
+        assertEquals(true, queryEntry.getAttribute("active"));
+        assertEquals(10.5, queryEntry.getAttribute("salary"));
+        assertEquals(AttributeType.BOOLEAN, queryEntry.getAttributeType("active"));
+        assertEquals(0, factory.createCount);
+    }
+
+    @Test
+    public void getAttribute_whenFieldOfIdentifiedDataSerializableIsNotDeclared_thenDeserialized() {
+        DefinedEmployeeFactory factory = new DefinedEmployeeFactory();
+        SerializationService serializationService = new DefaultSerializationServiceBuilder()
+                .addDataSerializableFactory(DefinedEmployeeFactory.FACTORY_ID, factory).build();
+        Data value = serializationService.toData(new DefinedEmployee(30, "peter", new long[0], true, 10.5, "pete"));
+        QueryEntry queryEntry = new QueryEntry(serializationService, value, value, value);
+
+        assertEquals("pete", queryEntry.getAttribute("nickName"));
+        assertEquals(1, factory.createCount);
+    }
+
     @Test
     public void test_init() throws Exception {
         Data indexedKey = new HeapData();
@@ -142,6 +174,87 @@ public class QueryEntryTest extends HazelcastTestSupport {
         assertTrue("Old dataValue should not be here", dataValue != queryEntry.getValueData());
     }
 
+    private static class DefinedEmployeeFactory implements DataSerializableDefinitionFactory {
+        static final int FACTORY_ID = 1;
+
+        private int createCount;
+
+        @Override
+        public IdentifiedDataSerializable create(int typeId) {
+            createCount++;
+            return new DefinedEmployee();
+        }
+
+        @Override
+        public ClassDefinition getClassDefinition(int typeId) {
+            // nickName is not declared
+            return new ClassDefinitionBuilder(FACTORY_ID, DefinedEmployee.TYPE_ID)
+                    .addIntField("age")
+                    .addUTFField("name")
+                    .addLongArrayField("scores")
+                    .addBooleanField("active")
+                    .addDoubleField("salary")
+                    .build();
+        }
+    }
+
+    public static class DefinedEmployee implements IdentifiedDataSerializable {
+        static final int TYPE_ID = 1;
+
+        private int age;
+        private String name;
+        private long[] scores;
+        private boolean active;
+        private double salary;
+        private String nickName;
+
+        public DefinedEmployee() {
+        }
+
+        public DefinedEmployee(int age, String name, long[] scores, boolean active, double salary, String nickName) {
+            this.age = age;
+            this.name = name;
+            this.scores = scores;
+            this.active = active;
+            this.salary = salary;
+            this.nickName = nickName;
+        }
+
+        public String getNickName() {
+            return nickName;
+        }
+
+        @Override
+        public int getFactoryId() {
+            return DefinedEmployeeFactory.FACTORY_ID;
+        }
+
+        @Override
+        public int getId() {
+            return TYPE_ID;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(age);
+            out.writeUTF(name);
+            out.writeLongArray(scores);
+            out.writeBoolean(active);
+            out.writeDouble(salary);
+            out.writeUTF(nickName);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            age = in.readInt();
+            name = in.readUTF();
+            scores = in.readLongArray();
+            active = in.readBoolean();
+            salary = in.readDouble();
+            nickName = in.readUTF();
+        }
+    }
+
     private static class SerializableObject implements DataSerializable {
         private int serializationCount;
         private int deserializationCount;
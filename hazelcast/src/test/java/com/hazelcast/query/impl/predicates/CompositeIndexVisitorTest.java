@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl.predicates;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.Indexes;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterThan;
+import static com.hazelcast.query.Predicates.notEqual;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class CompositeIndexVisitorTest {
+
+    private CompositeIndexVisitor visitor;
+    private Indexes indexes;
+
+    @Before
+    public void setUp() {
+        visitor = new CompositeIndexVisitor();
+        indexes = new Indexes();
+    }
+
+    @Test
+    public void whenNoCompositeIndex_thenPredicateIsNotModified() {
+        indexes.addOrGetIndex("a", false);
+        Predicate and = and(equal("a", 1), equal("b", 2));
+
+        assertSame(and, visitor.visit((AndPredicate) and, indexes));
+    }
+
+    @Test
+    public void whenAllAttributesOfUnorderedIndexMatch_thenRewriteToCompositePredicate() {
+        // (a = 1 and b = 2) --> composite(a = 1 and b = 2)
+        indexes.addOrGetIndex("a, b", false);
+        Predicate and = and(equal("b", 2), equal("a", 1));
+
+        Predicate result = visitor.visit((AndPredicate) and, indexes);
+
+        CompositeEqualPredicate composite = (CompositeEqualPredicate) result;
+        assertEquals("a,b", composite.indexName);
+        assertEquals("a", composite.predicates[0].attribute);
+        assertEquals("b", composite.predicates[1].attribute);
+    }
+
+    @Test
+    public void whenOtherPredicatesExist_thenTheyAreKept() {
+        // (a = 1 and c > 5 and b = 2) --> (composite(a = 1 and b = 2) and c > 5)
+        indexes.addOrGetIndex("a,b", false);
+        Predicate other = greaterThan("c", 5);
+        Predicate and = and(equal("a", 1), other, equal("b", 2));
+
+        AndPredicate result = (AndPredicate) visitor.visit((AndPredicate) and, indexes);
+
+        assertEquals(2, result.predicates.length);
+        assertTrue(result.predicates[0] instanceof CompositeEqualPredicate);
+        assertSame(other, result.predicates[1]);
+    }
+
+    @Test
+    public void whenOnlyPrefixOfUnorderedIndexMatches_thenPredicateIsNotModified() {
+        indexes.addOrGetIndex("a,b,c", false);
+        Predicate and = and(equal("a", 1), equal("b", 2));
+
+        assertSame(and, visitor.visit((AndPredicate) and, indexes));
+    }
+
+    @Test
+    public void whenPrefixOfOrderedIndexMatches_thenRewriteToCompositePredicate() {
+        indexes.addOrGetIndex("a,b,c", true);
+        Predicate and = and(equal("a", 1), equal("b", 2));
+
+        CompositeEqualPredicate result = (CompositeEqualPredicate) visitor.visit((AndPredicate) and, indexes);
+
+        assertEquals(2, result.predicates.length);
+    }
+
+    @Test
+    public void whenNotEqualPredicates_thenPredicateIsNotModified() {
+        indexes.addOrGetIndex("a,b", false);
+        Predicate and = and(notEqual("a", 1), notEqual("b", 2));
+
+        assertSame(and, visitor.visit((AndPredicate) and, indexes));
+    }
+
+    @Test
+    public void whenMoreIndexesMatch_thenTheOneMatchingMostPredicatesIsUsed() {
+        indexes.addOrGetIndex("a,b", false);
+        indexes.addOrGetIndex("a,b,c", false);
+        Predicate and = and(equal("a", 1), equal("b", 2), equal("c", 3));
+
+        CompositeEqualPredicate result = (CompositeEqualPredicate) visitor.visit((AndPredicate) and, indexes);
+
+        assertEquals("a,b,c", result.indexName);
+    }
+}
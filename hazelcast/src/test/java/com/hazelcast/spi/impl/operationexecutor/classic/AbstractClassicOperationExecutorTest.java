@@ -22,6 +22,7 @@ import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.PacketHandler;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunnerFactory;
+import com.hazelcast.spi.impl.operationexecutor.ResponseBatch;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
 import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastTestSupport;
@@ -195,6 +196,11 @@ public abstract class AbstractClassicOperationExecutorTest extends HazelcastTest
             adhocHandler = operationHandler;
             return operationHandler;
         }
+
+        @Override
+        public ResponseBatch createResponseBatch() {
+            return null;
+        }
     }
 
     public class DummyOperationRunner extends OperationRunner {
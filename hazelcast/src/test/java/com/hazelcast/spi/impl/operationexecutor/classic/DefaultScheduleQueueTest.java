@@ -16,6 +16,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -95,6 +96,28 @@ public class DefaultScheduleQueueTest extends HazelcastTestSupport {
         assertContent(normalQueue, DefaultScheduleQueue.TRIGGER_TASK);
     }
 
+    // ================== poll =====================
+
+    @Test
+    public void test_poll_whenEmpty() {
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void test_poll_priorityIsRetrievedFirst() {
+        Object priorityTask = "priority";
+        Object normalTask = "normalTask";
+
+        queue.add(normalTask);
+        queue.addUrgent(priorityTask);
+
+        assertSame(priorityTask, queue.poll());
+        assertSame(normalTask, queue.poll());
+        // the trigger of the priority task is skipped
+        assertNull(queue.poll());
+        assertEmpty(normalQueue);
+    }
+
 
     public void assertEmpty(Queue q) {
         assertEquals("expecting an empty queue, but the queue is:"+q,0, q.size());
@@ -0,0 +1,57 @@
+package com.hazelcast.spi.impl.operationexecutor.classic;
+
+import com.hazelcast.instance.GroupProperty;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ExecuteWithMPSCScheduleQueueTest extends AbstractClassicOperationExecutorTest {
+
+    @Test
+    public void test_whenBackoff() throws Exception {
+        config.setProperty(GroupProperty.PARTITION_OPERATION_QUEUE_MPSC_ENABLED, "true");
+        config.setProperty(GroupProperty.PARTITION_OPERATION_THREAD_IDLE_STRATEGY, "backoff");
+
+        test();
+    }
+
+    @Test
+    public void test_whenBusySpin() throws Exception {
+        config.setProperty(GroupProperty.PARTITION_OPERATION_QUEUE_MPSC_ENABLED, "true");
+        config.setProperty(GroupProperty.PARTITION_OPERATION_THREAD_IDLE_STRATEGY, "busyspin");
+
+        test();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_whenUnknownIdleStrategy() {
+        config.setProperty(GroupProperty.PARTITION_OPERATION_QUEUE_MPSC_ENABLED, "true");
+        config.setProperty(GroupProperty.PARTITION_OPERATION_THREAD_IDLE_STRATEGY, "foo");
+
+        initExecutor();
+    }
+
+    private void test() throws Exception {
+        initExecutor();
+
+        int taskCount = 10000;
+        final CountDownLatch latch = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(new PartitionSpecificCallable<Object>(i % executor.getPartitionOperationRunners().length) {
+                @Override
+                public Object call() {
+                    latch.countDown();
+                    return null;
+                }
+            });
+        }
+
+        assertOpenEventually(latch);
+    }
+}
@@ -0,0 +1,191 @@
+package com.hazelcast.spi.impl.operationexecutor.classic;
+
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.util.concurrent.BusySpinIdleStrategy;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class MPSCScheduleQueueTest extends HazelcastTestSupport {
+
+    private MPSCScheduleQueue queue;
+
+    @Before
+    public void setup() {
+        queue = new MPSCScheduleQueue(new BackoffIdleStrategy(10, 10, TimeUnit.MICROSECONDS.toNanos(1),
+                TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_add_whenNull() {
+        queue.add(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_addUrgent_whenNull() {
+        queue.addUrgent(null);
+    }
+
+    @Test
+    public void test_add() {
+        queue.add("task");
+
+        assertEquals(1, queue.normalSize());
+        assertEquals(0, queue.prioritySize());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void test_addUrgent() {
+        queue.addUrgent("task");
+
+        assertEquals(0, queue.normalSize());
+        assertEquals(1, queue.prioritySize());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void test_take_priorityIsRetrievedFirst() throws InterruptedException {
+        queue.add("normal1");
+        queue.addUrgent("priority1");
+        queue.add("normal2");
+        queue.addUrgent("priority2");
+
+        assertSame("priority1", queue.take());
+        assertSame("priority2", queue.take());
+        assertSame("normal1", queue.take());
+        assertSame("normal2", queue.take());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void test_take_overMultipleChunks() throws InterruptedException {
+        int count = MPSCScheduleQueue.CHUNK_SIZE * 3 + 1;
+        for (int i = 0; i < count; i++) {
+            queue.add(i);
+        }
+        assertEquals(count, queue.normalSize());
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, queue.take());
+        }
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void test_take_wakesUpWhenTaskAdded() throws Exception {
+        final AtomicReference<Object> taken = new AtomicReference<Object>();
+        Thread consumer = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    taken.set(queue.take());
+                } catch (InterruptedException e) {
+                    taken.set(e);
+                }
+            }
+        };
+        consumer.start();
+
+        // gives the consumer the time to start parking
+        sleepMillis(500);
+        queue.add("task");
+
+        consumer.join(TimeUnit.SECONDS.toMillis(ASSERT_TRUE_EVENTUALLY_TIMEOUT));
+        assertEquals("task", taken.get());
+    }
+
+    @Test
+    public void test_take_whenInterrupted() throws Exception {
+        final AtomicReference<Object> taken = new AtomicReference<Object>();
+        Thread consumer = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    taken.set(queue.take());
+                } catch (InterruptedException e) {
+                    taken.set(e);
+                }
+            }
+        };
+        consumer.start();
+        consumer.interrupt();
+
+        consumer.join(TimeUnit.SECONDS.toMillis(ASSERT_TRUE_EVENTUALLY_TIMEOUT));
+        assertTrue(taken.get() instanceof InterruptedException);
+    }
+
+    @Test
+    public void test_multipleProducers_whenBackoff() throws Exception {
+        testMultipleProducers(queue);
+    }
+
+    @Test
+    public void test_multipleProducers_whenBusySpin() throws Exception {
+        testMultipleProducers(new MPSCScheduleQueue(new BusySpinIdleStrategy()));
+    }
+
+    private void testMultipleProducers(final MPSCScheduleQueue queue) throws Exception {
+        final int producerCount = 4;
+        final int tasksPerProducer = MPSCScheduleQueue.CHUNK_SIZE * 10;
+
+        Thread[] producers = new Thread[producerCount];
+        for (int k = 0; k < producerCount; k++) {
+            final int producerId = k;
+            producers[k] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < tasksPerProducer; i++) {
+                        long task = ((long) producerId << 32) | i;
+                        if (i % 100 == 0) {
+                            queue.addUrgent(task);
+                        } else {
+                            queue.add(task);
+                        }
+                    }
+                }
+            };
+            producers[k].start();
+        }
+
+        // the tasks of a producer are taken in order, except for the urgent ones
+        int[] lastTask = new int[producerCount];
+        for (int k = 0; k < producerCount; k++) {
+            lastTask[k] = -1;
+        }
+        for (int i = 0; i < producerCount * tasksPerProducer; i++) {
+            long task = (Long) queue.take();
+            int producerId = (int) (task >>> 32);
+            int taskId = (int) task;
+            if (taskId % 100 != 0) {
+                assertTrue(taskId > lastTask[producerId]);
+                lastTask[producerId] = taskId;
+            }
+        }
+
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(0, queue.size());
+            }
+        });
+    }
+}
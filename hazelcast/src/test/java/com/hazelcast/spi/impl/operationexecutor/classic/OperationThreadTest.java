@@ -6,6 +6,9 @@ import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunnerFactory;
+import com.hazelcast.spi.impl.operationexecutor.ResponseBatch;
+import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
+import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
 import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.annotation.QuickTest;
@@ -13,7 +16,11 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -49,4 +56,79 @@ public class OperationThreadTest extends AbstractClassicOperationExecutorTest {
             }
         });
     }
+
+    @Test
+    public void testBatchedResponse_isSentWhileSlowOperationRuns() throws Exception {
+        final CountingResponseBatch responseBatch = new CountingResponseBatch();
+        handlerFactory = new DummyOperationRunnerFactory() {
+            @Override
+            public ResponseBatch createResponseBatch() {
+                return responseBatch;
+            }
+        };
+        initExecutor();
+
+        // the fast and the slow operation are queued behind the blocking one, so the queue doesn't run empty in between
+        CountDownLatch unblock = new CountDownLatch(1);
+        executor.execute(new BlockingOperation(unblock));
+        executor.execute(new RespondingOperation());
+        executor.execute(new DummyPartitionOperation(0).durationMs(10000));
+        unblock.countDown();
+
+        assertTrue(responseBatch.flushed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static class BlockingOperation extends DummyPartitionOperation {
+        private final CountDownLatch unblock;
+
+        BlockingOperation(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void run() throws Exception {
+            unblock.await();
+        }
+    }
+
+    private static class RespondingOperation extends DummyPartitionOperation {
+        @Override
+        public void run() throws Exception {
+            ResponseBatch responseBatch = ((OperationThread) Thread.currentThread()).getResponseBatch();
+            responseBatch.add(this, new NormalResponse("response", 1, 0, false));
+        }
+    }
+
+    private static class CountingResponseBatch implements ResponseBatch {
+        private final CountDownLatch flushed = new CountDownLatch(1);
+        private long oldestResponseNanos;
+        private int size;
+
+        @Override
+        public synchronized void add(Operation operation, Response response) {
+            if (size++ == 0) {
+                oldestResponseNanos = System.nanoTime();
+            }
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (size > 0) {
+                size = 0;
+                flushed.countDown();
+            }
+        }
+
+        @Override
+        public synchronized void flushIfOlderThan(long delayNanos) {
+            if (size > 0 && System.nanoTime() - oldestResponseNanos >= delayNanos) {
+                flush();
+            }
+        }
+    }
 }
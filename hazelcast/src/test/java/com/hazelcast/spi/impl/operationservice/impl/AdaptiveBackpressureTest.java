@@ -0,0 +1,173 @@
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.spi.impl.operationservice.impl.AdaptiveBackpressure.MemberWindow;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static com.hazelcast.instance.GroupProperty.BACKPRESSURE_ADAPTIVE_ENABLED;
+import static com.hazelcast.instance.GroupProperty.BACKPRESSURE_ENABLED;
+import static com.hazelcast.spi.impl.operationservice.impl.AdaptiveBackpressure.INITIAL_LIMIT;
+import static com.hazelcast.spi.impl.operationservice.impl.AdaptiveBackpressure.MIN_LIMIT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class AdaptiveBackpressureTest extends HazelcastTestSupport {
+
+    private static final int MAX_LIMIT = 1000;
+
+    @Test
+    public void testTryAcquire_whenLimitReached() {
+        MemberWindow window = new MemberWindow(MAX_LIMIT);
+
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            assertTrue(window.tryAcquire());
+        }
+        assertFalse(window.tryAcquire());
+
+        window.release();
+        assertTrue(window.tryAcquire());
+    }
+
+    @Test
+    public void testSlowStart_doublesLimit() {
+        MemberWindow window = new MemberWindow(MAX_LIMIT);
+
+        sample(window, INITIAL_LIMIT, 1000);
+        assertEquals(2 * INITIAL_LIMIT, window.limit);
+
+        sample(window, 2 * INITIAL_LIMIT, 1000);
+        assertEquals(4 * INITIAL_LIMIT, window.limit);
+    }
+
+    @Test
+    public void testLimit_doesNotExceedMax() {
+        MemberWindow window = new MemberWindow(INITIAL_LIMIT + 1);
+
+        sample(window, INITIAL_LIMIT, 1000);
+        assertEquals(INITIAL_LIMIT + 1, window.limit);
+    }
+
+    @Test
+    public void testInflatedLatency_decreasesLimit_thenIncreasesAdditively() {
+        MemberWindow window = new MemberWindow(MAX_LIMIT);
+        sample(window, INITIAL_LIMIT, 1000);
+        int limit = window.limit;
+
+        // the response times have gone up ten fold, operations are queueing up
+        sample(window, limit, 10000);
+        int decreasedLimit = window.limit;
+        assertTrue("limit was " + decreasedLimit, decreasedLimit < limit);
+
+        // no more slow start
+        sample(window, decreasedLimit, 1000);
+        assertEquals(decreasedLimit + 1, window.limit);
+    }
+
+    @Test
+    public void testLimit_doesNotDropBelowMin() {
+        MemberWindow window = new MemberWindow(MAX_LIMIT);
+        sample(window, INITIAL_LIMIT, 1000);
+
+        for (int i = 0; i < 20; i++) {
+            sample(window, window.limit, 1000000);
+        }
+
+        assertEquals(MIN_LIMIT, window.limit);
+    }
+
+    @Test
+    public void testMixedLatencies_areComparedPerOperationClass() {
+        MemberWindow window = new MemberWindow(MAX_LIMIT);
+
+        // slow operations like queries next to fast ones like gets, none of them is queueing up
+        for (int i = 0; i < 20; i++) {
+            int limit = window.limit;
+            for (int k = 0; k < limit; k++) {
+                if (k % 2 == 0) {
+                    window.onSample(FastOperation.class, 1000);
+                } else {
+                    window.onSample(SlowOperation.class, 1000000);
+                }
+            }
+        }
+
+        assertEquals(MAX_LIMIT, window.limit);
+    }
+
+    @Test
+    public void testMixedLatencies_whenOneOperationClassInflates_decreasesLimit() {
+        MemberWindow window = new MemberWindow(MAX_LIMIT);
+        sample(window, INITIAL_LIMIT, 1000);
+        window.onSample(SlowOperation.class, 1000000);
+        int limit = window.limit;
+
+        sample(window, limit, 10000);
+
+        assertTrue("limit was " + window.limit, window.limit < limit);
+    }
+
+    @Test
+    public void testRelease_doesNotSample() {
+        MemberWindow window = new MemberWindow(MAX_LIMIT);
+
+        for (int i = 0; i < 10 * INITIAL_LIMIT; i++) {
+            assertTrue(window.tryAcquire());
+            window.release();
+        }
+
+        assertEquals(INITIAL_LIMIT, window.limit);
+    }
+
+    @Test
+    public void testRemoteInvocations() throws Exception {
+        Config config = new Config();
+        config.setProperty(BACKPRESSURE_ENABLED, "true");
+        config.setProperty(BACKPRESSURE_ADAPTIVE_ENABLED, "true");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(instances);
+
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 2000; i++) {
+            futures.add(map.putAsync(i, i));
+        }
+        for (Future<Integer> future : futures) {
+            future.get();
+        }
+        assertEquals(2000, map.size());
+
+        OperationServiceImpl operationService = (OperationServiceImpl) getOperationService(instances[0]);
+        AdaptiveBackpressure adaptiveBackpressure = operationService.invocationsRegistry.getAdaptiveBackpressure();
+        MemberWindow window = adaptiveBackpressure.getWindow(getAddress(instances[1]));
+        assertNotNull(window);
+        assertEquals(0, window.inFlight.get());
+    }
+
+    private static void sample(MemberWindow window, int count, long latencyNanos) {
+        for (int i = 0; i < count; i++) {
+            window.onSample(FastOperation.class, latencyNanos);
+        }
+    }
+
+    private static class FastOperation {
+    }
+
+    private static class SlowOperation {
+    }
+}
@@ -0,0 +1,121 @@
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ArrayInvocationStoreTest {
+
+    private static final int CAPACITY = 16;
+
+    private ArrayInvocationStore store;
+
+    @Before
+    public void setup() {
+        store = new ArrayInvocationStore(CAPACITY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstruct_whenCapacityNotPowerOfTwo() {
+        new ArrayInvocationStore(10);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        Invocation invocation = mock(Invocation.class);
+
+        store.put(1, invocation);
+
+        assertSame(invocation, store.get(1));
+        assertEquals(1, store.size());
+        assertFalse(store.isEmpty());
+    }
+
+    @Test
+    public void testGet_whenSlotHasOtherCallId() {
+        store.put(1, mock(Invocation.class));
+
+        assertNull(store.get(1 + CAPACITY));
+        assertNull(store.get(2));
+    }
+
+    @Test
+    public void testRemove() {
+        store.put(1, mock(Invocation.class));
+
+        assertTrue(store.remove(1));
+
+        assertNull(store.get(1));
+        assertFalse(store.remove(1));
+        assertTrue(store.isEmpty());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testRemove_doesNotRemoveNewerCallIdInSameSlot() {
+        Invocation invocation = mock(Invocation.class);
+        store.put(1, mock(Invocation.class));
+        store.remove(1);
+        store.put(1 + CAPACITY, invocation);
+
+        assertFalse(store.remove(1));
+
+        assertSame(invocation, store.get(1 + CAPACITY));
+    }
+
+    @Test
+    public void testPut_whenSlotOccupied_thenOverflow() {
+        Invocation first = mock(Invocation.class);
+        Invocation second = mock(Invocation.class);
+
+        store.put(1, first);
+        store.put(1 + CAPACITY, second);
+
+        assertSame(first, store.get(1));
+        assertSame(second, store.get(1 + CAPACITY));
+        assertEquals(2, store.size());
+
+        assertTrue(store.remove(1 + CAPACITY));
+        assertNull(store.get(1 + CAPACITY));
+        assertSame(first, store.get(1));
+    }
+
+    @Test
+    public void testIterator() {
+        Invocation first = mock(Invocation.class);
+        Invocation second = mock(Invocation.class);
+        Invocation overflow = mock(Invocation.class);
+        store.put(3, first);
+        store.put(CAPACITY - 1, second);
+        store.put(3 + CAPACITY, overflow);
+
+        Set<Invocation> found = new HashSet<Invocation>();
+        for (Invocation invocation : store) {
+            found.add(invocation);
+        }
+
+        assertEquals(new HashSet<Invocation>(asList(first, second, overflow)), found);
+    }
+
+    @Test
+    public void testIterator_whenEmpty() {
+        assertFalse(store.iterator().hasNext());
+    }
+}
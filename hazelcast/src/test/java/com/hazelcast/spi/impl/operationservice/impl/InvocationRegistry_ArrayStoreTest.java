@@ -0,0 +1,43 @@
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.instance.GroupProperty.BACKPRESSURE_ENABLED;
+import static com.hazelcast.instance.GroupProperty.INVOCATION_REGISTRY_ARRAY_ENABLED;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class InvocationRegistry_ArrayStoreTest extends HazelcastTestSupport {
+
+    @Test
+    public void testRemoteInvocationsWithBackups() {
+        Config config = new Config();
+        config.setProperty(INVOCATION_REGISTRY_ARRAY_ENABLED, "true");
+        config.setProperty(BACKPRESSURE_ENABLED, "true");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(instances);
+
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+
+        for (HazelcastInstance instance : instances) {
+            OperationServiceImpl operationService = (OperationServiceImpl) getOperationService(instance);
+            assertEquals(0, operationService.invocationsRegistry.size());
+        }
+    }
+}
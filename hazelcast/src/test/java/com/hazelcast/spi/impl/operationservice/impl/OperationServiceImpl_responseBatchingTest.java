@@ -0,0 +1,78 @@
+package com.hazelcast.spi.impl.operationservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.impl.operationservice.impl.responses.BackupResponse;
+import com.hazelcast.spi.impl.operationservice.impl.responses.MultiResponse;
+import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
+import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static com.hazelcast.instance.GroupProperty.OPERATION_RESPONSE_BATCHING_ENABLED;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class OperationServiceImpl_responseBatchingTest extends HazelcastTestSupport {
+
+    @Test
+    public void testMultiResponseSerialization() {
+        SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+        List<Data> responses = asList(serializationService.toData(new NormalResponse("foo", 1, 0, false)),
+                serializationService.toData(new BackupResponse(2, false)));
+
+        Data data = serializationService.toData(new MultiResponse(responses));
+        MultiResponse multiResponse = serializationService.toObject(data);
+
+        Data[] found = multiResponse.getResponses();
+        assertEquals(2, found.length);
+        Response first = serializationService.toObject(found[0]);
+        Response second = serializationService.toObject(found[1]);
+        assertEquals("foo", ((NormalResponse) first).getValue());
+        assertEquals(1, first.getCallId());
+        assertTrue(second instanceof BackupResponse);
+        assertEquals(2, second.getCallId());
+    }
+
+    @Test
+    public void testPipelinedAsyncCalls() throws Exception {
+        Config config = new Config();
+        config.setProperty(OPERATION_RESPONSE_BATCHING_ENABLED, "true");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        warmUpPartitions(instances);
+
+        IMap<Integer, Integer> map = instances[0].getMap(randomMapName());
+        int count = 5000;
+        List<Future<Integer>> futures = new ArrayList<Future<Integer>>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(map.putAsync(i, i));
+        }
+        for (Future<Integer> future : futures) {
+            future.get();
+        }
+
+        futures.clear();
+        for (int i = 0; i < count; i++) {
+            futures.add(map.getAsync(i));
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) futures.get(i).get());
+        }
+    }
+}
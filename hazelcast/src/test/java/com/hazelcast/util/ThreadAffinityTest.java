@@ -0,0 +1,139 @@
+package com.hazelcast.util;
+
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.BitSet;
+import java.util.Scanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class ThreadAffinityTest {
+
+    @Test
+    public void testParse_whenNullOrEmpty() {
+        assertFalse(ThreadAffinity.parse(null).isEnabled());
+        assertFalse(ThreadAffinity.parse(" ").isEnabled());
+        assertNull(ThreadAffinity.NONE.getCpuSet(0));
+    }
+
+    @Test
+    public void testParse_singleCpus() {
+        ThreadAffinity affinity = ThreadAffinity.parse("1, 3-4");
+
+        assertTrue(affinity.isEnabled());
+        assertEquals(3, affinity.getCpuSetCount());
+        assertEquals(cpus(1), affinity.getCpuSet(0));
+        assertEquals(cpus(3), affinity.getCpuSet(1));
+        assertEquals(cpus(4), affinity.getCpuSet(2));
+    }
+
+    @Test
+    public void testParse_cpuGroups() {
+        ThreadAffinity affinity = ThreadAffinity.parse("0,[2-3,6],[7]");
+
+        assertEquals(3, affinity.getCpuSetCount());
+        assertEquals(cpus(0), affinity.getCpuSet(0));
+        assertEquals(cpus(2, 3, 6), affinity.getCpuSet(1));
+        assertEquals(cpus(7), affinity.getCpuSet(2));
+    }
+
+    @Test
+    public void testGetCpuSet_wrapsAround() {
+        ThreadAffinity affinity = ThreadAffinity.parse("0-1");
+
+        assertEquals(cpus(0), affinity.getCpuSet(2));
+        assertEquals(cpus(1), affinity.getCpuSet(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParse_whenNotANumber() {
+        ThreadAffinity.parse("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParse_whenInvalidRange() {
+        ThreadAffinity.parse("3-1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParse_whenMissingBracket() {
+        ThreadAffinity.parse("[1,2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParse_whenMissingComma() {
+        ThreadAffinity.parse("[1][2]");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParse_whenTrailingComma() {
+        ThreadAffinity.parse("1,");
+    }
+
+    @Test
+    public void testToCpuList() {
+        assertEquals("0", ThreadAffinity.toCpuList(cpus(0)));
+        assertEquals("0-2,5,7-8", ThreadAffinity.toCpuList(cpus(0, 1, 2, 5, 7, 8)));
+    }
+
+    @Test
+    public void testPinCurrentThread() throws Exception {
+        assumeTrue(new File("/proc/thread-self").exists());
+        assumeTrue(new File("/usr/bin/taskset").exists() || new File("/bin/taskset").exists());
+
+        final ILogger logger = Logger.getLogger(ThreadAffinityTest.class);
+        final String[] affinity = new String[1];
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                ThreadAffinity.pinCurrentThread(cpus(0), logger);
+                affinity[0] = readAllowedCpus();
+            }
+        };
+        thread.start();
+        thread.join();
+
+        assertEquals("0", affinity[0]);
+    }
+
+    private static String readAllowedCpus() {
+        try {
+            Scanner scanner = new Scanner(new File("/proc/thread-self/status"), "UTF-8");
+            try {
+                while (scanner.hasNextLine()) {
+                    String line = scanner.nextLine();
+                    if (line.startsWith("Cpus_allowed_list:")) {
+                        return line.substring("Cpus_allowed_list:".length()).trim();
+                    }
+                }
+                return null;
+            } finally {
+                scanner.close();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static BitSet cpus(int... cpus) {
+        BitSet cpuSet = new BitSet();
+        for (int cpu : cpus) {
+            cpuSet.set(cpu);
+        }
+        return cpuSet;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hazelcast.util.concurrent;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelTest.class})
+public class BackoffIdleStrategyTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_whenMaxParkPeriodSmallerThanMin() {
+        new BackoffIdleStrategy(0, 0, 10, 5);
+    }
+
+    @Test
+    public void test_parkPeriod() {
+        BackoffIdleStrategy strategy = new BackoffIdleStrategy(2, 3, 1000, 10000);
+
+        assertEquals(1000, strategy.parkPeriod(5));
+        assertEquals(2000, strategy.parkPeriod(6));
+        assertEquals(4000, strategy.parkPeriod(7));
+        assertEquals(8000, strategy.parkPeriod(8));
+        assertEquals(10000, strategy.parkPeriod(9));
+        assertEquals(10000, strategy.parkPeriod(100));
+        assertEquals(10000, strategy.parkPeriod(Long.MAX_VALUE - 5));
+    }
+
+    @Test
+    public void test_idle() {
+        BackoffIdleStrategy strategy = new BackoffIdleStrategy(1, 1, 1000, 2000);
+
+        assertFalse(strategy.idle(0));
+        assertFalse(strategy.idle(1));
+        assertFalse(strategy.idle(2));
+        assertTrue(strategy.idle(3));
+    }
+}